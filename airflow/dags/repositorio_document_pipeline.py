@@ -36,15 +36,15 @@ def analyze_user_activity():
         conn = pg_hook.get_conn()
         cursor = conn.cursor()
         
-        # Usuários ativos nas últimas 4 horas
+        # Usuários ativos nas últimas 4 horas (agregados por hora pelo backend)
         cursor.execute("""
             SELECT 
                 u.username,
-                COUNT(*) as action_count,
-                MAX(al.timestamp) as last_action
-            FROM audit_logs al
-            JOIN users u ON al.user_id = u.id
-            WHERE al.timestamp > NOW() - INTERVAL '4 hours'
+                SUM(r.event_count) as action_count,
+                MAX(r.last_event_at) as last_action
+            FROM audit_rollup_hourly r
+            JOIN users u ON r.user_id = u.id
+            WHERE r.bucket >= date_trunc('hour', NOW() - INTERVAL '4 hours')
             GROUP BY u.username
             ORDER BY action_count DESC
             LIMIT 10
@@ -66,73 +66,29 @@ def analyze_user_activity():
         return {'active_users': 0}
 
 def detect_suspicious_activity():
-    """Detecta atividades suspeitas"""
+    """Relata atividades suspeitas detectadas pelo backend.
+
+    O backend (SuspiciousActivityDetector) analisa os eventos de auditoria no
+    momento em que são gerados e grava apenas os achados em security_alerts;
+    os limites ficam em app.audit.detection.
+    """
     try:
         pg_hook = PostgresHook(postgres_conn_id='repositorio_postgres')
         conn = pg_hook.get_conn()
         cursor = conn.cursor()
         
-        suspicious_activities = []
-        
-        # 1. Múltiplas tentativas de login falhas
-        cursor.execute("""
-            SELECT user_id, COUNT(*) as failed_attempts
-            FROM audit_logs
-            WHERE action = 'LOGIN_FAILED'
-            AND timestamp > NOW() - INTERVAL '1 hour'
-            GROUP BY user_id
-            HAVING COUNT(*) >= 3
-        """)
-        failed_logins = cursor.fetchall()
-        
-        if failed_logins:
-            logging.warning(f"⚠️  {len(failed_logins)} usuários com múltiplas falhas de login")
-            suspicious_activities.append({
-                'type': 'multiple_failed_logins',
-                'count': len(failed_logins)
-            })
-        
-        # 2. Acessos de IPs desconhecidos
         cursor.execute("""
-            SELECT DISTINCT ip_address, COUNT(*) as access_count
-            FROM audit_logs
-            WHERE timestamp > NOW() - INTERVAL '4 hours'
-            AND ip_address IS NOT NULL
-            GROUP BY ip_address
-            HAVING COUNT(*) > 50
+            SELECT alert_type, subject, action, event_count, detected_at
+            FROM security_alerts
+            WHERE detected_at > NOW() - INTERVAL '4 hours'
+            ORDER BY detected_at
         """)
-        high_activity_ips = cursor.fetchall()
+        alerts = cursor.fetchall()
         
-        if high_activity_ips:
-            logging.warning(f"⚠️  {len(high_activity_ips)} IPs com alta atividade")
-            for ip, count in high_activity_ips:
-                logging.warning(f"  - IP {ip}: {count} requisições")
-            
-            suspicious_activities.append({
-                'type': 'high_activity_ips',
-                'count': len(high_activity_ips)
-            })
-        
-        # 3. Ações administrativas fora do horário
-        cursor.execute("""
-            SELECT u.username, al.action, al.timestamp
-            FROM audit_logs al
-            JOIN users u ON al.user_id = u.id
-            WHERE al.action IN ('DELETE_DOCUMENTS', 'MANAGE_USERS', 'MANAGE_ROLES')
-            AND EXTRACT(HOUR FROM al.timestamp) NOT BETWEEN 8 AND 18
-            AND al.timestamp > NOW() - INTERVAL '4 hours'
-        """)
-        off_hours_admin = cursor.fetchall()
-        
-        if off_hours_admin:
-            logging.warning(f"⚠️  {len(off_hours_admin)} ações administrativas fora do horário")
-            for user, action, timestamp in off_hours_admin:
-                logging.warning(f"  - {user} executou {action} em {timestamp}")
-            
-            suspicious_activities.append({
-                'type': 'off_hours_admin_actions',
-                'count': len(off_hours_admin)
-            })
+        suspicious_activities = {}
+        for alert_type, subject, action, count, detected_at in alerts:
+            logging.warning(f"⚠️  {alert_type}: {subject} ({count} eventos, {action or '-'}) em {detected_at}")
+            suspicious_activities[alert_type] = suspicious_activities.get(alert_type, 0) + 1
         
         cursor.close()
         conn.close()
@@ -142,7 +98,8 @@ def detect_suspicious_activity():
         else:
             logging.info("✅ Nenhuma atividade suspeita detectada")
         
-        return {'suspicious_count': len(suspicious_activities), 'details': suspicious_activities}
+        details = [{'type': alert_type.lower(), 'count': count} for alert_type, count in suspicious_activities.items()]
+        return {'suspicious_count': len(suspicious_activities), 'details': details}
         
     except Exception as e:
         logging.error(f"❌ Erro ao detectar atividades suspeitas: {str(e)}")
@@ -160,11 +117,12 @@ def generate_audit_report():
             'period': 'últimas 24 horas'
         }
         
+        # Agregados por hora pelo backend; a janela começa na hora cheia
         # Total de ações por tipo
         cursor.execute("""
-            SELECT action, COUNT(*) as count
-            FROM audit_logs
-            WHERE timestamp > NOW() - INTERVAL '24 hours'
+            SELECT action, SUM(event_count) as count
+            FROM audit_rollup_hourly
+            WHERE bucket >= date_trunc('hour', NOW() - INTERVAL '24 hours')
             GROUP BY action
             ORDER BY count DESC
         """)
@@ -174,16 +132,16 @@ def generate_audit_report():
         # Total de usuários ativos
         cursor.execute("""
             SELECT COUNT(DISTINCT user_id)
-            FROM audit_logs
-            WHERE timestamp > NOW() - INTERVAL '24 hours'
+            FROM audit_rollup_hourly
+            WHERE bucket >= date_trunc('hour', NOW() - INTERVAL '24 hours')
         """)
         report['active_users'] = cursor.fetchone()[0]
         
         # Total de eventos
         cursor.execute("""
-            SELECT COUNT(*)
-            FROM audit_logs
-            WHERE timestamp > NOW() - INTERVAL '24 hours'
+            SELECT COALESCE(SUM(event_count), 0)
+            FROM audit_rollup_hourly
+            WHERE bucket >= date_trunc('hour', NOW() - INTERVAL '24 hours')
         """)
         report['total_events'] = cursor.fetchone()[0]
         
@@ -206,30 +164,38 @@ def generate_audit_report():
         return {}
 
 def cleanup_old_logs():
-    """Remove logs antigos (mais de 90 dias)"""
+    """Relata as partições mensais de audit_logs.
+
+    A retenção é feita pelo backend (AuditPartitionMaintenance), que remove
+    partições inteiras em vez de executar um DELETE por timestamp.
+    """
     try:
         pg_hook = PostgresHook(postgres_conn_id='repositorio_postgres')
         conn = pg_hook.get_conn()
         cursor = conn.cursor()
         
         cursor.execute("""
-            DELETE FROM audit_logs
-            WHERE timestamp < NOW() - INTERVAL '90 days'
+            SELECT c.relname, pg_size_pretty(pg_total_relation_size(c.oid))
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'audit_logs'::regclass
+            ORDER BY c.relname
         """)
         
-        deleted_count = cursor.rowcount
-        conn.commit()
+        partitions = cursor.fetchall()
         
-        logging.info(f"🧹 {deleted_count} registros de log antigos removidos")
+        logging.info(f"🗂️ {len(partitions)} partições de audit_logs:")
+        for name, size in partitions:
+            logging.info(f"    - {name}: {size}")
         
         cursor.close()
         conn.close()
         
-        return {'deleted': deleted_count}
+        return {'partitions': len(partitions)}
         
     except Exception as e:
-        logging.error(f"❌ Erro ao limpar logs: {str(e)}")
-        return {'deleted': 0}
+        logging.error(f"❌ Erro ao listar partições: {str(e)}")
+        return {'partitions': 0}
 
 # Definir as tarefas
 task_analyze_activity = PythonOperator(
@@ -28,25 +28,23 @@ dag = DAG(
 )
 
 def identify_inactive_users():
-    """Identifica usuários inativos há mais de 90 dias"""
+    """Identifica usuários inativos há mais de 90 dias.
+
+    O backend mantém users.last_activity_at (UserActivityTracker), então a
+    consulta é uma varredura do índice idx_users_active_last_activity em vez
+    de agregar todo o audit_logs.
+    """
     try:
         pg_hook = PostgresHook(postgres_conn_id='repositorio_postgres')
         conn = pg_hook.get_conn()
         cursor = conn.cursor()
         
         cursor.execute("""
-            SELECT 
-                u.id,
-                u.username,
-                u.email,
-                u.updated_at,
-                COALESCE(MAX(al.timestamp), u.created_at) as last_activity
-            FROM users u
-            LEFT JOIN audit_logs al ON u.id = al.user_id
-            WHERE u.active = true
-            GROUP BY u.id, u.username, u.email, u.updated_at, u.created_at
-            HAVING COALESCE(MAX(al.timestamp), u.created_at) < NOW() - INTERVAL '90 days'
-            ORDER BY last_activity
+            SELECT id, username, email, updated_at, last_activity_at
+            FROM users
+            WHERE active = true
+              AND last_activity_at < NOW() - INTERVAL '90 days'
+            ORDER BY last_activity_at, id
         """)
         
         inactive_users = cursor.fetchall()
@@ -3,13 +3,11 @@ package ignis.repositorio.institucional;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
-import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
 
 @SpringBootApplication(exclude = {
     MongoAutoConfiguration.class,
-    MongoDataAutoConfiguration.class,
-    RedisAutoConfiguration.class
+    MongoDataAutoConfiguration.class
 })
 public class RepositorioInstitucionalApplication {
 
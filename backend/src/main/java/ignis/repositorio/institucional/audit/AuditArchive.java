@@ -0,0 +1,142 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+import ignis.repositorio.institucional.config.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier of the audit log: expired audit_logs months as {@link AuditSegment}
+ * files, one per month, named after their partition. Segments are written
+ * next to their final name and moved into place, so readers never see a
+ * partial file, and stay mapped between queries until they change on disk.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditArchive {
+
+    private static final String SUFFIX = ".seg";
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final AuditPartitionJdbcRepository partitionRepository;
+    private final AuditProperties properties;
+
+    private final Map<Path, OpenSegment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * Copies the rows of a month's partition into its segment file. Must run
+     * in a transaction of its own that then drops the partition; writes to
+     * that partition, and not to the rest of audit_logs, are blocked until it
+     * ends.
+     *
+     * @return the number of rows archived
+     */
+    public int archive(YearMonth month) {
+        partitionRepository.lockPartition(month);
+        int rows = partitionRepository.countRows(month);
+        Path target = segmentPath(month);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (AuditSegmentWriter writer = new AuditSegmentWriter(temp, rows, properties.getArchive().getBlockRows())) {
+                partitionRepository.forEachRow(month, writer::append);
+                writer.finish();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive audit month " + month, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+        segments.remove(target);
+        log.info("Archived {} audit rows of {} to {}", rows, month, target);
+        return rows;
+    }
+
+    /**
+     * Archived events of a user in {@code [from, to)}, oldest first, at most {@code limit}.
+     */
+    public List<AuditLogEntry> findByUser(long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        List<AuditLogEntry> found = new ArrayList<>();
+        for (Path path : segmentFiles(YearMonth.from(from), YearMonth.from(to))) {
+            AuditSegment segment = open(path);
+            if (segment.overlaps(from, to)) {
+                found.addAll(segment.findByUser(userId, from, to, limit - found.size()));
+            }
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    Path segmentPath(YearMonth month) {
+        return properties.getArchive().getDirectory().resolve("audit_logs_" + month.format(NAME_SUFFIX) + SUFFIX);
+    }
+
+    /**
+     * Segment files of the months from {@code first} through {@code last}, oldest first.
+     */
+    private List<Path> segmentFiles(YearMonth first, YearMonth last) {
+        Path directory = properties.getArchive().getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String from = segmentPath(first).getFileName().toString();
+        String to = segmentPath(last).getFileName().toString();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.endsWith(SUFFIX) && name.compareTo(from) >= 0 && name.compareTo(to) <= 0;
+                })
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list the audit archive " + directory, e);
+        }
+    }
+
+    private AuditSegment open(Path path) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            OpenSegment cached = segments.get(path);
+            if (cached != null && cached.modified().equals(modified)) {
+                return cached.segment();
+            }
+            AuditSegment segment = AuditSegment.open(path);
+            segments.put(path, new OpenSegment(modified, segment));
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit segment " + path, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record OpenSegment(FileTime modified, AuditSegment segment) {
+    }
+}
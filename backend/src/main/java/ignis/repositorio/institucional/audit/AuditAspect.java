@@ -0,0 +1,149 @@
+package ignis.repositorio.institucional.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.auth.security.AuthenticatedUser;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns successful calls of {@link Audited} methods into audit events.
+ * Everything that depends on the calling thread (user, client address) is
+ * captured here; the event is handed to the {@link AuditLogWriter} only after
+ * the surrounding transaction commits, so rolled-back changes are not logged,
+ * and to the {@link SuspiciousActivityDetector}. Failed calls are only
+ * logged when the annotation asks for them.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditAspect {
+
+    private static final int MAX_IP_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+    private static final int MAX_TARGET_ID_LENGTH = 100;
+
+    private final AuditLogWriter auditLogWriter;
+    private final SuspiciousActivityDetector suspiciousActivityDetector;
+    private final ObjectMapper objectMapper;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @AfterReturning(pointcut = "@annotation(audited)", returning = "result")
+    public void audit(JoinPoint joinPoint, Audited audited, Object result) {
+        AuditEvent event = event(joinPoint, audited, audited.action(), result);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    @AfterThrowing(pointcut = "@annotation(audited)", throwing = "failure")
+    public void auditFailure(JoinPoint joinPoint, Audited audited, Throwable failure) {
+        if (audited.failureAction().isEmpty()
+                || Arrays.stream(audited.failureOn()).noneMatch(type -> type.isInstance(failure))) {
+            return;
+        }
+        // A failed call commits nothing to wait for
+        publish(event(joinPoint, audited, audited.failureAction(), null));
+    }
+
+    private AuditEvent event(JoinPoint joinPoint, Audited audited, String action, Object result) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HttpServletRequest request = currentRequest();
+        return new AuditEvent(
+            currentUserId(),
+            action,
+            audited.targetType(),
+            truncate(targetId(audited, method, joinPoint.getArgs(), result), MAX_TARGET_ID_LENGTH),
+            request != null ? truncate(request.getRemoteAddr(), MAX_IP_LENGTH) : null,
+            request != null ? truncate(request.getHeader(HttpHeaders.USER_AGENT), MAX_USER_AGENT_LENGTH) : null,
+            extraData(method),
+            Instant.now());
+    }
+
+    private void publish(AuditEvent event) {
+        auditLogWriter.submit(event);
+        suspiciousActivityDetector.observe(event);
+    }
+
+    private String targetId(Audited audited, Method method, Object[] args, Object result) {
+        if (audited.targetId().isEmpty()) {
+            return null;
+        }
+        try {
+            MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(null, method, args, parameterNames);
+            context.setVariable("result", result);
+            Object value = expressions.computeIfAbsent(audited.targetId(), parser::parseExpression).getValue(context);
+            return value != null ? value.toString() : null;
+        } catch (RuntimeException e) {
+            log.warn("Could not evaluate audit target id '{}' on {}: {}",
+                audited.targetId(), method.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String extraData(Method method) {
+        try {
+            return objectMapper.writeValueAsString(
+                Map.of("method", method.getDeclaringClass().getSimpleName() + "." + method.getName()));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,21 @@
+package ignis.repositorio.institucional.audit;
+
+import java.time.Instant;
+
+/**
+ * One row of audit_logs.
+ *
+ * @param userId    the acting user, or {@code null} when anonymous
+ * @param extraData JSON object with additional details, or {@code null}
+ */
+public record AuditEvent(
+    Long userId,
+    String action,
+    String targetType,
+    String targetId,
+    String ipAddress,
+    String userAgent,
+    String extraData,
+    Instant timestamp
+) {
+}
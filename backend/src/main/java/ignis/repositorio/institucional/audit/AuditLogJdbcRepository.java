@@ -0,0 +1,62 @@
+package ignis.repositorio.institucional.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts audit_logs rows and adds them to the hourly rollups in the same
+ * transaction. Batches go out as one JDBC batch, which the driver rewrites
+ * into multi-row INSERTs ({@code reWriteBatchedInserts}).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs "
+        + "(user_id, action, target_type, target_id, ip_address, user_agent, extra_data, timestamp) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRollupJdbcRepository rollupRepository;
+
+    /**
+     * Inserts all events in one transaction; either every row is written or none.
+     */
+    @Transactional
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), AuditLogJdbcRepository::bind);
+        rollupRepository.add(events);
+    }
+
+    /**
+     * Inserts a single event.
+     */
+    @Transactional
+    public void insert(AuditEvent event) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+        rollupRepository.add(List.of(event));
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        if (event.userId() != null) {
+            ps.setLong(1, event.userId());
+        } else {
+            ps.setNull(1, Types.BIGINT);
+        }
+        ps.setString(2, event.action());
+        ps.setString(3, event.targetType());
+        ps.setString(4, event.targetId());
+        ps.setString(5, event.ipAddress());
+        ps.setString(6, event.userAgent());
+        ps.setString(7, event.extraData());
+        ps.setTimestamp(8, Timestamp.from(event.timestamp()));
+    }
+}
@@ -0,0 +1,224 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit events to audit_logs in batches on a background thread.
+ * Callers only put the event in a lock-free {@link RingBuffer}; the writer
+ * flushes when a batch is full or the oldest event has waited
+ * {@code flush-interval}. A failed batch is retried row by row so one bad row
+ * does not lose the others.
+ * <p>
+ * On shutdown the writer stops after the web server, drains the buffer and
+ * writes any event submitted from then on synchronously, so nothing accepted
+ * is lost unless the drain exceeds {@code shutdown-timeout}.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    /** Starts before and stops after the web server. */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditProperties properties;
+    private final AuditLogJdbcRepository repository;
+    private final RingBuffer<AuditEvent> buffer;
+    private final long flushIntervalNanos;
+
+    private final Timer flushTimer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private volatile boolean accepting;
+    private Thread worker;
+
+    public AuditLogWriter(AuditProperties properties, AuditLogJdbcRepository repository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.repository = repository;
+        this.buffer = new RingBuffer<>(properties.getBufferCapacity());
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+
+        Gauge.builder("audit.queue.depth", buffer, RingBuffer::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+            .description("Time to write one batch of audit events")
+            .register(meterRegistry);
+        this.written = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.events").tag("result", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("audit.events").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for writing, applying the overflow policy when the buffer is full.
+     */
+    public void submit(AuditEvent event) {
+        if (!accepting) {
+            // Not started yet or shutting down: there is no worker to hand off to
+            writeNow(List.of(event));
+            return;
+        }
+        if (buffer.offer(event)) {
+            if (!accepting) {
+                // Shutdown began after the check above; the worker may already be gone
+                flushRemaining();
+            } else if (buffer.size() >= properties.getBatchSize()) {
+                LockSupport.unpark(worker);
+            }
+            return;
+        }
+        onOverflow(event);
+    }
+
+    private void onOverflow(AuditEvent event) {
+        LockSupport.unpark(worker);
+        switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> drop(event);
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    AuditEvent oldest = buffer.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+                while (!buffer.offer(event)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        drop(event);
+                        return;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+            }
+            case CALLER_RUNS -> writeNow(List.of(event));
+        }
+    }
+
+    private void drop(AuditEvent event) {
+        dropped.increment();
+        log.debug("Audit buffer full, dropped {} {} {}", event.action(), event.targetType(), event.targetId());
+    }
+
+    /**
+     * Approximate number of events waiting to be written.
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+        accepting = true;
+        log.info("Audit log writer started (buffer {}, batch {}, overflow {})",
+            buffer.capacity(), properties.getBatchSize(), properties.getOverflowPolicy());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.error("Audit log writer did not finish within {}; {} events not written",
+                properties.getShutdownTimeout(), buffer.size());
+            return;
+        }
+        // Events offered while the worker was exiting
+        flushRemaining();
+        log.info("Audit log writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long deadline = 0;
+        while (true) {
+            boolean stopping = !running;
+            int before = batch.size();
+            buffer.drainTo(batch, properties.getBatchSize() - before);
+            if (before == 0 && !batch.isEmpty()) {
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+
+            if (!batch.isEmpty()
+                    && (batch.size() >= properties.getBatchSize() || stopping || System.nanoTime() - deadline >= 0)) {
+                writeNow(batch);
+                batch.clear();
+                continue;
+            }
+            if (stopping) {
+                return;
+            }
+            LockSupport.parkNanos(this, batch.isEmpty() ? flushIntervalNanos : deadline - System.nanoTime());
+        }
+    }
+
+    private void flushRemaining() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            writeNow(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeNow(List<AuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            repository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Audit batch of {} failed, retrying row by row: {}", batch.size(), e.getMessage());
+            for (AuditEvent event : batch) {
+                try {
+                    repository.insert(event);
+                    written.increment();
+                } catch (RuntimeException rowFailure) {
+                    failed.increment();
+                    log.error("Could not write audit event {}: {}", event, rowFailure.getMessage());
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
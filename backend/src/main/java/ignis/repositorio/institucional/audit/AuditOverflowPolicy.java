@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.audit;
+
+/**
+ * What happens to an audit event when the buffer is full.
+ */
+public enum AuditOverflowPolicy {
+
+    /** Discard the new event. Never slows the caller. */
+    DROP_NEWEST,
+
+    /** Discard the oldest buffered event to make room for the new one. */
+    DROP_OLDEST,
+
+    /** Wait up to {@code app.audit.block-timeout} for room, then discard the new event. */
+    BLOCK,
+
+    /** Write the event synchronously on the caller's thread. Nothing is lost. */
+    CALLER_RUNS
+}
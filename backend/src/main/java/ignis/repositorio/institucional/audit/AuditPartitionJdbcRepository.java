@@ -0,0 +1,165 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DDL for the monthly partitions of audit_logs. A partition is named
+ * {@code audit_logs_YYYY_MM} and covers that calendar month; partition names
+ * are built from {@link YearMonth} only, never from user input.
+ * Must be called inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditPartitionJdbcRepository {
+
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("audit_logs_(\\d{4})_(\\d{2})");
+
+    /** Advisory lock key that keeps nodes from running the maintenance at the same time. */
+    private static final long MAINTENANCE_LOCK_KEY = 0x61756469745F70L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the maintenance lock until the end of the transaction.
+     *
+     * @return false if another session holds it
+     */
+    public boolean tryLockMaintenance() {
+        return Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    /**
+     * Makes DDL in this transaction give up instead of waiting longer than {@code timeout} for a lock.
+     */
+    public void limitLockWait(Duration timeout) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + timeout.toMillis());
+    }
+
+    /**
+     * Months that currently have a partition attached to audit_logs.
+     */
+    public SortedSet<YearMonth> findPartitionMonths() {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        jdbcTemplate.query(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'audit_logs'::regclass",
+            rs -> {
+                Matcher matcher = MONTHLY_PARTITION.matcher(rs.getString(1));
+                if (matcher.matches()) {
+                    months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+                }
+            });
+        return months;
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')",
+            partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * Detaches a partition, leaving its rows in a standalone table of the same name.
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partitionName(month));
+    }
+
+    /**
+     * Drops a partition together with its rows.
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE " + partitionName(month));
+    }
+
+    /**
+     * Blocks writes to a partition until the end of the transaction, so a
+     * copy of its rows stays complete up to the drop.
+     */
+    public void lockPartition(YearMonth month) {
+        jdbcTemplate.execute("LOCK TABLE " + partitionName(month) + " IN SHARE MODE");
+    }
+
+    public int countRows(YearMonth month) {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitionName(month), Integer.class);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Streams the rows of a partition ordered by user (anonymous first), time and id.
+     */
+    public void forEachRow(YearMonth month, Consumer<AuditLogEntry> action) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id, user_id, action, target_type, target_id, ip_address, user_agent, "
+                        + "extra_data::text AS extra_data, timestamp FROM " + partitionName(month)
+                        + " ORDER BY user_id NULLS FIRST, timestamp, id");
+                ps.setFetchSize(1000);
+                return ps;
+            },
+            rs -> {
+                action.accept(AuditLogEntry.builder()
+                    .id(rs.getLong("id"))
+                    .userId(rs.getObject("user_id", Long.class))
+                    .action(rs.getString("action"))
+                    .targetType(rs.getString("target_type"))
+                    .targetId(rs.getString("target_id"))
+                    .ipAddress(rs.getString("ip_address"))
+                    .userAgent(rs.getString("user_agent"))
+                    .extraData(rs.getString("extra_data"))
+                    .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+                    .build());
+            });
+    }
+
+    /**
+     * Whether audit_logs_default holds rows of {@code month}, written while
+     * the month had no partition. They make a plain
+     * {@link #createPartition(YearMonth)} fail.
+     */
+    public boolean defaultPartitionHasRows(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM audit_logs_default WHERE timestamp >= ? AND timestamp < ?)",
+            Boolean.class, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    /**
+     * Creates the partition of a month whose rows sit in audit_logs_default:
+     * the default partition is detached, the month created, its rows moved
+     * over and the default attached again.
+     *
+     * @return the number of rows moved
+     */
+    public int createPartitionFromDefault(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+        createPartition(month);
+        int moved = jdbcTemplate.update(
+            "INSERT INTO audit_logs SELECT * FROM audit_logs_default WHERE timestamp >= ? AND timestamp < ?", from, to);
+        jdbcTemplate.update("DELETE FROM audit_logs_default WHERE timestamp >= ? AND timestamp < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT");
+        return moved;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return "audit_logs_" + month.format(NAME_SUFFIX);
+    }
+}
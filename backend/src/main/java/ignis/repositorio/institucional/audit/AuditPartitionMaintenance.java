@@ -0,0 +1,145 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.SortedSet;
+
+/**
+ * Keeps the monthly partitions of audit_logs in shape: the current month and
+ * the next {@code premake-months} always exist before rows arrive, and months
+ * entirely older than {@code retention} are dropped, detached or moved to the
+ * {@link AuditArchive}. Retention is
+ * therefore a catalog change instead of a DELETE over millions of rows.
+ * <p>
+ * Runs at startup and on {@code cron}. An advisory lock lets only one node do
+ * the work, and the DDL gives up after {@code lock-timeout} rather than stall
+ * audit writes behind a long-running query; the next run catches up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditPartitionMaintenance {
+
+    private final AuditPartitionJdbcRepository repository;
+    private final AuditArchive archive;
+    private final AuditProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${app.audit.partitions.cron:0 15 3 * * *}")
+    public void run() {
+        if (!properties.getPartitions().isEnabled()) {
+            return;
+        }
+        try {
+            maintain(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("Audit partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates missing partitions and removes expired ones as of {@code today}.
+     * Every partition is created, and then every expired one removed, in its
+     * own transaction, so a month that fails does not hold back the others.
+     */
+    public void maintain(LocalDate today) {
+        AuditProperties.Partitions config = properties.getPartitions();
+        SortedSet<YearMonth> existing = transactionTemplate.execute(status ->
+            repository.tryLockMaintenance() ? repository.findPartitionMonths() : null);
+        if (existing == null) {
+            log.debug("Audit partition maintenance already running elsewhere");
+            return;
+        }
+
+        YearMonth current = YearMonth.from(today);
+        YearMonth last = current.plusMonths(config.getPremakeMonths());
+        for (YearMonth month = current; !month.isAfter(last); month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                YearMonth created = month;
+                inMaintenanceTransaction("create", created, () -> create(created));
+            }
+        }
+
+        // Expiry runs only after the new partitions have committed, one month per
+        // transaction, so a slow or failing archive neither holds the parent lock
+        // taken by CREATE nor undoes the months created above
+        LocalDate cutoff = today.minus(config.getRetention());
+        for (YearMonth month : existing) {
+            // Only whole months past retention, and never the current one
+            if (month.isBefore(current) && !month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                inMaintenanceTransaction("expire", month, () -> expire(month, config.getExpiredAction()));
+            }
+        }
+    }
+
+    /**
+     * Runs one step in its own transaction under the maintenance lock, logging
+     * a failure instead of propagating it.
+     */
+    private void inMaintenanceTransaction(String step, YearMonth month, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!repository.tryLockMaintenance()) {
+                    log.debug("Audit partition maintenance already running elsewhere");
+                    return;
+                }
+                repository.limitLockWait(properties.getPartitions().getLockTimeout());
+                work.run();
+            });
+        } catch (RuntimeException e) {
+            log.error("Could not {} audit partition {}: {}", step,
+                AuditPartitionJdbcRepository.partitionName(month), e.getMessage(), e);
+        }
+    }
+
+    private void create(YearMonth month) {
+        String name = AuditPartitionJdbcRepository.partitionName(month);
+        if (repository.findPartitionMonths().contains(month)) {
+            return;
+        }
+        if (repository.defaultPartitionHasRows(month)) {
+            // A plain CREATE would fail on the rows the default partition took for this month
+            int moved = repository.createPartitionFromDefault(month);
+            log.info("Created audit partition {} with {} rows moved from audit_logs_default", name, moved);
+        } else {
+            repository.createPartition(month);
+            log.info("Created audit partition {}", name);
+        }
+    }
+
+    private void expire(YearMonth month, ExpiredPartitionAction action) {
+        String name = AuditPartitionJdbcRepository.partitionName(month);
+        if (!repository.findPartitionMonths().contains(month)) {
+            return;
+        }
+        switch (action) {
+            case DROP -> {
+                repository.dropPartition(month);
+                log.info("Dropped expired audit partition {}", name);
+            }
+            case DETACH -> {
+                repository.detachPartition(month);
+                log.info("Detached expired audit partition {}", name);
+            }
+            case ARCHIVE -> {
+                archive.archive(month);
+                repository.dropPartition(month);
+                log.info("Archived and dropped expired audit partition {}", name);
+            }
+        }
+    }
+}
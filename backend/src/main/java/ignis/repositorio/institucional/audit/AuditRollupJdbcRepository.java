@@ -0,0 +1,200 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditActionCount;
+import ignis.repositorio.institucional.audit.dto.AuditActivityBucket;
+import ignis.repositorio.institucional.audit.dto.AuditUserActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and maintains the hourly audit rollups: event counts per hour,
+ * action, target type and user in audit_rollup_hourly, and HyperLogLog
+ * sketches of each completed hour's distinct users in audit_user_sketch_hourly.
+ * Ranges are half-open, {@code [from, to)}, on hour buckets.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditRollupJdbcRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO audit_rollup_hourly "
+        + "(bucket, action, target_type, user_id, event_count, last_event_at) VALUES (?, ?, ?, ?, ?, ?) "
+        + "ON CONFLICT (bucket, action, target_type, user_id) DO UPDATE SET "
+        + "event_count = audit_rollup_hourly.event_count + EXCLUDED.event_count, "
+        + "last_event_at = GREATEST(audit_rollup_hourly.last_event_at, EXCLUDED.last_event_at)";
+
+    /** Upsert order; the same order in every transaction keeps concurrent writers from deadlocking. */
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::bucket)
+        .thenComparing(RollupKey::action)
+        .thenComparing(RollupKey::targetType)
+        .thenComparing(RollupKey::userId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds events to the rollups. Run it in the transaction that inserts the
+     * events so the counts always match the log.
+     */
+    public void add(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<RollupKey, RollupCount> counts = new TreeMap<>(KEY_ORDER);
+        for (AuditEvent event : events) {
+            LocalDateTime at = Timestamp.from(event.timestamp()).toLocalDateTime();
+            RollupKey key = new RollupKey(
+                at.truncatedTo(ChronoUnit.HOURS), event.action(), event.targetType(), event.userId());
+            counts.computeIfAbsent(key, k -> new RollupCount()).add(at);
+        }
+        List<Map.Entry<RollupKey, RollupCount>> rows = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            RollupKey key = row.getKey();
+            ps.setTimestamp(1, Timestamp.valueOf(key.bucket()));
+            ps.setString(2, key.action());
+            ps.setString(3, key.targetType());
+            if (key.userId() != null) {
+                ps.setLong(4, key.userId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+            ps.setLong(5, row.getValue().count);
+            ps.setTimestamp(6, Timestamp.valueOf(row.getValue().lastEventAt));
+        });
+
+        // A late event makes the sketch of an already completed hour stale
+        Timestamp[] buckets = counts.keySet().stream()
+            .map(RollupKey::bucket).distinct().map(Timestamp::valueOf).toArray(Timestamp[]::new);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                "DELETE FROM audit_user_sketch_hourly WHERE bucket = ANY(?)");
+            ps.setArray(1, connection.createArrayOf("timestamp", buckets));
+            return ps;
+        });
+    }
+
+    public long countEvents(LocalDateTime from, LocalDateTime to) {
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(event_count), 0) FROM audit_rollup_hourly WHERE bucket >= ? AND bucket < ?",
+            Long.class, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * Event counts per action, most frequent first.
+     */
+    public List<AuditActionCount> countByAction(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT action, SUM(event_count) AS total FROM audit_rollup_hourly "
+                + "WHERE bucket >= ? AND bucket < ? GROUP BY action ORDER BY total DESC, action",
+            (rs, rowNum) -> new AuditActionCount(rs.getString("action"), rs.getLong("total")),
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * The {@code limit} users with the most events, ignoring anonymous ones.
+     */
+    public List<AuditUserActivity> findTopUsers(LocalDateTime from, LocalDateTime to, int limit) {
+        return jdbcTemplate.query(
+            "SELECT r.user_id, u.username, SUM(r.event_count) AS total, MAX(r.last_event_at) AS last_at "
+                + "FROM audit_rollup_hourly r LEFT JOIN users u ON u.id = r.user_id "
+                + "WHERE r.bucket >= ? AND r.bucket < ? AND r.user_id IS NOT NULL "
+                + "GROUP BY r.user_id, u.username ORDER BY total DESC, r.user_id LIMIT ?",
+            (rs, rowNum) -> new AuditUserActivity(
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getLong("total"),
+                rs.getTimestamp("last_at").toLocalDateTime()),
+            Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+    }
+
+    /**
+     * Event counts per hour that had any events, in time order.
+     */
+    public List<AuditActivityBucket> countByHour(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            "SELECT bucket, SUM(event_count) AS total FROM audit_rollup_hourly "
+                + "WHERE bucket >= ? AND bucket < ? GROUP BY bucket ORDER BY bucket",
+            (rs, rowNum) -> new AuditActivityBucket(rs.getTimestamp("bucket").toLocalDateTime(), rs.getLong("total")),
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * Estimates the distinct users with events in the range: the sketches of
+     * completed hours are merged, and hours without a sketch yet contribute
+     * their user ids from the counts.
+     */
+    public long estimateDistinctUsers(LocalDateTime from, LocalDateTime to) {
+        HyperLogLog users = new HyperLogLog();
+        jdbcTemplate.query(
+            "SELECT sketch FROM audit_user_sketch_hourly WHERE bucket >= ? AND bucket < ?",
+            rs -> {
+                users.merge(HyperLogLog.fromBytes(rs.getBytes(1)));
+            },
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.query(
+            "SELECT DISTINCT r.user_id FROM audit_rollup_hourly r "
+                + "WHERE r.bucket >= ? AND r.bucket < ? AND r.user_id IS NOT NULL "
+                + "AND NOT EXISTS (SELECT 1 FROM audit_user_sketch_hourly s WHERE s.bucket = r.bucket)",
+            rs -> {
+                users.add(rs.getLong(1));
+            },
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return users.estimate();
+    }
+
+    /**
+     * Hours before {@code before} that have counts but no sketch, oldest first.
+     */
+    public List<LocalDateTime> findUnsketchedHours(LocalDateTime before, int limit) {
+        return jdbcTemplate.query(
+            "SELECT DISTINCT r.bucket FROM audit_rollup_hourly r WHERE r.bucket < ? "
+                + "AND NOT EXISTS (SELECT 1 FROM audit_user_sketch_hourly s WHERE s.bucket = r.bucket) "
+                + "ORDER BY r.bucket LIMIT ?",
+            (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime(),
+            Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * Builds and stores the distinct-user sketch of one hour from its counts.
+     */
+    public void sketchHour(LocalDateTime bucket) {
+        HyperLogLog users = new HyperLogLog();
+        jdbcTemplate.query(
+            "SELECT DISTINCT user_id FROM audit_rollup_hourly WHERE bucket = ? AND user_id IS NOT NULL",
+            rs -> {
+                users.add(rs.getLong(1));
+            },
+            Timestamp.valueOf(bucket));
+        jdbcTemplate.update(
+            "INSERT INTO audit_user_sketch_hourly (bucket, sketch) VALUES (?, ?) "
+                + "ON CONFLICT (bucket) DO UPDATE SET sketch = EXCLUDED.sketch",
+            Timestamp.valueOf(bucket), users.toBytes());
+    }
+
+    private record RollupKey(LocalDateTime bucket, String action, String targetType, Long userId) {
+    }
+
+    private static final class RollupCount {
+
+        private long count;
+        private LocalDateTime lastEventAt;
+
+        void add(LocalDateTime at) {
+            count++;
+            if (lastEventAt == null || at.isAfter(lastEventAt)) {
+                lastEventAt = at;
+            }
+        }
+    }
+}
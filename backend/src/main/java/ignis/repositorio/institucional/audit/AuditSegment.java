@@ -0,0 +1,237 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A read-only, memory-mapped file of archived audit rows, sorted by user
+ * (anonymous first) and time. Layout, all big-endian:
+ * <pre>
+ * header        64 bytes: magic, row count, min/max timestamp, block rows,
+ *               block/user/dictionary counts, section offsets
+ * columns       id, timestamp (epoch micros, UTC wall time), user id as
+ *               longs; action, target type, ip address, user agent as
+ *               dictionary codes (-1 = null)
+ * blocks        target id and extra data of each run of block-rows rows, deflated
+ * dictionary    the distinct low-cardinality strings, by code
+ * block index   offset and length of each block
+ * user index    user id, first row and row count of each user
+ * </pre>
+ * A user's rows are contiguous and time-ordered, so a user and time range
+ * is two binary searches over the mapped file; only the matching rows and
+ * their detail blocks are decoded. Reads use absolute positions, so one
+ * segment serves concurrent queries.
+ */
+final class AuditSegment {
+
+    static final int MAGIC = 0x49474131;
+    static final int HEADER_BYTES = 64;
+    static final long NO_USER = Long.MIN_VALUE;
+
+    private static final int BLOCK_INDEX_ENTRY = Long.BYTES + Integer.BYTES;
+    private static final int USER_INDEX_ENTRY = Long.BYTES + 2 * Integer.BYTES;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int rowCount;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final int blockRows;
+    private final int userCount;
+    private final long blockIndexOffset;
+    private final long userIndexOffset;
+    private final String[] dictionary;
+
+    private final long timestampOffset;
+    private final long userIdOffset;
+    private final long actionOffset;
+    private final long targetTypeOffset;
+    private final long ipAddressOffset;
+    private final long userAgentOffset;
+
+    private AuditSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not an audit segment: " + path);
+        }
+        this.rowCount = buffer.getInt(4);
+        this.minTimestamp = buffer.getLong(8);
+        this.maxTimestamp = buffer.getLong(16);
+        this.blockRows = buffer.getInt(24);
+        this.userCount = buffer.getInt(32);
+        int dictionarySize = buffer.getInt(36);
+        long dictionaryOffset = buffer.getLong(40);
+        this.blockIndexOffset = buffer.getLong(48);
+        this.userIndexOffset = buffer.getLong(56);
+
+        this.timestampOffset = HEADER_BYTES + (long) Long.BYTES * rowCount;
+        this.userIdOffset = timestampOffset + (long) Long.BYTES * rowCount;
+        this.actionOffset = userIdOffset + (long) Long.BYTES * rowCount;
+        this.targetTypeOffset = actionOffset + (long) Integer.BYTES * rowCount;
+        this.ipAddressOffset = targetTypeOffset + (long) Integer.BYTES * rowCount;
+        this.userAgentOffset = ipAddressOffset + (long) Integer.BYTES * rowCount;
+
+        this.dictionary = new String[dictionarySize];
+        int position = (int) dictionaryOffset;
+        for (int i = 0; i < dictionarySize; i++) {
+            int length = buffer.getInt(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + Integer.BYTES, bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += Integer.BYTES + length;
+        }
+    }
+
+    /**
+     * Maps a segment file. The mapping outlives the file handle.
+     */
+    static AuditSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Audit segment too large to map: " + path);
+            }
+            return new AuditSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Whether any row may fall in {@code [from, to)}.
+     */
+    boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return rowCount > 0 && toMicros(from) <= maxTimestamp && toMicros(to) > minTimestamp;
+    }
+
+    /**
+     * The rows of a user in {@code [from, to)}, oldest first, at most {@code limit}.
+     */
+    List<AuditLogEntry> findByUser(long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        int user = findUser(userId);
+        if (user < 0 || !overlaps(from, to)) {
+            return List.of();
+        }
+        long entry = userIndexOffset + (long) user * USER_INDEX_ENTRY;
+        int first = buffer.getInt((int) entry + Long.BYTES);
+        int end = first + buffer.getInt((int) entry + Long.BYTES + Integer.BYTES);
+        int start = lowerBound(first, end, toMicros(from));
+        int stop = Math.min(lowerBound(start, end, toMicros(to)), start + limit);
+
+        List<AuditLogEntry> rows = new ArrayList<>(stop - start);
+        int loadedBlock = -1;
+        String[] details = null;
+        for (int row = start; row < stop; row++) {
+            int block = row / blockRows;
+            if (block != loadedBlock) {
+                details = readBlock(block);
+                loadedBlock = block;
+            }
+            int inBlock = row % blockRows;
+            rows.add(AuditLogEntry.builder()
+                .id(buffer.getLong(HEADER_BYTES + row * Long.BYTES))
+                .userId(userId)
+                .timestamp(fromMicros(buffer.getLong((int) timestampOffset + row * Long.BYTES)))
+                .action(string(actionOffset, row))
+                .targetType(string(targetTypeOffset, row))
+                .ipAddress(string(ipAddressOffset, row))
+                .userAgent(string(userAgentOffset, row))
+                .targetId(details[2 * inBlock])
+                .extraData(details[2 * inBlock + 1])
+                .build());
+        }
+        return rows;
+    }
+
+    private int findUser(long userId) {
+        int low = 0;
+        int high = userCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long candidate = buffer.getLong((int) (userIndexOffset + (long) mid * USER_INDEX_ENTRY));
+            if (candidate < userId) {
+                low = mid + 1;
+            } else if (candidate > userId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * First row in {@code [from, to)} whose timestamp is at least {@code micros}.
+     */
+    private int lowerBound(int from, int to, long micros) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong((int) timestampOffset + mid * Long.BYTES) < micros) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String string(long columnOffset, int row) {
+        int code = buffer.getInt((int) columnOffset + row * Integer.BYTES);
+        return code >= 0 ? dictionary[code] : null;
+    }
+
+    /**
+     * Inflates one detail block into target id and extra data pairs.
+     */
+    private String[] readBlock(int block) {
+        int entry = (int) (blockIndexOffset + (long) block * BLOCK_INDEX_ENTRY);
+        byte[] compressed = new byte[buffer.getInt(entry + Long.BYTES)];
+        buffer.get((int) buffer.getLong(entry), compressed);
+        int rows = Math.min(blockRows, rowCount - block * blockRows);
+        String[] details = new String[2 * rows];
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            for (int i = 0; i < details.length; i++) {
+                int length = in.readInt();
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    details[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt audit segment " + path, e);
+        }
+        return details;
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,244 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes one {@link AuditSegment} file from rows ordered by user (anonymous
+ * first) and time. The row count is known up front, so every column lands at
+ * its final offset in a single pass with memory bounded by one buffer per
+ * column, one detail block and the dictionary.
+ */
+final class AuditSegmentWriter implements Closeable {
+
+    private static final int COLUMN_BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int rowCount;
+    private final int blockRows;
+
+    private final Column ids;
+    private final Column timestamps;
+    private final Column userIds;
+    private final Column actions;
+    private final Column targetTypes;
+    private final Column ipAddresses;
+    private final Column userAgents;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> dictionaryValues = new ArrayList<>();
+    private final List<long[]> blocks = new ArrayList<>();
+    private final List<long[]> users = new ArrayList<>();
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+    private DataOutputStream blockOut = new DataOutputStream(blockBytes);
+    private long blockPosition;
+
+    private int written;
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+    private long lastUser = Long.MIN_VALUE;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    AuditSegmentWriter(Path path, int rowCount, int blockRows) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.rowCount = rowCount;
+        this.blockRows = blockRows;
+        long offset = AuditSegment.HEADER_BYTES;
+        this.ids = new Column(offset);
+        this.timestamps = new Column(offset += (long) Long.BYTES * rowCount);
+        this.userIds = new Column(offset += (long) Long.BYTES * rowCount);
+        this.actions = new Column(offset += (long) Long.BYTES * rowCount);
+        this.targetTypes = new Column(offset += (long) Integer.BYTES * rowCount);
+        this.ipAddresses = new Column(offset += (long) Integer.BYTES * rowCount);
+        this.userAgents = new Column(offset += (long) Integer.BYTES * rowCount);
+        this.blockPosition = offset + (long) Integer.BYTES * rowCount;
+    }
+
+    /**
+     * Adds the next row.
+     *
+     * @throws IllegalArgumentException if the row is out of order
+     * @throws IllegalStateException    if more rows arrive than announced
+     */
+    void append(AuditLogEntry row) {
+        if (written == rowCount) {
+            throw new IllegalStateException("Segment already holds its " + rowCount + " rows");
+        }
+        long user = row.getUserId() != null ? row.getUserId() : AuditSegment.NO_USER;
+        long timestamp = AuditSegment.toMicros(row.getTimestamp());
+        if (user < lastUser || (user == lastUser && timestamp < lastTimestamp)) {
+            throw new IllegalArgumentException("Rows must be ordered by user and time, got " + row);
+        }
+        if (written == 0 || user != lastUser) {
+            users.add(new long[] {user, written, 0});
+        }
+        users.get(users.size() - 1)[2]++;
+        lastUser = user;
+        lastTimestamp = timestamp;
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+
+        try {
+            ids.putLong(row.getId());
+            timestamps.putLong(timestamp);
+            userIds.putLong(user);
+            actions.putInt(code(row.getAction()));
+            targetTypes.putInt(code(row.getTargetType()));
+            ipAddresses.putInt(code(row.getIpAddress()));
+            userAgents.putInt(code(row.getUserAgent()));
+            writeString(blockOut, row.getTargetId());
+            writeString(blockOut, row.getExtraData());
+            written++;
+            if (written % blockRows == 0) {
+                flushBlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the trailing sections and the header and syncs the file.
+     */
+    void finish() throws IOException {
+        if (written != rowCount) {
+            throw new IllegalStateException("Segment expected " + rowCount + " rows, got " + written);
+        }
+        if (written % blockRows != 0) {
+            flushBlock();
+        }
+        for (Column column : List.of(ids, timestamps, userIds, actions, targetTypes, ipAddresses, userAgents)) {
+            column.flush();
+        }
+
+        long dictionaryOffset = blockPosition;
+        ByteArrayOutputStream trailer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(trailer);
+        for (String value : dictionaryValues) {
+            writeString(out, value);
+        }
+        long blockIndexOffset = dictionaryOffset + trailer.size();
+        for (long[] block : blocks) {
+            out.writeLong(block[0]);
+            out.writeInt((int) block[1]);
+        }
+        long userIndexOffset = dictionaryOffset + trailer.size();
+        for (long[] user : users) {
+            out.writeLong(user[0]);
+            out.writeInt((int) user[1]);
+            out.writeInt((int) user[2]);
+        }
+        write(ByteBuffer.wrap(trailer.toByteArray()), dictionaryOffset);
+
+        ByteBuffer header = ByteBuffer.allocate(AuditSegment.HEADER_BYTES)
+            .putInt(AuditSegment.MAGIC)
+            .putInt(rowCount)
+            .putLong(rowCount > 0 ? minTimestamp : 0)
+            .putLong(rowCount > 0 ? maxTimestamp : 0)
+            .putInt(blockRows)
+            .putInt(blocks.size())
+            .putInt(users.size())
+            .putInt(dictionaryValues.size())
+            .putLong(dictionaryOffset)
+            .putLong(blockIndexOffset)
+            .putLong(userIndexOffset);
+        header.flip();
+        write(header, 0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int code(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return dictionary.computeIfAbsent(value, v -> {
+            dictionaryValues.add(v);
+            return dictionaryValues.size() - 1;
+        });
+    }
+
+    private void flushBlock() throws IOException {
+        blockOut.flush();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(blockBytes.size() / 2 + 16);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            blockBytes.writeTo(deflater);
+        }
+        blocks.add(new long[] {blockPosition, compressed.size()});
+        blockPosition += write(ByteBuffer.wrap(compressed.toByteArray()), blockPosition);
+        blockBytes.reset();
+        blockOut = new DataOutputStream(blockBytes);
+    }
+
+    private int write(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            total += channel.write(buffer, position + total);
+        }
+        return total;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * A fixed-width column written through a small buffer at its own offset.
+     */
+    private final class Column {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(COLUMN_BUFFER_BYTES);
+        private long position;
+
+        Column(long position) {
+            this.position = position;
+        }
+
+        void putLong(long value) throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            position += write(buffer, position);
+            buffer.clear();
+        }
+    }
+}
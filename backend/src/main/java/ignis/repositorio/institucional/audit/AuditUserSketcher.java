@@ -0,0 +1,57 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Gives every completed hour of audit rollups its HyperLogLog sketch of
+ * distinct users, so distinct-user estimates over long ranges merge a few
+ * kilobytes per hour instead of reading every user's rows. An hour is
+ * sketched once it has been over for five minutes, by which time the
+ * buffered events of that hour are written; a later event drops the sketch
+ * and the next run rebuilds it. Sketching is idempotent, so nodes need no
+ * coordination.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditUserSketcher {
+
+    static final long SETTLE_TIME_MINUTES = 5;
+
+    private final AuditRollupJdbcRepository repository;
+    private final AuditProperties properties;
+
+    @Scheduled(
+        initialDelayString = "${app.audit.rollups.sketch-interval:5m}",
+        fixedDelayString = "${app.audit.rollups.sketch-interval:5m}")
+    public void run() {
+        try {
+            sketchCompletedHours(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Audit user sketching failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sketches hours that ended at least the settle time before {@code now}.
+     *
+     * @return the number of hours sketched
+     */
+    public int sketchCompletedHours(LocalDateTime now) {
+        LocalDateTime before = now.minusMinutes(SETTLE_TIME_MINUTES).truncatedTo(ChronoUnit.HOURS);
+        List<LocalDateTime> hours = repository.findUnsketchedHours(before, properties.getRollups().getSketchBatchSize());
+        hours.forEach(repository::sketchHour);
+        if (!hours.isEmpty()) {
+            log.debug("Sketched distinct audit users of {} hours up to {}", hours.size(), hours.get(hours.size() - 1));
+        }
+        return hours.size();
+    }
+}
@@ -0,0 +1,45 @@
+package ignis.repositorio.institucional.audit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method whose successful, committed calls are written to
+ * audit_logs. Calls failing with one of {@link #failureOn()} can be written
+ * as well, under {@link #failureAction()}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Audited {
+
+    /**
+     * Value of the action column, e.g. {@code CREATE_USER}.
+     */
+    String action();
+
+    /**
+     * Value of the target_type column, e.g. {@code USER}.
+     */
+    String targetType();
+
+    /**
+     * SpEL expression for the target_id column, evaluated against the method
+     * arguments by name and {@code #result}, e.g. {@code #result.id} or {@code #id}.
+     */
+    String targetId() default "";
+
+    /**
+     * Value of the action column for a call that threw one of {@link #failureOn()},
+     * e.g. {@code LOGIN_FAILED}; empty to write successful calls only.
+     */
+    String failureAction() default "";
+
+    /**
+     * Exceptions whose calls are written under {@link #failureAction()}.
+     */
+    Class<? extends Throwable>[] failureOn() default {};
+}
@@ -0,0 +1,16 @@
+package ignis.repositorio.institucional.audit;
+
+/**
+ * What the partition maintenance does with audit_logs months past retention.
+ */
+public enum ExpiredPartitionAction {
+
+    /** Detach the partition and drop its table. */
+    DROP,
+
+    /** Detach the partition and keep it as a standalone table, e.g. for archiving. */
+    DETACH,
+
+    /** Copy the rows into a segment file of the audit archive, then drop the partition. */
+    ARCHIVE
+}
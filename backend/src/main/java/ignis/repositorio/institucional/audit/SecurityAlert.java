@@ -0,0 +1,20 @@
+package ignis.repositorio.institucional.audit;
+
+import java.time.Instant;
+
+/**
+ * One row of security_alerts.
+ *
+ * @param subject    the account or client address the alert is about
+ * @param eventCount events in the window when the alert was raised
+ */
+public record SecurityAlert(
+    SecurityAlertType type,
+    String subject,
+    Long userId,
+    String ipAddress,
+    String action,
+    int eventCount,
+    Instant detectedAt
+) {
+}
@@ -0,0 +1,41 @@
+package ignis.repositorio.institucional.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Writes the findings of the {@link SuspiciousActivityDetector} to security_alerts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SecurityAlertJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO security_alerts "
+        + "(alert_type, subject, user_id, ip_address, action, event_count, detected_at) "
+        + "VALUES (?, ?, (SELECT id FROM users WHERE id = ?), ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Saves an alert. The user is left empty if it has been deleted since.
+     */
+    public void insert(SecurityAlert alert) {
+        jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setString(1, alert.type().name());
+            ps.setString(2, alert.subject());
+            if (alert.userId() != null) {
+                ps.setLong(3, alert.userId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, alert.ipAddress());
+            ps.setString(5, alert.action());
+            ps.setInt(6, alert.eventCount());
+            ps.setTimestamp(7, Timestamp.from(alert.detectedAt()));
+        });
+    }
+}
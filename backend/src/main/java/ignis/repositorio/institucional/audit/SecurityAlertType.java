@@ -0,0 +1,13 @@
+package ignis.repositorio.institucional.audit;
+
+/**
+ * Kinds of suspicious activity found in the audit events.
+ */
+public enum SecurityAlertType {
+    /** Repeated failed logins for one account. */
+    FAILED_LOGINS,
+    /** Unusually many events from one client address. */
+    IP_FLOOD,
+    /** An administrative action outside business hours. */
+    OFF_HOURS_ADMIN
+}
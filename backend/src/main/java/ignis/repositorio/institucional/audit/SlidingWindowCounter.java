@@ -0,0 +1,73 @@
+package ignis.repositorio.institucional.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event count over a sliding window, split into up to 60 slots of
+ * at least a second each, so windows under a minute get one slot per second
+ * and are not stretched to a minute. Each slot packs the number of the time slice it counts and the
+ * count into one long updated by compare-and-set, so a slot left over from
+ * an earlier lap is reset and incremented in the same step. Memory is one
+ * long per slot whatever the event rate; the window moves in slot-sized
+ * steps, and windows under a second count as one second.
+ */
+final class SlidingWindowCounter {
+
+    static final int MAX_SLOTS = 60;
+    static final long MIN_SLOT_MILLIS = 1_000;
+
+    /** Leaves 40 bits for the slice number, enough for one-second slices. */
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int slotCount;
+    private final long slotMillis;
+    private final AtomicLongArray slots;
+    private final AtomicLong alertedSlice;
+
+    SlidingWindowCounter(long windowMillis) {
+        this.slotCount = (int) Math.max(1, Math.min(MAX_SLOTS, windowMillis / MIN_SLOT_MILLIS));
+        this.slotMillis = Math.max(MIN_SLOT_MILLIS, windowMillis / slotCount);
+        this.slots = new AtomicLongArray(slotCount);
+        this.alertedSlice = new AtomicLong(-slotCount);
+    }
+
+    /**
+     * Counts one event at {@code nowMillis} and returns the events in the window ending then.
+     */
+    int add(long nowMillis) {
+        long slice = nowMillis / slotMillis;
+        int index = (int) (slice % slotCount);
+        long current;
+        long next;
+        do {
+            current = slots.get(index);
+            long count = current >>> COUNT_BITS == slice ? current & COUNT_MASK : 0;
+            next = (slice << COUNT_BITS) | Math.min(count + 1, COUNT_MASK);
+        } while (!slots.compareAndSet(index, current, next));
+        return count(slice);
+    }
+
+    /**
+     * Claims the alert for the window ending at {@code nowMillis}: only the
+     * first caller gets {@code true} until the window has moved past the
+     * previous alert.
+     */
+    boolean tryAlert(long nowMillis) {
+        long slice = nowMillis / slotMillis;
+        long previous = alertedSlice.get();
+        return slice - previous >= slotCount && alertedSlice.compareAndSet(previous, slice);
+    }
+
+    private int count(long slice) {
+        long total = 0;
+        for (int i = 0; i < slotCount; i++) {
+            long value = slots.get(i);
+            if (slice - (value >>> COUNT_BITS) < slotCount) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+}
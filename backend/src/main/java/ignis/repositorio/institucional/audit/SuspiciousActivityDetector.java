@@ -0,0 +1,132 @@
+package ignis.repositorio.institucional.audit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ignis.repositorio.institucional.config.AuditProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Checks audit events for suspicious activity as they are produced:
+ * repeated failed logins for one account, floods of events from one client
+ * address and administrative actions outside business hours. Counts are
+ * kept per account and per address in lock-free {@link SlidingWindowCounter}s
+ * held in bounded caches, so neither a hot key nor a flood of distinct keys
+ * blocks callers or grows memory. Each window raises at most one alert per
+ * key. Alerts are logged and counted at once and saved to security_alerts on
+ * a small background pool.
+ */
+@Component
+@Slf4j
+public class SuspiciousActivityDetector {
+
+    private final AuditProperties.Detection properties;
+    private final SecurityAlertJdbcRepository repository;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    private final WindowRule failedLogins;
+    private final WindowRule ipFlood;
+
+    public SuspiciousActivityDetector(AuditProperties properties, SecurityAlertJdbcRepository repository,
+                                      @Qualifier("securityAlertExecutor") Executor executor,
+                                      MeterRegistry meterRegistry) {
+        this.properties = properties.getDetection();
+        this.repository = repository;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.failedLogins = new WindowRule(this.properties.getFailedLogins(), this.properties.getMaxTrackedKeys());
+        this.ipFlood = new WindowRule(this.properties.getIpFlood(), this.properties.getMaxTrackedKeys());
+    }
+
+    /**
+     * Checks one event. Cheap enough to run on the thread that produced it.
+     */
+    public void observe(AuditEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = event.timestamp().toEpochMilli();
+
+        // A rejected login has no authenticated user; the account is the name that was tried
+        if (properties.getFailedLoginAction().equals(event.action()) && event.targetId() != null) {
+            int count = failedLogins.record(event.targetId(), now);
+            if (count > 0) {
+                raise(new SecurityAlert(SecurityAlertType.FAILED_LOGINS, event.targetId(), event.userId(),
+                    event.ipAddress(), event.action(), count, event.timestamp()));
+            }
+        }
+
+        if (event.ipAddress() != null) {
+            int count = ipFlood.record(event.ipAddress(), now);
+            if (count > 0) {
+                raise(new SecurityAlert(SecurityAlertType.IP_FLOOD, event.ipAddress(), null,
+                    event.ipAddress(), null, count, event.timestamp()));
+            }
+        }
+
+        if (properties.getOffHoursActions().contains(event.action())) {
+            int hour = event.timestamp().atZone(properties.getZone()).getHour();
+            if (hour < properties.getBusinessHoursStart() || hour > properties.getBusinessHoursEnd()) {
+                String subject = event.userId() != null ? event.userId().toString() : "anonymous";
+                raise(new SecurityAlert(SecurityAlertType.OFF_HOURS_ADMIN, subject, event.userId(),
+                    event.ipAddress(), event.action(), 1, event.timestamp()));
+            }
+        }
+    }
+
+    private void raise(SecurityAlert alert) {
+        log.warn("Suspicious activity: {} by {} ({} events, action {}, address {})",
+            alert.type(), alert.subject(), alert.eventCount(), alert.action(), alert.ipAddress());
+        meterRegistry.counter("audit.security.alerts", "type", alert.type().name()).increment();
+        try {
+            executor.execute(() -> save(alert));
+        } catch (RejectedExecutionException e) {
+            log.error("Security alert queue full, {} alert for {} not saved", alert.type(), alert.subject());
+        }
+    }
+
+    private void save(SecurityAlert alert) {
+        try {
+            repository.insert(alert);
+        } catch (RuntimeException e) {
+            log.error("Could not save {} alert for {}: {}", alert.type(), alert.subject(), e.getMessage());
+        }
+    }
+
+    /**
+     * A count threshold over a sliding window, tracked per key.
+     */
+    private static final class WindowRule {
+
+        private final int threshold;
+        private final long windowMillis;
+        private final Cache<String, SlidingWindowCounter> counters;
+
+        WindowRule(AuditProperties.Threshold threshold, long maxKeys) {
+            this.threshold = threshold.getCount();
+            this.windowMillis = threshold.getWindow().toMillis();
+            // A key idle for a whole window has nothing left to count
+            this.counters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(windowMillis))
+                .build();
+        }
+
+        /**
+         * Counts one event for {@code key} and returns the count in the
+         * window if it raises an alert, or 0.
+         */
+        int record(String key, long nowMillis) {
+            SlidingWindowCounter counter = counters.get(key, k -> new SlidingWindowCounter(windowMillis));
+            int count = counter.add(nowMillis);
+            return count >= threshold && counter.tryAlert(nowMillis) ? count : 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package ignis.repositorio.institucional.audit.controller;
+
+import ignis.repositorio.institucional.audit.dto.AuditArchiveResponse;
+import ignis.repositorio.institucional.audit.service.AuditArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for archived audit events.
+ */
+@RestController
+@RequestMapping("/api/v1/audit/archive")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit statistics endpoints")
+public class AuditArchiveController {
+
+    private final AuditArchiveService auditArchiveService;
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "Get a user's archived audit events",
+            description = "Events of months moved out of audit_logs into the archive, read from "
+                    + "memory-mapped segment files. Recent events are not included.")
+    public ResponseEntity<AuditArchiveResponse> getUserActivity(
+            @PathVariable Long userId,
+            @Parameter(description = "Start of the range (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Most events to return, capped by app.audit.archive.max-results")
+            @RequestParam(defaultValue = "1000") int limit) {
+        AuditArchiveResponse response = auditArchiveService.findUserActivity(userId, from, to, limit);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,43 @@
+package ignis.repositorio.institucional.audit.controller;
+
+import ignis.repositorio.institucional.audit.dto.AuditStatsResponse;
+import ignis.repositorio.institucional.audit.service.AuditStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for audit statistics.
+ */
+@RestController
+@RequestMapping("/api/v1/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit statistics endpoints")
+public class AuditStatsController {
+
+    private final AuditStatsService auditStatsService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get audit activity statistics",
+            description = "Totals, events per action, most active users and an hourly timeline, read from "
+                    + "hourly rollups. The range is widened to whole hours; active users are an estimate.")
+    public ResponseEntity<AuditStatsResponse> getStats(
+            @Parameter(description = "Start of the range (inclusive); defaults to 24 hours before 'to'")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range (exclusive); defaults to the end of the current hour")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Number of most active users to return, at most 100")
+            @RequestParam(defaultValue = "10") int top) {
+        AuditStatsResponse response = auditStatsService.getStats(from, to, top);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the number of audit events of one action.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditActionCount {
+
+    private String action;
+    private long count;
+}
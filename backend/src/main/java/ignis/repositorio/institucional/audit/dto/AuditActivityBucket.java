@@ -0,0 +1,21 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the number of audit events in one hour.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditActivityBucket {
+
+    private LocalDateTime hour;
+    private long count;
+}
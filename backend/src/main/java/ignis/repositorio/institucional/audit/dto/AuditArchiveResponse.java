@@ -0,0 +1,29 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a user's archived audit events in a time range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditArchiveResponse {
+
+    private Long userId;
+    /** Inclusive. */
+    private LocalDateTime from;
+    /** Exclusive. */
+    private LocalDateTime to;
+    /** Oldest first. */
+    private List<AuditLogEntry> events;
+    /** Whether more events matched than were returned. */
+    private boolean truncated;
+}
@@ -0,0 +1,30 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one logged audit event.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogEntry {
+
+    private Long id;
+    /** Null for anonymous events. */
+    private Long userId;
+    private String action;
+    private String targetType;
+    private String targetId;
+    private String ipAddress;
+    private String userAgent;
+    /** JSON object, or null. */
+    private String extraData;
+    private LocalDateTime timestamp;
+}
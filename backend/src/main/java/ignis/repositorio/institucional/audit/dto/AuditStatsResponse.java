@@ -0,0 +1,28 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for audit activity over a range of whole hours, read from the hourly rollups.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditStatsResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long totalEvents;
+    /** HyperLogLog estimate of the distinct users that acted in the range. */
+    private long activeUsersEstimate;
+    private List<AuditActionCount> actions;
+    private List<AuditUserActivity> topUsers;
+    private List<AuditActivityBucket> timeline;
+}
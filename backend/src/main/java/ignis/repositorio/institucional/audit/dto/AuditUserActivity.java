@@ -0,0 +1,24 @@
+package ignis.repositorio.institucional.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the audit activity of one user.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditUserActivity {
+
+    private Long userId;
+    /** Null once the user has been deleted. */
+    private String username;
+    private long count;
+    private LocalDateTime lastActionAt;
+}
@@ -0,0 +1,44 @@
+package ignis.repositorio.institucional.audit.service;
+
+import ignis.repositorio.institucional.audit.AuditArchive;
+import ignis.repositorio.institucional.audit.dto.AuditArchiveResponse;
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+import ignis.repositorio.institucional.config.AuditProperties;
+import ignis.repositorio.institucional.exception.InvalidTimeRangeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Queries over archived audit months. Only months moved out of audit_logs by
+ * the ARCHIVE expiry action are covered; recent events stay in the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditArchiveService {
+
+    private final AuditArchive archive;
+    private final AuditProperties properties;
+
+    /**
+     * Archived events of a user in {@code [from, to)}, oldest first, at most
+     * {@code limit} capped by {@code max-results}.
+     */
+    public AuditArchiveResponse findUserActivity(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTimeRangeException(String.format("'from' (%s) must be before 'to' (%s)", from, to));
+        }
+        int max = Math.max(1, Math.min(limit, properties.getArchive().getMaxResults()));
+        List<AuditLogEntry> events = archive.findByUser(userId, from, to, max + 1);
+        boolean truncated = events.size() > max;
+        return AuditArchiveResponse.builder()
+            .userId(userId)
+            .from(from)
+            .to(to)
+            .events(truncated ? events.subList(0, max) : events)
+            .truncated(truncated)
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package ignis.repositorio.institucional.audit.service;
+
+import ignis.repositorio.institucional.audit.AuditRollupJdbcRepository;
+import ignis.repositorio.institucional.audit.dto.AuditStatsResponse;
+import ignis.repositorio.institucional.config.AuditProperties;
+import ignis.repositorio.institucional.exception.InvalidTimeRangeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Audit activity statistics answered from the hourly rollups, so the cost
+ * depends on the number of hours and distinct keys in the range rather than
+ * on the number of logged events.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditStatsService {
+
+    static final int DEFAULT_RANGE_HOURS = 24;
+    static final int MAX_TOP_USERS = 100;
+
+    private final AuditRollupJdbcRepository rollupRepository;
+    private final AuditProperties properties;
+
+    /**
+     * Statistics for {@code [from, to)}, widened to whole hours. Without
+     * {@code to} the range ends after the current hour; without {@code from}
+     * it covers the 24 hours before {@code to}. All figures come from one
+     * snapshot.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public AuditStatsResponse getStats(LocalDateTime from, LocalDateTime to, int topUsers) {
+        LocalDateTime end = ceilToHour(to != null ? to : LocalDateTime.now());
+        LocalDateTime start = from != null ? from.truncatedTo(ChronoUnit.HOURS) : end.minusHours(DEFAULT_RANGE_HOURS);
+        if (!start.isBefore(end)) {
+            throw new InvalidTimeRangeException(String.format("'from' (%s) must be before 'to' (%s)", from, to));
+        }
+        Duration maxRange = properties.getRollups().getMaxRange();
+        if (Duration.between(start, end).compareTo(maxRange) > 0) {
+            throw new InvalidTimeRangeException(String.format("Range %s to %s is wider than %s", start, end, maxRange));
+        }
+        int limit = Math.max(1, Math.min(topUsers, MAX_TOP_USERS));
+
+        return AuditStatsResponse.builder()
+            .from(start)
+            .to(end)
+            .totalEvents(rollupRepository.countEvents(start, end))
+            .activeUsersEstimate(rollupRepository.estimateDistinctUsers(start, end))
+            .actions(rollupRepository.countByAction(start, end))
+            .topUsers(rollupRepository.findTopUsers(start, end, limit))
+            .timeline(rollupRepository.countByHour(start, end))
+            .build();
+    }
+
+    private static LocalDateTime ceilToHour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return hour.equals(time) ? hour : hour.plusHours(1);
+    }
+}
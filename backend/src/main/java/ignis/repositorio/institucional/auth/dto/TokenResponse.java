@@ -0,0 +1,25 @@
+package ignis.repositorio.institucional.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a freshly issued access and refresh token pair.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    private String accessToken;
+    private String refreshToken;
+
+    @Builder.Default
+    private String tokenType = "Bearer";
+
+    /** Access token lifetime in seconds. */
+    private long expiresIn;
+}
@@ -0,0 +1,55 @@
+package ignis.repositorio.institucional.auth.security;
+
+import ignis.repositorio.institucional.user.service.UserActivityTracker;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Authenticates requests carrying a bearer access token.
+ * Requests without a valid token continue unauthenticated; whether that is
+ * allowed is decided by the authorization rules. Authenticated requests
+ * count as activity of their user.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+    private final UserActivityTracker userActivityTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            try {
+                Authentication authentication = jwtTokenService.authenticate(
+                    header.substring(BEARER_PREFIX.length()).trim());
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                    userActivityTracker.record(user.id(), LocalDateTime.now());
+                }
+            } catch (JwtException e) {
+                log.debug("Rejected bearer token on {}: {}", request.getRequestURI(), e.getMessage());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
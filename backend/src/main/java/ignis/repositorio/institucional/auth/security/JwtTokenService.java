@@ -0,0 +1,224 @@
+package ignis.repositorio.institucional.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ignis.repositorio.institucional.config.JwtProperties;
+import ignis.repositorio.institucional.user.service.PermissionCatalog;
+import ignis.repositorio.institucional.user.service.PermissionOrdinals;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues and verifies signed JWTs.
+ * The signing key and parsers are built once at startup. Access tokens carry
+ * the user's role names and a bitset of dense permission ordinals with the
+ * catalog layout they were taken from, so a request is authenticated from the
+ * token alone; ordinals are turned into authorities through the in-memory
+ * {@link PermissionCatalog}. A token whose layout no longer matches the catalog
+ * is rejected, so the client refreshes it instead of being granted whatever
+ * permission now sits at an ordinal. Verified tokens are remembered until they
+ * expire, so repeated requests with the same token skip the signature check.
+ */
+@Service
+public class JwtTokenService {
+
+    static final String CLAIM_TYPE = "type";
+    static final String CLAIM_USERNAME = "usr";
+    static final String CLAIM_ROLES = "rls";
+    static final String CLAIM_PERMISSIONS = "pms";
+    static final String CLAIM_PERMISSION_LAYOUT = "pml";
+    static final String TYPE_ACCESS = "access";
+    static final String TYPE_REFRESH = "refresh";
+    static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtProperties properties;
+    private final PermissionCatalog permissionCatalog;
+    private final SecretKey key;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+    private final Cache<String, VerifiedToken> verified;
+    private volatile AuthorityTable authorityTable;
+
+    public JwtTokenService(JwtProperties properties, PermissionCatalog permissionCatalog) {
+        this.properties = properties;
+        this.permissionCatalog = permissionCatalog;
+        this.key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.accessParser = Jwts.parser()
+            .verifyWith(key)
+            .requireIssuer(properties.getIssuer())
+            .require(CLAIM_TYPE, TYPE_ACCESS)
+            .build();
+        this.refreshParser = Jwts.parser()
+            .verifyWith(key)
+            .requireIssuer(properties.getIssuer())
+            .require(CLAIM_TYPE, TYPE_REFRESH)
+            .build();
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(properties.getVerifiedTokenCacheSize())
+            .build();
+    }
+
+    /**
+     * Issues an access token embedding the user's roles and permission ordinals.
+     */
+    public String issueAccessToken(Long userId, String username, Collection<String> roles,
+                                   PermissionOrdinals permissions) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+            .subject(userId.toString())
+            .issuer(properties.getIssuer())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(properties.getExpiration())))
+            .claim(CLAIM_TYPE, TYPE_ACCESS)
+            .claim(CLAIM_USERNAME, username)
+            .claim(CLAIM_ROLES, List.copyOf(roles))
+            .claim(CLAIM_PERMISSIONS, encodePermissions(permissions.ordinals()))
+            .claim(CLAIM_PERMISSION_LAYOUT, permissions.layout())
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * Issues a refresh token. It only identifies the user; authorities are
+     * resolved again when it is exchanged.
+     */
+    public String issueRefreshToken(Long userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject(userId.toString())
+            .issuer(properties.getIssuer())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(properties.getRefreshExpiration())))
+            .claim(CLAIM_TYPE, TYPE_REFRESH)
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * Builds the authentication of an access token without touching the database.
+     *
+     * @throws JwtException if the token is not a valid, unexpired access token
+     */
+    public Authentication authenticate(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+            }
+            verified.invalidate(token);
+        }
+        return verify(token);
+    }
+
+    /**
+     * Verifies an access token and remembers the result.
+     */
+    Authentication verify(String token) {
+        Claims claims = accessParser.parseSignedClaims(token).getPayload();
+        AuthenticatedUser principal = new AuthenticatedUser(
+            parseUserId(claims), claims.get(CLAIM_USERNAME, String.class));
+        List<GrantedAuthority> authorities = authorities(claims);
+        verified.put(token, new VerifiedToken(principal, authorities, claims.getExpiration().getTime()));
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+    }
+
+    /**
+     * Verifies a refresh token and returns the id of its user.
+     *
+     * @throws JwtException if the token is not a valid, unexpired refresh token
+     */
+    public Long parseRefreshToken(String token) {
+        return parseUserId(refreshParser.parseSignedClaims(token).getPayload());
+    }
+
+    private static Long parseUserId(Claims claims) {
+        try {
+            return Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new MalformedJwtException("Invalid subject: " + claims.getSubject());
+        }
+    }
+
+    private List<GrantedAuthority> authorities(Claims claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (roles != null) {
+            for (Object role : roles) {
+                authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + role));
+            }
+        }
+        String permissions = claims.get(CLAIM_PERMISSIONS, String.class);
+        if (permissions != null && !permissions.isEmpty()) {
+            BitSet ordinals = decodePermissions(permissions);
+            AuthorityTable table = authorityTable();
+            if (!table.layout().equals(claims.get(CLAIM_PERMISSION_LAYOUT, String.class))) {
+                throw new JwtException("Permissions were issued for another permission catalog layout");
+            }
+            GrantedAuthority[] byOrdinal = table.byOrdinal();
+            if (ordinals.length() > byOrdinal.length) {
+                throw new MalformedJwtException("Invalid permissions claim");
+            }
+            for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                authorities.add(byOrdinal[ordinal]);
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    /**
+     * Permission authorities indexed by catalog ordinal, rebuilt when the catalog changes.
+     */
+    private AuthorityTable authorityTable() {
+        PermissionCatalog.Snapshot snapshot = permissionCatalog.snapshot();
+        AuthorityTable table = authorityTable;
+        if (table != null && table.version() == snapshot.version()) {
+            return table;
+        }
+        GrantedAuthority[] byOrdinal = new GrantedAuthority[snapshot.permissions().size()];
+        for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+            byOrdinal[ordinal] = new SimpleGrantedAuthority(snapshot.key(ordinal));
+        }
+        table = new AuthorityTable(snapshot.version(), snapshot.layout(), byOrdinal);
+        authorityTable = table;
+        return table;
+    }
+
+    static String encodePermissions(BitSet ordinals) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ordinals.toByteArray());
+    }
+
+    static BitSet decodePermissions(String encoded) {
+        try {
+            return BitSet.valueOf(Base64.getUrlDecoder().decode(encoded));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Invalid permissions claim");
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser principal, List<GrantedAuthority> authorities, long expiresAt) {
+    }
+
+    private record AuthorityTable(long version, String layout, GrantedAuthority[] byOrdinal) {
+    }
+}
@@ -0,0 +1,116 @@
+package ignis.repositorio.institucional.auth.service;
+
+import ignis.repositorio.institucional.audit.Audited;
+import ignis.repositorio.institucional.auth.dto.LoginRequest;
+import ignis.repositorio.institucional.auth.dto.RefreshTokenRequest;
+import ignis.repositorio.institucional.auth.dto.TokenResponse;
+import ignis.repositorio.institucional.auth.security.JwtTokenService;
+import ignis.repositorio.institucional.auth.throttle.LoginThrottle;
+import ignis.repositorio.institucional.config.JwtProperties;
+import ignis.repositorio.institucional.exception.InvalidCredentialsException;
+import ignis.repositorio.institucional.exception.ServiceBusyException;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import ignis.repositorio.institucional.user.service.EffectivePermissionService;
+import ignis.repositorio.institucional.user.service.PasswordHashingService;
+import ignis.repositorio.institucional.user.service.PermissionOrdinals;
+import ignis.repositorio.institucional.user.service.UserActivityTracker;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service for logging in and refreshing tokens.
+ * This is the only place authentication reads the database; the tokens it
+ * issues are verified without it. No transaction spans the password check,
+ * so a login waiting for the hashing pool holds no database connection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final EffectivePermissionService effectivePermissionService;
+    private final JwtTokenService jwtTokenService;
+    private final JwtProperties jwtProperties;
+    private final LoginThrottle loginThrottle;
+    private final UserActivityTracker userActivityTracker;
+
+    /**
+     * Checks a user's password and issues tokens for it. A hash written with
+     * an outdated algorithm or cost is replaced while the password is at hand.
+     * Rejected attempts are audited as {@code LOGIN_FAILED}; unknown and
+     * inactive accounts still pay for a password check. Attempts over
+     * the throttle limits are refused before the account is even looked up.
+     */
+    @Audited(action = "LOGIN", targetType = "USER", targetId = "#request.usernameOrEmail",
+        failureAction = "LOGIN_FAILED", failureOn = InvalidCredentialsException.class)
+    public TokenResponse login(LoginRequest request) {
+        loginThrottle.acquire(request.getUsernameOrEmail());
+        User user = userRepository.findByUsernameOrEmail(request.getUsernameOrEmail())
+            .filter(candidate -> Boolean.TRUE.equals(candidate.getActive()))
+            .orElse(null);
+        if (user == null) {
+            // Take as long as a wrong password, so unknown accounts do not answer faster
+            passwordHashingService.matchesDummy(request.getPassword());
+        }
+        if (user == null || !passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
+            log.info("Rejected login for: {}", request.getUsernameOrEmail());
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        log.info("User {} logged in", user.getId());
+        userActivityTracker.record(user.getId(), LocalDateTime.now());
+        if (passwordHashingService.needsUpgrade(user.getPasswordHash())) {
+            upgradePasswordHash(user, request.getPassword());
+        }
+        return issueTokens(user);
+    }
+
+    /**
+     * Exchanges a refresh token for new tokens with the user's current roles.
+     */
+    public TokenResponse refresh(RefreshTokenRequest request) {
+        Long userId;
+        try {
+            userId = jwtTokenService.parseRefreshToken(request.getRefreshToken());
+        } catch (JwtException e) {
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
+
+        User user = userRepository.findById(userId)
+            .filter(candidate -> Boolean.TRUE.equals(candidate.getActive()))
+            .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+        return issueTokens(user);
+    }
+
+    private void upgradePasswordHash(User user, String rawPassword) {
+        String upgraded;
+        try {
+            upgraded = passwordHashingService.encode(rawPassword);
+        } catch (ServiceBusyException e) {
+            // The login already succeeded; the next one will try again
+            return;
+        }
+        if (userRepository.updatePasswordHash(user.getId(), user.getPasswordHash(), upgraded) == 1) {
+            log.info("Upgraded password hash of user {}", user.getId());
+        }
+    }
+
+    private TokenResponse issueTokens(User user) {
+        List<String> roles = userRepository.findRoleNames(user.getId());
+        PermissionOrdinals permissions = effectivePermissionService.getEffectivePermissionOrdinals(user.getId());
+
+        return TokenResponse.builder()
+            .accessToken(jwtTokenService.issueAccessToken(user.getId(), user.getUsername(), roles, permissions))
+            .refreshToken(jwtTokenService.issueRefreshToken(user.getId()))
+            .expiresIn(jwtProperties.getExpiration().toSeconds())
+            .build();
+    }
+}
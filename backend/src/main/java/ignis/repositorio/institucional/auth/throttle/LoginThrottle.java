@@ -0,0 +1,145 @@
+package ignis.repositorio.institucional.auth.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ignis.repositorio.institucional.config.LoginThrottleProperties;
+import ignis.repositorio.institucional.exception.LoginThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Throttles login attempts with a {@link TokenBucket} per client address and
+ * one per username or email, checked before the account is looked up or any
+ * password is hashed. Buckets are held in bounded caches that forget a key
+ * once its bucket has refilled, so a flood of distinct keys neither grows
+ * memory nor costs anything but cache churn.
+ * <p>
+ * With {@code redis-enabled} the buckets live in Redis instead, updated by a
+ * script in the same form and timed by the Redis clock, so every node sees
+ * the same counts. If Redis fails the local buckets take over.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    /**
+     * The bucket state is the instant it would be empty, in Redis milliseconds.
+     * Returns 0 if a token was taken, otherwise the milliseconds to wait.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local interval = tonumber(ARGV[1])
+        local burst = tonumber(ARGV[2])
+        local start = math.max(tonumber(redis.call('GET', KEYS[1]) or now), now)
+        local wait = start - now - burst
+        if wait > 0 then
+            return wait
+        end
+        redis.call('SET', KEYS[1], start + interval, 'PX', start + interval - now)
+        return 0
+        """, Long.class);
+
+    private final LoginThrottleProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Rule perIp;
+    private final Rule perAccount;
+
+    public LoginThrottle(LoginThrottleProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = properties.isRedisEnabled() ? redisTemplate.getObject() : null;
+        this.meterRegistry = meterRegistry;
+        this.perIp = new Rule("ip", properties.getPerIp(), properties.getMaxTrackedKeys());
+        this.perAccount = new Rule("account", properties.getPerAccount(), properties.getMaxTrackedKeys());
+    }
+
+    /**
+     * Takes one attempt for the current request's address and for {@code usernameOrEmail}.
+     *
+     * @throws LoginThrottledException if either has no attempts left
+     */
+    public void acquire(String usernameOrEmail) {
+        HttpServletRequest request = currentRequest();
+        acquire(request != null ? request.getRemoteAddr() : null, usernameOrEmail, System.currentTimeMillis());
+    }
+
+    void acquire(String ipAddress, String usernameOrEmail, long nowMillis) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (ipAddress != null) {
+            check(perIp, ipAddress, nowMillis);
+        }
+        if (usernameOrEmail != null) {
+            check(perAccount, usernameOrEmail.trim().toLowerCase(Locale.ROOT), nowMillis);
+        }
+    }
+
+    private void check(Rule rule, String key, long nowMillis) {
+        long wait = redisTemplate != null ? acquireShared(rule, key, nowMillis) : rule.acquire(key, nowMillis);
+        if (wait > 0) {
+            meterRegistry.counter("auth.login.throttled", "limit", rule.name).increment();
+            log.debug("Throttled login by {} {}", rule.name, key);
+            throw new LoginThrottledException("Too many login attempts, try again later", Duration.ofMillis(wait));
+        }
+    }
+
+    private long acquireShared(Rule rule, String key, long nowMillis) {
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(properties.getKeyPrefix() + rule.name + ":" + key),
+                Long.toString(rule.intervalMillis), Long.toString((rule.capacity - 1) * rule.intervalMillis));
+            return wait != null ? wait : 0;
+        } catch (DataAccessException e) {
+            log.warn("Login throttle falling back to local buckets: {}", e.getMessage());
+            return rule.acquire(key, nowMillis);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    /**
+     * The local buckets of one limit.
+     */
+    private static final class Rule {
+
+        private final String name;
+        private final int capacity;
+        private final long intervalMillis;
+        private final Cache<String, TokenBucket> buckets;
+
+        Rule(String name, LoginThrottleProperties.Limit limit, long maxKeys) {
+            this.name = name;
+            this.capacity = limit.getCapacity();
+            this.intervalMillis = limit.getRefillInterval().toMillis();
+            // An idle bucket is full again after capacity intervals; forgetting it then changes nothing
+            this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(limit.getRefillInterval().multipliedBy(capacity))
+                .build();
+        }
+
+        long acquire(String key, long nowMillis) {
+            return buckets.get(key, k -> new TokenBucket(capacity, intervalMillis)).tryAcquire(nowMillis);
+        }
+    }
+}
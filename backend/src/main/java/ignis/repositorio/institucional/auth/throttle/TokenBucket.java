@@ -0,0 +1,46 @@
+package ignis.repositorio.institucional.auth.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its virtual scheduling form: instead of a token
+ * count and a refill time, the bucket keeps the single instant at which it
+ * would be empty if nothing more were taken. Taking a token pushes that
+ * instant one refill interval ahead; a request is refused while it lies more
+ * than {@code capacity - 1} intervals in the future. One long updated by
+ * compare-and-set is the whole state, and a bucket whose instant has passed
+ * is full, so it can be forgotten without changing any decision.
+ */
+final class TokenBucket {
+
+    private final long intervalMillis;
+    private final long burstMillis;
+    private final AtomicLong emptyAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(int capacity, long intervalMillis) {
+        if (capacity < 1 || intervalMillis < 1) {
+            throw new IllegalArgumentException("Capacity and refill interval must be positive");
+        }
+        this.intervalMillis = intervalMillis;
+        this.burstMillis = (capacity - 1) * intervalMillis;
+    }
+
+    /**
+     * Takes one token at {@code nowMillis}.
+     *
+     * @return 0 if a token was taken, otherwise the milliseconds until one is available
+     */
+    long tryAcquire(long nowMillis) {
+        long current;
+        long start;
+        do {
+            current = emptyAt.get();
+            start = Math.max(current, nowMillis);
+            long wait = start - nowMillis - burstMillis;
+            if (wait > 0) {
+                return wait;
+            }
+        } while (!emptyAt.compareAndSet(current, start + intervalMillis));
+        return 0;
+    }
+}
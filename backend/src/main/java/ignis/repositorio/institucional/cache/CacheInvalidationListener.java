@@ -0,0 +1,65 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies invalidations broadcast by other nodes to the local L1 and to the
+ * {@link NodeLocalCache}s.
+ */
+@Slf4j
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final Map<String, NodeLocalCache> localCaches;
+    private final String nodeId;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationListener(TwoLevelCacheManager cacheManager, List<NodeLocalCache> localCaches,
+                                     String nodeId, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.localCaches = localCaches.stream()
+            .collect(Collectors.toUnmodifiableMap(NodeLocalCache::getName, Function.identity()));
+        this.nodeId = nodeId;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException ex) {
+            log.warn("Ignoring malformed cache invalidation: {}", ex.getMessage());
+            return;
+        }
+        if (nodeId.equals(invalidation.node())) {
+            return;
+        }
+        TwoLevelCache cache = cacheManager.getTwoLevelCache(invalidation.cache());
+        if (cache != null) {
+            if (invalidation.key() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+            return;
+        }
+        NodeLocalCache localCache = localCaches.get(invalidation.cache());
+        if (localCache != null) {
+            if (invalidation.key() == null) {
+                localCache.clearLocal();
+            } else {
+                localCache.evictLocal(invalidation.key());
+            }
+        }
+    }
+}
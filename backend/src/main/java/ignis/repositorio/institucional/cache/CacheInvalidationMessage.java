@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.cache;
+
+/**
+ * Invalidation broadcast between nodes. A {@code null} key clears the whole cache.
+ */
+public record CacheInvalidationMessage(String node, String cache, String key) {
+}
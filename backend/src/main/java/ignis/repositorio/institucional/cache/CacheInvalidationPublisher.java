@@ -0,0 +1,60 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts cache evictions over Redis pub/sub so other nodes drop their
+ * L1 copies. Does nothing when Redis is disabled.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    /** Identifies this node, so it can ignore its own messages. */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param redisTemplate template used to publish, or {@code null} to run single-node
+     */
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Announces that a key was evicted.
+     */
+    public void evicted(String cacheName, String key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+    }
+
+    /**
+     * Announces that a whole cache was cleared.
+     */
+    public void cleared(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // Other nodes fall back to their L1 TTL
+            log.warn("Could not broadcast invalidation of cache {}: {}", message.cache(), ex.getMessage());
+        }
+    }
+}
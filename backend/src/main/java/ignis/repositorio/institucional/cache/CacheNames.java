@@ -0,0 +1,25 @@
+package ignis.repositorio.institucional.cache;
+
+/**
+ * Names of the application caches.
+ */
+public final class CacheNames {
+
+    /** User responses by id. */
+    public static final String USERS = "users";
+
+    /** User responses by username. */
+    public static final String USERS_BY_USERNAME = "usersByUsername";
+
+    /** The full role list, under a single key. */
+    public static final String ROLES = "roles";
+
+    /** The permission catalog, by role id; held in process only. */
+    public static final String PERMISSION_CATALOG = "permissionCatalog";
+
+    /** Resolved permission bitsets by user id, held in process only. */
+    public static final String EFFECTIVE_PERMISSIONS = "effectivePermissions";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,24 @@
+package ignis.repositorio.institucional.cache;
+
+/**
+ * An in-process cache kept outside the {@link TwoLevelCacheManager} whose
+ * entries other nodes invalidate through the {@link CacheInvalidationPublisher}.
+ * Beans implementing it are picked up by the {@link CacheInvalidationListener}.
+ */
+public interface NodeLocalCache {
+
+    /**
+     * Name the cache is announced under; see {@link CacheNames}.
+     */
+    String getName();
+
+    /**
+     * Drops one entry on this node only.
+     */
+    void evictLocal(String key);
+
+    /**
+     * Drops every entry on this node only.
+     */
+    void clearLocal();
+}
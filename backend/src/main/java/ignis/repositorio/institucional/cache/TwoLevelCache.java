@@ -0,0 +1,234 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache backed by a bounded in-process map (L1) in front of Redis (L2).
+ * Reads try L1, then L2, then the loader; values found in L2 are promoted
+ * to L1. L2 holds JSON so any node can read what another node wrote.
+ * Redis failures are logged and treated as misses, so an unavailable L2
+ * degrades to L1 plus the database rather than failing requests.
+ * Evictions are broadcast so other nodes drop their L1 copies.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisCacheWriter remote;
+    private final Duration remoteTtl;
+    private final String keyPrefix;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    /**
+     * @param remote L2 writer, or {@code null} to run with L1 only
+     */
+    public TwoLevelCache(String name, Cache<String, Object> local, RedisCacheWriter remote, Duration remoteTtl,
+                         String keyPrefix, ObjectMapper objectMapper, JavaType valueType,
+                         CacheInvalidationPublisher invalidationPublisher) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+        this.keyPrefix = keyPrefix + name + "::";
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<String, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = String.valueOf(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        value = remoteGet(localKey);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(localKey, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Loads through L1 so concurrent misses for the same key on this node
+     * run the loader once.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        return (T) local.get(String.valueOf(key), localKey -> {
+            Object loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            if (loaded != null) {
+                remotePut(localKey, loaded);
+                puts.increment();
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = String.valueOf(key);
+        local.put(localKey, value);
+        remotePut(localKey, value);
+        puts.increment();
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = String.valueOf(key);
+        local.invalidate(localKey);
+        remoteRemove(localKey);
+        invalidationPublisher.evicted(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote != null) {
+            try {
+                remote.clean(name, (keyPrefix + "*").getBytes(StandardCharsets.UTF_8));
+            } catch (RuntimeException ex) {
+                remoteFailed("clear", ex);
+            }
+        }
+        invalidationPublisher.cleared(name);
+    }
+
+    /**
+     * Drops a key from L1 only, on behalf of another node that already evicted it from L2.
+     */
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    /**
+     * Drops L1 only, on behalf of another node that already cleared L2.
+     */
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    public long getRemoteErrors() {
+        return remoteErrors.sum();
+    }
+
+    private Object remoteGet(String localKey) {
+        if (remote == null) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = remote.get(name, remoteKey(localKey));
+        } catch (RuntimeException ex) {
+            remoteFailed("get", ex);
+            return null;
+        }
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, valueType);
+        } catch (IOException ex) {
+            // Written by an incompatible version; drop it and reload
+            log.warn("Discarding unreadable entry {} from cache {}: {}", localKey, name, ex.getMessage());
+            remoteRemove(localKey);
+            return null;
+        }
+    }
+
+    private void remotePut(String localKey, Object value) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(name, remoteKey(localKey), objectMapper.writeValueAsBytes(value), remoteTtl);
+        } catch (IOException | RuntimeException ex) {
+            remoteFailed("put", ex);
+        }
+    }
+
+    private void remoteRemove(String localKey) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.remove(name, remoteKey(localKey));
+        } catch (RuntimeException ex) {
+            remoteFailed("evict", ex);
+        }
+    }
+
+    private byte[] remoteKey(String localKey) {
+        return (keyPrefix + localKey).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void remoteFailed(String operation, Exception ex) {
+        remoteErrors.increment();
+        log.warn("Redis {} failed for cache {}, continuing without L2: {}", operation, name, ex.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cache manager for a fixed set of {@link TwoLevelCache}s.
+ * Each cache declares the type of its values so L2 entries can be read
+ * back without embedding class names in the JSON. Unknown cache names
+ * are rejected rather than created on the fly.
+ */
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    private final Map<String, JavaType> valueTypes;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final RedisCacheWriter remote;
+    private final Duration remoteTtl;
+    private final String keyPrefix;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * @param remote L2 writer, or {@code null} to run with L1 only
+     */
+    public TwoLevelCacheManager(Map<String, JavaType> valueTypes, long localMaxSize, Duration localTtl,
+                                RedisCacheWriter remote, Duration remoteTtl, String keyPrefix,
+                                ObjectMapper objectMapper, CacheInvalidationPublisher invalidationPublisher) {
+        this.valueTypes = valueTypes;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+        this.keyPrefix = keyPrefix;
+        this.objectMapper = objectMapper;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return valueTypes.entrySet().stream()
+            .map(entry -> new TwoLevelCache(
+                entry.getKey(),
+                Caffeine.newBuilder()
+                    .maximumSize(localMaxSize)
+                    .expireAfterWrite(localTtl)
+                    .recordStats()
+                    .build(),
+                remote, remoteTtl, keyPrefix, objectMapper, entry.getValue(), invalidationPublisher))
+            .toList();
+    }
+
+    /**
+     * Returns the named cache, or {@code null} if there is none.
+     */
+    public TwoLevelCache getTwoLevelCache(String name) {
+        return (TwoLevelCache) getCache(name);
+    }
+}
@@ -0,0 +1,65 @@
+package ignis.repositorio.institucional.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes the standard {@code cache.*} meters for a {@link TwoLevelCache},
+ * plus hits per level and Redis errors.
+ */
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    public TwoLevelCacheMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getNativeCache().estimatedSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0 : cache.getLocalHits() + cache.getRemoteHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.getNativeCache().stats().evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0 : cache.getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        FunctionCounter.builder("cache.level.hits", cache, TwoLevelCache::getLocalHits)
+            .tags(Tags.concat(getTagsWithCacheName(), "level", "l1"))
+            .description("Hits served from the in-process cache")
+            .register(registry);
+        FunctionCounter.builder("cache.level.hits", cache, TwoLevelCache::getRemoteHits)
+            .tags(Tags.concat(getTagsWithCacheName(), "level", "l2"))
+            .description("Hits served from Redis")
+            .register(registry);
+        FunctionCounter.builder("cache.remote.errors", cache, TwoLevelCache::getRemoteErrors)
+            .tags(getTagsWithCacheName())
+            .description("Redis operations that failed and fell back to L1 or the loader")
+            .register(registry);
+    }
+}
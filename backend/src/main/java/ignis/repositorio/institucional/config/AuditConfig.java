@@ -0,0 +1,33 @@
+package ignis.repositorio.institucional.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Infrastructure for the asynchronous audit log, its partition maintenance
+ * and the suspicious activity detector.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    /**
+     * One thread with a bounded queue that rejects instead of growing, so a
+     * storm of alerts never holds up the requests that raised them.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor securityAlertExecutor(AuditProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(properties.getDetection().getAlertQueueCapacity());
+        executor.setThreadNamePrefix("security-alert-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,220 @@
+package ignis.repositorio.institucional.config;
+
+import ignis.repositorio.institucional.audit.AuditOverflowPolicy;
+import ignis.repositorio.institucional.audit.ExpiredPartitionAction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tuning knobs for the asynchronous audit log writer, the audit_logs
+ * partitions, their archive and the suspicious activity detector.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /**
+     * Events buffered in memory before the overflow policy applies. Rounded up to a power of two.
+     */
+    private int bufferCapacity = 16_384;
+
+    /**
+     * Maximum rows per INSERT batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest an event waits in the buffer before it is flushed.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * What to do with new events while the buffer is full.
+     */
+    private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.BLOCK;
+
+    /**
+     * Longest a caller waits for room under the BLOCK policy.
+     */
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    /**
+     * Longest shutdown waits for buffered events to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Monthly partition maintenance of audit_logs.
+     */
+    private Partitions partitions = new Partitions();
+
+    /**
+     * Segment files of archived audit_logs months.
+     */
+    private Archive archive = new Archive();
+
+    /**
+     * Hourly rollups behind the audit statistics.
+     */
+    private Rollups rollups = new Rollups();
+
+    /**
+     * Streaming detection of suspicious activity in the audit events.
+     */
+    private Detection detection = new Detection();
+
+    @Data
+    public static class Partitions {
+
+        /**
+         * Whether the maintenance job runs at startup and on its schedule.
+         */
+        private boolean enabled = true;
+
+        /**
+         * When the maintenance job runs.
+         */
+        private String cron = "0 15 3 * * *";
+
+        /**
+         * Months after the current one that always have a partition.
+         */
+        private int premakeMonths = 3;
+
+        /**
+         * How long audit rows are kept. A month is removed once all of it is older than this.
+         */
+        private Period retention = Period.ofDays(90);
+
+        /**
+         * What to do with partitions past retention.
+         */
+        private ExpiredPartitionAction expiredAction = ExpiredPartitionAction.DROP;
+
+        /**
+         * Longest the DDL waits for its lock on audit_logs, so it never queues writers behind a long query.
+         */
+        private Duration lockTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Archive {
+
+        /**
+         * Where segment files are kept; one file per archived month.
+         */
+        private Path directory = Path.of("data", "audit-archive");
+
+        /**
+         * Rows per compressed block of target ids and extra data; a query inflates only the blocks it reads.
+         */
+        private int blockRows = 256;
+
+        /**
+         * Most events one archive query returns.
+         */
+        private int maxResults = 10_000;
+    }
+
+    @Data
+    public static class Rollups {
+
+        /**
+         * How often completed hours get their distinct-user sketch.
+         */
+        private Duration sketchInterval = Duration.ofMinutes(5);
+
+        /**
+         * Most hours sketched per run; a backlog, e.g. after the migration, drains over several runs.
+         */
+        private int sketchBatchSize = 500;
+
+        /**
+         * Widest range the statistics API answers.
+         */
+        private Duration maxRange = Duration.ofDays(31);
+    }
+
+    @Data
+    public static class Detection {
+
+        /**
+         * Whether audit events are checked for suspicious activity.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Failed logins for one account that raise an alert.
+         */
+        private Threshold failedLogins = new Threshold(3, Duration.ofHours(1));
+
+        /**
+         * Events from one client address that raise an alert.
+         */
+        private Threshold ipFlood = new Threshold(51, Duration.ofHours(4));
+
+        /**
+         * Action recorded for a rejected login.
+         */
+        private String failedLoginAction = "LOGIN_FAILED";
+
+        /**
+         * Administrative actions that raise an alert outside business hours.
+         */
+        private Set<String> offHoursActions = new LinkedHashSet<>(List.of(
+            "DELETE_USER", "DEACTIVATE_USER", "DELETE_ROLE", "GRANT_PERMISSION", "REVOKE_PERMISSION",
+            "DELETE_SECTOR", "GRANT_SECTOR_PERMISSION", "REVOKE_SECTOR_PERMISSION"));
+
+        /**
+         * First hour of business hours, inclusive.
+         */
+        private int businessHoursStart = 8;
+
+        /**
+         * Last hour of business hours, inclusive.
+         */
+        private int businessHoursEnd = 18;
+
+        /**
+         * Time zone business hours are read in.
+         */
+        private ZoneId zone = ZoneId.systemDefault();
+
+        /**
+         * Most accounts or addresses tracked per rule; the least recently seen are forgotten first.
+         */
+        private long maxTrackedKeys = 100_000;
+
+        /**
+         * Findings waiting to be saved before new ones are only logged.
+         */
+        private int alertQueueCapacity = 1_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Threshold {
+
+        /**
+         * Events within the window that raise an alert.
+         */
+        private int count;
+
+        /**
+         * Length of the sliding window. It moves in steps of a sixtieth of
+         * its length, but no less than a second.
+         */
+        private Duration window;
+    }
+}
@@ -0,0 +1,13 @@
+package ignis.repositorio.institucional.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Infrastructure for the bulk user import. Passwords are hashed on the
+ * shared pool of {@link PasswordHashingConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkImportProperties.class)
+public class BulkImportConfig {
+}
@@ -0,0 +1,28 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning knobs for the bulk user import.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulk-import")
+public class BulkImportProperties {
+
+    /**
+     * Rows validated, hashed and inserted per transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Password hashing workers one import may occupy at once, leaving the rest
+     * of the shared pool to logins. Defaults to half the number of CPUs.
+     */
+    private int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hard limit of rows accepted by a single import request.
+     */
+    private int maxRows = 100_000;
+}
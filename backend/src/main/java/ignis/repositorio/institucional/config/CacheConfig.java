@@ -0,0 +1,94 @@
+package ignis.repositorio.institucional.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import ignis.repositorio.institucional.cache.CacheInvalidationListener;
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.cache.NodeLocalCache;
+import ignis.repositorio.institucional.cache.TwoLevelCache;
+import ignis.repositorio.institucional.cache.TwoLevelCacheManager;
+import ignis.repositorio.institucional.cache.TwoLevelCacheMeterBinder;
+import ignis.repositorio.institucional.user.dto.RoleResponse;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Two-level application cache: Caffeine in process, Redis shared between nodes.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(TwoLevelCacheProperties properties,
+                                                                 ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                                 ObjectMapper objectMapper) {
+        return new CacheInvalidationPublisher(
+            properties.isRedisEnabled() ? redisTemplate.getObject() : null,
+            properties.getInvalidationChannel(),
+            objectMapper);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(TwoLevelCacheProperties properties,
+                                             ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                             ObjectMapper objectMapper,
+                                             CacheInvalidationPublisher invalidationPublisher) {
+        RedisCacheWriter remote = properties.isRedisEnabled()
+            ? RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory.getObject(), BatchStrategies.scan(1000))
+            : null;
+
+        TypeFactory types = objectMapper.getTypeFactory();
+        Map<String, JavaType> valueTypes = Map.of(
+            CacheNames.USERS, types.constructType(UserResponse.class),
+            CacheNames.USERS_BY_USERNAME, types.constructType(UserResponse.class),
+            CacheNames.ROLES, types.constructCollectionType(List.class, RoleResponse.class));
+
+        return new TwoLevelCacheManager(valueTypes, properties.getLocalMaxSize(), properties.getLocalTtl(),
+            remote, properties.getRedisTtl(), properties.getKeyPrefix(), objectMapper, invalidationPublisher);
+    }
+
+    /**
+     * Subscribes to invalidations from other nodes.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis-enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, TwoLevelCacheManager cacheManager,
+            ObjectProvider<NodeLocalCache> localCaches, CacheInvalidationPublisher invalidationPublisher,
+            TwoLevelCacheProperties properties, ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+            new CacheInvalidationListener(cacheManager, localCaches.orderedStream().toList(),
+                invalidationPublisher.getNodeId(), objectMapper),
+            new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+
+    /**
+     * Exposes hit/miss counters of every cache through the actuator metrics endpoint.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMeterBinder::new;
+    }
+}
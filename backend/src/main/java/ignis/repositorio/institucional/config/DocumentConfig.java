@@ -0,0 +1,12 @@
+package ignis.repositorio.institucional.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Infrastructure for document storage and uploads.
+ */
+@Configuration
+@EnableConfigurationProperties(DocumentProperties.class)
+public class DocumentConfig {
+}
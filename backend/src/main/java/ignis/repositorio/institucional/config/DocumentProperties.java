@@ -0,0 +1,127 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tuning knobs for document storage and uploads.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.documents")
+public class DocumentProperties {
+
+    /**
+     * Root of the local document store.
+     */
+    private Path storageDirectory = Path.of("data", "documents");
+
+    /**
+     * Resumable chunked uploads.
+     */
+    private Upload upload = new Upload();
+
+    /**
+     * Content-addressed blob store.
+     */
+    private Blobs blobs = new Blobs();
+
+    /**
+     * Delta compression of superseded versions.
+     */
+    private Deltas deltas = new Deltas();
+
+    @Data
+    public static class Upload {
+
+        /**
+         * Size of every chunk but the last.
+         */
+        private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+        /**
+         * Largest file accepted.
+         */
+        private DataSize maxFileSize = DataSize.ofGigabytes(2);
+
+        /**
+         * How long an unfinished upload may sit idle before it is discarded.
+         */
+        private Duration sessionTtl = Duration.ofHours(24);
+
+        /**
+         * How often expired uploads are discarded.
+         */
+        private Duration cleanupInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Blobs {
+
+        /**
+         * How often unreferenced blobs are deleted and the storage metrics refreshed.
+         */
+        private Duration gcInterval = Duration.ofMinutes(15);
+
+        /**
+         * How long a blob stays unreferenced before it may be deleted.
+         */
+        private Duration gcGracePeriod = Duration.ofHours(1);
+
+        /**
+         * Most blobs deleted per transaction.
+         */
+        private int gcBatchSize = 500;
+    }
+
+    @Data
+    public static class Deltas {
+
+        /**
+         * Whether superseded versions are stored as deltas.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Most deltas applied to rebuild any version; a version that would
+         * exceed it is kept as a full snapshot.
+         */
+        private int maxChainLength = 10;
+
+        /**
+         * Largest version considered for delta storage.
+         */
+        private DataSize maxSourceSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Largest delta kept, as a fraction of the version's size.
+         */
+        private double maxDeltaRatio = 0.5;
+
+        /**
+         * How often superseded versions are compacted.
+         */
+        private Duration compactInterval = Duration.ofMinutes(10);
+
+        /**
+         * Most versions compacted per run.
+         */
+        private int compactBatchSize = 50;
+
+        /**
+         * How long a rebuilt version is kept on disk after it was last read.
+         * Reads that resolved it before it is evicted have this long to open it.
+         */
+        private Duration materializedTtl = Duration.ofHours(1);
+
+        /**
+         * How long the whole file of a version stays on disk after the
+         * version is stored as a delta, so reads that resolved it before can
+         * still open it. Deleted by the next garbage collection after that.
+         */
+        private Duration compactedFileGrace = Duration.ofMinutes(10);
+    }
+}
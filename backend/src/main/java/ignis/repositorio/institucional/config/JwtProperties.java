@@ -0,0 +1,45 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Signing key, lifetimes and enforcement of JWT authentication.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    /**
+     * HMAC signing secret. Must be at least 32 bytes long.
+     */
+    private String secret;
+
+    /**
+     * Lifetime of access tokens. Plain numbers are milliseconds.
+     */
+    private Duration expiration = Duration.ofHours(24);
+
+    /**
+     * Lifetime of refresh tokens. Plain numbers are milliseconds.
+     */
+    private Duration refreshExpiration = Duration.ofDays(7);
+
+    /**
+     * Value of the {@code iss} claim, checked on every token.
+     */
+    private String issuer = "repositorio-institucional";
+
+    /**
+     * Whether every /api/v1 endpoint outside /api/v1/auth requires a valid token.
+     * While false, tokens that are sent are still authenticated.
+     */
+    private boolean enforce = false;
+
+    /**
+     * Maximum verified tokens remembered, so repeated requests skip signature checks.
+     */
+    private long verifiedTokenCacheSize = 10_000;
+}
@@ -0,0 +1,63 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for login throttling.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.login-throttle")
+public class LoginThrottleProperties {
+
+    /**
+     * Whether login attempts are throttled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Attempts allowed from one client address.
+     */
+    private Limit perIp = new Limit(20, Duration.ofSeconds(3));
+
+    /**
+     * Attempts allowed against one username or email, from any address.
+     */
+    private Limit perAccount = new Limit(5, Duration.ofMinutes(1));
+
+    /**
+     * Most addresses or accounts tracked in process per limit; the least recently seen are forgotten first.
+     */
+    private long maxTrackedKeys = 100_000;
+
+    /**
+     * Whether the buckets live in Redis and are shared between nodes.
+     * When Redis cannot be reached each node falls back to its own buckets.
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * Prefix of every Redis key written by the throttle.
+     */
+    private String keyPrefix = "repositorio:login-throttle:";
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Attempts allowed in a burst.
+         */
+        private int capacity;
+
+        /**
+         * Time to earn back one attempt.
+         */
+        private Duration refillInterval;
+    }
+}
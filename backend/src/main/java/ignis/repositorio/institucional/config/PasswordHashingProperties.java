@@ -0,0 +1,45 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for password hashing.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Algorithm new hashes are written with: {@code bcrypt} or {@code pbkdf2}.
+     * Hashes of any other supported algorithm or cost are upgraded at login.
+     */
+    private String algorithm = "bcrypt";
+
+    /**
+     * BCrypt log2 work factor.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * PBKDF2-HMAC-SHA256 iterations.
+     */
+    private int pbkdf2Iterations = 310_000;
+
+    /**
+     * Worker threads that hash. Defaults to the number of CPUs.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hashes allowed to wait for a worker; further requests are rejected at once.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a caller waits for its hash before giving up.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+}
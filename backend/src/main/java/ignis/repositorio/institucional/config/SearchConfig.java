@@ -0,0 +1,32 @@
+package ignis.repositorio.institucional.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Infrastructure for full-text search.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    /**
+     * Pool that extracts text and indexes documents off the request thread.
+     * Its queue holds drain tasks, not documents: changed documents wait in
+     * the indexer's pending set, so a burst of changes to one document is
+     * indexed once.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchIndexingExecutor(SearchProperties properties) {
+        int threads = Math.max(1, properties.getIndexingThreads());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,69 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tuning knobs for the full-text search index.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Directory of the local search index. Each node keeps its own.
+     */
+    private Path indexDirectory = Path.of("data", "search-index");
+
+    /**
+     * How soon indexed changes become visible to searches.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * How often indexed changes are made durable. Changes lost in a crash
+     * are indexed again by the next reconciliation.
+     */
+    private Duration commitInterval = Duration.ofMinutes(1);
+
+    /**
+     * How often the index is compared with the database, which also picks
+     * up documents changed on other nodes.
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(15);
+
+    /**
+     * Time a search may spend collecting matches; what was found by then is
+     * returned, marked partial. Kept under the 300 ms search SLO to leave
+     * room for highlighting.
+     */
+    private Duration timeout = Duration.ofMillis(200);
+
+    /**
+     * Largest page of results.
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * Deepest result reachable by paging.
+     */
+    private int maxResultWindow = 1_000;
+
+    /**
+     * Most characters of a document's text indexed; the rest is not searchable.
+     */
+    private int maxContentChars = 1_000_000;
+
+    /**
+     * Highlighted passages of content per result.
+     */
+    private int highlightPassages = 3;
+
+    /**
+     * Threads extracting text and indexing documents.
+     */
+    private int indexingThreads = 2;
+}
@@ -1,16 +1,23 @@
 package ignis.repositorio.institucional.config;
 
+import ignis.repositorio.institucional.auth.security.JwtAuthenticationFilter;
+import ignis.repositorio.institucional.auth.security.JwtTokenService;
+import ignis.repositorio.institucional.user.service.UserActivityTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -19,24 +26,27 @@ import java.util.List;
 
 /**
  * Security configuration for the application.
- * Currently configured for development - JWT authentication will be added later.
+ * Requests are authenticated statelessly from bearer access tokens; the API
+ * only requires them when {@code jwt.enforce} is on.
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({JwtProperties.class, LoginThrottleProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private final JwtProperties jwtProperties;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenService jwtTokenService,
+                                                   UserActivityTracker userActivityTracker) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenService, userActivityTracker), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints
                 .requestMatchers("/actuator/**").permitAll()
@@ -46,8 +56,10 @@ public class SecurityConfig {
                 // Permissions - read-only
                 .requestMatchers(HttpMethod.GET, "/api/v1/permissions/**").permitAll()
                 
-                // For now, allow all other endpoints (will be secured with JWT later)
-                .requestMatchers("/api/v1/**").permitAll()
+                // Everything else in the API needs a token once enforcement is on
+                .requestMatchers("/api/v1/**").access(jwtProperties.isEnforce()
+                    ? AuthenticatedAuthorizationManager.authenticated()
+                    : (authentication, context) -> new AuthorizationDecision(true))
                 
                 .anyRequest().authenticated()
             );
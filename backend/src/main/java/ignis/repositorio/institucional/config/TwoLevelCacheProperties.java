@@ -0,0 +1,72 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for the two-level application cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoLevelCacheProperties {
+
+    /**
+     * Whether Redis is used as L2 and for cross-node invalidation.
+     * When disabled each node only has its in-process L1.
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * Maximum entries per cache held in process.
+     */
+    private long localMaxSize = 10_000;
+
+    /**
+     * Time an entry stays in process. Bounds staleness if an invalidation message is lost.
+     */
+    private Duration localTtl = Duration.ofMinutes(1);
+
+    /**
+     * Time an entry stays in Redis.
+     */
+    private Duration redisTtl = Duration.ofMinutes(10);
+
+    /**
+     * Delay after a commit before changed users are evicted a second time.
+     * Drops values that a read overlapping the change loaded before the commit
+     * and wrote back after the first eviction, possibly from another node.
+     * Zero turns the second eviction off.
+     */
+    private Duration evictionGrace = Duration.ofSeconds(2);
+
+    /**
+     * Prefix of every Redis key written by the cache.
+     */
+    private String keyPrefix = "repositorio:cache:";
+
+    /**
+     * Redis pub/sub channel used to broadcast invalidations.
+     */
+    private String invalidationChannel = "repositorio:cache-invalidation";
+
+    /**
+     * In-process cache of resolved effective permissions.
+     */
+    private EffectivePermissions effectivePermissions = new EffectivePermissions();
+
+    @Data
+    public static class EffectivePermissions {
+
+        /**
+         * Maximum users held; the least valuable are evicted first.
+         */
+        private long maxSize = 100_000;
+
+        /**
+         * Time a user stays cached. Bounds staleness if an invalidation message is lost.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
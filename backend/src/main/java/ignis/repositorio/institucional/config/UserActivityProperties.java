@@ -0,0 +1,29 @@
+package ignis.repositorio.institucional.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for last-activity tracking.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.user-activity")
+public class UserActivityProperties {
+
+    /**
+     * Whether user activity is recorded.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often buffered activity is written; each user gets at most one update per flush.
+     */
+    private Duration flushInterval = Duration.ofMinutes(1);
+
+    /**
+     * Default age after which an active user counts as inactive.
+     */
+    private Duration inactiveAfter = Duration.ofDays(90);
+}
@@ -0,0 +1,140 @@
+package ignis.repositorio.institucional.document.controller;
+
+import ignis.repositorio.institucional.document.service.DocumentContent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Writes document content to the response. On Tomcat connectors with
+ * sendfile the connector sends the file itself after the request returns,
+ * without copying it through the JVM; storage keeps a resolved file on disk
+ * for a grace period, so the later open still finds it. Other connectors get
+ * the content copied through a buffer. The strong ETag is the SHA-256 of the
+ * content, so conditional requests are answered before the file is opened.
+ * A single byte range is served as 206; requests for several ranges get the
+ * whole content, which HTTP allows.
+ */
+@Component
+@Slf4j
+public class ContentDownloadWriter {
+
+    /** Request attributes of Tomcat's sendfile support. */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Answers a GET or HEAD for {@code content}.
+     *
+     * @param cacheControl cache policy; immutable for a fixed version, revalidated for the current one
+     * @param inline whether browsers should display the content instead of saving it
+     */
+    public void write(DocumentContent content, CacheControl cacheControl, boolean inline,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + content.sha256() + "\"";
+        long lastModified = content.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Uploaded HTML or SVG must not run scripts in the application's origin
+        response.setHeader("Content-Security-Policy", "sandbox");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long size = content.size();
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeStillValid(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(range);
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+                if (start >= size || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(content.contentType() != null
+            ? content.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(content.fileName(), StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+        writeBody(content.resource(), start, length, request, response);
+    }
+
+    private static void writeBody(Resource resource, long start, long length,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (resource.isFile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector writes the file after the request returns
+            request.setAttribute(SENDFILE_FILENAME, resource.getFile().getAbsolutePath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copyRange(in, response.getOutputStream(), start, start + length - 1);
+        }
+    }
+
+    private static List<HttpRange> parseRanges(String header) {
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            // A malformed Range is ignored, as HTTP prescribes
+            log.debug("Ignoring malformed Range {}", header);
+            return List.of();
+        }
+    }
+
+    /**
+     * Whether an {@code If-Range} allows serving a range: absent, or naming
+     * exactly this content by ETag or last-modified date.
+     */
+    private static boolean rangeStillValid(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return date.toInstant().toEpochMilli() == lastModified / 1000 * 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ignis.repositorio.institucional.document.controller;
+
+import ignis.repositorio.institucional.document.dto.CreateDocumentRequest;
+import ignis.repositorio.institucional.document.dto.CreateVersionRequest;
+import ignis.repositorio.institucional.document.dto.DocumentResponse;
+import ignis.repositorio.institucional.document.dto.DocumentVersionResponse;
+import ignis.repositorio.institucional.document.service.DocumentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * REST controller for documents and their versions.
+ */
+@RestController
+@RequestMapping("/api/v1/documents")
+@RequiredArgsConstructor
+@Tag(name = "Documents", description = "Document and version endpoints")
+public class DocumentController {
+
+    /** A version's content never changes, so its URL may be cached for good. */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    /** The current version changes with every new one; caches revalidate by ETag. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final DocumentService documentService;
+    private final ContentDownloadWriter contentDownloadWriter;
+
+    @PostMapping
+    @Operation(summary = "Create a document from a completed upload")
+    public ResponseEntity<DocumentResponse> createDocument(@Valid @RequestBody CreateDocumentRequest request) {
+        DocumentResponse response = documentService.createDocument(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get document by ID")
+    public ResponseEntity<DocumentResponse> getDocumentById(@PathVariable Long id) {
+        DocumentResponse response = documentService.getDocument(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/download")
+    @Operation(summary = "Download the current version of a document",
+        description = "Supports single byte ranges and conditional requests; the ETag is the content's SHA-256.")
+    public void downloadDocument(
+            @PathVariable Long id,
+            @Parameter(description = "Ask browsers to display the content instead of saving it")
+            @RequestParam(defaultValue = "false") boolean inline,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        contentDownloadWriter.write(documentService.getContent(id), REVALIDATE, inline, request, response);
+    }
+
+    @GetMapping("/{id}/versions/{versionNumber}/download")
+    @Operation(summary = "Download one version of a document",
+        description = "Like the current version download, but cacheable for good: a version never changes.")
+    public void downloadVersion(
+            @PathVariable Long id,
+            @PathVariable int versionNumber,
+            @Parameter(description = "Ask browsers to display the content instead of saving it")
+            @RequestParam(defaultValue = "false") boolean inline,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        contentDownloadWriter.write(documentService.getContent(id, versionNumber), IMMUTABLE, inline, request, response);
+    }
+
+    @GetMapping("/{id}/versions")
+    @Operation(summary = "Get the versions of a document", description = "Newest first.")
+    public ResponseEntity<List<DocumentVersionResponse>> getVersions(@PathVariable Long id) {
+        List<DocumentVersionResponse> response = documentService.getVersions(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/versions")
+    @Operation(summary = "Add a completed upload as the new current version",
+        description = "Content identical to any stored document takes no extra storage.")
+    public ResponseEntity<DocumentVersionResponse> createVersion(
+            @PathVariable Long id,
+            @Valid @RequestBody CreateVersionRequest request) {
+        DocumentVersionResponse response = documentService.createVersion(id, request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a document and its versions")
+    public ResponseEntity<Void> deleteDocument(@PathVariable Long id) {
+        documentService.deleteDocument(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,75 @@
+package ignis.repositorio.institucional.document.controller;
+
+import ignis.repositorio.institucional.document.dto.CompleteUploadRequest;
+import ignis.repositorio.institucional.document.dto.CreateUploadRequest;
+import ignis.repositorio.institucional.document.dto.UploadSessionResponse;
+import ignis.repositorio.institucional.document.service.UploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * REST controller for resumable chunked document uploads.
+ */
+@RestController
+@RequestMapping("/api/v1/documents/uploads")
+@RequiredArgsConstructor
+@Tag(name = "Document Uploads", description = "Resumable chunked upload endpoints")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    @PostMapping
+    @Operation(summary = "Start a chunked upload",
+        description = "Returns the chunk size and count; send the chunks in order, then complete the upload.")
+    public ResponseEntity<UploadSessionResponse> createUpload(@Valid @RequestBody CreateUploadRequest request) {
+        UploadSessionResponse response = uploadService.createUpload(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the state of an upload", description = "A resumed upload continues at nextChunk.")
+    public ResponseEntity<UploadSessionResponse> getUpload(@PathVariable UUID id) {
+        UploadSessionResponse response = uploadService.getUpload(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping(value = "/{id}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Send one chunk of an upload",
+        description = "The raw bytes of the chunk, streamed to disk as they arrive. "
+            + "Resending the last acknowledged chunk is accepted and ignored.")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            @PathVariable UUID id,
+            @Parameter(description = "Zero-based chunk number") @PathVariable int index,
+            HttpServletRequest request) throws IOException {
+        UploadSessionResponse response = uploadService.uploadChunk(
+            id, index, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/complete")
+    @Operation(summary = "Complete an upload", description = "Checks the SHA-256 if the client sends one.")
+    public ResponseEntity<UploadSessionResponse> completeUpload(
+            @PathVariable UUID id,
+            @Valid @RequestBody(required = false) CompleteUploadRequest request) {
+        UploadSessionResponse response = uploadService.completeUpload(id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Abort an upload and delete what was received")
+    public ResponseEntity<Void> abortUpload(@PathVariable UUID id) {
+        uploadService.abortUpload(id);
+        return ResponseEntity.noContent().build();
+    }
+}
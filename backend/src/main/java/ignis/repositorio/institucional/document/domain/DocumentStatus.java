@@ -0,0 +1,10 @@
+package ignis.repositorio.institucional.document.domain;
+
+/**
+ * Publication status of a document.
+ */
+public enum DocumentStatus {
+    DRAFT,
+    PUBLISHED,
+    ARCHIVED
+}
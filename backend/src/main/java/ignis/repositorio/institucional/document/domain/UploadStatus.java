@@ -0,0 +1,13 @@
+package ignis.repositorio.institucional.document.domain;
+
+/**
+ * Lifecycle of a chunked upload.
+ */
+public enum UploadStatus {
+
+    /** Chunks are still arriving. */
+    IN_PROGRESS,
+
+    /** Every chunk arrived and the file was verified; it waits for a document to claim it. */
+    COMPLETED
+}
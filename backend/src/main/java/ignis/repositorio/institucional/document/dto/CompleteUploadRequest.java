@@ -0,0 +1,21 @@
+package ignis.repositorio.institucional.document.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for finishing a chunked upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteUploadRequest {
+
+    /** SHA-256 the client computed, in hex; the upload is refused if the received bytes differ. */
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 must be 64 hex digits")
+    private String sha256;
+}
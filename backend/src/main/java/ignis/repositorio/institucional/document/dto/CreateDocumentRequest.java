@@ -0,0 +1,33 @@
+package ignis.repositorio.institucional.document.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO for creating a document from a completed upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateDocumentRequest {
+
+    /** Completed upload holding the first version. */
+    @NotNull(message = "Upload is required")
+    private UUID uploadId;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+
+    private String description;
+
+    private Long sectorId;
+}
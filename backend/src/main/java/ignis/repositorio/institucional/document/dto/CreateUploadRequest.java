@@ -0,0 +1,32 @@
+package ignis.repositorio.institucional.document.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for starting a chunked upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadRequest {
+
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name must be at most 255 characters")
+    private String fileName;
+
+    @Size(max = 255, message = "Content type must be at most 255 characters")
+    private String contentType;
+
+    /** Exact size of the file in bytes; fixes the number and length of the chunks. */
+    @NotNull(message = "Total size is required")
+    @PositiveOrZero(message = "Total size must not be negative")
+    private Long totalSize;
+}
@@ -0,0 +1,22 @@
+package ignis.repositorio.institucional.document.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO for adding a version to a document from a completed upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateVersionRequest {
+
+    @NotNull(message = "Upload is required")
+    private UUID uploadId;
+}
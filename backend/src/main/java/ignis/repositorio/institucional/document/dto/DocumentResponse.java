@@ -0,0 +1,29 @@
+package ignis.repositorio.institucional.document.dto;
+
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for document responses.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentResponse {
+
+    private Long id;
+    private String title;
+    private String description;
+    private Long sectorId;
+    private Long authorId;
+    private DocumentStatus status;
+    private int currentVersion;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package ignis.repositorio.institucional.document.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one version of a document.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentVersionResponse {
+
+    private int versionNumber;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String sha256;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package ignis.repositorio.institucional.document.dto;
+
+import ignis.repositorio.institucional.document.domain.UploadStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for the state of a chunked upload. A client resuming after a dropped
+ * connection sends {@code nextChunk} next.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+
+    private UUID id;
+    private String fileName;
+    private String contentType;
+    private long totalSize;
+    private int chunkSize;
+    private int chunkCount;
+    private int nextChunk;
+    private long receivedBytes;
+    private UploadStatus status;
+    private String sha256;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
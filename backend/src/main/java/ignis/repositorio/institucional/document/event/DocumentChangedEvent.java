@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.document.event;
+
+/**
+ * Published when a document, or its versions, is created, updated or deleted.
+ */
+public record DocumentChangedEvent(Long documentId) {
+}
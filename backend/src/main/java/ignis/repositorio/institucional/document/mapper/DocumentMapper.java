@@ -0,0 +1,33 @@
+package ignis.repositorio.institucional.document.mapper;
+
+import ignis.repositorio.institucional.document.domain.Document;
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import ignis.repositorio.institucional.document.dto.DocumentResponse;
+import ignis.repositorio.institucional.document.dto.DocumentVersionResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for Document, DocumentVersion and DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface DocumentMapper {
+
+    /**
+     * Maps Document entity to DocumentResponse DTO.
+     */
+    DocumentResponse toResponse(Document document);
+
+    /**
+     * Maps DocumentVersion entity to DocumentVersionResponse DTO.
+     */
+    @Mapping(target = "sha256", source = "blobSha256")
+    DocumentVersionResponse toVersionResponse(DocumentVersion version);
+
+    /**
+     * Maps list of DocumentVersion entities to list of DocumentVersionResponse DTOs.
+     */
+    List<DocumentVersionResponse> toVersionResponseList(List<DocumentVersion> versions);
+}
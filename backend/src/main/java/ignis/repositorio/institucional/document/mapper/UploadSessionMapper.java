@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.document.mapper;
+
+import ignis.repositorio.institucional.document.domain.UploadSession;
+import ignis.repositorio.institucional.document.dto.UploadSessionResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for UploadSession entity and DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface UploadSessionMapper {
+
+    /**
+     * Maps UploadSession entity to UploadSessionResponse DTO.
+     */
+    @Mapping(target = "receivedBytes", expression = "java(session.receivedBytes())")
+    UploadSessionResponse toResponse(UploadSession session);
+}
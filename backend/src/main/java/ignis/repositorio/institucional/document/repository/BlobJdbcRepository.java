@@ -0,0 +1,224 @@
+package ignis.repositorio.institucional.document.repository;
+
+import ignis.repositorio.institucional.document.storage.BlobStats;
+import ignis.repositorio.institucional.document.storage.DeltaCandidate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reference counts of the blob store. Every statement that changes a blob
+ * row locks it until the transaction ends, which is what keeps the garbage
+ * collector from deleting content a concurrent transaction is referencing.
+ * A blob stored as a delta holds a reference to its base.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlobJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds a reference to a blob, registering it first if it is new.
+     *
+     * @return whether the blob was already registered
+     */
+    public boolean addReference(String sha256, long size) {
+        // xmax is only zero on a row the statement inserted
+        Boolean inserted = jdbcTemplate.queryForObject(
+            "INSERT INTO blobs (sha256, size, stored_size, ref_count) VALUES (?, ?, ?, 1) "
+                + "ON CONFLICT (sha256) DO UPDATE SET ref_count = blobs.ref_count + 1, orphaned_at = NULL "
+                + "RETURNING xmax = 0",
+            Boolean.class, sha256, size, size);
+        return !Boolean.TRUE.equals(inserted);
+    }
+
+    /**
+     * Drops a reference; the blob becomes collectable when none are left.
+     *
+     * @return the number of blobs updated, 0 or 1
+     */
+    public int removeReference(String sha256, LocalDateTime now) {
+        return jdbcTemplate.update(
+            "UPDATE blobs SET ref_count = ref_count - 1, "
+                + "orphaned_at = CASE WHEN ref_count = 1 THEN CAST(? AS TIMESTAMP) END "
+                + "WHERE sha256 = ? AND ref_count > 0",
+            Timestamp.valueOf(now), sha256);
+    }
+
+    /**
+     * Deletes the rows of up to {@code limit} blobs unreferenced since before
+     * {@code cutoff} and returns their hashes. Rows locked by a concurrent
+     * transaction are skipped. The bases of deleted deltas lose a reference.
+     */
+    public List<String> deleteOrphans(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                "WITH deleted AS ("
+                    + "DELETE FROM blobs WHERE sha256 IN ("
+                    + "SELECT sha256 FROM blobs WHERE ref_count = 0 AND orphaned_at < ? "
+                    + "ORDER BY orphaned_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+                    + "AND ref_count = 0 RETURNING sha256, delta_base), "
+                    + "released AS ("
+                    + "UPDATE blobs b SET ref_count = b.ref_count - r.deltas, "
+                    + "orphaned_at = CASE WHEN b.ref_count = r.deltas THEN LOCALTIMESTAMP END "
+                    + "FROM (SELECT delta_base, COUNT(*) AS deltas FROM deleted "
+                    + "WHERE delta_base IS NOT NULL GROUP BY delta_base) r "
+                    + "WHERE b.sha256 = r.delta_base) "
+                    + "SELECT sha256 FROM deleted");
+            ps.setTimestamp(1, Timestamp.valueOf(cutoff));
+            ps.setInt(2, limit);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    /**
+     * Superseded versions whose content could be stored as a delta against
+     * the content of the next version, oldest first. Content that is still
+     * the current version of some document is left out.
+     */
+    public List<DeltaCandidate> findDeltaCandidates(long maxSize, int limit) {
+        return jdbcTemplate.query(
+            "SELECT v.blob_sha256, n.blob_sha256 FROM document_versions v "
+                + "JOIN documents d ON d.id = v.document_id AND v.version_number < d.current_version "
+                + "JOIN document_versions n ON n.document_id = v.document_id "
+                + "AND n.version_number = v.version_number + 1 "
+                + "JOIN blobs b ON b.sha256 = v.blob_sha256 "
+                + "WHERE b.delta_base IS NULL AND NOT b.snapshot AND b.ref_count > 0 "
+                + "AND b.size <= ? AND n.size <= ? AND n.blob_sha256 <> v.blob_sha256 "
+                + "AND NOT EXISTS (SELECT 1 FROM document_versions cv "
+                + "JOIN documents cd ON cd.id = cv.document_id AND cd.current_version = cv.version_number "
+                + "WHERE cv.blob_sha256 = v.blob_sha256) "
+                + "ORDER BY v.created_at, v.id LIMIT ?",
+            (rs, rowNum) -> new DeltaCandidate(rs.getString(1), rs.getString(2)), maxSize, maxSize, limit);
+    }
+
+    /**
+     * Locks a blob that is stored whole and referenced.
+     *
+     * @return whether there is such a blob
+     */
+    public boolean lockFullBlob(String sha256) {
+        return !jdbcTemplate.queryForList(
+            "SELECT sha256 FROM blobs WHERE sha256 = ? AND delta_base IS NULL AND ref_count > 0 FOR UPDATE",
+            String.class, sha256).isEmpty();
+    }
+
+    /**
+     * Whether a blob is the current version of some document.
+     */
+    public boolean isCurrentVersion(String sha256) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM document_versions v "
+                + "JOIN documents d ON d.id = v.document_id AND d.current_version = v.version_number "
+                + "WHERE v.blob_sha256 = ?)",
+            Boolean.class, sha256));
+    }
+
+    /**
+     * Length of the longest chain that storing {@code sha256} as a delta
+     * against {@code baseSha256} would create: the deltas between the base
+     * and a whole blob, the new one, and the deltas already based on
+     * {@code sha256}. {@link Integer#MAX_VALUE} if the base is itself
+     * rebuilt from {@code sha256}.
+     */
+    public int chainLengthWith(String sha256, String baseSha256) {
+        Integer below = jdbcTemplate.queryForObject(
+            "WITH RECURSIVE chain (sha256, delta_base, depth) AS ("
+                + "SELECT sha256, delta_base, 0 FROM blobs WHERE sha256 = ? "
+                + "UNION ALL SELECT b.sha256, b.delta_base, c.depth + 1 "
+                + "FROM blobs b JOIN chain c ON b.sha256 = c.delta_base WHERE c.depth < 1000) "
+                + "SELECT CASE WHEN BOOL_OR(sha256 = ?) THEN NULL ELSE COALESCE(MAX(depth), 0) END FROM chain",
+            Integer.class, baseSha256, sha256);
+        if (below == null) {
+            return Integer.MAX_VALUE;
+        }
+        Integer above = jdbcTemplate.queryForObject(
+            "WITH RECURSIVE dependents (sha256, depth) AS ("
+                + "SELECT sha256, 1 FROM blobs WHERE delta_base = ? "
+                + "UNION ALL SELECT b.sha256, d.depth + 1 "
+                + "FROM blobs b JOIN dependents d ON b.delta_base = d.sha256 WHERE d.depth < 1000) "
+                + "SELECT COALESCE(MAX(depth), 0) FROM dependents",
+            Integer.class, sha256);
+        return below + 1 + above;
+    }
+
+    /**
+     * Adds the reference a delta holds to its base, unless the base has no
+     * references left.
+     *
+     * @return the number of blobs updated, 0 or 1
+     */
+    public int addBaseReference(String baseSha256) {
+        return jdbcTemplate.update(
+            "UPDATE blobs SET ref_count = ref_count + 1 WHERE sha256 = ? AND ref_count > 0", baseSha256);
+    }
+
+    /**
+     * Records that a blob is stored as a delta of {@code storedSize} bytes.
+     * Its whole file is deleted later by {@link #finishCompactions}.
+     */
+    public void markDelta(String sha256, String baseSha256, long storedSize, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE blobs SET delta_base = ?, stored_size = ?, compacted_at = ? WHERE sha256 = ?",
+            baseSha256, storedSize, now, sha256);
+    }
+
+    /**
+     * Records that a blob stays whole.
+     */
+    public void markSnapshot(String sha256) {
+        jdbcTemplate.update("UPDATE blobs SET snapshot = TRUE WHERE sha256 = ?", sha256);
+    }
+
+    /**
+     * Locks up to {@code limit} blobs stored as a delta before {@code cutoff}
+     * whose whole file is still kept, and records that it is gone. The caller
+     * deletes the files in the same transaction.
+     *
+     * @return the hashes of the blobs
+     */
+    public List<String> finishCompactions(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+            "UPDATE blobs SET compacted_at = NULL WHERE sha256 IN ("
+                + "SELECT sha256 FROM blobs WHERE compacted_at < ? AND delta_base IS NOT NULL "
+                + "ORDER BY compacted_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+                + "RETURNING sha256",
+            String.class, cutoff, limit);
+    }
+
+    /**
+     * Records that a blob stored as a delta is whole again. The caller
+     * releases the returned base.
+     *
+     * @return the former base, or {@code null} if the blob was not a delta
+     */
+    public String restoreFull(String sha256) {
+        // The joined row still has the values from before the update
+        List<String> bases = jdbcTemplate.queryForList(
+            "UPDATE blobs b SET delta_base = NULL, stored_size = b.size, compacted_at = NULL FROM blobs old "
+                + "WHERE b.sha256 = ? AND old.sha256 = b.sha256 AND b.delta_base IS NOT NULL "
+                + "RETURNING old.delta_base",
+            String.class, sha256);
+        return bases.isEmpty() ? null : bases.get(0);
+    }
+
+    /**
+     * Counts and sizes of the referenced blobs. References held by deltas
+     * are not counted as references to the content.
+     */
+    public BlobStats stats() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*), COALESCE(SUM(b.ref_count - COALESCE(d.deltas, 0)), 0), "
+                + "COALESCE(SUM(b.stored_size), 0), "
+                + "COALESCE(SUM(b.size * (b.ref_count - COALESCE(d.deltas, 0))), 0) FROM blobs b "
+                + "LEFT JOIN (SELECT delta_base, COUNT(*) AS deltas FROM blobs "
+                + "WHERE delta_base IS NOT NULL GROUP BY delta_base) d ON d.delta_base = b.sha256 "
+                + "WHERE b.ref_count > 0",
+            (rs, rowNum) -> new BlobStats(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+    }
+}
@@ -0,0 +1,24 @@
+package ignis.repositorio.institucional.document.repository;
+
+import ignis.repositorio.institucional.document.domain.Document;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for Document entity.
+ */
+@Repository
+public interface DocumentRepository extends JpaRepository<Document, Long> {
+
+    /**
+     * Loads a document and locks it until the transaction ends, so versions are numbered one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Document d WHERE d.id = :id")
+    Optional<Document> findByIdForUpdate(Long id);
+}
@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.document.repository;
+
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for DocumentVersion entity.
+ */
+@Repository
+public interface DocumentVersionRepository extends JpaRepository<DocumentVersion, Long> {
+
+    List<DocumentVersion> findByDocumentIdOrderByVersionNumberDesc(Long documentId);
+
+    Optional<DocumentVersion> findByDocumentIdAndVersionNumber(Long documentId, int versionNumber);
+}
@@ -0,0 +1,38 @@
+package ignis.repositorio.institucional.document.repository;
+
+import ignis.repositorio.institucional.document.domain.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for UploadSession entity.
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    /**
+     * Records that chunk {@code index} is on disk, unless another request got there first.
+     *
+     * @return the number of sessions updated, 0 or 1
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.nextChunk = s.nextChunk + 1, s.expiresAt = :expiresAt, s.updatedAt = :now "
+        + "WHERE s.id = :id AND s.nextChunk = :index "
+        + "AND s.status = ignis.repositorio.institucional.document.domain.UploadStatus.IN_PROGRESS")
+    int advance(UUID id, int index, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * Sessions that expired before {@code now}, oldest first.
+     */
+    @Query("SELECT s FROM UploadSession s WHERE s.expiresAt < :now ORDER BY s.expiresAt")
+    List<UploadSession> findExpired(LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.document.service;
+
+/**
+ * A completed upload whose content was handed to the blob store.
+ */
+public record ClaimedUpload(String sha256, long size, String fileName, String contentType, boolean deduplicated) {
+}
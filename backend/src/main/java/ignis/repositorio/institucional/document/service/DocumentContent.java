@@ -0,0 +1,14 @@
+package ignis.repositorio.institucional.document.service;
+
+import org.springframework.core.io.Resource;
+
+import java.time.LocalDateTime;
+
+/**
+ * The content of one document version, ready to be served.
+ *
+ * @param createdAt when the version was added; its content never changes afterwards
+ */
+public record DocumentContent(String fileName, String contentType, long size, String sha256,
+                              LocalDateTime createdAt, Resource resource) {
+}
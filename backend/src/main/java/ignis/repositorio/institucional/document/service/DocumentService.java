@@ -0,0 +1,159 @@
+package ignis.repositorio.institucional.document.service;
+
+import ignis.repositorio.institucional.audit.Audited;
+import ignis.repositorio.institucional.auth.security.AuthenticatedUser;
+import ignis.repositorio.institucional.document.domain.Document;
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import ignis.repositorio.institucional.document.dto.CreateDocumentRequest;
+import ignis.repositorio.institucional.document.dto.CreateVersionRequest;
+import ignis.repositorio.institucional.document.dto.DocumentResponse;
+import ignis.repositorio.institucional.document.dto.DocumentVersionResponse;
+import ignis.repositorio.institucional.document.event.DocumentChangedEvent;
+import ignis.repositorio.institucional.document.mapper.DocumentMapper;
+import ignis.repositorio.institucional.document.repository.DocumentRepository;
+import ignis.repositorio.institucional.document.repository.DocumentVersionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service for documents and their versions. Contents come from completed
+ * uploads and go to the {@link BlobStore}, which keeps one copy per
+ * distinct content: a document re-uploaded under another title, or a
+ * version identical to an earlier one, only adds a reference.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class DocumentService {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final SectorRepository sectorRepository;
+    private final UploadService uploadService;
+    private final BlobStore blobStore;
+    private final DocumentMapper documentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a document whose first version is a completed upload.
+     */
+    @Audited(action = "CREATE_DOCUMENT", targetType = "DOCUMENT", targetId = "#result.id")
+    public DocumentResponse createDocument(CreateDocumentRequest request) {
+        if (request.getSectorId() != null && !sectorRepository.existsById(request.getSectorId())) {
+            throw new ResourceNotFoundException("Sector", "id", request.getSectorId());
+        }
+        Document document = documentRepository.save(Document.builder()
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .sectorId(request.getSectorId())
+            .authorId(currentUserId())
+            .currentVersion(1)
+            .build());
+        addVersion(document, 1, uploadService.claim(request.getUploadId()));
+        eventPublisher.publishEvent(new DocumentChangedEvent(document.getId()));
+        log.info("Created document {} ({})", document.getId(), document.getTitle());
+        return documentMapper.toResponse(document);
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentResponse getDocument(Long id) {
+        return documentMapper.toResponse(findDocument(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DocumentVersionResponse> getVersions(Long id) {
+        findDocument(id);
+        return documentMapper.toVersionResponseList(documentVersionRepository.findByDocumentIdOrderByVersionNumberDesc(id));
+    }
+
+    /**
+     * The content of the current version of a document.
+     */
+    @Transactional(readOnly = true)
+    public DocumentContent getContent(Long id) {
+        return getContent(id, findDocument(id).getCurrentVersion());
+    }
+
+    /**
+     * The content of one version of a document.
+     */
+    @Transactional(readOnly = true)
+    public DocumentContent getContent(Long id, int versionNumber) {
+        DocumentVersion version = documentVersionRepository.findByDocumentIdAndVersionNumber(id, versionNumber)
+            .orElseThrow(() -> new ResourceNotFoundException(
+                String.format("Version %d of document %d not found", versionNumber, id)));
+        return new DocumentContent(version.getFileName(), version.getContentType(), version.getSize(),
+            version.getBlobSha256(), version.getCreatedAt(), blobStore.open(version.getBlobSha256()));
+    }
+
+    /**
+     * Adds a completed upload as the new current version of a document.
+     */
+    @Audited(action = "CREATE_DOCUMENT_VERSION", targetType = "DOCUMENT", targetId = "#id")
+    public DocumentVersionResponse createVersion(Long id, CreateVersionRequest request) {
+        Document document = documentRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+        int versionNumber = document.getCurrentVersion() + 1;
+        DocumentVersion version = addVersion(document, versionNumber, uploadService.claim(request.getUploadId()));
+        document.setCurrentVersion(versionNumber);
+        documentRepository.save(document);
+        eventPublisher.publishEvent(new DocumentChangedEvent(id));
+        log.info("Added version {} to document {}", versionNumber, id);
+        return documentMapper.toVersionResponse(version);
+    }
+
+    /**
+     * Deletes a document with its versions, releasing their contents.
+     */
+    @Audited(action = "DELETE_DOCUMENT", targetType = "DOCUMENT", targetId = "#id")
+    public void deleteDocument(Long id) {
+        Document document = documentRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+        List<DocumentVersion> versions = documentVersionRepository.findByDocumentIdOrderByVersionNumberDesc(id);
+        documentVersionRepository.deleteAll(versions);
+        documentRepository.delete(document);
+        versions.forEach(version -> blobStore.release(version.getBlobSha256()));
+        eventPublisher.publishEvent(new DocumentChangedEvent(id));
+        log.info("Deleted document {} and its {} versions", id, versions.size());
+    }
+
+    private DocumentVersion addVersion(Document document, int versionNumber, ClaimedUpload upload) {
+        if (upload.deduplicated()) {
+            log.debug("Version {} of document {} shares stored content {}",
+                versionNumber, document.getId(), upload.sha256());
+        }
+        return documentVersionRepository.save(DocumentVersion.builder()
+            .documentId(document.getId())
+            .versionNumber(versionNumber)
+            .blobSha256(upload.sha256())
+            .fileName(upload.fileName())
+            .contentType(upload.contentType())
+            .size(upload.size())
+            .createdBy(currentUserId())
+            .build());
+    }
+
+    private Document findDocument(Long id) {
+        return documentRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+}
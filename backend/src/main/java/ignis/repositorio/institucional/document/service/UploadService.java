@@ -0,0 +1,271 @@
+package ignis.repositorio.institucional.document.service;
+
+import ignis.repositorio.institucional.auth.security.AuthenticatedUser;
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.document.domain.UploadSession;
+import ignis.repositorio.institucional.document.domain.UploadStatus;
+import ignis.repositorio.institucional.document.dto.CompleteUploadRequest;
+import ignis.repositorio.institucional.document.dto.CreateUploadRequest;
+import ignis.repositorio.institucional.document.dto.UploadSessionResponse;
+import ignis.repositorio.institucional.document.mapper.UploadSessionMapper;
+import ignis.repositorio.institucional.document.repository.UploadSessionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.document.storage.ChunkedUploadStore;
+import ignis.repositorio.institucional.document.storage.StoredBlob;
+import ignis.repositorio.institucional.exception.InvalidUploadException;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.exception.UploadTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resumable chunked uploads. A client declares the file size, which fixes
+ * the chunks, sends chunk 0, 1, 2... in order and completes the upload.
+ * After a dropped connection it asks for the session and carries on from
+ * {@code nextChunk}; resending the last acknowledged chunk is harmless.
+ * Chunks are never buffered: {@link ChunkedUploadStore} streams them to
+ * disk, and no database connection is held while a chunk is read.
+ * Only the user who started an upload sees it; to anyone else it does not exist.
+ */
+@Service
+@Slf4j
+public class UploadService {
+
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionMapper uploadSessionMapper;
+    private final ChunkedUploadStore uploadStore;
+    private final BlobStore blobStore;
+    private final DocumentProperties.Upload properties;
+
+    /** Serializes the requests of one upload; dropped when the upload ends. */
+    private final Map<UUID, Object> locks = new ConcurrentHashMap<>();
+
+    public UploadService(UploadSessionRepository uploadSessionRepository, UploadSessionMapper uploadSessionMapper,
+                         ChunkedUploadStore uploadStore, BlobStore blobStore, DocumentProperties properties) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadSessionMapper = uploadSessionMapper;
+        this.uploadStore = uploadStore;
+        this.blobStore = blobStore;
+        this.properties = properties.getUpload();
+    }
+
+    /**
+     * Starts an upload.
+     */
+    public UploadSessionResponse createUpload(CreateUploadRequest request) {
+        long totalSize = request.getTotalSize();
+        if (totalSize > properties.getMaxFileSize().toBytes()) {
+            throw new UploadTooLargeException(String.format(
+                "File of %d bytes exceeds the limit of %d bytes", totalSize, properties.getMaxFileSize().toBytes()));
+        }
+        int chunkSize = (int) properties.getChunkSize().toBytes();
+        UploadSession session = UploadSession.builder()
+            .ownerId(currentUserId())
+            .fileName(request.getFileName())
+            .contentType(request.getContentType())
+            .totalSize(totalSize)
+            .chunkSize(chunkSize)
+            .chunkCount((int) ((totalSize + chunkSize - 1) / chunkSize))
+            .nextChunk(0)
+            .status(UploadStatus.IN_PROGRESS)
+            .expiresAt(LocalDateTime.now().plus(properties.getSessionTtl()))
+            .build();
+        UploadSession savedSession = uploadSessionRepository.save(session);
+        log.info("Started upload {} of {} ({} bytes, {} chunks)",
+            savedSession.getId(), savedSession.getFileName(), totalSize, savedSession.getChunkCount());
+        return uploadSessionMapper.toResponse(savedSession);
+    }
+
+    public UploadSessionResponse getUpload(UUID id) {
+        return uploadSessionMapper.toResponse(findSession(id));
+    }
+
+    /**
+     * Stores chunk {@code index}, read from {@code body}.
+     *
+     * @param contentLength the declared length of the body, or -1 if unknown
+     */
+    public UploadSessionResponse uploadChunk(UUID id, int index, long contentLength, InputStream body) {
+        synchronized (lockFor(id)) {
+            UploadSession session = findInProgress(id);
+            if (index == session.getNextChunk() - 1) {
+                // The client did not see the acknowledgement of the last chunk
+                return uploadSessionMapper.toResponse(session);
+            }
+            if (index != session.getNextChunk()) {
+                throw new InvalidUploadException(String.format(
+                    "Upload %s expects chunk %d, got chunk %d", id, session.getNextChunk(), index));
+            }
+            long length = session.chunkLength(index);
+            if (contentLength >= 0 && contentLength != length) {
+                throw new InvalidUploadException(String.format(
+                    "Chunk %d of upload %s must have %d bytes, got %d", index, id, length, contentLength));
+            }
+
+            uploadStore.writeChunk(id, (long) index * session.getChunkSize(), length, body);
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(properties.getSessionTtl());
+            if (uploadSessionRepository.advance(id, index, now, expiresAt) == 0) {
+                throw new InvalidUploadException(String.format("Upload %s changed while chunk %d was stored", id, index));
+            }
+            session.setNextChunk(index + 1);
+            session.setExpiresAt(expiresAt);
+            return uploadSessionMapper.toResponse(session);
+        }
+    }
+
+    /**
+     * Finishes an upload once every chunk arrived, checking the client's
+     * SHA-256 if it sent one.
+     */
+    public UploadSessionResponse completeUpload(UUID id, CompleteUploadRequest request) {
+        synchronized (lockFor(id)) {
+            UploadSession session = findSession(id);
+            if (session.getStatus() == UploadStatus.COMPLETED) {
+                return uploadSessionMapper.toResponse(session);
+            }
+            requireActive(session);
+            if (session.getNextChunk() != session.getChunkCount()) {
+                throw new InvalidUploadException(String.format(
+                    "Upload %s has %d of %d chunks", id, session.getNextChunk(), session.getChunkCount()));
+            }
+
+            String sha256 = uploadStore.complete(id, session.getTotalSize());
+            if (request != null && request.getSha256() != null && !request.getSha256().equalsIgnoreCase(sha256)) {
+                uploadStore.delete(id);
+                uploadSessionRepository.delete(session);
+                locks.remove(id);
+                throw new InvalidUploadException(String.format(
+                    "Upload %s has SHA-256 %s, not %s; it was discarded", id, sha256, request.getSha256()));
+            }
+            session.setStatus(UploadStatus.COMPLETED);
+            session.setSha256(sha256);
+            // Left unclaimed, the file is discarded like an unfinished upload
+            session.setExpiresAt(LocalDateTime.now().plus(properties.getSessionTtl()));
+            UploadSession savedSession = uploadSessionRepository.save(session);
+            locks.remove(id);
+            log.info("Completed upload {} ({} bytes, SHA-256 {})", id, session.getTotalSize(), sha256);
+            return uploadSessionMapper.toResponse(savedSession);
+        }
+    }
+
+    /**
+     * Hands the content of a completed upload to the blob store, adding a
+     * reference to it, and ends the upload. Run it in the transaction that
+     * records what the reference is for.
+     */
+    public ClaimedUpload claim(UUID id) {
+        synchronized (lockFor(id)) {
+            UploadSession session = findSession(id);
+            if (session.getStatus() != UploadStatus.COMPLETED) {
+                throw new InvalidUploadException(String.format("Upload %s is %s", id, session.getStatus()));
+            }
+            // Deleted first: a concurrent claim of the same upload waits on the row and then fails
+            uploadSessionRepository.delete(session);
+            uploadSessionRepository.flush();
+            StoredBlob blob = blobStore.add(session.getSha256(), session.getTotalSize(), uploadStore.completedFile(id));
+            locks.remove(id);
+            return new ClaimedUpload(blob.sha256(), blob.size(), session.getFileName(), session.getContentType(),
+                blob.deduplicated());
+        }
+    }
+
+    /**
+     * Abandons an upload and deletes what was received of it.
+     */
+    public void abortUpload(UUID id) {
+        synchronized (lockFor(id)) {
+            UploadSession session = findSession(id);
+            uploadStore.delete(id);
+            uploadSessionRepository.delete(session);
+            locks.remove(id);
+            log.info("Aborted upload {}", id);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.documents.upload.cleanup-interval:1h}",
+        fixedDelayString = "${app.documents.upload.cleanup-interval:1h}")
+    public void run() {
+        try {
+            int discarded = discardExpired();
+            if (discarded > 0) {
+                log.info("Discarded {} expired uploads", discarded);
+            }
+        } catch (RuntimeException e) {
+            log.error("Discarding expired uploads failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes uploads left unfinished, or completed but never claimed, for
+     * longer than the session TTL.
+     *
+     * @return the number of uploads discarded
+     */
+    public int discardExpired() {
+        int discarded = 0;
+        List<UploadSession> expired;
+        do {
+            expired = uploadSessionRepository.findExpired(LocalDateTime.now(), PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            for (UploadSession session : expired) {
+                synchronized (lockFor(session.getId())) {
+                    uploadStore.delete(session.getId());
+                    uploadSessionRepository.deleteById(session.getId());
+                }
+                locks.remove(session.getId());
+                discarded++;
+            }
+        } while (expired.size() == CLEANUP_BATCH_SIZE);
+        return discarded;
+    }
+
+    private UploadSession findSession(UUID id) {
+        Long userId = currentUserId();
+        return uploadSessionRepository.findById(id)
+            .filter(session -> Objects.equals(session.getOwnerId(), userId))
+            .orElseThrow(() -> new ResourceNotFoundException("Upload", "id", id));
+    }
+
+    private UploadSession findInProgress(UUID id) {
+        UploadSession session = findSession(id);
+        requireActive(session);
+        return session;
+    }
+
+    private static void requireActive(UploadSession session) {
+        if (session.getStatus() != UploadStatus.IN_PROGRESS) {
+            throw new InvalidUploadException(String.format("Upload %s is %s", session.getId(), session.getStatus()));
+        }
+        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidUploadException(String.format("Upload %s expired", session.getId()));
+        }
+    }
+
+    private Object lockFor(UUID id) {
+        return locks.computeIfAbsent(id, key -> new Object());
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,254 @@
+package ignis.repositorio.institucional.document.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary delta between two versions of a file, in the style of git's
+ * diff-delta: the base is indexed by the hash of each aligned 16-byte
+ * block, the target is scanned with a rolling hash of the same width, and
+ * every hit is verified and extended in both directions. Matches shorter
+ * than four blocks are passed over: in text a short phrase repeats all over
+ * the base, and the index may point at the wrong occurrence, while a block
+ * a little further on usually anchors the right one. The result is a
+ * list of COPY (offset and length in the base) and INSERT (literal bytes)
+ * operations, deflated. Both files are read through byte buffers, so
+ * mapped files are never copied to the heap; the index takes one or two
+ * ints per block, a quarter to half the size of the base.
+ * <p>
+ * A delta file is a 76-byte header (magic, SHA-256 of the base in hex,
+ * size of the target) followed by the deflated operations.
+ */
+final class BinaryDelta {
+
+    static final int BLOCK = 16;
+    private static final int MIN_COPY = 4 * BLOCK;
+
+    private static final int MAGIC = 0x49474431;
+    private static final int MULTIPLIER = 0x01000193;
+    private static final int SHA256_HEX = 64;
+
+    private static final int OP_END = 0;
+    private static final int OP_COPY = 1;
+    private static final int OP_INSERT = 2;
+    private static final int MAX_INSERT = 64 * 1024;
+
+    /** MULTIPLIER^(BLOCK - 1), to drop the oldest byte from the rolling hash. */
+    private static final int OUT_FACTOR;
+
+    static {
+        int factor = 1;
+        for (int i = 1; i < BLOCK; i++) {
+            factor *= MULTIPLIER;
+        }
+        OUT_FACTOR = factor;
+    }
+
+    private BinaryDelta() {
+    }
+
+    record Header(String baseSha256, long targetSize) {
+    }
+
+    /**
+     * Writes the delta turning {@code base} into {@code target}, header included.
+     */
+    static void write(String baseSha256, ByteBuffer base, ByteBuffer target, OutputStream out) throws IOException {
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.write(baseSha256.getBytes(StandardCharsets.US_ASCII));
+        header.writeLong(target.limit());
+        header.flush();
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream ops = new DeflaterOutputStream(out, deflater, MAX_INSERT);
+            encode(base, target, ops);
+            ops.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static Header readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a delta file");
+        }
+        byte[] sha = new byte[SHA256_HEX];
+        in.readFully(sha);
+        return new Header(new String(sha, StandardCharsets.US_ASCII), in.readLong());
+    }
+
+    /**
+     * Rebuilds the target from {@code base} and the operations following the
+     * header in {@code in}, writing it to {@code out}.
+     *
+     * @return the number of bytes written
+     */
+    static long apply(FileChannel base, InputStream in, WritableByteChannel out) throws IOException {
+        InflaterInputStream inflater = new InflaterInputStream(in, new Inflater(), MAX_INSERT);
+        try {
+            DataInputStream ops = new DataInputStream(inflater);
+            byte[] literal = new byte[MAX_INSERT];
+            long written = 0;
+            while (true) {
+                int op = ops.read();
+                switch (op) {
+                    case OP_END:
+                        return written;
+                    case OP_COPY: {
+                        long position = readVarLong(ops);
+                        long remaining = readVarLong(ops);
+                        written += remaining;
+                        while (remaining > 0) {
+                            long sent = base.transferTo(position, remaining, out);
+                            if (sent <= 0) {
+                                throw new EOFException("Delta copies past the end of its base");
+                            }
+                            position += sent;
+                            remaining -= sent;
+                        }
+                        break;
+                    }
+                    case OP_INSERT: {
+                        int length = (int) readVarLong(ops);
+                        ops.readFully(literal, 0, length);
+                        ByteBuffer buffer = ByteBuffer.wrap(literal, 0, length);
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
+                        written += length;
+                        break;
+                    }
+                    case -1:
+                        throw new EOFException("Delta ended without its end marker");
+                    default:
+                        throw new IOException("Unknown delta operation " + op);
+                }
+            }
+        } finally {
+            inflater.close();
+        }
+    }
+
+    private static void encode(ByteBuffer base, ByteBuffer target, OutputStream out) throws IOException {
+        int baseLength = base.limit();
+        int targetLength = target.limit();
+        int blocks = baseLength / BLOCK;
+        byte[] literal = new byte[MAX_INSERT];
+        int literalStart = 0;
+
+        if (blocks > 0 && targetLength >= BLOCK) {
+            int[] index = new int[Integer.highestOneBit(Math.max(blocks, 1)) << 1];
+            int mask = index.length - 1;
+            for (int block = 0; block < blocks; block++) {
+                int position = block * BLOCK;
+                index[bucket(hash(base, position), mask)] = position + 1;
+            }
+
+            int t = 0;
+            int hash = hash(target, 0);
+            while (true) {
+                int candidate = index[bucket(hash, mask)] - 1;
+                if (candidate >= 0 && sameBlock(base, candidate, target, t)) {
+                    int baseStart = candidate;
+                    int targetStart = t;
+                    while (targetStart > literalStart && baseStart > 0
+                        && base.get(baseStart - 1) == target.get(targetStart - 1)) {
+                        baseStart--;
+                        targetStart--;
+                    }
+                    int baseEnd = candidate + BLOCK;
+                    int targetEnd = t + BLOCK;
+                    while (targetEnd < targetLength && baseEnd < baseLength
+                        && base.get(baseEnd) == target.get(targetEnd)) {
+                        baseEnd++;
+                        targetEnd++;
+                    }
+                    if (targetEnd - targetStart >= MIN_COPY || targetEnd == targetLength) {
+                        writeInsert(target, literalStart, targetStart, literal, out);
+                        out.write(OP_COPY);
+                        writeVarLong(out, baseStart);
+                        writeVarLong(out, targetEnd - targetStart);
+                        t = targetEnd;
+                        literalStart = targetEnd;
+                        if (t + BLOCK > targetLength) {
+                            break;
+                        }
+                        hash = hash(target, t);
+                        continue;
+                    }
+                }
+                if (t + BLOCK >= targetLength) {
+                    break;
+                }
+                hash = (hash - (target.get(t) & 0xff) * OUT_FACTOR) * MULTIPLIER + (target.get(t + BLOCK) & 0xff);
+                t++;
+            }
+        }
+        writeInsert(target, literalStart, targetLength, literal, out);
+        out.write(OP_END);
+    }
+
+    private static void writeInsert(ByteBuffer target, int from, int to, byte[] literal, OutputStream out)
+        throws IOException {
+        for (int position = from; position < to; position += MAX_INSERT) {
+            int length = Math.min(MAX_INSERT, to - position);
+            target.get(position, literal, 0, length);
+            out.write(OP_INSERT);
+            writeVarLong(out, length);
+            out.write(literal, 0, length);
+        }
+    }
+
+    private static int hash(ByteBuffer buffer, int position) {
+        int hash = 0;
+        for (int i = 0; i < BLOCK; i++) {
+            hash = hash * MULTIPLIER + (buffer.get(position + i) & 0xff);
+        }
+        return hash;
+    }
+
+    private static int bucket(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean sameBlock(ByteBuffer base, int basePosition, ByteBuffer target, int targetPosition) {
+        return base.slice(basePosition, BLOCK).equals(target.slice(targetPosition, BLOCK));
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Delta ended inside a number");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in delta");
+    }
+}
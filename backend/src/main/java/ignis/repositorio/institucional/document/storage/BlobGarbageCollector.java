@@ -0,0 +1,42 @@
+package ignis.repositorio.institucional.document.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes blobs no document version references any more and refreshes the
+ * storage metrics, at startup and every {@code gc-interval}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlobGarbageCollector {
+
+    private final BlobStore blobStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.documents.blobs.gc-interval:15m}",
+        fixedDelayString = "${app.documents.blobs.gc-interval:15m}")
+    public void run() {
+        try {
+            int collected = blobStore.collectGarbage();
+            BlobStats stats = blobStore.refreshStats();
+            if (collected > 0) {
+                log.info("Deleted {} unreferenced blobs", collected);
+            }
+            log.debug("Blob store holds {} blobs, {} bytes for {} logical bytes (dedup ratio {})",
+                stats.blobs(), stats.storedBytes(), stats.logicalBytes(), String.format("%.2f", stats.dedupRatio()));
+        } catch (RuntimeException e) {
+            log.error("Blob garbage collection failed: {}", e.getMessage(), e);
+        }
+    }
+}
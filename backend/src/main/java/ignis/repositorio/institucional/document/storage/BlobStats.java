@@ -0,0 +1,18 @@
+package ignis.repositorio.institucional.document.storage;
+
+/**
+ * Size of the blob store. {@code logicalBytes} is what the referencing
+ * versions would take without deduplication, {@code storedBytes} what the
+ * distinct contents take on disk, as whole files or deltas.
+ */
+public record BlobStats(long blobs, long references, long storedBytes, long logicalBytes) {
+
+    public static final BlobStats EMPTY = new BlobStats(0, 0, 0, 0);
+
+    /**
+     * Logical bytes per stored byte; 1 when nothing is shared or delta-encoded.
+     */
+    public double dedupRatio() {
+        return storedBytes == 0 ? 1.0 : (double) logicalBytes / storedBytes;
+    }
+}
@@ -0,0 +1,59 @@
+package ignis.repositorio.institucional.document.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+
+/**
+ * Document contents, stored once per distinct SHA-256 and shared by every
+ * version with the same bytes. Each version holds one reference; content
+ * without references is deleted in the background. References are changed
+ * in the caller's transaction. Content of superseded versions may be kept
+ * as a delta against newer content and rebuilt when it is read.
+ */
+public interface BlobStore {
+
+    /**
+     * Adds a reference to the content with {@code sha256}, taking it over
+     * from {@code content}. When the same content is already stored the file
+     * is only deleted.
+     *
+     * @param content a file holding exactly the content; the store takes ownership of it
+     */
+    StoredBlob add(String sha256, long size, Path content);
+
+    /**
+     * The content with {@code sha256}, for reading. Content stored as a
+     * delta is only rebuilt once the resource is read.
+     */
+    Resource open(String sha256);
+
+    /**
+     * Stores the content with {@code sha256} as a delta against the content
+     * with {@code baseSha256}, if that keeps every delta chain within its
+     * bound and saves enough space. Content that is the current version of a
+     * document stays whole.
+     *
+     * @return whether the content is now stored as a delta
+     */
+    boolean storeAsDelta(String sha256, String baseSha256);
+
+    /**
+     * Drops a reference taken with {@link #add}.
+     */
+    void release(String sha256);
+
+    /**
+     * Deletes content unreferenced for longer than the grace period, whole
+     * files of versions compacted into a delta a while ago, and rebuilt
+     * versions not read for a while.
+     *
+     * @return the number of blobs deleted
+     */
+    int collectGarbage();
+
+    /**
+     * Recounts the stored content for the storage metrics.
+     */
+    BlobStats refreshStats();
+}
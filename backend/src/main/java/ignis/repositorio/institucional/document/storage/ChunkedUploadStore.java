@@ -0,0 +1,212 @@
+package ignis.repositorio.institucional.document.storage;
+
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.exception.InvalidUploadException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Part files of chunked uploads on local disk. A chunk is copied from the
+ * request straight into the part file through a {@link FileChannel} with a
+ * fixed-size buffer, and fed to the upload's running SHA-256 on the way, so
+ * an upload holds one digest in memory whatever the size of the file. The
+ * digest state is not persisted: after a restart it is rebuilt by reading
+ * back the part of the file already received.
+ * <p>
+ * Calls for the same upload must not overlap; {@code UploadService}
+ * serializes them.
+ */
+@Component
+@Slf4j
+public class ChunkedUploadStore {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Path uploadDirectory;
+    private final Path completedDirectory;
+
+    /** Running digest of each upload this node has written to. */
+    private final Map<UUID, RunningDigest> digests = new ConcurrentHashMap<>();
+
+    public ChunkedUploadStore(DocumentProperties properties) {
+        this.uploadDirectory = properties.getStorageDirectory().resolve("uploads");
+        this.completedDirectory = properties.getStorageDirectory().resolve("completed");
+    }
+
+    /**
+     * Writes one chunk at {@code offset}, reading exactly {@code length} bytes
+     * from {@code in}. Anything past {@code offset}, e.g. from an attempt that
+     * broke off, is overwritten. The bytes are on disk when this returns.
+     *
+     * @throws InvalidUploadException if the body is shorter or longer than {@code length}
+     */
+    public void writeChunk(UUID id, long offset, long length, InputStream in) {
+        Path part = partFile(id);
+        try {
+            Files.createDirectories(uploadDirectory);
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+                RunningDigest digest = digestAt(id, channel, offset);
+                channel.truncate(offset);
+                channel.position(offset);
+
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+                byte[] bytes = buffer.array();
+                long written = 0;
+                int read;
+                while ((read = in.read(bytes, 0, bytes.length)) != -1) {
+                    written += read;
+                    if (written > length) {
+                        throw new InvalidUploadException(
+                            String.format("Chunk at offset %d is longer than %d bytes", offset, length));
+                    }
+                    digest.update(bytes, read);
+                    buffer.limit(read);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                if (written < length) {
+                    throw new InvalidUploadException(
+                        String.format("Chunk at offset %d has %d of %d bytes", offset, written, length));
+                }
+                channel.force(false);
+                digests.put(id, digest);
+            }
+        } catch (IOException e) {
+            digests.remove(id);
+            throw new UncheckedIOException("Could not write upload " + id, e);
+        } catch (RuntimeException e) {
+            digests.remove(id);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves a fully received upload out of the part files and returns its
+     * SHA-256 in hex.
+     *
+     * @throws InvalidUploadException if the part file does not hold {@code size} bytes
+     */
+    public String complete(UUID id, long size) {
+        Path part = partFile(id);
+        Path completed = completedFile(id);
+        // A completion whose session could not be saved already moved the file
+        Path source = Files.exists(part) || !Files.exists(completed) ? part : completed;
+        try {
+            Files.createDirectories(uploadDirectory);
+            String sha256;
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+                if (channel.size() < size) {
+                    throw new InvalidUploadException(
+                        String.format("Upload %s has %d of %d bytes", id, channel.size(), size));
+                }
+                channel.truncate(size);
+                sha256 = digestAt(id, channel, size).hex();
+            }
+            if (source == part) {
+                Files.createDirectories(completedDirectory);
+                Files.move(part, completed, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return sha256;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not complete upload " + id, e);
+        } finally {
+            digests.remove(id);
+        }
+    }
+
+    /**
+     * Deletes whatever was received of an upload.
+     */
+    public void delete(UUID id) {
+        digests.remove(id);
+        try {
+            Files.deleteIfExists(partFile(id));
+            Files.deleteIfExists(completedFile(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete upload " + id, e);
+        }
+    }
+
+    public Path partFile(UUID id) {
+        return uploadDirectory.resolve(id + ".part");
+    }
+
+    public Path completedFile(UUID id) {
+        return completedDirectory.resolve(id.toString());
+    }
+
+    /**
+     * The upload's digest over its first {@code offset} bytes, from memory or
+     * by reading them back from the part file.
+     */
+    private RunningDigest digestAt(UUID id, FileChannel channel, long offset) throws IOException {
+        RunningDigest digest = digests.remove(id);
+        if (digest != null && digest.bytes == offset) {
+            return digest;
+        }
+        if (channel.size() < offset) {
+            throw new InvalidUploadException(
+                String.format("Upload %s has %d of the %d bytes already acknowledged", id, channel.size(), offset));
+        }
+        log.debug("Rebuilding the digest of upload {} over {} bytes", id, offset);
+        digest = new RunningDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        long position = 0;
+        while (position < offset) {
+            buffer.clear().limit((int) Math.min(BUFFER_BYTES, offset - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            digest.update(buffer.array(), read);
+            position += read;
+        }
+        return digest;
+    }
+
+    /**
+     * SHA-256 over the first {@code bytes} bytes of an upload.
+     */
+    private static final class RunningDigest {
+
+        private final MessageDigest sha256;
+        private long bytes;
+
+        RunningDigest() {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        void update(byte[] data, int length) {
+            sha256.update(data, 0, length);
+            bytes += length;
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(sha256.digest());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package ignis.repositorio.institucional.document.storage;
+
+/**
+ * A superseded version's content and the content of the version after it,
+ * against which it can be stored as a delta.
+ */
+public record DeltaCandidate(String sha256, String baseSha256) {
+}
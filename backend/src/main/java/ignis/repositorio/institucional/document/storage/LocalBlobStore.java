@@ -0,0 +1,523 @@
+package ignis.repositorio.institucional.document.storage;
+
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.document.repository.BlobJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link BlobStore} on local disk: the content with hash {@code ab12...}
+ * is the file {@code blobs/ab/ab12...} below the storage directory, and its
+ * reference count is a row in {@code blobs}. The row lock taken when a
+ * reference is added or a blob is collected serializes both, so content is
+ * never deleted under a transaction that has just referenced it: the
+ * collector deletes the file while it still holds the row, and a reference
+ * added afterwards finds the file gone and moves the new copy in.
+ * <p>
+ * Content stored as a delta is the file {@code blobs/ab/ab12....delta}
+ * instead, naming its base in its header. Reading it rebuilds it into
+ * {@code materialized/}, base first, where it stays until it has not been
+ * read for {@code materialized-ttl}. Its whole file is kept for
+ * {@code compacted-file-grace} after the compaction and then deleted by the
+ * garbage collection, so a path handed to a reader is never deleted right
+ * under it. Whole content is served as it is, so reading a current version
+ * costs nothing extra.
+ */
+@Component
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final BlobJdbcRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentProperties.Blobs properties;
+    private final DocumentProperties.Deltas deltas;
+    private final Path blobDirectory;
+    private final Path materializedDirectory;
+
+    private final AtomicReference<BlobStats> stats = new AtomicReference<>(BlobStats.EMPTY);
+    private final Counter stored;
+    private final Counter deduplicated;
+    private final Counter deduplicatedBytes;
+    private final Counter deltasStored;
+    private final Counter snapshotsKept;
+    private final Timer rebuilds;
+
+    public LocalBlobStore(BlobJdbcRepository blobRepository, TransactionTemplate transactionTemplate,
+                          DocumentProperties properties, MeterRegistry meterRegistry) {
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties.getBlobs();
+        this.deltas = properties.getDeltas();
+        this.blobDirectory = properties.getStorageDirectory().resolve("blobs");
+        this.materializedDirectory = properties.getStorageDirectory().resolve("materialized");
+
+        this.stored = Counter.builder("documents.blobs.added").tag("result", "stored").register(meterRegistry);
+        this.deduplicated = Counter.builder("documents.blobs.added").tag("result", "deduplicated")
+            .register(meterRegistry);
+        this.deduplicatedBytes = Counter.builder("documents.blobs.deduplicated.bytes")
+            .description("Bytes not stored because the same content already was")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.deltasStored = Counter.builder("documents.blobs.compacted").tag("result", "delta")
+            .description("Superseded versions considered for delta storage")
+            .register(meterRegistry);
+        this.snapshotsKept = Counter.builder("documents.blobs.compacted").tag("result", "snapshot")
+            .description("Superseded versions considered for delta storage")
+            .register(meterRegistry);
+        this.rebuilds = Timer.builder("documents.blobs.rebuild")
+            .description("Reads of content stored as a delta, rebuilding it if needed")
+            .register(meterRegistry);
+        Gauge.builder("documents.blobs.count", stats, s -> s.get().blobs())
+            .description("Distinct contents stored")
+            .register(meterRegistry);
+        Gauge.builder("documents.blobs.size", stats, s -> s.get().storedBytes())
+            .description("Bytes stored, each content once")
+            .tag("kind", "stored")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("documents.blobs.size", stats, s -> s.get().logicalBytes())
+            .description("Bytes the document versions would take without deduplication")
+            .tag("kind", "logical")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("documents.blobs.dedup.ratio", stats, s -> s.get().dedupRatio())
+            .description("Logical bytes per stored byte")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public StoredBlob add(String sha256, long size, Path content) {
+        boolean registered = blobRepository.addReference(sha256, size);
+        String formerBase = blobRepository.restoreFull(sha256);
+        Path target = blobFile(sha256);
+        try {
+            boolean present = Files.exists(target);
+            if (formerBase != null) {
+                // Content kept as a delta is becoming a current version again, which is read whole
+                if (!Files.exists(content)) {
+                    throw new IllegalStateException("Content of blob " + sha256 + " is missing");
+                }
+                Files.createDirectories(target.getParent());
+                Files.move(content, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                blobRepository.removeReference(formerBase, LocalDateTime.now());
+                // A rebuilt copy handed out before is left to expire like any other
+                afterCommit(() -> deleteFiles(sha256, deltaFile(sha256)));
+                present = true;
+            } else if (present) {
+                Files.deleteIfExists(content);
+            } else if (Files.exists(content)) {
+                Files.createDirectories(target.getParent());
+                Files.move(content, target, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                throw new IllegalStateException("Content of blob " + sha256 + " is missing");
+            }
+            if (present) {
+                deduplicated.increment();
+                deduplicatedBytes.increment(size);
+            } else {
+                stored.increment();
+            }
+            log.debug("Added a reference to blob {} (registered: {}, content present: {})", sha256, registered, present);
+            return new StoredBlob(sha256, size, present);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob " + sha256, e);
+        }
+    }
+
+    @Override
+    public Resource open(String sha256) {
+        return new BlobResource(sha256);
+    }
+
+    @Override
+    public boolean storeAsDelta(String sha256, String baseSha256) {
+        Path target = blobFile(sha256);
+        Path delta = null;
+        try {
+            if (!Files.exists(target) || Files.size(target) > deltas.getMaxSourceSize().toBytes()) {
+                return false;
+            }
+            if (blobRepository.chainLengthWith(sha256, baseSha256) > deltas.getMaxChainLength()) {
+                return keepSnapshot(sha256, "its delta chain would be too long");
+            }
+
+            long size = Files.size(target);
+            Path base = rebuild(baseSha256);
+            delta = Files.createTempFile(target.getParent(), sha256, ".tmp");
+            try (FileChannel targetChannel = FileChannel.open(target);
+                 FileChannel baseChannel = FileChannel.open(base);
+                 OutputStream out = new BufferedOutputStream(Files.newOutputStream(delta))) {
+                BinaryDelta.write(baseSha256, baseChannel.map(FileChannel.MapMode.READ_ONLY, 0, baseChannel.size()),
+                    targetChannel.map(FileChannel.MapMode.READ_ONLY, 0, size), out);
+            }
+            long deltaSize = Files.size(delta);
+            if (deltaSize > size * deltas.getMaxDeltaRatio()) {
+                return keepSnapshot(sha256, String.format("its delta takes %d of %d bytes", deltaSize, size));
+            }
+            if (!sha256.equals(rebuiltSha256(delta, base))) {
+                log.warn("Delta of blob {} against {} does not rebuild it", sha256, baseSha256);
+                return keepSnapshot(sha256, "its delta does not rebuild it");
+            }
+
+            Path encoded = delta;
+            boolean storedAsDelta = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!blobRepository.lockFullBlob(sha256) || blobRepository.isCurrentVersion(sha256)) {
+                    return false;
+                }
+                if (blobRepository.chainLengthWith(sha256, baseSha256) > deltas.getMaxChainLength()) {
+                    return keepSnapshot(sha256, "its delta chain would be too long");
+                }
+                if (blobRepository.addBaseReference(baseSha256) == 0) {
+                    return false;
+                }
+                try {
+                    Files.move(encoded, deltaFile(sha256), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not store the delta of blob " + sha256, e);
+                }
+                blobRepository.markDelta(sha256, baseSha256, deltaSize, LocalDateTime.now());
+                return true;
+            }));
+            if (!storedAsDelta) {
+                return false;
+            }
+            // The whole file is deleted by a later garbage collection, once no read can still be about to open it
+            deltasStored.increment();
+            log.debug("Stored blob {} as a delta of {} bytes against {} ({} bytes whole)",
+                sha256, deltaSize, baseSha256, size);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob " + sha256 + " as a delta", e);
+        } finally {
+            if (delta != null) {
+                deleteFiles(sha256, delta);
+            }
+        }
+    }
+
+    @Override
+    public void release(String sha256) {
+        if (blobRepository.removeReference(sha256, LocalDateTime.now()) == 0) {
+            log.warn("Released blob {} that had no references", sha256);
+        }
+    }
+
+    @Override
+    public int collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getGcGracePeriod());
+        int collected = 0;
+        List<String> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<String> orphans = blobRepository.deleteOrphans(cutoff, properties.getGcBatchSize());
+                // Still holding the rows, so no reference can be added until the files are gone
+                for (String sha256 : orphans) {
+                    try {
+                        Files.deleteIfExists(blobFile(sha256));
+                        Files.deleteIfExists(deltaFile(sha256));
+                        Files.deleteIfExists(materializedFile(sha256));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not delete blob " + sha256, e);
+                    }
+                }
+                return orphans;
+            });
+            collected += batch.size();
+        } while (batch.size() == properties.getGcBatchSize());
+        deleteCompactedFiles();
+        evictMaterialized();
+        return collected;
+    }
+
+    @Override
+    public BlobStats refreshStats() {
+        BlobStats current = blobRepository.stats();
+        stats.set(current);
+        return current;
+    }
+
+    Path blobFile(String sha256) {
+        return blobDirectory.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    Path deltaFile(String sha256) {
+        return blobDirectory.resolve(sha256.substring(0, 2)).resolve(sha256 + ".delta");
+    }
+
+    Path materializedFile(String sha256) {
+        return materializedDirectory.resolve(sha256);
+    }
+
+    /**
+     * A whole copy of the content, rebuilding it if it is stored as a delta.
+     */
+    private Path rebuild(String sha256) {
+        try {
+            return materialize(sha256, 0);
+        } catch (NoSuchFileException e) {
+            // A base further down the chain was compacted or made whole meanwhile
+            try {
+                return materialize(sha256, 0);
+            } catch (IOException retry) {
+                throw new UncheckedIOException("Could not rebuild blob " + sha256, retry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rebuild blob " + sha256, e);
+        }
+    }
+
+    private Path materialize(String sha256, int depth) throws IOException {
+        if (!Files.exists(deltaFile(sha256))) {
+            return blobFile(sha256);
+        }
+        Path materialized = materializedFile(sha256);
+        if (Files.exists(materialized)) {
+            Files.setLastModifiedTime(materialized, FileTime.from(Instant.now()));
+            return materialized;
+        }
+        if (depth > deltas.getMaxChainLength()) {
+            throw new IllegalStateException("Delta chain of blob " + sha256 + " is longer than "
+                + deltas.getMaxChainLength());
+        }
+
+        Files.createDirectories(materializedDirectory);
+        Path temporary = Files.createTempFile(materializedDirectory, sha256, ".tmp");
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(deltaFile(sha256)))) {
+            BinaryDelta.Header header = BinaryDelta.readHeader(new DataInputStream(in));
+            Path base = materialize(header.baseSha256(), depth + 1);
+            try (FileChannel baseChannel = FileChannel.open(base);
+                 FileChannel out = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                long written = BinaryDelta.apply(baseChannel, in, out);
+                if (written != header.targetSize()) {
+                    throw new IOException(String.format("Delta of blob %s rebuilt %d of %d bytes",
+                        sha256, written, header.targetSize()));
+                }
+            }
+            Files.move(temporary, materialized, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Rebuilt blob {} from its delta against {}", sha256, header.baseSha256());
+            return materialized;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private boolean keepSnapshot(String sha256, String reason) {
+        blobRepository.markSnapshot(sha256);
+        snapshotsKept.increment();
+        log.debug("Keeping blob {} whole: {}", sha256, reason);
+        return false;
+    }
+
+    /**
+     * Deletes the whole files of versions stored as a delta for longer than
+     * {@code compacted-file-grace}. Reads resolve such versions to their
+     * rebuilt copy, so only reads that resolved the whole file before the
+     * compaction could still open it, and they have had the grace period.
+     */
+    private void deleteCompactedFiles() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(deltas.getCompactedFileGrace());
+        int deleted = 0;
+        List<String> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<String> compacted = blobRepository.finishCompactions(cutoff, properties.getGcBatchSize());
+                // Still holding the rows, so a concurrent add making one whole again waits for the deletes
+                compacted.forEach(sha256 -> deleteFiles(sha256, blobFile(sha256)));
+                return compacted;
+            });
+            deleted += batch.size();
+        } while (batch.size() == properties.getGcBatchSize());
+        if (deleted > 0) {
+            log.debug("Deleted the whole files of {} compacted blobs", deleted);
+        }
+    }
+
+    /**
+     * Deletes rebuilt content not read for {@code materialized-ttl}. Every
+     * read that resolves a rebuilt copy marks it as read first.
+     */
+    private void evictMaterialized() {
+        if (!Files.isDirectory(materializedDirectory)) {
+            return;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(deltas.getMaterializedTtl()));
+        int evicted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(materializedDirectory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0 && Files.deleteIfExists(file)) {
+                    evicted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not evict rebuilt blobs: {}", e.getMessage());
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} rebuilt blobs", evicted);
+        }
+    }
+
+    private static String rebuiltSha256(Path delta, Path base) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(delta));
+             FileChannel baseChannel = FileChannel.open(base)) {
+            BinaryDelta.readHeader(new DataInputStream(in));
+            BinaryDelta.apply(baseChannel, in, new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer source) {
+                    int length = source.remaining();
+                    digest.update(source);
+                    return length;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Content resolved only when it is read, so answering a conditional
+     * request, a HEAD or an unsatisfiable range never rebuilds a delta.
+     * Content stored as a delta resolves to its rebuilt copy even while its
+     * whole file awaits deletion; either file stays on disk for at least
+     * {@code compacted-file-grace} or {@code materialized-ttl} after it was
+     * resolved, so a reader that opens it later, like the connector's
+     * sendfile, still finds it.
+     */
+    private final class BlobResource extends AbstractResource {
+
+        private final String sha256;
+        private volatile Path file;
+
+        BlobResource(String sha256) {
+            this.sha256 = sha256;
+        }
+
+        @Override
+        public boolean exists() {
+            return Files.exists(deltaFile(sha256)) || Files.exists(blobFile(sha256));
+        }
+
+        @Override
+        public boolean isFile() {
+            return true;
+        }
+
+        @Override
+        public File getFile() {
+            return resolve().toFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return Files.size(resolve());
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return Files.newInputStream(resolve());
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException(e.getMessage());
+            }
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            try {
+                return FileChannel.open(resolve());
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException(e.getMessage());
+            }
+        }
+
+        @Override
+        public String getDescription() {
+            return "blob " + sha256;
+        }
+
+        private Path resolve() {
+            Path resolved = file;
+            if (resolved == null) {
+                resolved = Files.exists(deltaFile(sha256))
+                    ? rebuilds.record(() -> rebuild(sha256))
+                    : blobFile(sha256);
+                file = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    private static void deleteFiles(String sha256, Path... files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete {} of blob {}: {}", file.getFileName(), sha256, e.getMessage());
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
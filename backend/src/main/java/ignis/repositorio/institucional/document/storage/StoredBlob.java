@@ -0,0 +1,9 @@
+package ignis.repositorio.institucional.document.storage;
+
+/**
+ * A blob a reference was added to.
+ *
+ * @param deduplicated whether the content was already stored, so the new copy was dropped
+ */
+public record StoredBlob(String sha256, long size, boolean deduplicated) {
+}
@@ -0,0 +1,69 @@
+package ignis.repositorio.institucional.document.storage;
+
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.document.repository.BlobJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stores superseded document versions as deltas against the version after
+ * them, every {@code compact-interval}. The deltas point forward, so the
+ * current version is always whole and each older one is rebuilt from a
+ * newer one. Versions are taken oldest first; one that would make a chain
+ * longer than {@code max-chain-length} is kept whole and starts the next
+ * chain, which puts a full snapshot at least every
+ * {@code max-chain-length + 1} versions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VersionHistoryCompactor {
+
+    private final BlobJdbcRepository blobRepository;
+    private final BlobStore blobStore;
+    private final DocumentProperties properties;
+
+    @Scheduled(
+        initialDelayString = "${app.documents.deltas.compact-interval:10m}",
+        fixedDelayString = "${app.documents.deltas.compact-interval:10m}")
+    public void run() {
+        if (!properties.getDeltas().isEnabled()) {
+            return;
+        }
+        try {
+            int compacted = compact();
+            if (compacted > 0) {
+                log.info("Stored {} superseded versions as deltas", compacted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Compacting version history failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Considers one batch of superseded versions.
+     *
+     * @return the number of versions stored as deltas
+     */
+    public int compact() {
+        DocumentProperties.Deltas deltas = properties.getDeltas();
+        List<DeltaCandidate> candidates = blobRepository.findDeltaCandidates(
+            deltas.getMaxSourceSize().toBytes(), deltas.getCompactBatchSize());
+        int compacted = 0;
+        for (DeltaCandidate candidate : candidates) {
+            try {
+                if (blobStore.storeAsDelta(candidate.sha256(), candidate.baseSha256())) {
+                    compacted++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not store blob {} as a delta of {}: {}",
+                    candidate.sha256(), candidate.baseSha256(), e.getMessage());
+            }
+        }
+        return compacted;
+    }
+}
@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when an import has more rows than a single request may carry.
+ */
+public class ImportTooLargeException extends RuntimeException {
+
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when login credentials or a refresh token are rejected.
+ */
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
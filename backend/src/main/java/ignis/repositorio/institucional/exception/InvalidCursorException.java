@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid pagination cursor: '%s'", cursor));
+    }
+}
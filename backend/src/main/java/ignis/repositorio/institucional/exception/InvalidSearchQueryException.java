@@ -0,0 +1,12 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a search query cannot be run, e.g. because it is
+ * empty, expands to too many terms or pages past the result window.
+ */
+public class InvalidSearchQueryException extends RuntimeException {
+
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a change would make the sector hierarchy invalid,
+ * e.g. moving a sector below itself.
+ */
+public class InvalidSectorHierarchyException extends RuntimeException {
+
+    public InvalidSectorHierarchyException(String message) {
+        super(message);
+    }
+}
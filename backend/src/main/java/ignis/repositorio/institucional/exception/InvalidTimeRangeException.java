@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a requested time range is empty or too wide.
+ */
+public class InvalidTimeRangeException extends RuntimeException {
+
+    public InvalidTimeRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a chunk or completion does not fit the state of an
+ * upload, e.g. a chunk out of order or of the wrong length.
+ */
+public class InvalidUploadException extends RuntimeException {
+
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package ignis.repositorio.institucional.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a client or account made too many login attempts.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    /** Time until the next attempt may be accepted. */
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request should be retried later.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
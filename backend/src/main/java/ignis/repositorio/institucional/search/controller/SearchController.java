@@ -0,0 +1,43 @@
+package ignis.repositorio.institucional.search.controller;
+
+import ignis.repositorio.institucional.search.dto.SearchResponse;
+import ignis.repositorio.institucional.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for full-text document search.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text document search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Search documents by title, description, file name, sector and content",
+        description = "Supports Lucene query syntax; all words must match by default. Accents and plurals "
+            + "are ignored. Results are ranked by relevance, with matches highlighted.")
+    public ResponseEntity<SearchResponse> search(
+            @Parameter(description = "Search text")
+            @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Only documents in this sector or below it")
+            @RequestParam(required = false) Long sectorId,
+            @Parameter(description = "Only documents with this status: DRAFT, PUBLISHED or ARCHIVED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, capped by the server")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(q, sectorId, status, page, size));
+    }
+}
@@ -0,0 +1,35 @@
+package ignis.repositorio.institucional.search.dto;
+
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one search result. {@code highlightedTitle} and {@code snippet}
+ * mark matched terms with {@code <mark>} and are otherwise HTML-escaped; the
+ * snippet joins the best passages of the content with an ellipsis.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+
+    private Long documentId;
+    private String title;
+    private String highlightedTitle;
+    private String description;
+    private String fileName;
+    private String contentType;
+    private Long sectorId;
+    private String sectorName;
+    private DocumentStatus status;
+    private int currentVersion;
+    private LocalDateTime updatedAt;
+    private float score;
+    private String snippet;
+}
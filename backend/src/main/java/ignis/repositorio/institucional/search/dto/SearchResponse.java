@@ -0,0 +1,30 @@
+package ignis.repositorio.institucional.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of search results, most relevant first. When
+ * {@code totalHitsExact} is false, {@code totalHits} is a lower bound; when
+ * {@code timedOut} is true, the search stopped early and the results are
+ * the best of what was found in time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private boolean totalHitsExact;
+    private boolean timedOut;
+    private long tookMs;
+    private List<SearchHit> hits;
+}
@@ -0,0 +1,329 @@
+package ignis.repositorio.institucional.search.index;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.InPlaceMergeSorter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The local Lucene index of documents. One {@link IndexWriter} takes every
+ * change; searches run on near-real-time readers from a
+ * {@link SearcherManager}, reopened at least every {@code refresh-interval}
+ * without a commit by a dedicated {@link ControlledRealTimeReopenThread}, so
+ * a change is searchable about a second after it is indexed whatever the
+ * scheduled jobs are doing. Commits, which make changes durable, happen
+ * every {@code commit-interval} and on shutdown.
+ * <p>
+ * Title and content are indexed with offsets, which lets the highlighter
+ * find passages from the postings instead of analyzing stored text again.
+ */
+@Component
+@Slf4j
+public class DocumentIndex {
+
+    public static final String ID = "id";
+    public static final String TITLE = "title";
+    public static final String DESCRIPTION = "description";
+    public static final String FILE_NAME = "fileName";
+    public static final String CONTENT = "content";
+    public static final String CONTENT_TYPE = "contentType";
+    public static final String SECTOR_ID = "sectorId";
+    public static final String SECTOR_NAME = "sectorName";
+    public static final String SECTOR_PATH = "sectorPath";
+    public static final String STATUS = "status";
+    public static final String CURRENT_VERSION = "currentVersion";
+    public static final String UPDATED_AT = "updatedAt";
+
+    /** Doc values read by reconciliation without touching stored fields. */
+    private static final String DOCUMENT_ID = "documentId";
+    private static final String STAMP = "stamp";
+
+    /** Reopen delay for a caller waiting on a generation, which nothing does today. */
+    private static final double MIN_STALE_SECONDS = 0.05;
+
+    private static final FieldType HIGHLIGHTED_TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        HIGHLIGHTED_TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        HIGHLIGHTED_TEXT.freeze();
+    }
+
+    private final Analyzer analyzer = new PortugueseTextAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    public DocumentIndex(SearchProperties properties, MeterRegistry meterRegistry) {
+        try {
+            Files.createDirectories(properties.getIndexDirectory());
+            this.directory = FSDirectory.open(properties.getIndexDirectory());
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+            double maxStaleSeconds = properties.getRefreshInterval().toMillis() / 1000.0;
+            this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager,
+                maxStaleSeconds, Math.min(MIN_STALE_SECONDS, maxStaleSeconds));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the search index in " + properties.getIndexDirectory(), e);
+        }
+        reopenThread.setName("search-refresh");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+        log.info("Opened search index in {} with {} documents",
+            properties.getIndexDirectory(), writer.getDocStats().numDocs);
+
+        Gauge.builder("search.index.documents", writer, w -> w.getDocStats().numDocs)
+            .description("Documents in the search index, including changes not yet searchable")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Adds a document, replacing what was indexed for it before.
+     */
+    public void index(IndexedDocument document) {
+        try {
+            writer.updateDocument(new Term(ID, document.id().toString()), toLuceneDocument(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not index document " + document.id(), e);
+        }
+    }
+
+    public void delete(Long id) {
+        try {
+            writer.deleteDocuments(new Term(ID, id.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove document " + id + " from the index", e);
+        }
+    }
+
+    /**
+     * Makes the changes indexed so far searchable now, without waiting for
+     * the reopen thread.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.error("Refreshing the search index failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Makes the changes indexed so far durable.
+     */
+    @Scheduled(
+        initialDelayString = "${app.search.commit-interval:1m}",
+        fixedDelayString = "${app.search.commit-interval:1m}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.error("Committing the search index failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs {@code callback} on the latest searchable view of the index.
+     */
+    public <T> T read(ReaderCallback<T> callback) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return callback.apply(searcher.getIndexReader());
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public Analyzer analyzer() {
+        return analyzer;
+    }
+
+    /**
+     * Ids of the indexed documents, ascending, with their stamps.
+     */
+    public IndexStamps stamps() {
+        refresh();
+        try {
+            return read(reader -> {
+                long[] ids = new long[reader.numDocs()];
+                long[] stamps = new long[ids.length];
+                int count = 0;
+                for (LeafReaderContext context : reader.leaves()) {
+                    LeafReader leaf = context.reader();
+                    NumericDocValues idValues = leaf.getNumericDocValues(DOCUMENT_ID);
+                    NumericDocValues stampValues = leaf.getNumericDocValues(STAMP);
+                    if (idValues == null || stampValues == null) {
+                        continue;
+                    }
+                    Bits live = leaf.getLiveDocs();
+                    for (int doc = idValues.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = idValues.nextDoc()) {
+                        if ((live == null || live.get(doc)) && stampValues.advanceExact(doc)) {
+                            ids[count] = idValues.longValue();
+                            stamps[count++] = stampValues.longValue();
+                        }
+                    }
+                }
+                return IndexStamps.sorted(Arrays.copyOf(ids, count), Arrays.copyOf(stamps, count));
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the search index", e);
+        }
+    }
+
+    /**
+     * Ids of the indexed documents whose sector lies at or below the sector
+     * with materialized path {@code path}, as they were indexed.
+     */
+    public List<Long> idsUnderSectorPath(String path) {
+        try {
+            return read(reader -> {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Weight weight = searcher.createWeight(
+                    searcher.rewrite(new PrefixQuery(new Term(SECTOR_PATH, path))), ScoreMode.COMPLETE_NO_SCORES, 1f);
+                List<Long> ids = new ArrayList<>();
+                for (LeafReaderContext context : reader.leaves()) {
+                    Scorer scorer = weight.scorer(context);
+                    NumericDocValues idValues = context.reader().getNumericDocValues(DOCUMENT_ID);
+                    if (scorer == null || idValues == null) {
+                        continue;
+                    }
+                    Bits live = context.reader().getLiveDocs();
+                    DocIdSetIterator matches = scorer.iterator();
+                    for (int doc = matches.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = matches.nextDoc()) {
+                        if ((live == null || live.get(doc)) && idValues.advanceExact(doc)) {
+                            ids.add(idValues.longValue());
+                        }
+                    }
+                }
+                return ids;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the search index", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        // Commits on close
+        writer.close();
+        directory.close();
+    }
+
+    private static Document toLuceneDocument(IndexedDocument source) {
+        Document document = new Document();
+        document.add(new StringField(ID, source.id().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(DOCUMENT_ID, source.id()));
+        document.add(new NumericDocValuesField(STAMP, source.stamp()));
+        document.add(new Field(TITLE, source.title(), HIGHLIGHTED_TEXT));
+        if (source.description() != null) {
+            document.add(new TextField(DESCRIPTION, source.description(), Field.Store.YES));
+        }
+        if (source.fileName() != null) {
+            document.add(new TextField(FILE_NAME, source.fileName(), Field.Store.YES));
+        }
+        if (source.contentType() != null) {
+            document.add(new StoredField(CONTENT_TYPE, source.contentType()));
+        }
+        if (source.sectorId() != null) {
+            document.add(new LongField(SECTOR_ID, source.sectorId(), Field.Store.YES));
+        }
+        if (source.sectorPath() != null) {
+            document.add(new StringField(SECTOR_PATH, source.sectorPath(), Field.Store.NO));
+        }
+        if (source.sectorName() != null) {
+            document.add(new TextField(SECTOR_NAME, source.sectorName(), Field.Store.YES));
+        }
+        document.add(new StringField(STATUS, source.status(), Field.Store.YES));
+        document.add(new StoredField(CURRENT_VERSION, source.currentVersion()));
+        if (source.updatedAt() != null) {
+            document.add(new StoredField(UPDATED_AT, source.updatedAt().toString()));
+        }
+        if (source.content() != null && !source.content().isEmpty()) {
+            document.add(new Field(CONTENT, source.content(), HIGHLIGHTED_TEXT));
+        }
+        return document;
+    }
+
+    /**
+     * Work done on an index reader.
+     */
+    @FunctionalInterface
+    public interface ReaderCallback<T> {
+
+        T apply(IndexReader reader) throws IOException;
+    }
+
+    /**
+     * Indexed document ids, ascending, and the stamp each was indexed with.
+     */
+    public record IndexStamps(long[] ids, long[] stamps) {
+
+        static IndexStamps sorted(long[] ids, long[] stamps) {
+            new InPlaceMergeSorter() {
+                @Override
+                protected int compare(int i, int j) {
+                    return Long.compare(ids[i], ids[j]);
+                }
+
+                @Override
+                protected void swap(int i, int j) {
+                    long id = ids[i];
+                    ids[i] = ids[j];
+                    ids[j] = id;
+                    long stamp = stamps[i];
+                    stamps[i] = stamps[j];
+                    stamps[j] = stamp;
+                }
+            }.sort(0, ids.length);
+            return new IndexStamps(ids, stamps);
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+}
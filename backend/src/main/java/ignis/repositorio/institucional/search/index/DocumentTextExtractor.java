@@ -0,0 +1,150 @@
+package ignis.repositorio.institucional.search.index;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts the searchable text of a document version: plain text and
+ * markup as they are, PDF through PDFBox, and Office Open XML and
+ * OpenDocument files from the XML parts holding their text. Other formats,
+ * and files that cannot be read, contribute no text; the document is still
+ * found by its metadata. At most {@code max-content-chars} are extracted.
+ */
+@Component
+@Slf4j
+public class DocumentTextExtractor {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WORD_PARTS = Pattern.compile(
+        "word/(document|header\\d*|footer\\d*|footnotes|endnotes)\\.xml");
+    private static final Pattern SLIDE_PARTS = Pattern.compile("ppt/slides/slide\\d+\\.xml");
+
+    private final int maxChars;
+    private final XMLInputFactory xmlInputFactory;
+
+    public DocumentTextExtractor(SearchProperties properties) {
+        this.maxChars = properties.getMaxContentChars();
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        // The parts come from uploads: no DTDs, no external entities
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * The text of {@code content}, or an empty string if it has none this
+     * extractor can read.
+     */
+    public String extract(Resource content, String contentType, String fileName) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        String extension = extension(fileName);
+        try {
+            if (type.equals("application/pdf") || extension.equals("pdf")) {
+                return pdf(content.getFile());
+            }
+            if (type.contains("openxmlformats") || type.contains("opendocument")
+                || List.of("docx", "pptx", "xlsx", "odt", "odp", "ods").contains(extension)) {
+                return zippedXml(content.getFile());
+            }
+            if (type.contains("html") || extension.equals("html") || extension.equals("htm")) {
+                return TAG.matcher(text(content)).replaceAll(" ");
+            }
+            if (type.startsWith("text/") || type.endsWith("json") || type.endsWith("xml")
+                || List.of("txt", "md", "csv", "json", "xml").contains(extension)) {
+                return text(content);
+            }
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            log.warn("Could not extract the text of {} ({}): {}", fileName, contentType, e.getMessage());
+        }
+        return "";
+    }
+
+    private String text(Resource content) throws IOException {
+        try (Reader reader = new InputStreamReader(content.getInputStream(), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[Math.min(maxChars, 64 * 1024)];
+            StringBuilder text = new StringBuilder();
+            int read;
+            while (text.length() < maxChars
+                && (read = reader.read(buffer, 0, Math.min(buffer.length, maxChars - text.length()))) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        }
+    }
+
+    private String pdf(File file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file)) {
+            String text = new PDFTextStripper().getText(document);
+            return text.length() > maxChars ? text.substring(0, maxChars) : text;
+        }
+    }
+
+    private String zippedXml(File file) throws IOException, XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        try (ZipFile zip = new ZipFile(file)) {
+            for (ZipEntry entry : Collections.list(zip.entries())) {
+                String name = entry.getName();
+                boolean textPart = name.equals("content.xml")
+                    || name.equals("xl/sharedStrings.xml")
+                    || WORD_PARTS.matcher(name).matches()
+                    || SLIDE_PARTS.matcher(name).matches();
+                if (textPart && text.length() < maxChars) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        appendXmlText(in, text);
+                    }
+                }
+            }
+        }
+        return text.length() > maxChars ? text.substring(0, maxChars) : text.toString();
+    }
+
+    /**
+     * Appends the character data of an XML part, a space between elements
+     * so that words in adjacent runs or cells stay apart.
+     */
+    private void appendXmlText(InputStream in, StringBuilder text) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext() && text.length() < maxChars) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                } else if (event == XMLStreamConstants.END_ELEMENT && !text.isEmpty()
+                    && text.charAt(text.length() - 1) != ' ') {
+                    text.append(' ');
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,43 @@
+package ignis.repositorio.institucional.search.index;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * What the search index holds of a document: its metadata, the materialized
+ * path of its sector, the text of its current version and {@code stamp},
+ * by which reconciliation tells stale entries. The stamp covers the
+ * document's last update and its sector's id, name and path, since sector
+ * renames, moves and deletes change what is indexed without touching the
+ * document row.
+ */
+public record IndexedDocument(
+    Long id,
+    String title,
+    String description,
+    String fileName,
+    String contentType,
+    Long sectorId,
+    String sectorName,
+    String sectorPath,
+    String status,
+    int currentVersion,
+    LocalDateTime updatedAt,
+    long stamp,
+    String content) {
+
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The stamp of a document last updated at {@code updatedAt}, in
+     * microseconds (the precision PostgreSQL keeps), mixed with the sector
+     * it is indexed under; {@code null}s are for documents without one.
+     */
+    public static long stampOf(LocalDateTime updatedAt, Long sectorId, String sectorName, String sectorPath) {
+        long stamp = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        stamp = stamp * MIX + Objects.hashCode(sectorId);
+        stamp = stamp * MIX + Objects.hashCode(sectorName);
+        return stamp * MIX + Objects.hashCode(sectorPath);
+    }
+}
@@ -0,0 +1,35 @@
+package ignis.repositorio.institucional.search.index;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * Analysis of Brazilian Portuguese text: standard tokenization, lower
+ * case, Brazilian stop words, light stemming (plural and gender) and then
+ * accent folding. Stemming sees the accents the stemmer's rules are written
+ * for; folding afterwards lets "comissao" find "Comissão", since users
+ * often type without accents. Used both to index and to parse queries.
+ */
+public class PortugueseTextAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        stream = new StopFilter(stream, BrazilianAnalyzer.getDefaultStopSet());
+        stream = new PortugueseLightStemFilter(stream);
+        stream = new ASCIIFoldingFilter(stream);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+    }
+}
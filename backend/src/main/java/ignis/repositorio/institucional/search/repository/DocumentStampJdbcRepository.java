@@ -0,0 +1,40 @@
+package ignis.repositorio.institucional.search.repository;
+
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads what search reconciliation needs of the documents and their
+ * sectors, without loading entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentStampJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes every document id, ascending, with its stamp to {@code consumer}.
+     * Rows are handed over one at a time; no list of the table is built.
+     */
+    public void forEachStamp(StampConsumer consumer) {
+        jdbcTemplate.query(
+            "SELECT d.id, d.updated_at, d.sector_id, s.name AS sector_name, s.path AS sector_path "
+                + "FROM documents d LEFT JOIN sectors s ON s.id = d.sector_id ORDER BY d.id",
+            rs -> {
+                consumer.accept(rs.getLong("id"), IndexedDocument.stampOf(
+                    rs.getTimestamp("updated_at").toLocalDateTime(),
+                    rs.getObject("sector_id", Long.class),
+                    rs.getString("sector_name"),
+                    rs.getString("sector_path")));
+            });
+    }
+
+    @FunctionalInterface
+    public interface StampConsumer {
+
+        void accept(long id, long stamp);
+    }
+}
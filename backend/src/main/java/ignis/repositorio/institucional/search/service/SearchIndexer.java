@@ -0,0 +1,247 @@
+package ignis.repositorio.institucional.search.service;
+
+import ignis.repositorio.institucional.document.domain.Document;
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import ignis.repositorio.institucional.document.event.DocumentChangedEvent;
+import ignis.repositorio.institucional.document.repository.DocumentRepository;
+import ignis.repositorio.institucional.document.repository.DocumentVersionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.search.index.DocumentIndex;
+import ignis.repositorio.institucional.search.index.DocumentTextExtractor;
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import ignis.repositorio.institucional.search.repository.DocumentStampJdbcRepository;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Keeps the search index in step with the documents. Changes arrive as
+ * events once their transaction commits; the document ids wait in a pending
+ * set, so repeated changes to a document before it is picked up are indexed
+ * once, and a background pool loads each document, extracts the text of its
+ * current version and replaces its index entry. The index refreshes on its
+ * own schedule, so a change is searchable within about a second.
+ * <p>
+ * Reconciliation compares the index with the documents table by id and
+ * stamp (update time plus sector id, name and path), at startup and every
+ * {@code reconcile-interval}, and queues whatever is missing or stale:
+ * changes lost in a crash before a commit, and document and sector changes
+ * made through other nodes, whose events this node never sees.
+ */
+@Component
+@Slf4j
+public class SearchIndexer {
+
+    /** Same-document work is serialized, so an older read never overwrites a newer one. */
+    private static final int LOCK_STRIPES = 64;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final SectorRepository sectorRepository;
+    private final DocumentStampJdbcRepository stampRepository;
+    private final BlobStore blobStore;
+    private final DocumentTextExtractor textExtractor;
+    private final DocumentIndex documentIndex;
+    private final Executor executor;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final Counter indexed;
+    private final Counter deleted;
+    private final Counter failed;
+    private final Timer indexing;
+
+    public SearchIndexer(DocumentRepository documentRepository, DocumentVersionRepository documentVersionRepository,
+                         SectorRepository sectorRepository, DocumentStampJdbcRepository stampRepository,
+                         BlobStore blobStore, DocumentTextExtractor textExtractor, DocumentIndex documentIndex,
+                         @Qualifier("searchIndexingExecutor") Executor executor, MeterRegistry meterRegistry) {
+        this.documentRepository = documentRepository;
+        this.documentVersionRepository = documentVersionRepository;
+        this.sectorRepository = sectorRepository;
+        this.stampRepository = stampRepository;
+        this.blobStore = blobStore;
+        this.textExtractor = textExtractor;
+        this.documentIndex = documentIndex;
+        this.executor = executor;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.indexed = Counter.builder("search.index.updates").tag("result", "indexed").register(meterRegistry);
+        this.deleted = Counter.builder("search.index.updates").tag("result", "deleted").register(meterRegistry);
+        this.failed = Counter.builder("search.index.updates").tag("result", "failed").register(meterRegistry);
+        this.indexing = Timer.builder("search.index.document")
+            .description("Time to load, extract and index one document")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        enqueue(event.documentId());
+    }
+
+    /**
+     * Renamed, moved and deleted sectors change the sector name or path of
+     * the documents below them without touching the documents themselves.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectorChanged(SectorChangedEvent event) {
+        if (event.path() != null) {
+            documentIndex.idsUnderSectorPath(event.path()).forEach(this::enqueue);
+        }
+    }
+
+    /**
+     * Queues a document to be indexed again, unless it already is.
+     */
+    public void enqueue(Long documentId) {
+        if (!pending.add(documentId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> index(documentId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; reconciliation picks it up on the next start
+            pending.remove(documentId);
+            log.debug("Indexing of document {} rejected: {}", documentId, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        executor.execute(this::reconcile);
+    }
+
+    /**
+     * Queues documents missing from the index or indexed before their last
+     * update, and removes index entries of documents that no longer exist.
+     * The index is read first, so a document indexed meanwhile is at worst
+     * queued again.
+     */
+    @Scheduled(
+        initialDelayString = "${app.search.reconcile-interval:15m}",
+        fixedDelayString = "${app.search.reconcile-interval:15m}")
+    public void reconcile() {
+        try {
+            DocumentIndex.IndexStamps index = documentIndex.stamps();
+            Reconciliation run = new Reconciliation(index);
+            stampRepository.forEachStamp(run::document);
+            run.finish();
+            if (run.queued > 0 || run.removed > 0) {
+                log.info("Search reconciliation queued {} documents and removed {} stale entries ({} indexed)",
+                    run.queued, run.removed, index.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Search reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void index(Long documentId) {
+        synchronized (locks[Math.floorMod(documentId, LOCK_STRIPES)]) {
+            // Removed before reading, so a change committed from here on queues it again
+            pending.remove(documentId);
+            try {
+                indexing.record(() -> indexNow(documentId));
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Could not index document {}: {}", documentId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void indexNow(Long documentId) {
+        Optional<Document> found = documentRepository.findById(documentId);
+        if (found.isEmpty()) {
+            documentIndex.delete(documentId);
+            deleted.increment();
+            return;
+        }
+        Document document = found.get();
+        DocumentVersion version = documentVersionRepository
+            .findByDocumentIdAndVersionNumber(documentId, document.getCurrentVersion())
+            .orElse(null);
+        Sector sector = document.getSectorId() == null ? null
+            : sectorRepository.findById(document.getSectorId()).orElse(null);
+        String content = version == null ? ""
+            : textExtractor.extract(blobStore.open(version.getBlobSha256()),
+                version.getContentType(), version.getFileName());
+
+        documentIndex.index(new IndexedDocument(
+            document.getId(),
+            document.getTitle(),
+            document.getDescription(),
+            version == null ? null : version.getFileName(),
+            version == null ? null : version.getContentType(),
+            document.getSectorId(),
+            sector == null ? null : sector.getName(),
+            sector == null ? null : sector.getPath(),
+            document.getStatus().name(),
+            document.getCurrentVersion(),
+            document.getUpdatedAt(),
+            IndexedDocument.stampOf(document.getUpdatedAt(), document.getSectorId(),
+                sector == null ? null : sector.getName(), sector == null ? null : sector.getPath()),
+            content));
+        indexed.increment();
+    }
+
+    /**
+     * Merge join of the index, sorted by id, with the documents table as it
+     * streams by in id order.
+     */
+    private final class Reconciliation {
+
+        private final DocumentIndex.IndexStamps index;
+        private int position;
+        private int queued;
+        private int removed;
+
+        private Reconciliation(DocumentIndex.IndexStamps index) {
+            this.index = index;
+        }
+
+        private void document(long id, long stamp) {
+            skipTo(id);
+            if (position < index.size() && index.ids()[position] == id) {
+                if (index.stamps()[position] != stamp) {
+                    queue(id);
+                }
+                position++;
+            } else {
+                queue(id);
+            }
+        }
+
+        private void finish() {
+            skipTo(Long.MAX_VALUE);
+        }
+
+        /** Index entries passed over have no row: their documents were deleted. */
+        private void skipTo(long id) {
+            while (position < index.size() && index.ids()[position] < id) {
+                documentIndex.delete(index.ids()[position++]);
+                removed++;
+            }
+        }
+
+        private void queue(long id) {
+            enqueue(id);
+            queued++;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package ignis.repositorio.institucional.search.service;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import ignis.repositorio.institucional.exception.InvalidSearchQueryException;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.search.dto.SearchHit;
+import ignis.repositorio.institucional.search.dto.SearchResponse;
+import ignis.repositorio.institucional.search.index.DocumentIndex;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.QueryTimeoutImpl;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text search over the local index. Queries use the classic Lucene
+ * syntax (quoted phrases, {@code OR}, {@code -term}, {@code prefix*}) and
+ * every term must match by default; syntax errors fall back to searching
+ * the words literally. Matches are ranked by BM25 with title, file name and
+ * description weighing more than sector name and content. Collection stops
+ * at {@code timeout}, returning what was found by then, and highlighting
+ * reads offsets from the postings, so a search stays within the 300 ms SLO
+ * tracked by the {@code search.requests} timer.
+ */
+@Service
+@Slf4j
+public class SearchService {
+
+    private static final Map<String, Float> BOOSTS = Map.of(
+        DocumentIndex.TITLE, 3f,
+        DocumentIndex.FILE_NAME, 2f,
+        DocumentIndex.DESCRIPTION, 1.5f,
+        DocumentIndex.SECTOR_NAME, 1f,
+        DocumentIndex.CONTENT, 1f);
+
+    private static final String[] SEARCHED_FIELDS = BOOSTS.keySet().toArray(String[]::new);
+
+    /** Everything a hit shows except the content, which can be large. */
+    private static final Set<String> HIT_FIELDS = Set.of(
+        DocumentIndex.ID, DocumentIndex.TITLE, DocumentIndex.DESCRIPTION, DocumentIndex.FILE_NAME,
+        DocumentIndex.CONTENT_TYPE, DocumentIndex.SECTOR_ID, DocumentIndex.SECTOR_NAME, DocumentIndex.STATUS,
+        DocumentIndex.CURRENT_VERSION, DocumentIndex.UPDATED_AT);
+
+    /** Characters of content the highlighter looks at; matches further on are not shown. */
+    private static final int HIGHLIGHT_MAX_LENGTH = 100_000;
+
+    private static final Duration SLO = Duration.ofMillis(300);
+
+    private final DocumentIndex documentIndex;
+    private final SectorRepository sectorRepository;
+    private final SearchProperties properties;
+    private final Timer completeSearches;
+    private final Timer partialSearches;
+
+    public SearchService(DocumentIndex documentIndex, SectorRepository sectorRepository,
+                         SearchProperties properties, MeterRegistry meterRegistry) {
+        this.documentIndex = documentIndex;
+        this.sectorRepository = sectorRepository;
+        this.properties = properties;
+        this.completeSearches = Timer.builder("search.requests").tag("result", "complete")
+            .serviceLevelObjectives(SLO).register(meterRegistry);
+        this.partialSearches = Timer.builder("search.requests").tag("result", "timed_out")
+            .serviceLevelObjectives(SLO).register(meterRegistry);
+    }
+
+    /**
+     * Finds documents matching {@code text}, optionally only those in the
+     * sector {@code sectorId} or below it and those with {@code status}.
+     * The page size is capped by {@code max-page-size}, and results past
+     * {@code max-result-window} cannot be paged to.
+     */
+    public SearchResponse search(String text, Long sectorId, String status, int page, int size) {
+        long start = System.nanoTime();
+        if (text == null || text.isBlank()) {
+            throw new InvalidSearchQueryException("The search text must not be empty");
+        }
+        int pageSize = Math.max(1, Math.min(size, properties.getMaxPageSize()));
+        if (page < 0 || (long) (page + 1) * pageSize > properties.getMaxResultWindow()) {
+            throw new InvalidSearchQueryException(
+                "Results are available up to position " + properties.getMaxResultWindow() + "; refine the search");
+        }
+        int offset = page * pageSize;
+        Query query = filtered(parse(text.trim()), sectorId, status);
+
+        SearchResponse response;
+        try {
+            response = documentIndex.read(reader -> {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setTimeout(new QueryTimeoutImpl(properties.getTimeout().toMillis()));
+                TopDocs top = searcher.search(query, offset + pageSize);
+                ScoreDoc[] hits = Arrays.copyOfRange(top.scoreDocs,
+                    Math.min(offset, top.scoreDocs.length), top.scoreDocs.length);
+
+                return SearchResponse.builder()
+                    .query(text)
+                    .page(page)
+                    .size(pageSize)
+                    .totalHits(top.totalHits.value)
+                    .totalHitsExact(top.totalHits.relation == TotalHits.Relation.EQUAL_TO && !searcher.timedOut())
+                    .timedOut(searcher.timedOut())
+                    .hits(toHits(new IndexSearcher(reader), query, hits))
+                    .build();
+            });
+        } catch (IndexSearcher.TooManyClauses e) {
+            throw new InvalidSearchQueryException("The search matches too many terms; use a longer prefix");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not search the index", e);
+        }
+
+        long took = System.nanoTime() - start;
+        (response.isTimedOut() ? partialSearches : completeSearches).record(Duration.ofNanos(took));
+        response.setTookMs(Duration.ofNanos(took).toMillis());
+        if (response.isTimedOut()) {
+            log.warn("Search for '{}' timed out after {} ms with {} hits", text, response.getTookMs(),
+                response.getTotalHits());
+        }
+        return response;
+    }
+
+    private Query parse(String text) {
+        QueryParser parser = new MultiFieldQueryParser(SEARCHED_FIELDS, documentIndex.analyzer(), BOOSTS);
+        parser.setDefaultOperator(QueryParserBase.AND_OPERATOR);
+        try {
+            return parser.parse(text);
+        } catch (ParseException e) {
+            try {
+                return parser.parse(QueryParserBase.escape(text));
+            } catch (ParseException escaped) {
+                throw new InvalidSearchQueryException("Could not understand the search: " + text);
+            }
+        }
+    }
+
+    private Query filtered(Query query, Long sectorId, String status) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(query, BooleanClause.Occur.MUST);
+        if (sectorId != null) {
+            Sector sector = sectorRepository.findById(sectorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sector", "id", sectorId));
+            builder.add(sector.getPath() != null
+                    ? new PrefixQuery(new Term(DocumentIndex.SECTOR_PATH, sector.getPath()))
+                    : LongField.newExactQuery(DocumentIndex.SECTOR_ID, sectorId),
+                BooleanClause.Occur.FILTER);
+        }
+        if (status != null && !status.isBlank()) {
+            builder.add(new TermQuery(new Term(DocumentIndex.STATUS, parseStatus(status).name())),
+                BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private List<SearchHit> toHits(IndexSearcher searcher, Query query, ScoreDoc[] hits) throws IOException {
+        if (hits.length == 0) {
+            return List.of();
+        }
+        int[] docIds = new int[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            docIds[i] = hits[i].doc;
+        }
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, documentIndex.analyzer())
+            .withMaxLength(HIGHLIGHT_MAX_LENGTH)
+            .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", "… ", true))
+            // Titles always come back escaped, and content without a match opens with its first passage
+            .withMaxNoHighlightPassages(1)
+            .build();
+        Map<String, String[]> highlights = highlighter.highlightFields(
+            new String[]{DocumentIndex.TITLE, DocumentIndex.CONTENT}, query, docIds,
+            new int[]{1, Math.max(1, properties.getHighlightPassages())});
+
+        StoredFields storedFields = searcher.storedFields();
+        List<SearchHit> results = new ArrayList<>(hits.length);
+        for (int i = 0; i < hits.length; i++) {
+            Document stored = storedFields.document(hits[i].doc, HIT_FIELDS);
+            results.add(SearchHit.builder()
+                .documentId(Long.parseLong(stored.get(DocumentIndex.ID)))
+                .title(stored.get(DocumentIndex.TITLE))
+                .highlightedTitle(highlights.get(DocumentIndex.TITLE)[i])
+                .description(stored.get(DocumentIndex.DESCRIPTION))
+                .fileName(stored.get(DocumentIndex.FILE_NAME))
+                .contentType(stored.get(DocumentIndex.CONTENT_TYPE))
+                .sectorId(longValue(stored.getField(DocumentIndex.SECTOR_ID)))
+                .sectorName(stored.get(DocumentIndex.SECTOR_NAME))
+                .status(DocumentStatus.valueOf(stored.get(DocumentIndex.STATUS)))
+                .currentVersion(stored.getField(DocumentIndex.CURRENT_VERSION).numericValue().intValue())
+                .updatedAt(stored.get(DocumentIndex.UPDATED_AT) == null ? null
+                    : LocalDateTime.parse(stored.get(DocumentIndex.UPDATED_AT)))
+                .score(hits[i].score)
+                .snippet(highlights.get(DocumentIndex.CONTENT)[i])
+                .build());
+        }
+        return results;
+    }
+
+    private static Long longValue(IndexableField field) {
+        return field == null ? null : field.numericValue().longValue();
+    }
+
+    private static DocumentStatus parseStatus(String status) {
+        try {
+            return DocumentStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchQueryException("Unknown document status: " + status);
+        }
+    }
+}
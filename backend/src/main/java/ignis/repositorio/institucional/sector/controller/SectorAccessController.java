@@ -0,0 +1,62 @@
+package ignis.repositorio.institucional.sector.controller;
+
+import ignis.repositorio.institucional.sector.domain.PrincipalType;
+import ignis.repositorio.institucional.sector.dto.SectorAccessResponse;
+import ignis.repositorio.institucional.sector.dto.SectorGrantRequest;
+import ignis.repositorio.institucional.sector.dto.SectorGrantResponse;
+import ignis.repositorio.institucional.sector.service.SectorAccessService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for permissions granted at sectors.
+ */
+@RestController
+@RequestMapping("/api/v1/sectors/{sectorId}")
+@RequiredArgsConstructor
+@Tag(name = "Sector Access", description = "Inherited sector permission endpoints")
+public class SectorAccessController {
+
+    private final SectorAccessService sectorAccessService;
+
+    @GetMapping("/grants")
+    @Operation(summary = "Get the grants made at a sector")
+    public ResponseEntity<List<SectorGrantResponse>> getGrants(@PathVariable Long sectorId) {
+        List<SectorGrantResponse> response = sectorAccessService.getGrants(sectorId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/grants")
+    @Operation(summary = "Grant permissions at a sector",
+        description = "Replaces the principal's grant at this sector. An empty set revokes what it inherits.")
+    public ResponseEntity<List<SectorGrantResponse>> grant(
+            @PathVariable Long sectorId,
+            @Valid @RequestBody SectorGrantRequest request) {
+        List<SectorGrantResponse> response = sectorAccessService.grant(sectorId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/grants/{principalType}/{principalId}")
+    @Operation(summary = "Remove a grant at a sector")
+    public ResponseEntity<Void> revoke(
+            @PathVariable Long sectorId,
+            @PathVariable PrincipalType principalType,
+            @PathVariable Long principalId) {
+        sectorAccessService.revoke(sectorId, principalType, principalId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/access/{userId}")
+    @Operation(summary = "Get a user's permissions at a sector",
+        description = "Inherited from the nearest grant above, combined over the user and its groups.")
+    public ResponseEntity<SectorAccessResponse> getAccess(@PathVariable Long sectorId, @PathVariable Long userId) {
+        SectorAccessResponse response = sectorAccessService.getAccess(sectorId, userId);
+        return ResponseEntity.ok(response);
+    }
+}
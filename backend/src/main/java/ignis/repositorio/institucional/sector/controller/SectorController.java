@@ -0,0 +1,106 @@
+package ignis.repositorio.institucional.sector.controller;
+
+import ignis.repositorio.institucional.sector.dto.CreateSectorRequest;
+import ignis.repositorio.institucional.sector.dto.MoveSectorRequest;
+import ignis.repositorio.institucional.sector.dto.SectorMetadataDefaultsResponse;
+import ignis.repositorio.institucional.sector.dto.SectorResponse;
+import ignis.repositorio.institucional.sector.dto.SectorTreeNode;
+import ignis.repositorio.institucional.sector.dto.UpdateSectorRequest;
+import ignis.repositorio.institucional.sector.service.SectorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the sector hierarchy.
+ */
+@RestController
+@RequestMapping("/api/v1/sectors")
+@RequiredArgsConstructor
+@Tag(name = "Sectors", description = "Sector hierarchy endpoints")
+public class SectorController {
+
+    private final SectorService sectorService;
+
+    @PostMapping
+    @Operation(summary = "Create a new sector")
+    public ResponseEntity<SectorResponse> createSector(@Valid @RequestBody CreateSectorRequest request) {
+        SectorResponse response = sectorService.createSector(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get sector by ID")
+    public ResponseEntity<SectorResponse> getSectorById(@PathVariable Long id) {
+        SectorResponse response = sectorService.getSectorById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/tree")
+    @Operation(summary = "Get the whole sector hierarchy", description = "One nested tree per root sector.")
+    public ResponseEntity<List<SectorTreeNode>> getTree() {
+        List<SectorTreeNode> response = sectorService.getTree();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/ancestors")
+    @Operation(summary = "Get the ancestors of a sector", description = "From the root down to the parent.")
+    public ResponseEntity<List<SectorResponse>> getAncestors(@PathVariable Long id) {
+        List<SectorResponse> response = sectorService.getAncestors(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/descendants")
+    @Operation(summary = "Get everything below a sector", description = "Parents come before their children.")
+    public ResponseEntity<List<SectorResponse>> getDescendants(@PathVariable Long id) {
+        List<SectorResponse> response = sectorService.getDescendants(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/subtree")
+    @Operation(summary = "Get a sector with everything below it as a nested tree")
+    public ResponseEntity<SectorTreeNode> getSubtree(@PathVariable Long id) {
+        SectorTreeNode response = sectorService.getSubtree(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/metadata-defaults")
+    @Operation(summary = "Get the metadata defaults in effect at a sector",
+        description = "The sector's own defaults merged over those of its ancestors; the nearest sector wins.")
+    public ResponseEntity<SectorMetadataDefaultsResponse> getMetadataDefaults(@PathVariable Long id) {
+        SectorMetadataDefaultsResponse response = sectorService.getMetadataDefaults(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Rename a sector or replace its metadata defaults")
+    public ResponseEntity<SectorResponse> updateSector(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateSectorRequest request) {
+        SectorResponse response = sectorService.updateSector(id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{id}/parent")
+    @Operation(summary = "Move a sector with everything below it",
+            description = "A null parentId makes the sector a root.")
+    public ResponseEntity<SectorResponse> moveSector(
+            @PathVariable Long id,
+            @RequestBody MoveSectorRequest request) {
+        SectorResponse response = sectorService.moveSector(id, request.getParentId());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a sector with everything below it")
+    public ResponseEntity<Void> deleteSector(@PathVariable Long id) {
+        sectorService.deleteSector(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.sector.domain;
+
+/**
+ * Who a sector grant is for, with the grant column that holds its id.
+ */
+public enum PrincipalType {
+    USER("user_id"),
+    GROUP("group_id");
+
+    private final String column;
+
+    PrincipalType(String column) {
+        this.column = column;
+    }
+
+    public String column() {
+        return column;
+    }
+}
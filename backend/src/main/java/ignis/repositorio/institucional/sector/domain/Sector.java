@@ -0,0 +1,81 @@
+package ignis.repositorio.institucional.sector.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Entity representing an organizational sector in the sector hierarchy.
+ * Maps to the 'sectors' table in PostgreSQL. {@code path} is the
+ * materialized path of ids from the root, e.g. {@code /1/5/12/}; it is
+ * maintained by {@code SectorService} and never set by clients. The id is
+ * only known after the insert, so the path is filled in right after it in
+ * the same transaction.
+ */
+@Entity
+@Table(name = "sectors")
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Sector {
+
+    public static final String PATH_SEPARATOR = "/";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "parent_sector_id")
+    private Long parentId;
+
+    @Column(length = 500)
+    private String path;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "metadata_defaults", columnDefinition = "jsonb")
+    private Map<String, Object> metadataDefaults;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Path of a child of the sector with {@code parentPath}, or of a root when it is null.
+     */
+    public static String childPath(String parentPath, Long id) {
+        return (parentPath != null ? parentPath : PATH_SEPARATOR) + id + PATH_SEPARATOR;
+    }
+
+    /**
+     * Number of ancestors; roots have depth 0.
+     */
+    public static int depth(String path) {
+        int separators = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                separators++;
+            }
+        }
+        return separators - 2;
+    }
+}
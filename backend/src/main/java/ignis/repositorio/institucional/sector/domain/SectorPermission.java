@@ -0,0 +1,38 @@
+package ignis.repositorio.institucional.sector.domain;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Permissions that can be granted at a sector. Sets of them are stored as
+ * bitmasks, one bit per constant in declaration order.
+ */
+public enum SectorPermission {
+    READ,
+    WRITE,
+    DELETE,
+    SHARE,
+    ADMIN;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int toMask(Set<SectorPermission> permissions) {
+        int mask = 0;
+        for (SectorPermission permission : permissions) {
+            mask |= permission.bit();
+        }
+        return mask;
+    }
+
+    public static Set<SectorPermission> fromMask(int mask) {
+        Set<SectorPermission> permissions = EnumSet.noneOf(SectorPermission.class);
+        for (SectorPermission permission : values()) {
+            if ((mask & permission.bit()) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+}
@@ -0,0 +1,29 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for creating a new sector.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSectorRequest {
+
+    @NotBlank(message = "Sector name is required")
+    @Size(min = 2, max = 100, message = "Sector name must be between 2 and 100 characters")
+    private String name;
+
+    /** Parent sector; null creates a root sector. */
+    private Long parentId;
+
+    private Map<String, Object> metadataDefaults;
+}
@@ -0,0 +1,19 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for moving a sector, with everything below it, under another parent.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveSectorRequest {
+
+    /** New parent sector; null makes the sector a root. */
+    private Long parentId;
+}
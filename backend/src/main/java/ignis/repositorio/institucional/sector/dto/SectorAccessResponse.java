@@ -0,0 +1,23 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import ignis.repositorio.institucional.sector.domain.SectorPermission;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * DTO for the permissions a user holds at a sector after inheritance.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorAccessResponse {
+
+    private Long sectorId;
+    private Long userId;
+    private Set<SectorPermission> permissions;
+}
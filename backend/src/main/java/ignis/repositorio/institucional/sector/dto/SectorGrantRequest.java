@@ -0,0 +1,31 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import ignis.repositorio.institucional.sector.domain.PrincipalType;
+import ignis.repositorio.institucional.sector.domain.SectorPermission;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * DTO for granting permissions at a sector. An empty set overrides, below
+ * this sector, whatever the principal inherits from above.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorGrantRequest {
+
+    @NotNull(message = "Principal type is required")
+    private PrincipalType principalType;
+
+    @NotNull(message = "Principal id is required")
+    private Long principalId;
+
+    @NotNull(message = "Permissions are required")
+    private Set<SectorPermission> permissions;
+}
@@ -0,0 +1,28 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import ignis.repositorio.institucional.sector.domain.PrincipalType;
+import ignis.repositorio.institucional.sector.domain.SectorPermission;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for a grant made directly at a sector.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorGrantResponse {
+
+    private Long sectorId;
+    private PrincipalType principalType;
+    private Long principalId;
+    private Set<SectorPermission> permissions;
+    private Long grantedBy;
+    private LocalDateTime grantedAt;
+}
@@ -0,0 +1,21 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for the metadata defaults in effect at a sector, merged down from its ancestors.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorMetadataDefaultsResponse {
+
+    private Long sectorId;
+    private Map<String, Object> metadataDefaults;
+}
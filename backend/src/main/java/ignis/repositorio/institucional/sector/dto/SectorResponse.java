@@ -0,0 +1,28 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for sector response data.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorResponse {
+
+    private Long id;
+    private String name;
+    private Long parentId;
+    private String path;
+    private int depth;
+    private Map<String, Object> metadataDefaults;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
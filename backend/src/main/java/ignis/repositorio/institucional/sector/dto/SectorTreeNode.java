@@ -0,0 +1,22 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a sector and, recursively, the sectors below it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorTreeNode {
+
+    private Long id;
+    private String name;
+    private List<SectorTreeNode> children;
+}
@@ -0,0 +1,27 @@
+package ignis.repositorio.institucional.sector.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for renaming a sector or replacing its metadata defaults. Moving a
+ * sector goes through {@link MoveSectorRequest}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateSectorRequest {
+
+    @NotBlank(message = "Sector name is required")
+    @Size(min = 2, max = 100, message = "Sector name must be between 2 and 100 characters")
+    private String name;
+
+    private Map<String, Object> metadataDefaults;
+}
@@ -0,0 +1,9 @@
+package ignis.repositorio.institucional.sector.event;
+
+/**
+ * Published when a sector is created, updated, moved or deleted. {@code path}
+ * is the sector's path before the change, so everything cached under it may
+ * be affected.
+ */
+public record SectorChangedEvent(Long sectorId, String path) {
+}
@@ -0,0 +1,36 @@
+package ignis.repositorio.institucional.sector.mapper;
+
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.dto.CreateSectorRequest;
+import ignis.repositorio.institucional.sector.dto.SectorResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for Sector entity and DTOs.
+ */
+@Mapper(componentModel = "spring", imports = Sector.class)
+public interface SectorMapper {
+
+    /**
+     * Maps Sector entity to SectorResponse DTO.
+     */
+    @Mapping(target = "depth", expression = "java(Sector.depth(sector.getPath()))")
+    SectorResponse toResponse(Sector sector);
+
+    /**
+     * Maps list of Sector entities to list of SectorResponse DTOs.
+     */
+    List<SectorResponse> toResponseList(List<Sector> sectors);
+
+    /**
+     * Maps CreateSectorRequest DTO to Sector entity; the path is set once the id is known.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "path", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Sector toEntity(CreateSectorRequest request);
+}
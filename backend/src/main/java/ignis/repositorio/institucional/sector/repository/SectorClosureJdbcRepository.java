@@ -0,0 +1,51 @@
+package ignis.repositorio.institucional.sector.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Maintains sector_closure, the (ancestor, descendant, depth) pairs of the
+ * sector hierarchy. Callers hold the hierarchy lock of
+ * {@link SectorRepository#lockHierarchy()}; deleted sectors leave the table
+ * through its foreign keys.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SectorClosureJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds a new sector below {@code parentId}, or as a root when it is null.
+     */
+    public void addLeaf(Long id, Long parentId) {
+        jdbcTemplate.update(
+            "INSERT INTO sector_closure (ancestor_id, descendant_id, depth) "
+                + "SELECT ancestor_id, ?, depth + 1 FROM sector_closure WHERE descendant_id = ? "
+                + "UNION ALL SELECT ?, ?, 0",
+            id, parentId, id, id);
+    }
+
+    /**
+     * Moves the subtree rooted at {@code id} below {@code parentId}, or to
+     * the top level when it is null: the links from its old ancestors are
+     * removed and every pair of new ancestor and subtree member is added.
+     */
+    public void moveSubtree(Long id, Long parentId) {
+        jdbcTemplate.update(
+            "DELETE FROM sector_closure c "
+                + "USING sector_closure sub, sector_closure up "
+                + "WHERE sub.ancestor_id = ? AND c.descendant_id = sub.descendant_id "
+                + "AND up.descendant_id = ? AND up.ancestor_id <> ? AND c.ancestor_id = up.ancestor_id",
+            id, id, id);
+        if (parentId != null) {
+            jdbcTemplate.update(
+                "INSERT INTO sector_closure (ancestor_id, descendant_id, depth) "
+                    + "SELECT up.ancestor_id, sub.descendant_id, up.depth + sub.depth + 1 "
+                    + "FROM sector_closure up, sector_closure sub "
+                    + "WHERE up.descendant_id = ? AND sub.ancestor_id = ?",
+                parentId, id);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ignis.repositorio.institucional.sector.repository;
+
+import ignis.repositorio.institucional.sector.domain.PrincipalType;
+import ignis.repositorio.institucional.sector.domain.SectorPermission;
+import ignis.repositorio.institucional.sector.dto.SectorGrantResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Sector grants and the grants in effect at each sector. An effective grant
+ * is the grant of the same principal at the nearest sector at or above it,
+ * found through sector_closure; it is rebuilt only for the subtree, and
+ * where possible only for the principal, that a change can affect.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SectorGrantJdbcRepository {
+
+    /** Picks, per sector and principal, the grant with the smallest closure depth. */
+    private static final String REFRESH_SQL = "INSERT INTO sector_effective_grants "
+        + "(sector_id, user_id, group_id, permissions, source_sector_id) "
+        + "SELECT DISTINCT ON (sub.descendant_id, g.user_id, g.group_id) "
+        + "sub.descendant_id, g.user_id, g.group_id, g.permissions, g.sector_id "
+        + "FROM sector_closure sub "
+        + "JOIN sector_closure up ON up.descendant_id = sub.descendant_id "
+        + "JOIN sector_grants g ON g.sector_id = up.ancestor_id "
+        + "WHERE sub.ancestor_id = ?%s "
+        + "ORDER BY sub.descendant_id, g.user_id, g.group_id, up.depth";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates or replaces the grant of a principal at a sector.
+     */
+    public void saveGrant(Long sectorId, PrincipalType principalType, Long principalId,
+                          int permissions, Long grantedBy) {
+        Long userId = principalType == PrincipalType.USER ? principalId : null;
+        Long groupId = principalType == PrincipalType.GROUP ? principalId : null;
+        jdbcTemplate.update(
+            "INSERT INTO sector_grants (sector_id, user_id, group_id, permissions, granted_by) "
+                + "VALUES (?, ?, ?, ?, ?) "
+                + "ON CONFLICT ON CONSTRAINT uq_sector_grants DO UPDATE SET "
+                + "permissions = EXCLUDED.permissions, granted_by = EXCLUDED.granted_by, "
+                + "granted_at = CURRENT_TIMESTAMP",
+            ps -> {
+                ps.setLong(1, sectorId);
+                setNullableLong(ps, 2, userId);
+                setNullableLong(ps, 3, groupId);
+                ps.setInt(4, permissions);
+                setNullableLong(ps, 5, grantedBy);
+            });
+    }
+
+    /**
+     * Deletes the grant of a principal at a sector.
+     *
+     * @return the number of grants deleted
+     */
+    public int deleteGrant(Long sectorId, PrincipalType principalType, Long principalId) {
+        return jdbcTemplate.update(
+            "DELETE FROM sector_grants WHERE sector_id = ? AND " + principalType.column() + " = ?",
+            sectorId, principalId);
+    }
+
+    /**
+     * Grants made directly at a sector, users before groups.
+     */
+    public List<SectorGrantResponse> findGrants(Long sectorId) {
+        return jdbcTemplate.query(
+            "SELECT sector_id, user_id, group_id, permissions, granted_by, granted_at FROM sector_grants "
+                + "WHERE sector_id = ? ORDER BY user_id NULLS LAST, group_id",
+            (rs, rowNum) -> {
+                long userId = rs.getLong("user_id");
+                boolean isUser = !rs.wasNull();
+                long grantedBy = rs.getLong("granted_by");
+                return SectorGrantResponse.builder()
+                    .sectorId(rs.getLong("sector_id"))
+                    .principalType(isUser ? PrincipalType.USER : PrincipalType.GROUP)
+                    .principalId(isUser ? userId : rs.getLong("group_id"))
+                    .permissions(SectorPermission.fromMask(rs.getInt("permissions")))
+                    .grantedBy(rs.wasNull() ? null : grantedBy)
+                    .grantedAt(rs.getTimestamp("granted_at").toLocalDateTime())
+                    .build();
+            },
+            sectorId);
+    }
+
+    /**
+     * Rebuilds the effective grants of every principal in the subtree rooted at {@code rootId}.
+     */
+    public void refreshEffectiveGrants(Long rootId) {
+        jdbcTemplate.update(
+            "DELETE FROM sector_effective_grants e USING sector_closure sub "
+                + "WHERE sub.ancestor_id = ? AND e.sector_id = sub.descendant_id",
+            rootId);
+        jdbcTemplate.update(String.format(REFRESH_SQL, ""), rootId);
+    }
+
+    /**
+     * Rebuilds the effective grants of one principal in the subtree rooted at {@code rootId}.
+     */
+    public void refreshEffectiveGrants(Long rootId, PrincipalType principalType, Long principalId) {
+        String column = principalType.column();
+        jdbcTemplate.update(
+            "DELETE FROM sector_effective_grants e USING sector_closure sub "
+                + "WHERE sub.ancestor_id = ? AND e.sector_id = sub.descendant_id AND e." + column + " = ?",
+            rootId, principalId);
+        jdbcTemplate.update(String.format(REFRESH_SQL, " AND g." + column + " = ?"), rootId, principalId);
+    }
+
+    /**
+     * Bitmask of the permissions a user holds at a sector, directly or
+     * through any of its groups.
+     */
+    public int findEffectivePermissions(Long userId, Long sectorId) {
+        Integer mask = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(bit_or(permissions), 0) FROM sector_effective_grants "
+                + "WHERE sector_id = ? AND (user_id = ? "
+                + "OR group_id IN (SELECT group_id FROM user_groups WHERE user_id = ?))",
+            Integer.class, sectorId, userId, userId);
+        return mask != null ? mask : 0;
+    }
+
+    /**
+     * Whether a user holds a permission at a sector, directly or through any of its groups.
+     */
+    public boolean hasPermission(Long userId, Long sectorId, SectorPermission permission) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM sector_effective_grants "
+                + "WHERE sector_id = ? AND permissions & ? <> 0 AND (user_id = ? "
+                + "OR group_id IN (SELECT group_id FROM user_groups WHERE user_id = ?)))",
+            Boolean.class, sectorId, permission.bit(), userId, userId));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value)
+            throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ignis.repositorio.institucional.sector.repository;
+
+import ignis.repositorio.institucional.sector.domain.Sector;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for Sector entity operations. Subtree queries are a prefix
+ * match on the materialized path and run as one range scan of
+ * idx_sectors_path.
+ */
+@Repository
+public interface SectorRepository extends JpaRepository<Sector, Long> {
+
+    /**
+     * Finds the sector with the given path and everything below it, parents before children.
+     */
+    @Query("SELECT s FROM Sector s WHERE s.path LIKE CONCAT(:path, '%') ORDER BY s.path")
+    List<Sector> findSubtree(@Param("path") String path);
+
+    /**
+     * Finds everything below the sector with the given path, parents before children.
+     */
+    @Query("SELECT s FROM Sector s WHERE s.path LIKE CONCAT(:path, '%') AND s.path <> :path ORDER BY s.path")
+    List<Sector> findDescendants(@Param("path") String path);
+
+    /**
+     * Finds the sectors with the given ids, in path order (root first for one lineage).
+     */
+    @Query("SELECT s FROM Sector s WHERE s.id IN :ids ORDER BY s.path")
+    List<Sector> findAllByIdOrderByPath(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Longest path in the subtree under {@code path}, to check a move against the column size.
+     */
+    @Query("SELECT MAX(LENGTH(s.path)) FROM Sector s WHERE s.path LIKE CONCAT(:path, '%')")
+    Integer findLongestPathInSubtree(@Param("path") String path);
+
+    /**
+     * Moves the subtree at {@code oldPath} so that it starts at {@code newPath}
+     * and its root hangs under {@code parentId}, rewriting every path in one statement.
+     *
+     * @return the number of sectors moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE sectors SET "
+        + "path = :newPath || substr(path, length(:oldPath) + 1), "
+        + "parent_sector_id = CASE WHEN id = :id THEN CAST(:parentId AS bigint) ELSE parent_sector_id END, "
+        + "updated_at = CURRENT_TIMESTAMP "
+        + "WHERE path LIKE :oldPath || '%'", nativeQuery = true)
+    int moveSubtree(@Param("id") Long id, @Param("parentId") Long parentId,
+                    @Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+    /**
+     * Deletes the sector with the given path and everything below it in one statement.
+     *
+     * @return the number of sectors deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Sector s WHERE s.path LIKE CONCAT(:path, '%')")
+    int deleteSubtree(@Param("path") String path);
+
+    /**
+     * Serializes changes to the shape of the tree until the transaction ends,
+     * so concurrent moves cannot build a cycle or leave a stale path.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(7365637465)) AS hierarchy_lock", nativeQuery = true)
+    Integer lockHierarchy();
+}
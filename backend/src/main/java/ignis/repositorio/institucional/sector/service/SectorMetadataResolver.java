@@ -0,0 +1,128 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the metadata defaults in effect at a sector: its own defaults
+ * merged over those of its ancestors, nested objects merged key by key and
+ * the nearest sector winning. Each sector is resolved lazily from the
+ * {@link SectorTree} on top of its parent's result, and the immutable result
+ * is cached; a change to a sector drops the cached results of its subtree
+ * only. Like the tree, results expire after {@link SectorTreeCache#MAX_AGE}
+ * so changes made on other nodes are picked up.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SectorMetadataResolver {
+
+    private final SectorTreeCache sectorTreeCache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Map<Long, Resolved> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the merged, unmodifiable metadata defaults of a sector.
+     */
+    public Map<String, Object> resolve(Long sectorId) {
+        Resolved cached = resolved.get(sectorId);
+        if (cached != null && !cached.expired()) {
+            return cached.defaults();
+        }
+        long epoch = invalidations.get();
+        SectorTree.Node node = sectorTreeCache.snapshot().node(sectorId);
+        if (node == null) {
+            throw new ResourceNotFoundException("Sector", "id", sectorId);
+        }
+
+        // Climb to the nearest ancestor that is already resolved, then merge back down
+        Deque<SectorTree.Node> pending = new ArrayDeque<>();
+        Map<String, Object> merged = Map.of();
+        long resolvedAt = System.nanoTime();
+        for (SectorTree.Node current = node; current != null; current = current.parent()) {
+            Resolved hit = resolved.get(current.id());
+            if (hit != null && !hit.expired()) {
+                merged = hit.defaults();
+                // Never outlive the result it was built on
+                resolvedAt = hit.resolvedAt();
+                break;
+            }
+            pending.push(current);
+        }
+        while (!pending.isEmpty()) {
+            SectorTree.Node current = pending.pop();
+            merged = merge(merged, current.metadataDefaults());
+            // A change committed since the snapshot was read may not be in it
+            if (invalidations.get() == epoch) {
+                resolved.put(current.id(), new Resolved(current.path(), merged, resolvedAt));
+            }
+        }
+        return merged;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectorChanged(SectorChangedEvent event) {
+        invalidations.incrementAndGet();
+        resolved.values().removeIf(entry -> entry.path().startsWith(event.path()));
+        log.debug("Sector {} changed, dropped resolved metadata defaults under {}", event.sectorId(), event.path());
+    }
+
+    /**
+     * Merges {@code own} over {@code inherited}. Objects present on both
+     * sides are merged recursively; any other value replaces the inherited one.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> merge(Map<String, Object> inherited, Map<String, Object> own) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        Map<String, Object> merged = new LinkedHashMap<>(inherited);
+        for (Map.Entry<String, Object> entry : own.entrySet()) {
+            Object inheritedValue = merged.get(entry.getKey());
+            Object value = entry.getValue();
+            if (inheritedValue instanceof Map && value instanceof Map) {
+                merged.put(entry.getKey(), merge((Map<String, Object>) inheritedValue, (Map<String, Object>) value));
+            } else {
+                merged.put(entry.getKey(), freeze(value));
+            }
+        }
+        return Collections.unmodifiableMap(merged);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value) {
+        if (value instanceof Map) {
+            return merge(Map.of(), (Map<String, Object>) value);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private record Resolved(String path, Map<String, Object> defaults, long resolvedAt) {
+
+        boolean expired() {
+            return System.nanoTime() - resolvedAt > SectorTreeCache.MAX_AGE.toNanos();
+        }
+    }
+}
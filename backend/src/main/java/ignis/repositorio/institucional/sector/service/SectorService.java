@@ -0,0 +1,238 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.audit.Audited;
+import ignis.repositorio.institucional.exception.InvalidSectorHierarchyException;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.dto.CreateSectorRequest;
+import ignis.repositorio.institucional.sector.dto.SectorMetadataDefaultsResponse;
+import ignis.repositorio.institucional.sector.dto.SectorResponse;
+import ignis.repositorio.institucional.sector.dto.SectorTreeNode;
+import ignis.repositorio.institucional.sector.dto.UpdateSectorRequest;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import ignis.repositorio.institucional.sector.mapper.SectorMapper;
+import ignis.repositorio.institucional.sector.repository.SectorClosureJdbcRepository;
+import ignis.repositorio.institucional.sector.repository.SectorGrantJdbcRepository;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service for managing the sector hierarchy. Every sector carries its
+ * materialized path, so descendants and subtrees are one prefix query and
+ * moving a subtree is one UPDATE, whatever its size. Changes to the shape of
+ * the tree take a transaction-scoped lock so concurrent moves cannot build
+ * a cycle. The closure table and the inherited grants of
+ * {@link SectorAccessService} are updated in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SectorService {
+
+    /** Size of sectors.path. */
+    static final int MAX_PATH_LENGTH = 500;
+
+    private final SectorRepository sectorRepository;
+    private final SectorClosureJdbcRepository sectorClosureRepository;
+    private final SectorGrantJdbcRepository sectorGrantRepository;
+    private final SectorMapper sectorMapper;
+    private final SectorTreeCache sectorTreeCache;
+    private final SectorMetadataResolver sectorMetadataResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a sector, as a root or below an existing parent.
+     */
+    @Audited(action = "CREATE_SECTOR", targetType = "SECTOR", targetId = "#result.id")
+    public SectorResponse createSector(CreateSectorRequest request) {
+        log.info("Creating sector {} under {}", request.getName(), request.getParentId());
+        sectorRepository.lockHierarchy();
+
+        String parentPath = request.getParentId() != null ? findSector(request.getParentId()).getPath() : null;
+        Sector sector = sectorRepository.save(sectorMapper.toEntity(request));
+        String path = Sector.childPath(parentPath, sector.getId());
+        if (path.length() > MAX_PATH_LENGTH) {
+            throw new InvalidSectorHierarchyException(
+                String.format("Sector hierarchy under %d is too deep", request.getParentId()));
+        }
+        sector.setPath(path);
+        Sector savedSector = sectorRepository.saveAndFlush(sector);
+        sectorClosureRepository.addLeaf(savedSector.getId(), savedSector.getParentId());
+        sectorGrantRepository.refreshEffectiveGrants(savedSector.getId());
+        eventPublisher.publishEvent(new SectorChangedEvent(savedSector.getId(), savedSector.getPath()));
+
+        log.info("Sector created successfully with id: {}", savedSector.getId());
+        return sectorMapper.toResponse(savedSector);
+    }
+
+    /**
+     * Gets a sector by ID.
+     */
+    @Transactional(readOnly = true)
+    public SectorResponse getSectorById(Long id) {
+        log.debug("Fetching sector with id: {}", id);
+        return sectorMapper.toResponse(findSector(id));
+    }
+
+    /**
+     * Renames a sector and replaces its metadata defaults. Its position in
+     * the tree is changed with {@link #moveSector}.
+     */
+    @Audited(action = "UPDATE_SECTOR", targetType = "SECTOR", targetId = "#id")
+    public SectorResponse updateSector(Long id, UpdateSectorRequest request) {
+        log.info("Updating sector with id: {}", id);
+
+        Sector sector = findSector(id);
+        sector.setName(request.getName());
+        sector.setMetadataDefaults(request.getMetadataDefaults());
+
+        Sector updatedSector = sectorRepository.save(sector);
+        eventPublisher.publishEvent(new SectorChangedEvent(id, updatedSector.getPath()));
+        log.info("Sector updated successfully with id: {}", id);
+
+        return sectorMapper.toResponse(updatedSector);
+    }
+
+    /**
+     * Moves a sector and everything below it under a new parent, or to the
+     * top level when {@code parentId} is null. All paths of the subtree are
+     * rewritten by one set-based UPDATE.
+     */
+    @Audited(action = "MOVE_SECTOR", targetType = "SECTOR", targetId = "#id")
+    public SectorResponse moveSector(Long id, Long parentId) {
+        log.info("Moving sector {} under {}", id, parentId);
+        sectorRepository.lockHierarchy();
+
+        Sector sector = findSector(id);
+        if (Objects.equals(sector.getParentId(), parentId)) {
+            return sectorMapper.toResponse(sector);
+        }
+        String oldPath = sector.getPath();
+        String parentPath = null;
+        if (parentId != null) {
+            parentPath = findSector(parentId).getPath();
+            if (parentPath.startsWith(oldPath)) {
+                throw new InvalidSectorHierarchyException(
+                    String.format("Cannot move sector %d below itself or its descendant %d", id, parentId));
+            }
+        }
+        String newPath = Sector.childPath(parentPath, id);
+        int longest = sectorRepository.findLongestPathInSubtree(oldPath);
+        if (longest - oldPath.length() + newPath.length() > MAX_PATH_LENGTH) {
+            throw new InvalidSectorHierarchyException(
+                String.format("Sector hierarchy under %d would become too deep", parentId));
+        }
+
+        int moved = sectorRepository.moveSubtree(id, parentId, oldPath, newPath);
+        sectorClosureRepository.moveSubtree(id, parentId);
+        sectorGrantRepository.refreshEffectiveGrants(id);
+        eventPublisher.publishEvent(new SectorChangedEvent(id, oldPath));
+        log.info("Moved {} sectors from {} to {}", moved, oldPath, newPath);
+
+        return sectorMapper.toResponse(findSector(id));
+    }
+
+    /**
+     * Deletes a sector together with everything below it.
+     */
+    @Audited(action = "DELETE_SECTOR", targetType = "SECTOR", targetId = "#id")
+    public void deleteSector(Long id) {
+        log.info("Deleting sector with id: {}", id);
+        sectorRepository.lockHierarchy();
+
+        Sector sector = findSector(id);
+        int deleted = sectorRepository.deleteSubtree(sector.getPath());
+        eventPublisher.publishEvent(new SectorChangedEvent(id, sector.getPath()));
+        log.info("Sector deleted successfully with id: {} ({} sectors in its subtree)", id, deleted);
+    }
+
+    /**
+     * Gets the ancestors of a sector from the root down to its parent. Their
+     * ids are read off the path, so this is one primary-key lookup.
+     */
+    @Transactional(readOnly = true)
+    public List<SectorResponse> getAncestors(Long id) {
+        List<Long> ids = ancestorIds(findSector(id).getPath());
+        return ids.isEmpty() ? List.of() : sectorMapper.toResponseList(sectorRepository.findAllByIdOrderByPath(ids));
+    }
+
+    /**
+     * Gets everything below a sector, parents before children.
+     */
+    @Transactional(readOnly = true)
+    public List<SectorResponse> getDescendants(Long id) {
+        Sector sector = findSector(id);
+        return sectorMapper.toResponseList(sectorRepository.findDescendants(sector.getPath()));
+    }
+
+    /**
+     * Gets a sector with everything below it as a nested tree.
+     */
+    @Transactional(readOnly = true)
+    public SectorTreeNode getSubtree(Long id) {
+        Sector sector = findSector(id);
+        Map<Long, SectorTreeNode> nodes = new HashMap<>();
+        SectorTreeNode root = null;
+        // Path order puts every parent before its children
+        for (Sector member : sectorRepository.findSubtree(sector.getPath())) {
+            SectorTreeNode node = new SectorTreeNode(member.getId(), member.getName(), new ArrayList<>());
+            nodes.put(member.getId(), node);
+            if (member.getId().equals(id)) {
+                root = node;
+            } else {
+                nodes.get(member.getParentId()).getChildren().add(node);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Gets the whole hierarchy as nested trees, one per root sector, from the in-memory tree.
+     */
+    @Transactional(readOnly = true)
+    public List<SectorTreeNode> getTree() {
+        return sectorTreeCache.snapshot().roots().stream().map(SectorService::toTreeNode).toList();
+    }
+
+    /**
+     * Gets the metadata defaults in effect at a sector, merged down from its
+     * ancestors, as upload forms should prefill them.
+     */
+    @Transactional(readOnly = true)
+    public SectorMetadataDefaultsResponse getMetadataDefaults(Long id) {
+        return SectorMetadataDefaultsResponse.builder()
+            .sectorId(id)
+            .metadataDefaults(sectorMetadataResolver.resolve(id))
+            .build();
+    }
+
+    private static SectorTreeNode toTreeNode(SectorTree.Node node) {
+        return new SectorTreeNode(node.id(), node.name(),
+            node.children().stream().map(SectorService::toTreeNode).toList());
+    }
+
+    private static List<Long> ancestorIds(String path) {
+        String[] segments = path.substring(1, path.length() - 1).split(Sector.PATH_SEPARATOR);
+        List<Long> ids = new ArrayList<>(segments.length - 1);
+        for (int i = 0; i < segments.length - 1; i++) {
+            ids.add(Long.parseLong(segments[i]));
+        }
+        return ids;
+    }
+
+    private Sector findSector(Long id) {
+        return sectorRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Sector", "id", id));
+    }
+}
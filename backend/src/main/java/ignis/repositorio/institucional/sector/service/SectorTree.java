@@ -0,0 +1,163 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.sector.domain.Sector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One immutable version of the whole sector hierarchy. Every node links to
+ * its parent, so ancestors and ancestry checks walk at most depth steps
+ * without touching the database.
+ */
+public final class SectorTree {
+
+    private static final Comparator<Node> BY_NAME = Comparator.comparing(Node::name).thenComparing(Node::id);
+
+    private final long version;
+    private final Map<Long, Node> nodes;
+    private final List<Node> roots;
+
+    SectorTree(long version, List<Sector> sectors) {
+        this.version = version;
+        this.nodes = new HashMap<>(sectors.size() * 2);
+        for (Sector sector : sectors) {
+            nodes.put(sector.getId(), new Node(sector));
+        }
+        List<Node> rootNodes = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            Node parent = node.parentId != null ? nodes.get(node.parentId) : null;
+            if (parent != null) {
+                node.parent = parent;
+                parent.childList.add(node);
+            } else {
+                rootNodes.add(node);
+            }
+        }
+        for (Node node : nodes.values()) {
+            node.childList.sort(BY_NAME);
+        }
+        rootNodes.sort(BY_NAME);
+        this.roots = Collections.unmodifiableList(rootNodes);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the node of a sector, or {@code null} if it does not exist.
+     */
+    public Node node(Long id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * Root sectors ordered by name.
+     */
+    public List<Node> roots() {
+        return roots;
+    }
+
+    /**
+     * Ancestors of a sector from the root down to its parent; empty for roots and unknown sectors.
+     */
+    public List<Node> ancestors(Long id) {
+        Node node = nodes.get(id);
+        if (node == null || node.parent == null) {
+            return List.of();
+        }
+        List<Node> lineage = new ArrayList<>(node.depth);
+        for (Node ancestor = node.parent; ancestor != null; ancestor = ancestor.parent) {
+            lineage.add(ancestor);
+        }
+        Collections.reverse(lineage);
+        return Collections.unmodifiableList(lineage);
+    }
+
+    /**
+     * Whether {@code ancestorId} is {@code id} itself or one of its ancestors.
+     */
+    public boolean isSelfOrAncestor(Long ancestorId, Long id) {
+        Node ancestor = nodes.get(ancestorId);
+        for (Node node = nodes.get(id); node != null && ancestor != null; node = node.parent) {
+            if (node.depth < ancestor.depth) {
+                return false;
+            }
+            if (node == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A sector in the snapshot.
+     */
+    public static final class Node {
+
+        private final Long id;
+        private final String name;
+        private final Long parentId;
+        private final String path;
+        private final int depth;
+        private final Map<String, Object> metadataDefaults;
+        private final List<Node> childList = new ArrayList<>();
+        private final List<Node> children = Collections.unmodifiableList(childList);
+        private Node parent;
+
+        private Node(Sector sector) {
+            this.id = sector.getId();
+            this.name = sector.getName();
+            this.parentId = sector.getParentId();
+            this.path = sector.getPath();
+            this.depth = Sector.depth(sector.getPath());
+            this.metadataDefaults = sector.getMetadataDefaults() != null
+                ? Collections.unmodifiableMap(sector.getMetadataDefaults())
+                : Map.of();
+        }
+
+        public Long id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Long parentId() {
+            return parentId;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        public Node parent() {
+            return parent;
+        }
+
+        public int depth() {
+            return depth;
+        }
+
+        public Map<String, Object> metadataDefaults() {
+            return metadataDefaults;
+        }
+
+        /**
+         * Child sectors ordered by name.
+         */
+        public List<Node> children() {
+            return children;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the current {@link SectorTree}. The snapshot is loaded lazily with
+ * one query, swapped in one volatile write and dropped after commit when a
+ * sector changes. Changes made on other nodes are picked up once the
+ * snapshot is older than {@link #MAX_AGE}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SectorTreeCache {
+
+    static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final SectorRepository sectorRepository;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+    private volatile Loaded current;
+
+    /**
+     * Returns the current snapshot, loading it if needed.
+     */
+    public SectorTree snapshot() {
+        Loaded loaded = current;
+        if (loaded != null && !loaded.expired()) {
+            return loaded.tree;
+        }
+        synchronized (this) {
+            if (current != null && !current.expired()) {
+                return current.tree;
+            }
+            long epoch = invalidations.get();
+            SectorTree tree = load();
+            // A change committed while loading may not be visible in what we read
+            if (invalidations.get() == epoch) {
+                current = new Loaded(tree, System.nanoTime());
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * Runs before other listeners, so caches derived from the tree never
+     * rebuild from the snapshot being replaced.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSectorChanged(SectorChangedEvent event) {
+        log.debug("Sector {} changed, reloading sector tree", event.sectorId());
+        invalidations.incrementAndGet();
+        current = null;
+    }
+
+    private SectorTree load() {
+        List<Sector> sectors = sectorRepository.findAll(Sort.by("path"));
+        SectorTree tree = new SectorTree(versions.incrementAndGet(), sectors);
+        log.info("Loaded sector tree v{}: {} sectors", tree.version(), tree.size());
+        return tree;
+    }
+
+    private record Loaded(SectorTree tree, long loadedAt) {
+
+        boolean expired() {
+            return System.nanoTime() - loadedAt > MAX_AGE.toNanos();
+        }
+    }
+}
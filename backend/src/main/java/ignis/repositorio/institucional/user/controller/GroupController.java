@@ -1,7 +1,12 @@
 package ignis.repositorio.institucional.user.controller;
 
 import ignis.repositorio.institucional.user.dto.CreateGroupRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.GroupMembersRequest;
+import ignis.repositorio.institucional.user.dto.GroupMembershipResponse;
 import ignis.repositorio.institucional.user.dto.GroupResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.dto.UserResponse;
 import ignis.repositorio.institucional.user.service.GroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +56,19 @@ public class GroupController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get groups with cursor pagination",
+            description = "Pass nextCursor from the previous page as 'after'. Every page costs the same as the first.")
+    public ResponseEntity<CursorPageResponse<GroupResponse>> scrollGroups(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE, ESTIMATED (planner statistics) or EXACT (COUNT(*))")
+            @RequestParam(defaultValue = "NONE") TotalCount total) {
+        CursorPageResponse<GroupResponse> response = groupService.scrollGroups(after, size, total);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/list")
     @Operation(summary = "Get all groups as list")
     public ResponseEntity<List<GroupResponse>> getAllGroupsList() {
@@ -74,6 +92,49 @@ public class GroupController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{groupId}/members")
+    @Operation(summary = "Get group members with cursor pagination",
+            description = "Pass nextCursor from the previous page as 'after'. Every page costs the same as the first.")
+    public ResponseEntity<CursorPageResponse<UserResponse>> scrollGroupMembers(
+            @PathVariable Long groupId,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE, or ESTIMATED/EXACT for an exact member count")
+            @RequestParam(defaultValue = "NONE") TotalCount total) {
+        CursorPageResponse<UserResponse> response = groupService.scrollGroupMembers(groupId, after, size, total);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{groupId}/members")
+    @Operation(summary = "Add users to group",
+            description = "Unknown users and current members are skipped.")
+    public ResponseEntity<GroupMembershipResponse> addUsersToGroup(
+            @PathVariable Long groupId,
+            @Valid @RequestBody GroupMembersRequest request) {
+        GroupMembershipResponse response = groupService.addUsersToGroup(groupId, request.getUserIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{groupId}/members/remove")
+    @Operation(summary = "Remove users from group")
+    public ResponseEntity<GroupMembershipResponse> removeUsersFromGroup(
+            @PathVariable Long groupId,
+            @Valid @RequestBody GroupMembersRequest request) {
+        GroupMembershipResponse response = groupService.removeUsersFromGroup(groupId, request.getUserIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/{groupId}/members")
+    @Operation(summary = "Replace group members",
+            description = "Members not listed are removed; listed users that are not members are added.")
+    public ResponseEntity<GroupMembershipResponse> replaceGroupMembers(
+            @PathVariable Long groupId,
+            @Valid @RequestBody GroupMembersRequest request) {
+        GroupMembershipResponse response = groupService.replaceGroupMembers(groupId, request.getUserIds());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{groupId}/users/{userId}")
     @Operation(summary = "Add user to group")
     public ResponseEntity<GroupResponse> addUserToGroup(
@@ -1,6 +1,8 @@
 package ignis.repositorio.institucional.user.controller;
 
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
 import ignis.repositorio.institucional.user.dto.PermissionResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
 import ignis.repositorio.institucional.user.service.PermissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +35,13 @@ public class PermissionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/name/{name}")
+    @Operation(summary = "Get permission by name")
+    public ResponseEntity<PermissionResponse> getPermissionByName(@PathVariable String name) {
+        PermissionResponse response = permissionService.getPermissionByName(name);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(summary = "Get all permissions with pagination")
     public ResponseEntity<Page<PermissionResponse>> getAllPermissions(
@@ -41,6 +50,19 @@ public class PermissionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get permissions with cursor pagination",
+            description = "Pass nextCursor from the previous page as 'after'. Every page costs the same as the first.")
+    public ResponseEntity<CursorPageResponse<PermissionResponse>> scrollPermissions(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE, ESTIMATED (planner statistics) or EXACT (COUNT(*))")
+            @RequestParam(defaultValue = "NONE") TotalCount total) {
+        CursorPageResponse<PermissionResponse> response = permissionService.scrollPermissions(after, size, total);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/list")
     @Operation(summary = "Get all permissions as list")
     public ResponseEntity<List<PermissionResponse>> getAllPermissionsList() {
@@ -1,7 +1,9 @@
 package ignis.repositorio.institucional.user.controller;
 
 import ignis.repositorio.institucional.user.dto.CreateRoleRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
 import ignis.repositorio.institucional.user.dto.RoleResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
 import ignis.repositorio.institucional.user.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +53,19 @@ public class RoleController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get roles with cursor pagination",
+            description = "Pass nextCursor from the previous page as 'after'. Every page costs the same as the first.")
+    public ResponseEntity<CursorPageResponse<RoleResponse>> scrollRoles(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE, ESTIMATED (planner statistics) or EXACT (COUNT(*))")
+            @RequestParam(defaultValue = "NONE") TotalCount total) {
+        CursorPageResponse<RoleResponse> response = roleService.scrollRoles(after, size, total);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/list")
     @Operation(summary = "Get all roles as list")
     public ResponseEntity<List<RoleResponse>> getAllRolesList() {
@@ -1,21 +1,43 @@
 package ignis.repositorio.institucional.user.controller;
 
+import ignis.repositorio.institucional.user.dto.BulkImportResponse;
 import ignis.repositorio.institucional.user.dto.CreateUserRequest;
 import ignis.repositorio.institucional.user.dto.UpdateUserRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.EffectivePermissionsResponse;
+import ignis.repositorio.institucional.user.dto.ExportFormat;
+import ignis.repositorio.institucional.user.dto.InactiveUserResponse;
 import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.service.EffectivePermissionService;
+import ignis.repositorio.institucional.user.service.UserActivityService;
+import ignis.repositorio.institucional.user.service.UserBulkImportService;
+import ignis.repositorio.institucional.user.service.UserExportService;
 import ignis.repositorio.institucional.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * REST controller for user management.
@@ -27,6 +49,10 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final UserBulkImportService userBulkImportService;
+    private final EffectivePermissionService effectivePermissionService;
+    private final UserExportService userExportService;
+    private final UserActivityService userActivityService;
 
     @PostMapping
     @Operation(summary = "Create a new user")
@@ -35,6 +61,39 @@ public class UserController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import users from a JSON array")
+    public ResponseEntity<BulkImportResponse> importUsers(@RequestBody List<CreateUserRequest> requests) {
+        BulkImportResponse response = userBulkImportService.importUsers(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk import users from an NDJSON stream (one user per line)")
+    public ResponseEntity<BulkImportResponse> importUsersNdjson(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            BulkImportResponse response = userBulkImportService.importUsers(reader);
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all users with their roles and groups",
+            description = "Streams NDJSON or CSV from one consistent snapshot, in id order. Suited to millions of users. "
+                + "CSV lists roles and groups separated by ';', with '\\' escaping ';' and '\\' inside names.")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        boolean csv = format == ExportFormat.CSV;
+        StreamingResponseBody body = out -> userExportService.exportUsers(format, out);
+        return ResponseEntity.ok()
+            .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(csv ? "users.csv" : "users.ndjson")
+                .build()
+                .toString())
+            .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
@@ -42,6 +101,13 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/effective-permissions")
+    @Operation(summary = "Get the permissions a user effectively holds through its roles")
+    public ResponseEntity<EffectivePermissionsResponse> getEffectivePermissions(@PathVariable Long id) {
+        EffectivePermissionsResponse response = effectivePermissionService.getEffectivePermissions(id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/username/{username}")
     @Operation(summary = "Get user by username")
     public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username) {
@@ -57,6 +123,33 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get users with cursor pagination",
+            description = "Pass nextCursor from the previous page as 'after'. Every page costs the same as the first.")
+    public ResponseEntity<CursorPageResponse<UserResponse>> scrollUsers(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE, ESTIMATED (planner statistics) or EXACT (COUNT(*))")
+            @RequestParam(defaultValue = "NONE") TotalCount total) {
+        CursorPageResponse<UserResponse> response = userService.scrollUsers(after, size, total);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/inactive")
+    @Operation(summary = "Get active users without recent activity",
+            description = "Least recently active first, with cursor pagination. Pass nextCursor as 'after'.")
+    public ResponseEntity<CursorPageResponse<InactiveUserResponse>> getInactiveUsers(
+            @Parameter(description = "Days without activity; defaults to app.user-activity.inactive-after")
+            @RequestParam(required = false) Integer days,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<InactiveUserResponse> response = userActivityService.findInactiveUsers(
+            days != null ? Duration.ofDays(Math.max(0, days)) : null, after, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user")
     public ResponseEntity<UserResponse> updateUser(
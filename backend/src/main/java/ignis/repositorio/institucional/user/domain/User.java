@@ -72,4 +72,11 @@ public class User {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Written behind by {@code UserActivityTracker}; entity updates leave it alone.
+     */
+    @CreationTimestamp
+    @Column(name = "last_activity_at", nullable = false, updatable = false)
+    private LocalDateTime lastActivityAt;
 }
@@ -0,0 +1,25 @@
+package ignis.repositorio.institucional.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the per-row report of a bulk user import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    private int total;
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private boolean truncated;
+    private List<BulkImportRowResult> rows;
+}
@@ -0,0 +1,26 @@
+package ignis.repositorio.institucional.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a keyset (cursor) paginated listing.
+ * Pass {@code nextCursor} as the {@code after} parameter to fetch the next page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private TotalCount totalCount;
+    private Long totalElements;
+}
@@ -0,0 +1,23 @@
+package ignis.repositorio.institucional.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the permissions a user effectively holds through its roles.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EffectivePermissionsResponse {
+
+    private Long userId;
+    private Boolean active;
+    private List<String> permissions;
+    private long catalogVersion;
+}
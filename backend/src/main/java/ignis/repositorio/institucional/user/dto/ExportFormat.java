@@ -0,0 +1,13 @@
+package ignis.repositorio.institucional.user.dto;
+
+/**
+ * Output format of a streaming export.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line ({@code application/x-ndjson}). */
+    NDJSON,
+
+    /** RFC 4180 CSV with a header row; multi-valued columns are joined with ';'. */
+    CSV
+}
@@ -0,0 +1,24 @@
+package ignis.repositorio.institucional.user.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for adding, removing or replacing the members of a group.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMembersRequest {
+
+    @NotNull(message = "User ids are required")
+    @Size(max = 100_000, message = "At most 100000 users per request")
+    private List<@NotNull Long> userIds;
+}
@@ -0,0 +1,23 @@
+package ignis.repositorio.institucional.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of a bulk group membership change.
+ * Unknown users and users that already were (or were not) members are
+ * counted in {@code requested} but not in {@code added} or {@code removed}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMembershipResponse {
+
+    private Long groupId;
+    private int requested;
+    private int added;
+    private int removed;
+}
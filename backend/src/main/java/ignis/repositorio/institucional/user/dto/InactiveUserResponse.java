@@ -0,0 +1,23 @@
+package ignis.repositorio.institucional.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an active user that has not been seen for a while.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InactiveUserResponse {
+
+    private Long id;
+    private String username;
+    private String email;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,16 @@
+package ignis.repositorio.institucional.user.dto;
+
+/**
+ * How the total element count of a cursor page is computed.
+ */
+public enum TotalCount {
+
+    /** No total is computed. */
+    NONE,
+
+    /** Planner estimate from the table statistics; constant time. */
+    ESTIMATED,
+
+    /** Exact {@code COUNT(*)}; cost grows with the table. */
+    EXACT
+}
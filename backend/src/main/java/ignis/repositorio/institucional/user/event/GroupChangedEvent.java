@@ -0,0 +1,9 @@
+package ignis.repositorio.institucional.user.event;
+
+/**
+ * Published when a group is updated or deleted. A new group has no members
+ * yet, so creating one changes no cached user. Membership changes
+ * publish a {@link UserChangedEvent} for each user added or removed instead.
+ */
+public record GroupChangedEvent(Long groupId) {
+}
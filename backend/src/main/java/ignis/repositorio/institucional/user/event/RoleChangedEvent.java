@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.user.event;
+
+/**
+ * Published when a role, or its permission assignments, is created, updated or deleted.
+ */
+public record RoleChangedEvent(Long roleId) {
+}
@@ -0,0 +1,15 @@
+package ignis.repositorio.institucional.user.event;
+
+/**
+ * Published when a user, or its role or group assignments, is created, updated or deleted.
+ * Carries the username before and after the change, the keys the user is also cached under.
+ */
+public record UserChangedEvent(Long userId, String oldUsername, String newUsername) {
+
+    /**
+     * A change that kept the username.
+     */
+    public UserChangedEvent(Long userId, String username) {
+        this(userId, username, username);
+    }
+}
@@ -21,6 +21,15 @@ public interface UserMapper {
     @Mapping(target = "groups", source = "groups")
     UserResponse toResponse(User user);
 
+    /**
+     * Maps User entity to UserResponse DTO without touching the lazy
+     * role and group associations.
+     */
+    @Named("withoutAssociations")
+    @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "groups", ignore = true)
+    UserResponse toResponseWithoutAssociations(User user);
+
     /**
      * Maps list of User entities to list of UserResponse DTOs.
      */
@@ -36,6 +45,7 @@ public interface UserMapper {
     @Mapping(target = "groups", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "lastActivityAt", ignore = true)
     User toEntity(CreateUserRequest request);
 
     /**
@@ -49,5 +59,6 @@ public interface UserMapper {
     @Mapping(target = "groups", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "lastActivityAt", ignore = true)
     void updateEntity(UpdateUserRequest request, @MappingTarget User user);
 }
@@ -0,0 +1,100 @@
+package ignis.repositorio.institucional.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes on user_groups. Rows are inserted and deleted directly,
+ * so a group's member collection is never loaded no matter how large it is.
+ * User ids are sent as array parameters, one statement per chunk, and every
+ * write returns the users whose membership it changed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GroupMembershipRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String RETURNING_MEMBER =
+        " RETURNING user_id, (SELECT username FROM users WHERE id = user_id)";
+    private static final RowMapper<Member> MEMBER_MAPPER =
+        (rs, rowNum) -> new Member(rs.getLong(1), rs.getString(2));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A user whose membership was written.
+     */
+    public record Member(Long userId, String username) {
+    }
+
+    /**
+     * Adds existing users to a group, skipping unknown users and current members.
+     *
+     * @return the users added
+     */
+    public List<Member> addMembers(Long groupId, Collection<Long> userIds) {
+        return updateInChunks(
+            "INSERT INTO user_groups (user_id, group_id) "
+                + "SELECT u.id, ? FROM users u WHERE u.id = ANY (?) "
+                + "ON CONFLICT DO NOTHING" + RETURNING_MEMBER,
+            groupId, userIds);
+    }
+
+    /**
+     * Removes users from a group.
+     *
+     * @return the users removed
+     */
+    public List<Member> removeMembers(Long groupId, Collection<Long> userIds) {
+        return updateInChunks(
+            "DELETE FROM user_groups WHERE group_id = ? AND user_id = ANY (?)" + RETURNING_MEMBER,
+            groupId, userIds);
+    }
+
+    /**
+     * Removes every member of a group whose id is not in {@code userIds}.
+     *
+     * @return the users removed
+     */
+    public List<Member> retainMembers(Long groupId, Collection<Long> userIds) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                "DELETE FROM user_groups WHERE group_id = ? AND NOT (user_id = ANY (?))" + RETURNING_MEMBER);
+            ps.setLong(1, groupId);
+            ps.setArray(2, connection.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, MEMBER_MAPPER);
+    }
+
+    /**
+     * Counts the members of a group.
+     */
+    public long countMembers(Long groupId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM user_groups WHERE group_id = ?", Long.class, groupId);
+        return count != null ? count : 0;
+    }
+
+    private List<Member> updateInChunks(String sql, Long groupId, Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        List<Member> changed = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            changed.addAll(jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setLong(1, groupId);
+                ps.setArray(2, connection.createArrayOf("bigint", chunk.toArray()));
+                return ps;
+            }, MEMBER_MAPPER));
+        }
+        return changed;
+    }
+}
@@ -1,10 +1,15 @@
 package ignis.repositorio.institucional.user.repository;
 
 import ignis.repositorio.institucional.user.domain.Group;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for Group entity operations.
@@ -21,4 +26,15 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
      * Checks if a group exists by name.
      */
     boolean existsByName(String name);
+
+    /**
+     * Returns which of the given ids exist.
+     */
+    @Query("SELECT g.id FROM Group g WHERE g.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Finds the next groups after the given id, in id order (keyset pagination).
+     */
+    List<Group> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
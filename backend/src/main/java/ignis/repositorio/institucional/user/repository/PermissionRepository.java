@@ -1,9 +1,11 @@
 package ignis.repositorio.institucional.user.repository;
 
 import ignis.repositorio.institucional.user.domain.Permission;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,8 +24,18 @@ public interface PermissionRepository extends JpaRepository<Permission, Long> {
      */
     Optional<Permission> findByResourceAndAction(String resource, String action);
 
+    /**
+     * Finds the permissions of a resource, ignoring case, in id order.
+     */
+    List<Permission> findByResourceIgnoreCaseOrderByIdAsc(String resource);
+
     /**
      * Checks if a permission exists by name.
      */
     boolean existsByName(String name);
+
+    /**
+     * Finds the next permissions after the given id, in id order (keyset pagination).
+     */
+    List<Permission> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.user.repository;
+
+/**
+ * Projection of one row of the role_permissions table.
+ */
+public record RolePermissionLink(Long roleId, Long permissionId) {
+}
@@ -1,10 +1,15 @@
 package ignis.repositorio.institucional.user.repository;
 
 import ignis.repositorio.institucional.user.domain.Role;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for Role entity operations.
@@ -21,4 +26,35 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * Checks if a role exists by name.
      */
     boolean existsByName(String name);
+
+    /**
+     * Returns which of the given ids exist.
+     */
+    @Query("SELECT r.id FROM Role r WHERE r.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Finds roles by id with their permissions fetched in the same query.
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.permissions WHERE r.id IN :ids")
+    List<Role> findAllWithPermissionsByIdIn(Collection<Long> ids);
+
+    /**
+     * Returns every (role, permission) link.
+     */
+    @Query("SELECT new ignis.repositorio.institucional.user.repository.RolePermissionLink(r.id, p.id) "
+        + "FROM Role r JOIN r.permissions p")
+    List<RolePermissionLink> findAllPermissionLinks();
+
+    /**
+     * Returns the (role, permission) links of the given roles only.
+     */
+    @Query("SELECT new ignis.repositorio.institucional.user.repository.RolePermissionLink(r.id, p.id) "
+        + "FROM Role r JOIN r.permissions p WHERE r.id IN :roleIds")
+    List<RolePermissionLink> findPermissionLinksByRoleIds(Collection<Long> roleIds);
+
+    /**
+     * Finds the next roles after the given id, in id order (keyset pagination).
+     */
+    List<Role> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,40 @@
+package ignis.repositorio.institucional.user.repository;
+
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Row counts for listing totals, either exact or from the planner statistics.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Counts the rows of {@code table} as requested by {@code mode}.
+     * Returns null for {@link TotalCount#NONE}. An estimate falls back to an
+     * exact count while the table has never been analyzed.
+     * The table name is interpolated, so it must never come from user input.
+     */
+    public Long countRows(String table, TotalCount mode) {
+        return switch (mode) {
+            case NONE -> null;
+            case ESTIMATED -> {
+                Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST(? AS regclass)",
+                    Long.class, table);
+                yield estimate != null && estimate >= 0 ? estimate : exactCount(table);
+            }
+            case EXACT -> exactCount(table);
+        };
+    }
+
+    private long exactCount(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+        return count != null ? count : 0L;
+    }
+}
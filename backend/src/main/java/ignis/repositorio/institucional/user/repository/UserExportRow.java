@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A user with the names of its roles and groups, as streamed by the export.
+ */
+public record UserExportRow(Long id, String username, String email, boolean active, LocalDateTime createdAt,
+                            List<String> roles, List<String> groups) {
+}
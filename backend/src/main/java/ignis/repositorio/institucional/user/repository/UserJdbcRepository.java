@@ -0,0 +1,170 @@
+package ignis.repositorio.institucional.user.repository;
+
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.InactiveUserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Plain JDBC operations on the users tables for set-based writes that
+ * would be too slow through the JPA persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String EXPORT_SQL = "SELECT u.id, u.username, u.email, u.active, u.created_at, "
+        + "ARRAY(SELECT r.name FROM user_roles ur JOIN roles r ON r.id = ur.role_id "
+        + "WHERE ur.user_id = u.id ORDER BY r.name) AS roles, "
+        + "ARRAY(SELECT g.name FROM user_groups ug JOIN groups g ON g.id = ug.group_id "
+        + "WHERE ug.user_id = u.id ORDER BY g.name) AS groups "
+        + "FROM users u ORDER BY u.id";
+
+    private static final RowMapper<UserExportRow> EXPORT_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new UserExportRow(
+            rs.getLong("id"),
+            rs.getString("username"),
+            rs.getString("email"),
+            rs.getBoolean("active"),
+            createdAt != null ? createdAt.toLocalDateTime() : null,
+            names(rs.getArray("roles")),
+            names(rs.getArray("groups")));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams every user with its role and group names, in id order.
+     * Rows are read through a server-side cursor {@code fetchSize} at a time,
+     * which PostgreSQL only does inside a transaction; the caller must run
+     * in one and close the stream.
+     */
+    public Stream<UserExportRow> streamUsersForExport(int fetchSize) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPORT_SQL);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, EXPORT_ROW_MAPPER);
+    }
+
+    /**
+     * Reserves {@code count} ids from the users sequence in a single round trip.
+     */
+    public List<Long> allocateUserIds(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+            "SELECT nextval(pg_get_serial_sequence('users', 'id')) FROM generate_series(1, ?)",
+            Long.class, count);
+    }
+
+    /**
+     * Inserts users whose id and password hash are already set.
+     */
+    public void batchInsertUsers(Collection<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (id, username, email, password_hash, active) VALUES (?, ?, ?, ?, ?)",
+            users, BATCH_SIZE, (ps, user) -> {
+                ps.setLong(1, user.getId());
+                ps.setString(2, user.getUsername());
+                ps.setString(3, user.getEmail());
+                ps.setString(4, user.getPasswordHash());
+                ps.setBoolean(5, user.getActive());
+            });
+    }
+
+    /**
+     * Inserts (user_id, role_id) rows into user_roles.
+     */
+    public void batchInsertUserRoles(Collection<long[]> userRolePairs) {
+        batchInsertPairs("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userRolePairs);
+    }
+
+    /**
+     * Inserts (user_id, group_id) rows into user_groups.
+     */
+    public void batchInsertUserGroups(Collection<long[]> userGroupPairs) {
+        batchInsertPairs("INSERT INTO user_groups (user_id, group_id) VALUES (?, ?)", userGroupPairs);
+    }
+
+    /**
+     * Moves each user's last activity forward to the given instant; older
+     * instants leave the row untouched.
+     */
+    public void updateLastActivity(Map<Long, LocalDateTime> lastActivity) {
+        if (lastActivity.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE users SET last_activity_at = ? WHERE id = ? AND last_activity_at < ?",
+            new ArrayList<>(lastActivity.entrySet()), BATCH_SIZE, (ps, entry) -> {
+                Timestamp at = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, at);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, at);
+            });
+    }
+
+    /**
+     * Active users whose last activity is before {@code cutoff}, least recently
+     * active first, continuing after the {@code (afterActivity, afterId)} key
+     * of the previous page when given. An index range scan on
+     * idx_users_active_last_activity.
+     */
+    public List<InactiveUserResponse> findInactiveUsers(LocalDateTime cutoff, LocalDateTime afterActivity, Long afterId,
+                                                   int limit) {
+        String keyset = afterActivity != null ? "AND (last_activity_at, id) > (?, ?) " : "";
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(cutoff));
+        if (afterActivity != null) {
+            args.add(Timestamp.valueOf(afterActivity));
+            args.add(afterId);
+        }
+        args.add(limit);
+        return jdbcTemplate.query(
+            "SELECT id, username, email, last_activity_at FROM users "
+                + "WHERE active = true AND last_activity_at < ? " + keyset
+                + "ORDER BY last_activity_at, id LIMIT ?",
+            (rs, rowNum) -> new InactiveUserResponse(
+                rs.getLong("id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getTimestamp("last_activity_at").toLocalDateTime()),
+            args.toArray());
+    }
+
+    private static List<String> names(Array array) throws SQLException {
+        return array != null ? Arrays.asList((String[]) array.getArray()) : List.of();
+    }
+
+    private void batchInsertPairs(String sql, Collection<long[]> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, pairs, BATCH_SIZE, (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+        });
+    }
+}
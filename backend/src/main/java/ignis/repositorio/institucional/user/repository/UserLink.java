@@ -0,0 +1,7 @@
+package ignis.repositorio.institucional.user.repository;
+
+/**
+ * Projection of one row of a user association table (user_roles or user_groups).
+ */
+public record UserLink(Long userId, Long targetId) {
+}
@@ -1,11 +1,17 @@
 package ignis.repositorio.institucional.user.repository;
 
 import ignis.repositorio.institucional.user.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for User entity operations.
@@ -38,4 +44,63 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.username = :usernameOrEmail OR u.email = :usernameOrEmail")
     Optional<User> findByUsernameOrEmail(String usernameOrEmail);
+
+    /**
+     * Returns which of the given usernames are already taken.
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+    /**
+     * Returns which of the given emails are already taken.
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Returns the active flag of a user without loading the entity.
+     */
+    @Query("SELECT u.active FROM User u WHERE u.id = :id")
+    Optional<Boolean> findActiveById(Long id);
+
+    /**
+     * Returns the (user, role) links of the given users.
+     */
+    @Query("SELECT new ignis.repositorio.institucional.user.repository.UserLink(u.id, r.id) "
+        + "FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<UserLink> findRoleLinks(Collection<Long> userIds);
+
+    /**
+     * Returns the names of a user's roles in alphabetical order.
+     */
+    @Query("SELECT r.name FROM User u JOIN u.roles r WHERE u.id = :userId ORDER BY r.name")
+    List<String> findRoleNames(Long userId);
+
+    /**
+     * Replaces a password hash unless it was changed since {@code oldHash} was read.
+     *
+     * @return the number of users updated, 0 or 1
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int updatePasswordHash(Long id, String oldHash, String newHash);
+
+    /**
+     * Returns the (user, group) links of the given users.
+     */
+    @Query("SELECT new ignis.repositorio.institucional.user.repository.UserLink(u.id, g.id) "
+        + "FROM User u JOIN u.groups g WHERE u.id IN :userIds")
+    List<UserLink> findGroupLinks(Collection<Long> userIds);
+
+    /**
+     * Finds the next users after the given id, in id order (keyset pagination).
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Finds the next members of a group after the given user id, in id order (keyset pagination).
+     */
+    @Query("SELECT u FROM User u JOIN u.groups g WHERE g.id = :groupId AND u.id > :after ORDER BY u.id")
+    List<User> findGroupMembersAfter(Long groupId, Long after, Limit limit);
 }
@@ -0,0 +1,33 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.dto.PermissionResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable permission as held by the {@link PermissionCatalog}, safe to share
+ * between threads and callers.
+ */
+public record CatalogPermission(Long id, String name, String description, String resource, String action,
+                                LocalDateTime createdAt) {
+
+    static CatalogPermission of(Permission permission) {
+        return new CatalogPermission(permission.getId(), permission.getName(), permission.getDescription(),
+            permission.getResource(), permission.getAction(), permission.getCreatedAt());
+    }
+
+    /**
+     * Returns a new response DTO the caller may modify.
+     */
+    public PermissionResponse toResponse() {
+        return PermissionResponse.builder()
+            .id(id)
+            .name(name)
+            .description(description)
+            .resource(resource)
+            .action(action)
+            .createdAt(createdAt)
+            .build();
+    }
+}
@@ -0,0 +1,170 @@
+package ignis.repositorio.institucional.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.cache.NodeLocalCache;
+import ignis.repositorio.institucional.config.TwoLevelCacheProperties;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.dto.EffectivePermissionsResponse;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
+import ignis.repositorio.institucional.user.repository.UserLink;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves what a user may actually do.
+ * A user's effective permissions are the union of its roles' bitsets from the
+ * {@link PermissionCatalog} and are cached per user in a bounded Caffeine
+ * cache, so a warm {@link #hasPermission} is two map reads and a bit test.
+ * Cached users are dropped after commit when they change, on this node and,
+ * through the {@link CacheInvalidationPublisher}, on the others; entries also
+ * expire after {@code app.cache.effective-permissions.ttl} in case a message
+ * is lost. They are rebased when the catalog changes.
+ */
+@Service
+@Slf4j
+public class EffectivePermissionService implements NodeLocalCache {
+
+    private final PermissionCatalog permissionCatalog;
+    private final UserRepository userRepository;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Cache<Long, UserPermissions> users;
+    private final AtomicLong userInvalidations = new AtomicLong();
+
+    public EffectivePermissionService(PermissionCatalog permissionCatalog,
+                                      UserRepository userRepository,
+                                      TwoLevelCacheProperties properties,
+                                      CacheInvalidationPublisher invalidationPublisher) {
+        this.permissionCatalog = permissionCatalog;
+        this.userRepository = userRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(properties.getEffectivePermissions().getMaxSize())
+            .expireAfterWrite(properties.getEffectivePermissions().getTtl())
+            .build();
+    }
+
+    /**
+     * Checks whether a user holds {@code resource:action} through any of its roles.
+     * Inactive and unknown users hold no permissions.
+     */
+    public boolean hasPermission(Long userId, String resource, String action) {
+        PermissionCatalog.Snapshot current = permissionCatalog.snapshot();
+        int ordinal = current.ordinal(resource, action);
+        if (ordinal < 0) {
+            return false;
+        }
+        UserPermissions permissions = userPermissions(userId, current);
+        return permissions != null && permissions.bits.get(ordinal);
+    }
+
+    /**
+     * Gets the effective permissions of a user as sorted resource:action strings.
+     */
+    public EffectivePermissionsResponse getEffectivePermissions(Long userId) {
+        log.debug("Resolving effective permissions for user: {}", userId);
+
+        PermissionCatalog.Snapshot current = permissionCatalog.snapshot();
+        UserPermissions permissions = userPermissions(userId, current);
+        if (permissions == null) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return EffectivePermissionsResponse.builder()
+            .userId(userId)
+            .active(permissions.active)
+            .permissions(permissions.bits.stream().mapToObj(current::key).sorted().toList())
+            .catalogVersion(current.version())
+            .build();
+    }
+
+    /**
+     * Gets the permissions a user effectively holds as catalog ordinals.
+     */
+    public PermissionOrdinals getEffectivePermissionOrdinals(Long userId) {
+        PermissionCatalog.Snapshot current = permissionCatalog.snapshot();
+        UserPermissions permissions = userPermissions(userId, current);
+        if (permissions == null) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return new PermissionOrdinals(current.layout(), (BitSet) permissions.bits.clone());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictLocal(event.userId().toString());
+        invalidationPublisher.evicted(getName(), event.userId().toString());
+    }
+
+    @Override
+    public String getName() {
+        return CacheNames.EFFECTIVE_PERMISSIONS;
+    }
+
+    @Override
+    public void evictLocal(String key) {
+        userInvalidations.incrementAndGet();
+        users.invalidate(Long.valueOf(key));
+    }
+
+    @Override
+    public void clearLocal() {
+        userInvalidations.incrementAndGet();
+        users.invalidateAll();
+    }
+
+    private UserPermissions userPermissions(Long userId, PermissionCatalog.Snapshot current) {
+        UserPermissions cached = users.getIfPresent(userId);
+        if (cached != null) {
+            if (cached.version == current.version()) {
+                return cached;
+            }
+            // Role ids are still valid; only the bits depend on the snapshot
+            UserPermissions rebased = new UserPermissions(current, cached.active, cached.roleIds);
+            users.asMap().replace(userId, cached, rebased);
+            return rebased;
+        }
+
+        long epoch = userInvalidations.get();
+        Optional<Boolean> active = userRepository.findActiveById(userId);
+        if (active.isEmpty()) {
+            return null;
+        }
+        long[] roleIds = userRepository.findRoleLinks(List.of(userId)).stream()
+            .mapToLong(UserLink::targetId)
+            .toArray();
+        UserPermissions loaded = new UserPermissions(current, Boolean.TRUE.equals(active.get()), roleIds);
+
+        // A user change committed while loading may not be visible in what we read
+        if (userInvalidations.get() == epoch) {
+            users.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cached resolution for one user against one catalog version.
+     */
+    private static final class UserPermissions {
+        private final long version;
+        private final boolean active;
+        private final long[] roleIds;
+        private final BitSet bits;
+
+        UserPermissions(PermissionCatalog.Snapshot snapshot, boolean active, long[] roleIds) {
+            this.version = snapshot.version();
+            this.active = active;
+            this.roleIds = roleIds;
+            this.bits = active ? snapshot.union(roleIds) : new BitSet();
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package ignis.repositorio.institucional.user.service;
 
+import ignis.repositorio.institucional.audit.Audited;
 import ignis.repositorio.institucional.exception.ResourceAlreadyExistsException;
 import ignis.repositorio.institucional.exception.ResourceNotFoundException;
 import ignis.repositorio.institucional.user.domain.Group;
 import ignis.repositorio.institucional.user.domain.User;
 import ignis.repositorio.institucional.user.dto.CreateGroupRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.GroupMembershipResponse;
 import ignis.repositorio.institucional.user.dto.GroupResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.event.GroupChangedEvent;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
 import ignis.repositorio.institucional.user.mapper.GroupMapper;
+import ignis.repositorio.institucional.user.repository.GroupMembershipRepository;
+import ignis.repositorio.institucional.user.repository.GroupMembershipRepository.Member;
 import ignis.repositorio.institucional.user.repository.GroupRepository;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
 import ignis.repositorio.institucional.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service for managing groups.
@@ -30,10 +43,15 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
     private final GroupMapper groupMapper;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final UserReadService userReadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new group.
      */
+    @Audited(action = "CREATE_GROUP", targetType = "GROUP", targetId = "#result.id")
     public GroupResponse createGroup(CreateGroupRequest request) {
         log.info("Creating new group with name: {}", request.getName());
 
@@ -74,6 +92,20 @@ public class GroupService {
             .map(groupMapper::toResponse);
     }
 
+    /**
+     * Gets groups with keyset pagination.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<GroupResponse> scrollGroups(String after, int size, TotalCount totalCount) {
+        log.debug("Fetching groups after cursor: {}", after);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Group> rows = groupRepository.findByIdGreaterThanOrderByIdAsc(
+            KeysetCursor.decode(after), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.page(rows, pageSize, Group::getId, groupMapper::toResponseList,
+            totalCount, tableStatisticsRepository.countRows("groups", totalCount));
+    }
+
     /**
      * Gets all groups as list.
      */
@@ -87,6 +119,7 @@ public class GroupService {
     /**
      * Updates a group.
      */
+    @Audited(action = "UPDATE_GROUP", targetType = "GROUP", targetId = "#id")
     public GroupResponse updateGroup(Long id, CreateGroupRequest request) {
         log.info("Updating group with id: {}", id);
 
@@ -103,6 +136,7 @@ public class GroupService {
         group.setDescription(request.getDescription());
 
         Group updatedGroup = groupRepository.save(group);
+        eventPublisher.publishEvent(new GroupChangedEvent(id));
         log.info("Group updated successfully with id: {}", updatedGroup.getId());
 
         return groupMapper.toResponse(updatedGroup);
@@ -111,6 +145,7 @@ public class GroupService {
     /**
      * Deletes a group.
      */
+    @Audited(action = "DELETE_GROUP", targetType = "GROUP", targetId = "#id")
     public void deleteGroup(Long id) {
         log.info("Deleting group with id: {}", id);
 
@@ -119,23 +154,26 @@ public class GroupService {
         }
 
         groupRepository.deleteById(id);
+        eventPublisher.publishEvent(new GroupChangedEvent(id));
         log.info("Group deleted successfully with id: {}", id);
     }
 
     /**
-     * Adds a user to a group.
+     * Adds a user to a group. Writes the user_groups row directly, so the
+     * cost does not depend on the size of the group.
      */
+    @Audited(action = "ADD_GROUP_MEMBER", targetType = "GROUP", targetId = "#groupId")
     public GroupResponse addUserToGroup(Long groupId, Long userId) {
         log.info("Adding user {} to group {}", userId, groupId);
 
         Group group = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group", "id", groupId));
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
 
-        group.getMembers().add(user);
-        groupRepository.save(group);
+        groupMembershipRepository.addMembers(groupId, List.of(userId)).forEach(this::memberChanged);
 
         log.info("User added successfully to group");
         return groupMapper.toResponse(group);
@@ -144,19 +182,106 @@ public class GroupService {
     /**
      * Removes a user from a group.
      */
+    @Audited(action = "REMOVE_GROUP_MEMBER", targetType = "GROUP", targetId = "#groupId")
     public GroupResponse removeUserFromGroup(Long groupId, Long userId) {
         log.info("Removing user {} from group {}", userId, groupId);
 
         Group group = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group", "id", groupId));
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
 
-        group.getMembers().remove(user);
-        groupRepository.save(group);
+        groupMembershipRepository.removeMembers(groupId, List.of(userId)).forEach(this::memberChanged);
 
         log.info("User removed successfully from group");
         return groupMapper.toResponse(group);
     }
+
+    /**
+     * Adds users to a group. Unknown users and current members are skipped.
+     */
+    @Audited(action = "ADD_GROUP_MEMBERS", targetType = "GROUP", targetId = "#groupId")
+    public GroupMembershipResponse addUsersToGroup(Long groupId, List<Long> userIds) {
+        log.info("Adding {} users to group {}", userIds.size(), groupId);
+        requireGroup(groupId);
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        List<Member> added = groupMembershipRepository.addMembers(groupId, ids);
+        return membershipChanged(groupId, ids.size(), added, List.of());
+    }
+
+    /**
+     * Removes users from a group. Users that are not members are skipped.
+     */
+    @Audited(action = "REMOVE_GROUP_MEMBERS", targetType = "GROUP", targetId = "#groupId")
+    public GroupMembershipResponse removeUsersFromGroup(Long groupId, List<Long> userIds) {
+        log.info("Removing {} users from group {}", userIds.size(), groupId);
+        requireGroup(groupId);
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        List<Member> removed = groupMembershipRepository.removeMembers(groupId, ids);
+        return membershipChanged(groupId, ids.size(), List.of(), removed);
+    }
+
+    /**
+     * Makes the given users the exact membership of a group.
+     * Only the difference is written: members not listed are removed and
+     * listed users that are not members yet are added.
+     */
+    @Audited(action = "REPLACE_GROUP_MEMBERS", targetType = "GROUP", targetId = "#groupId")
+    public GroupMembershipResponse replaceGroupMembers(Long groupId, List<Long> userIds) {
+        log.info("Replacing members of group {} with {} users", groupId, userIds.size());
+        requireGroup(groupId);
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        List<Member> removed = groupMembershipRepository.retainMembers(groupId, ids);
+        List<Member> added = groupMembershipRepository.addMembers(groupId, ids);
+        return membershipChanged(groupId, ids.size(), added, removed);
+    }
+
+    /**
+     * Gets the members of a group with keyset pagination, in user id order.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> scrollGroupMembers(Long groupId, String after, int size,
+                                                               TotalCount totalCount) {
+        log.debug("Fetching members of group {} after cursor: {}", groupId, after);
+        requireGroup(groupId);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        List<User> rows = userRepository.findGroupMembersAfter(
+            groupId, KeysetCursor.decode(after), KeysetCursor.fetchLimit(pageSize));
+        // Planner statistics are per table, so any requested total is exact
+        Long total = totalCount == TotalCount.NONE ? null : groupMembershipRepository.countMembers(groupId);
+        return KeysetCursor.page(rows, pageSize, User::getId, userReadService::toResponses, totalCount, total);
+    }
+
+    private void requireGroup(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new ResourceNotFoundException("Group", "id", groupId);
+        }
+    }
+
+    /**
+     * Evicts only the users whose membership changed; the group itself and
+     * its other members read the same as before.
+     */
+    private GroupMembershipResponse membershipChanged(Long groupId, int requested,
+                                                      List<Member> added, List<Member> removed) {
+        added.forEach(this::memberChanged);
+        removed.forEach(this::memberChanged);
+        log.info("Group {} membership changed: {} added, {} removed", groupId, added.size(), removed.size());
+        return GroupMembershipResponse.builder()
+            .groupId(groupId)
+            .requested(requested)
+            .added(added.size())
+            .removed(removed.size())
+            .build();
+    }
+
+    private void memberChanged(Member member) {
+        eventPublisher.publishEvent(new UserChangedEvent(member.userId(), member.username()));
+    }
 }
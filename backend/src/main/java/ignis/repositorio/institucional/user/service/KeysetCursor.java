@@ -0,0 +1,126 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.exception.InvalidCursorException;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset pagination on {@code id}, or on a timestamp and then
+ * {@code id}. A page is fetched with
+ * {@code WHERE id > :after ORDER BY id LIMIT size + 1}, which is an index
+ * range scan whose cost does not depend on how deep the page is; the extra
+ * row only tells whether there is a next page. Cursors are opaque to clients.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String PREFIX = "id:";
+    private static final String TIME_PREFIX = "at:";
+    private static final char TIME_SEPARATOR = '/';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Encodes the last id of a page as a cursor.
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the id to continue after; a missing cursor starts from the beginning.
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * Encodes the (timestamp, id) key of the last row of a page as a cursor.
+     */
+    public static String encode(LocalDateTime at, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((TIME_PREFIX + at + TIME_SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor made by {@link #encode(LocalDateTime, Long)}; a missing cursor gives null.
+     */
+    public static TimeKey decodeTimeKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(TIME_SEPARATOR);
+            if (!value.startsWith(TIME_PREFIX) || separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new TimeKey(LocalDateTime.parse(value.substring(TIME_PREFIX.length(), separator)),
+                Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * Clamps a requested page size to [1, MAX_PAGE_SIZE].
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Row limit for fetching a page: one more than the page size.
+     */
+    public static Limit fetchLimit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #fetchLimit(int)}.
+     */
+    public static <E, T> CursorPageResponse<T> page(List<E> rows, int pageSize, Function<E, Long> idOf,
+                                                    Function<List<E>, List<T>> mapper,
+                                                    TotalCount totalCount, Long totalElements) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encode(idOf.apply(content.get(content.size() - 1))) : null;
+        return CursorPageResponse.<T>builder()
+            .content(mapper.apply(content))
+            .size(pageSize)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .totalCount(totalCount)
+            .totalElements(totalElements)
+            .build();
+    }
+
+    /**
+     * Position after a row of a listing ordered by a timestamp and then id.
+     */
+    public record TimeKey(LocalDateTime at, Long id) {
+    }
+}
@@ -0,0 +1,180 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.config.PasswordHashingProperties;
+import ignis.repositorio.institucional.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hashes and checks passwords on the dedicated hashing pool.
+ * Callers wait at most {@code app.password-hashing.max-wait}; when the pool
+ * queue is full or the wait runs out they get a {@link ServiceBusyException}
+ * (503) instead of holding their thread for an unbounded time.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private static final int BULK_SLICE_SIZE = 16;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration maxWait;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+    private volatile String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.maxWait = properties.getMaxWait();
+        this.encodeTimer = Timer.builder("password.hashing")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+            .description("Hash requests rejected because the pool was saturated")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Hashes a password with the configured algorithm and cost.
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes many passwords for a bulk caller, in the order given. Work goes to
+     * the pool in small slices with at most {@code parallelism} of them
+     * queued or running at once, so logins submitted meanwhile wait behind one
+     * slice rather than behind the whole batch. The batch as a whole is not
+     * bound by {@code max-wait}; a full queue still raises
+     * {@link ServiceBusyException}.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords, int parallelism) {
+        int window = Math.max(1, parallelism);
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        Deque<Future<List<String>>> inFlight = new ArrayDeque<>(window);
+        try {
+            for (int from = 0; from < rawPasswords.size(); from += BULK_SLICE_SIZE) {
+                if (inFlight.size() == window) {
+                    hashes.addAll(await(inFlight.removeFirst()));
+                }
+                List<? extends CharSequence> slice =
+                    rawPasswords.subList(from, Math.min(from + BULK_SLICE_SIZE, rawPasswords.size()));
+                inFlight.addLast(executor.submit(() -> slice.stream()
+                    .map(raw -> encodeTimer.record(() -> passwordEncoder.encode(raw)))
+                    .toList()));
+            }
+            while (!inFlight.isEmpty()) {
+                hashes.addAll(await(inFlight.removeFirst()));
+            }
+            return hashes;
+        } catch (TaskRejectedException e) {
+            return reject("queue full");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject("interrupted");
+        } finally {
+            inFlight.forEach(slice -> slice.cancel(true));
+        }
+    }
+
+    /**
+     * Checks a password against a stored hash.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks a password against a fixed hash of the configured algorithm and
+     * cost, for callers that have no stored hash to check. It never matches,
+     * but costs as much as a real check, so a missing account cannot be told
+     * apart from a wrong password by response time.
+     */
+    public void matchesDummy(CharSequence rawPassword) {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        matches(rawPassword, hash);
+    }
+
+    /**
+     * Whether a stored hash uses another algorithm or a lower cost than configured.
+     * Only inspects the hash, so it runs on the caller's thread.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (TaskRejectedException e) {
+            return reject("queue full");
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return reject("timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return reject("interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T reject(String reason) {
+        rejected.increment();
+        log.warn("Password hashing rejected: {}", reason);
+        throw new ServiceBusyException("Too many concurrent password operations, please retry");
+    }
+}
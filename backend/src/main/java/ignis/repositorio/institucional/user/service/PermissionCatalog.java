@@ -0,0 +1,323 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.cache.NodeLocalCache;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.event.RoleChangedEvent;
+import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.RolePermissionLink;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of the permission table and of which roles grant what.
+ * The whole catalog is an immutable {@link Snapshot} swapped in one volatile
+ * write, so readers see either the old or the new version, never a mix.
+ * It is loaded lazily with two queries. When a role's permissions change,
+ * on this node or, through the {@link CacheInvalidationPublisher}, on
+ * another, only that role's links are read again at the next access.
+ * Permissions themselves only change through migrations.
+ * <p>
+ * Single-permission lookups on a cold catalog go to the database with an
+ * indexed query rather than loading everything.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionCatalog implements NodeLocalCache {
+
+    private final PermissionRepository permissionRepository;
+    private final RoleRepository roleRepository;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong versions = new AtomicLong();
+    private final Set<Long> staleRoles = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Returns the current snapshot, loading it or the roles changed since if needed.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && staleRoles.isEmpty()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && staleRoles.isEmpty()) {
+                return current;
+            }
+            long epoch = invalidations.get();
+            Snapshot loaded;
+            List<Long> roles = List.copyOf(staleRoles);
+            if (current == null) {
+                loaded = load();
+            } else {
+                loaded = current.withRoles(versions.incrementAndGet(), roles,
+                    roleRepository.findPermissionLinksByRoleIds(roles));
+                log.debug("Reloaded roles {} into permission catalog v{}", roles, loaded.version);
+            }
+            // A change committed while loading may not be visible in what we read
+            if (invalidations.get() == epoch) {
+                staleRoles.removeAll(roles);
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Finds a permission by id without loading a cold catalog.
+     */
+    public CatalogPermission findById(Long id) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.byId(id);
+        }
+        return permissionRepository.findById(id).map(CatalogPermission::of).orElse(null);
+    }
+
+    /**
+     * Finds a permission by name without loading a cold catalog.
+     */
+    public CatalogPermission findByName(String name) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.byName(name);
+        }
+        return permissionRepository.findByName(name).map(CatalogPermission::of).orElse(null);
+    }
+
+    /**
+     * Finds the permissions of a resource in id order without loading a cold catalog.
+     */
+    public List<CatalogPermission> findByResource(String resource) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.byResource(resource);
+        }
+        return permissionRepository.findByResourceIgnoreCaseOrderByIdAsc(resource).stream()
+            .map(CatalogPermission::of)
+            .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        log.debug("Role {} changed, reloading it in the permission catalog", event.roleId());
+        evictLocal(event.roleId().toString());
+        invalidationPublisher.evicted(getName(), event.roleId().toString());
+    }
+
+    @Override
+    public String getName() {
+        return CacheNames.PERMISSION_CATALOG;
+    }
+
+    @Override
+    public void evictLocal(String roleId) {
+        staleRoles.add(Long.valueOf(roleId));
+        invalidations.incrementAndGet();
+    }
+
+    @Override
+    public void clearLocal() {
+        invalidations.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot load() {
+        List<Permission> permissions = permissionRepository.findAll(Sort.by("id"));
+        List<RolePermissionLink> links = roleRepository.findAllPermissionLinks();
+        Snapshot loaded = new Snapshot(versions.incrementAndGet(),
+            permissions.stream().map(CatalogPermission::of).toList(), links);
+        log.info("Loaded permission catalog v{}: {} permissions, {} roles",
+            loaded.version, loaded.permissions.size(), loaded.roleBits.size());
+        return loaded;
+    }
+
+    /**
+     * One immutable version of the catalog. Every permission has a dense
+     * ordinal (its position in id order) and every role a bitset over them.
+     * Resources and actions match case-insensitively; upper-case input is
+     * looked up without allocating.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final String layout;
+        private final List<CatalogPermission> permissions;
+        private final String[] keys;
+        private final Map<Long, CatalogPermission> byId;
+        private final Map<String, CatalogPermission> byName;
+        private final Map<String, List<CatalogPermission>> byResource;
+        private final Map<String, Map<String, Integer>> ordinals;
+        private final Map<Long, Integer> ordinalById;
+        private final Map<Long, BitSet> roleBits;
+
+        Snapshot(long version, List<CatalogPermission> permissions, List<RolePermissionLink> links) {
+            this.version = version;
+            this.permissions = List.copyOf(permissions);
+            this.keys = new String[permissions.size()];
+            this.byId = new HashMap<>();
+            this.byName = new HashMap<>();
+            this.ordinals = new HashMap<>();
+            this.ordinalById = new HashMap<>();
+
+            Map<String, List<CatalogPermission>> resources = new HashMap<>();
+            long fingerprint = keys.length;
+            for (int i = 0; i < keys.length; i++) {
+                CatalogPermission permission = permissions.get(i);
+                String resource = permission.resource().toUpperCase(Locale.ROOT);
+                String action = permission.action().toUpperCase(Locale.ROOT);
+                keys[i] = resource + ":" + action;
+                byId.put(permission.id(), permission);
+                byName.put(permission.name(), permission);
+                resources.computeIfAbsent(resource, r -> new ArrayList<>()).add(permission);
+                ordinals.computeIfAbsent(resource, r -> new HashMap<>()).put(action, i);
+                ordinalById.put(permission.id(), i);
+                fingerprint = 31 * (31 * fingerprint + permission.id()) + keys[i].hashCode();
+            }
+            this.layout = Long.toUnsignedString(fingerprint, 36);
+            this.byResource = new HashMap<>();
+            resources.forEach((resource, list) -> byResource.put(resource, Collections.unmodifiableList(list)));
+
+            this.roleBits = new HashMap<>();
+            addLinks(links);
+        }
+
+        /**
+         * Copy sharing everything but the bitsets of {@code roleIds}, which are
+         * rebuilt from {@code links}. Roles without links grant nothing.
+         */
+        private Snapshot(long version, Snapshot base, Collection<Long> roleIds, List<RolePermissionLink> links) {
+            this.version = version;
+            this.layout = base.layout;
+            this.permissions = base.permissions;
+            this.keys = base.keys;
+            this.byId = base.byId;
+            this.byName = base.byName;
+            this.byResource = base.byResource;
+            this.ordinals = base.ordinals;
+            this.ordinalById = base.ordinalById;
+            this.roleBits = new HashMap<>(base.roleBits);
+            roleIds.forEach(roleBits::remove);
+            addLinks(links);
+        }
+
+        Snapshot withRoles(long version, Collection<Long> roleIds, List<RolePermissionLink> links) {
+            return new Snapshot(version, this, roleIds, links);
+        }
+
+        private void addLinks(List<RolePermissionLink> links) {
+            for (RolePermissionLink link : links) {
+                Integer ordinal = ordinalById.get(link.permissionId());
+                if (ordinal != null) {
+                    roleBits.computeIfAbsent(link.roleId(), id -> new BitSet(keys.length)).set(ordinal);
+                }
+            }
+        }
+
+        public long version() {
+            return version;
+        }
+
+        /**
+         * Fingerprint of the ordinal assignment: the same on every node that
+         * loaded the same permissions, whatever the local version, and changed
+         * by any permission being added, removed or renamed.
+         */
+        public String layout() {
+            return layout;
+        }
+
+        /**
+         * All permissions in id order.
+         */
+        public List<CatalogPermission> permissions() {
+            return permissions;
+        }
+
+        public CatalogPermission byId(Long id) {
+            return byId.get(id);
+        }
+
+        public CatalogPermission byName(String name) {
+            return byName.get(name);
+        }
+
+        /**
+         * Permissions of a resource in id order; empty for unknown resources.
+         */
+        public List<CatalogPermission> byResource(String resource) {
+            List<CatalogPermission> result = byResource.get(resource);
+            if (result == null) {
+                result = byResource.get(resource.toUpperCase(Locale.ROOT));
+            }
+            return result != null ? result : List.of();
+        }
+
+        /**
+         * Returns the permission for resource:action, or {@code null}.
+         */
+        public CatalogPermission byResourceAndAction(String resource, String action) {
+            int ordinal = ordinal(resource, action);
+            return ordinal >= 0 ? permissions.get(ordinal) : null;
+        }
+
+        /**
+         * Returns the ordinal of resource:action, or -1.
+         */
+        public int ordinal(String resource, String action) {
+            Map<String, Integer> actions = ordinals.get(resource);
+            if (actions == null) {
+                actions = ordinals.get(resource.toUpperCase(Locale.ROOT));
+                if (actions == null) {
+                    return -1;
+                }
+            }
+            Integer ordinal = actions.get(action);
+            if (ordinal == null) {
+                ordinal = actions.get(action.toUpperCase(Locale.ROOT));
+            }
+            return ordinal != null ? ordinal : -1;
+        }
+
+        /**
+         * Returns the upper-case RESOURCE:ACTION of an ordinal.
+         */
+        public String key(int ordinal) {
+            return keys[ordinal];
+        }
+
+        /**
+         * Returns a new bitset with the permissions granted by any of the roles.
+         */
+        public BitSet union(long[] roleIds) {
+            BitSet bits = new BitSet(keys.length);
+            for (long roleId : roleIds) {
+                BitSet role = roleBits.get(roleId);
+                if (role != null) {
+                    bits.or(role);
+                }
+            }
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ignis.repositorio.institucional.user.service;
+
+import java.util.BitSet;
+
+/**
+ * Permissions as a bitset of dense catalog ordinals, together with the
+ * {@link PermissionCatalog.Snapshot#layout() layout} the ordinals refer to.
+ * The bits are only meaningful against a catalog with the same layout.
+ */
+public record PermissionOrdinals(String layout, BitSet ordinals) {
+}
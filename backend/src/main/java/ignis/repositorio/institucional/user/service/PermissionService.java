@@ -2,9 +2,12 @@ package ignis.repositorio.institucional.user.service;
 
 import ignis.repositorio.institucional.exception.ResourceNotFoundException;
 import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
 import ignis.repositorio.institucional.user.dto.PermissionResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
 import ignis.repositorio.institucional.user.mapper.PermissionMapper;
 import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +28,8 @@ public class PermissionService {
 
     private final PermissionRepository permissionRepository;
     private final PermissionMapper permissionMapper;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final PermissionCatalog permissionCatalog;
 
     /**
      * Gets a permission by ID.
@@ -32,10 +37,24 @@ public class PermissionService {
     public PermissionResponse getPermissionById(Long id) {
         log.debug("Fetching permission with id: {}", id);
         
-        Permission permission = permissionRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Permission", "id", id));
-        
-        return permissionMapper.toResponse(permission);
+        CatalogPermission permission = permissionCatalog.findById(id);
+        if (permission == null) {
+            throw new ResourceNotFoundException("Permission", "id", id);
+        }
+        return permission.toResponse();
+    }
+
+    /**
+     * Gets a permission by name.
+     */
+    public PermissionResponse getPermissionByName(String name) {
+        log.debug("Fetching permission with name: {}", name);
+
+        CatalogPermission permission = permissionCatalog.findByName(name);
+        if (permission == null) {
+            throw new ResourceNotFoundException("Permission", "name", name);
+        }
+        return permission.toResponse();
     }
 
     /**
@@ -48,13 +67,26 @@ public class PermissionService {
             .map(permissionMapper::toResponse);
     }
 
+    /**
+     * Gets permissions with keyset pagination.
+     */
+    public CursorPageResponse<PermissionResponse> scrollPermissions(String after, int size, TotalCount totalCount) {
+        log.debug("Fetching permissions after cursor: {}", after);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Permission> rows = permissionRepository.findByIdGreaterThanOrderByIdAsc(
+            KeysetCursor.decode(after), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.page(rows, pageSize, Permission::getId, permissionMapper::toResponseList,
+            totalCount, tableStatisticsRepository.countRows("permissions", totalCount));
+    }
+
     /**
      * Gets all permissions as list.
      */
     public List<PermissionResponse> getAllPermissionsList() {
         log.debug("Fetching all permissions as list");
         
-        return permissionMapper.toResponseList(permissionRepository.findAll());
+        return permissionCatalog.snapshot().permissions().stream().map(CatalogPermission::toResponse).toList();
     }
 
     /**
@@ -63,10 +95,6 @@ public class PermissionService {
     public List<PermissionResponse> getPermissionsByResource(String resource) {
         log.debug("Fetching permissions for resource: {}", resource);
         
-        List<Permission> permissions = permissionRepository.findAll().stream()
-            .filter(p -> p.getResource().equalsIgnoreCase(resource))
-            .toList();
-        
-        return permissionMapper.toResponseList(permissions);
+        return permissionCatalog.findByResource(resource).stream().map(CatalogPermission::toResponse).toList();
     }
 }
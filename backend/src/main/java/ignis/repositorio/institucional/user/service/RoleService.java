@@ -1,16 +1,24 @@
 package ignis.repositorio.institucional.user.service;
 
+import ignis.repositorio.institucional.audit.Audited;
+import ignis.repositorio.institucional.cache.CacheNames;
 import ignis.repositorio.institucional.exception.ResourceAlreadyExistsException;
 import ignis.repositorio.institucional.exception.ResourceNotFoundException;
 import ignis.repositorio.institucional.user.domain.Permission;
 import ignis.repositorio.institucional.user.domain.Role;
 import ignis.repositorio.institucional.user.dto.CreateRoleRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
 import ignis.repositorio.institucional.user.dto.RoleResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.event.RoleChangedEvent;
 import ignis.repositorio.institucional.user.mapper.RoleMapper;
 import ignis.repositorio.institucional.user.repository.PermissionRepository;
 import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,10 +40,13 @@ public class RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final RoleMapper roleMapper;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new role.
      */
+    @Audited(action = "CREATE_ROLE", targetType = "ROLE", targetId = "#result.id")
     public RoleResponse createRole(CreateRoleRequest request) {
         log.info("Creating new role with name: {}", request.getName());
 
@@ -59,6 +70,7 @@ public class RoleService {
         }
 
         Role savedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(savedRole.getId()));
         log.info("Role created successfully with id: {}", savedRole.getId());
 
         return roleMapper.toResponse(savedRole);
@@ -88,9 +100,24 @@ public class RoleService {
             .map(roleMapper::toResponse);
     }
 
+    /**
+     * Gets roles with keyset pagination.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RoleResponse> scrollRoles(String after, int size, TotalCount totalCount) {
+        log.debug("Fetching roles after cursor: {}", after);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Role> rows = roleRepository.findByIdGreaterThanOrderByIdAsc(
+            KeysetCursor.decode(after), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.page(rows, pageSize, Role::getId, roleMapper::toResponseList,
+            totalCount, tableStatisticsRepository.countRows("roles", totalCount));
+    }
+
     /**
      * Gets all roles as list.
      */
+    @Cacheable(cacheNames = CacheNames.ROLES, key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public List<RoleResponse> getAllRolesList() {
         log.debug("Fetching all roles as list");
@@ -101,6 +128,7 @@ public class RoleService {
     /**
      * Updates a role.
      */
+    @Audited(action = "UPDATE_ROLE", targetType = "ROLE", targetId = "#id")
     public RoleResponse updateRole(Long id, CreateRoleRequest request) {
         log.info("Updating role with id: {}", id);
 
@@ -128,6 +156,7 @@ public class RoleService {
         }
 
         Role updatedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
         log.info("Role updated successfully with id: {}", updatedRole.getId());
 
         return roleMapper.toResponse(updatedRole);
@@ -136,6 +165,7 @@ public class RoleService {
     /**
      * Deletes a role.
      */
+    @Audited(action = "DELETE_ROLE", targetType = "ROLE", targetId = "#id")
     public void deleteRole(Long id) {
         log.info("Deleting role with id: {}", id);
 
@@ -144,12 +174,14 @@ public class RoleService {
         }
 
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
         log.info("Role deleted successfully with id: {}", id);
     }
 
     /**
      * Adds a permission to a role.
      */
+    @Audited(action = "GRANT_PERMISSION", targetType = "ROLE", targetId = "#roleId")
     public RoleResponse addPermissionToRole(Long roleId, Long permissionId) {
         log.info("Adding permission {} to role {}", permissionId, roleId);
 
@@ -161,6 +193,7 @@ public class RoleService {
 
         role.getPermissions().add(permission);
         Role updatedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(roleId));
 
         log.info("Permission added successfully to role");
         return roleMapper.toResponse(updatedRole);
@@ -169,6 +202,7 @@ public class RoleService {
     /**
      * Removes a permission from a role.
      */
+    @Audited(action = "REVOKE_PERMISSION", targetType = "ROLE", targetId = "#roleId")
     public RoleResponse removePermissionFromRole(Long roleId, Long permissionId) {
         log.info("Removing permission {} from role {}", permissionId, roleId);
 
@@ -180,6 +214,7 @@ public class RoleService {
 
         role.getPermissions().remove(permission);
         Role updatedRole = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(roleId));
 
         log.info("Permission removed successfully from role");
         return roleMapper.toResponse(updatedRole);
@@ -0,0 +1,48 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.config.UserActivityProperties;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.InactiveUserResponse;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads users by their last activity, as kept by {@link UserActivityTracker}.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserActivityService {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final UserActivityProperties properties;
+
+    /**
+     * Active users not seen for {@code inactiveFor} (the configured default
+     * when null), least recently active first, with keyset pagination.
+     * Activity from the last flush interval may not be written yet.
+     */
+    public CursorPageResponse<InactiveUserResponse> findInactiveUsers(Duration inactiveFor, String after, int size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        LocalDateTime cutoff = LocalDateTime.now().minus(inactiveFor != null ? inactiveFor : properties.getInactiveAfter());
+        KeysetCursor.TimeKey key = KeysetCursor.decodeTimeKey(after);
+        List<InactiveUserResponse> rows = userJdbcRepository.findInactiveUsers(
+            cutoff, key != null ? key.at() : null, key != null ? key.id() : null, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<InactiveUserResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        InactiveUserResponse last = hasNext ? content.get(content.size() - 1) : null;
+        return CursorPageResponse.<InactiveUserResponse>builder()
+            .content(content)
+            .size(pageSize)
+            .hasNext(hasNext)
+            .nextCursor(last != null ? KeysetCursor.encode(last.getLastActivityAt(), last.getId()) : null)
+            .build();
+    }
+}
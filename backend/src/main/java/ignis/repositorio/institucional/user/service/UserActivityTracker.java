@@ -0,0 +1,85 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.config.UserActivityProperties;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps users.last_activity_at current without a write per request.
+ * Activity is coalesced in memory to the latest instant per user and
+ * written every {@code flush-interval} in one batch, so a user gets at most
+ * one UPDATE per interval however busy it is. Rows are only moved forward,
+ * which lets several nodes flush the same users in any order. Activity not
+ * yet flushed when a node dies is lost; the next request restores it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityTracker {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final UserActivityProperties properties;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Notes that a user was active at {@code at}. Cheap enough to call on every request.
+     */
+    public void record(Long userId, LocalDateTime at) {
+        if (properties.isEnabled() && userId != null) {
+            pending.merge(userId, at, (current, next) -> next.isAfter(current) ? next : current);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.user-activity.flush-interval:1m}",
+        fixedDelayString = "${app.user-activity.flush-interval:1m}")
+    public void run() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Writing user activity failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        run();
+    }
+
+    /**
+     * Writes the buffered activity. On failure it is put back for the next flush.
+     *
+     * @return the number of users written
+     */
+    public int flush() {
+        // Id order keeps concurrent flushes on other nodes from deadlocking
+        Map<Long, LocalDateTime> batch = new TreeMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime at = pending.remove(userId);
+            if (at != null) {
+                batch.put(userId, at);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            userJdbcRepository.updateLastActivity(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(this::record);
+            throw e;
+        }
+        log.debug("Wrote last activity of {} users", batch.size());
+        return batch.size();
+    }
+}
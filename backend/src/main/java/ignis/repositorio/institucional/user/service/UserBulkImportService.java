@@ -0,0 +1,400 @@
+package ignis.repositorio.institucional.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.config.BulkImportProperties;
+import ignis.repositorio.institucional.exception.ImportTooLargeException;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.BulkImportResponse;
+import ignis.repositorio.institucional.user.dto.BulkImportRowResult;
+import ignis.repositorio.institucional.user.dto.CreateUserRequest;
+import ignis.repositorio.institucional.user.repository.GroupRepository;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for provisioning many users in one request.
+ * Rows are processed in chunks: each chunk is validated, checked against
+ * existing usernames and emails with one query each, hashed on the shared
+ * password hashing pool and written with JDBC batches in its own transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserBulkImportService {
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final GroupRepository groupRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkImportProperties properties;
+
+    /**
+     * Imports users from an already parsed JSON array.
+     *
+     * @throws ImportTooLargeException if the array has more than {@code max-rows} entries
+     */
+    public BulkImportResponse importUsers(List<CreateUserRequest> requests) {
+        if (requests.size() > properties.getMaxRows()) {
+            throw new ImportTooLargeException(String.format(
+                "Import of %d rows exceeds the limit of %d rows", requests.size(), properties.getMaxRows()));
+        }
+        Iterator<CreateUserRequest> source = requests.iterator();
+        return importRows(new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public ImportRow next() {
+                return new ImportRow(index++, source.next(), null);
+            }
+        });
+    }
+
+    /**
+     * Imports users from an NDJSON stream, one {@link CreateUserRequest} per line.
+     * Lines are parsed lazily so the payload is never held in memory at once.
+     * Reading stops at {@code max-rows}: earlier chunks are already committed,
+     * so a longer stream is truncated and reported with one failed row.
+     */
+    public BulkImportResponse importUsers(BufferedReader ndjson) {
+        return importRows(new NdjsonRowIterator(ndjson));
+    }
+
+    private BulkImportResponse importRows(Iterator<ImportRow> rows) {
+        long start = System.currentTimeMillis();
+        log.info("Starting bulk user import");
+
+        ImportState state = new ImportState();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+        int total = 0;
+        boolean truncated = false;
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            total++;
+            if (total > properties.getMaxRows()) {
+                state.fail(row, "Import exceeds the limit of " + properties.getMaxRows()
+                    + " rows; this row and any after it were not imported");
+                truncated = true;
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                processChunk(chunk, state);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state);
+        }
+
+        state.results.sort(Comparator.comparingInt(BulkImportRowResult::getIndex));
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Bulk user import finished: {} created, {} failed in {} ms{}",
+            state.created, state.failed, elapsed, truncated ? " (truncated at the row limit)" : "");
+
+        return BulkImportResponse.builder()
+            .total(total)
+            .created(state.created)
+            .failed(state.failed)
+            .elapsedMillis(elapsed)
+            .truncated(truncated)
+            .rows(state.results)
+            .build();
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportState state) {
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            String error = validate(row, state);
+            if (error != null) {
+                state.fail(row, error);
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        candidates = rejectExisting(candidates, state);
+        candidates = rejectUnknownReferences(candidates, state);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashPasswords(candidates);
+        List<Long> ids = userJdbcRepository.allocateUserIds(candidates.size());
+
+        List<User> users = new ArrayList<>(candidates.size());
+        List<long[]> userRoles = new ArrayList<>();
+        List<long[]> userGroups = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            CreateUserRequest request = candidates.get(i).request();
+            long userId = ids.get(i);
+            users.add(User.builder()
+                .id(userId)
+                .username(request.getUsername())
+                .email(request.getEmail())
+                .passwordHash(hashes.get(i))
+                .active(request.getActive() == null || request.getActive())
+                .build());
+            addPairs(userRoles, userId, request.getRoleIds());
+            addPairs(userGroups, userId, request.getGroupIds());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userJdbcRepository.batchInsertUsers(users);
+                userJdbcRepository.batchInsertUserRoles(userRoles);
+                userJdbcRepository.batchInsertUserGroups(userGroups);
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Bulk import chunk of {} rows rolled back: {}", candidates.size(), ex.getMessage());
+            for (ImportRow row : candidates) {
+                state.fail(row, "Chunk rolled back: " + ex.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            state.succeed(candidates.get(i), ids.get(i));
+        }
+    }
+
+    /**
+     * Bean validation plus duplicate detection within the import itself.
+     */
+    private String validate(ImportRow row, ImportState state) {
+        if (row.parseError() != null) {
+            return row.parseError();
+        }
+        if (row.request() == null) {
+            return "Empty row";
+        }
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(row.request());
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (!state.seenUsernames.add(row.request().getUsername())) {
+            return "Duplicate username in import: '" + row.request().getUsername() + "'";
+        }
+        if (!state.seenEmails.add(row.request().getEmail())) {
+            return "Duplicate email in import: '" + row.request().getEmail() + "'";
+        }
+        return null;
+    }
+
+    private List<ImportRow> rejectExisting(List<ImportRow> candidates, ImportState state) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<String> takenUsernames = userRepository.findExistingUsernames(
+            candidates.stream().map(r -> r.request().getUsername()).toList());
+        Set<String> takenEmails = userRepository.findExistingEmails(
+            candidates.stream().map(r -> r.request().getEmail()).toList());
+
+        List<ImportRow> remaining = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (takenUsernames.contains(row.request().getUsername())) {
+                state.fail(row, String.format("User already exists with username: '%s'", row.request().getUsername()));
+            } else if (takenEmails.contains(row.request().getEmail())) {
+                state.fail(row, String.format("User already exists with email: '%s'", row.request().getEmail()));
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    private List<ImportRow> rejectUnknownReferences(List<ImportRow> candidates, ImportState state) {
+        Set<Long> roleIds = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        for (ImportRow row : candidates) {
+            collect(roleIds, row.request().getRoleIds());
+            collect(groupIds, row.request().getGroupIds());
+        }
+        resolve(roleIds, state.roleIds, roleRepository::findExistingIds);
+        resolve(groupIds, state.groupIds, groupRepository::findExistingIds);
+
+        List<ImportRow> remaining = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            Long missingRole = firstMissing(row.request().getRoleIds(), state.roleIds);
+            Long missingGroup = firstMissing(row.request().getGroupIds(), state.groupIds);
+            if (missingRole != null) {
+                state.fail(row, String.format("Role not found with id: '%s'", missingRole));
+            } else if (missingGroup != null) {
+                state.fail(row, String.format("Group not found with id: '%s'", missingGroup));
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Looks up only ids not seen in earlier chunks, so each referenced id is
+     * resolved once per import.
+     */
+    private void resolve(Set<Long> ids, Map<Long, Boolean> known,
+                         Function<Collection<Long>, Set<Long>> finder) {
+        List<Long> unresolved = ids.stream().filter(id -> !known.containsKey(id)).toList();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = finder.apply(unresolved);
+        for (Long id : unresolved) {
+            known.put(id, existing.contains(id));
+        }
+    }
+
+    private List<String> hashPasswords(List<ImportRow> rows) {
+        return passwordHashingService.encodeAll(
+            rows.stream().map(row -> row.request().getPassword()).toList(), properties.getHashingThreads());
+    }
+
+    private static void collect(Set<Long> target, Set<Long> ids) {
+        if (ids != null) {
+            target.addAll(ids);
+        }
+    }
+
+    private static Long firstMissing(Set<Long> ids, Map<Long, Boolean> known) {
+        if (ids == null) {
+            return null;
+        }
+        for (Long id : ids) {
+            if (!known.getOrDefault(id, false)) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private static void addPairs(List<long[]> target, long userId, Set<Long> ids) {
+        if (ids != null) {
+            for (Long id : ids) {
+                target.add(new long[]{userId, id});
+            }
+        }
+    }
+
+    private record ImportRow(int index, CreateUserRequest request, String parseError) {
+
+        String username() {
+            return request != null ? request.getUsername() : null;
+        }
+    }
+
+    /**
+     * Running totals and caches shared by all chunks of one import.
+     */
+    private static final class ImportState {
+        private final List<BulkImportRowResult> results = new ArrayList<>();
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Map<Long, Boolean> roleIds = new HashMap<>();
+        private final Map<Long, Boolean> groupIds = new HashMap<>();
+        private int created;
+        private int failed;
+
+        void succeed(ImportRow row, Long id) {
+            created++;
+            results.add(BulkImportRowResult.builder()
+                .index(row.index())
+                .username(row.username())
+                .id(id)
+                .status(BulkImportRowResult.Status.CREATED)
+                .build());
+        }
+
+        void fail(ImportRow row, String error) {
+            failed++;
+            results.add(BulkImportRowResult.builder()
+                .index(row.index())
+                .username(row.username())
+                .status(BulkImportRowResult.Status.FAILED)
+                .error(error)
+                .build());
+        }
+    }
+
+    /**
+     * Parses one NDJSON line at a time; a malformed line becomes a failed row
+     * instead of aborting the import. Blank lines are skipped.
+     */
+    private final class NdjsonRowIterator implements Iterator<ImportRow> {
+        private final BufferedReader reader;
+        private String nextLine;
+        private int index;
+
+        NdjsonRowIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (nextLine == null) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                    if (!line.isBlank()) {
+                        nextLine = line;
+                    }
+                }
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            nextLine = null;
+            int rowIndex = index++;
+            try {
+                return new ImportRow(rowIndex, objectMapper.readValue(line, CreateUserRequest.class), null);
+            } catch (JsonProcessingException ex) {
+                return new ImportRow(rowIndex, null, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.config.TwoLevelCacheProperties;
+import ignis.repositorio.institucional.user.event.GroupChangedEvent;
+import ignis.repositorio.institucional.user.event.RoleChangedEvent;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Evicts cached user, role and permission reads around commits.
+ * User responses embed their roles (with permissions) and groups, so role
+ * and group changes drop every cached user. A changed user is evicted by id
+ * and by its usernames before and after the change.
+ * <p>
+ * Entries are evicted before the commit, right after it, and once more after
+ * {@code app.cache.eviction-grace}. A read that loaded the old row while the
+ * change was committing may write it back after the first two evictions,
+ * into L1 here or into Redis from another node; the last eviction removes it
+ * instead of leaving it for the whole Redis TTL.
+ */
+@Component
+@Slf4j
+public class UserCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final Duration evictionGrace;
+
+    public UserCacheEvictionListener(CacheManager cacheManager, TaskScheduler taskScheduler,
+                                     TwoLevelCacheProperties properties) {
+        this.cacheManager = cacheManager;
+        this.taskScheduler = taskScheduler;
+        this.evictionGrace = properties.getEvictionGrace();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeUserCommit(UserChangedEvent event) {
+        evictUser(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictUser(event);
+        evictAgainLater(() -> evictUser(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeRoleCommit(RoleChangedEvent event) {
+        clearRoles();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        log.debug("Role {} changed, clearing role and user caches", event.roleId());
+        clearRoles();
+        evictAgainLater(this::clearRoles);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeGroupCommit(GroupChangedEvent event) {
+        clearUsers();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        log.debug("Group {} changed, clearing user caches", event.groupId());
+        clearUsers();
+        evictAgainLater(this::clearUsers);
+    }
+
+    private void evictUser(UserChangedEvent event) {
+        evict(CacheNames.USERS, event.userId());
+        if (event.oldUsername() != null) {
+            evict(CacheNames.USERS_BY_USERNAME, event.oldUsername());
+        }
+        if (event.newUsername() != null && !event.newUsername().equals(event.oldUsername())) {
+            evict(CacheNames.USERS_BY_USERNAME, event.newUsername());
+        }
+    }
+
+    private void clearRoles() {
+        clear(CacheNames.ROLES);
+        clearUsers();
+    }
+
+    private void clearUsers() {
+        clear(CacheNames.USERS);
+        clear(CacheNames.USERS_BY_USERNAME);
+    }
+
+    private void evictAgainLater(Runnable eviction) {
+        if (!evictionGrace.isZero() && !evictionGrace.isNegative()) {
+            taskScheduler.schedule(eviction, Instant.now().plus(evictionGrace));
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
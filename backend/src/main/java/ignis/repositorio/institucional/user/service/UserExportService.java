@@ -0,0 +1,151 @@
+package ignis.repositorio.institucional.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import ignis.repositorio.institucional.user.dto.ExportFormat;
+import ignis.repositorio.institucional.user.repository.UserExportRow;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams every user with its roles and groups to an output stream.
+ * All rows come from one query in one read-only transaction, so the dump
+ * is a consistent snapshot. They are read through a server-side cursor and
+ * written as they arrive, so heap use does not grow with the number of users.
+ * In CSV the roles and groups of a user share one cell each, separated by
+ * {@code ;}; a {@code ;} or {@code \} inside a name is escaped with {@code \}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportService {
+
+    /** Rows fetched from the database per round trip. */
+    static final int FETCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,username,email,active,createdAt,roles,groups";
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes all users to {@code out}. Does not close {@code out}.
+     *
+     * @return the number of users written
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting users as {}", format);
+        long started = System.currentTimeMillis();
+
+        long count;
+        try (Stream<UserExportRow> rows = userJdbcRepository.streamUsersForExport(FETCH_SIZE)) {
+            count = format == ExportFormat.CSV ? writeCsv(rows.iterator(), out) : writeNdjson(rows.iterator(), out);
+        }
+
+        log.info("Exported {} users in {} ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<UserExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<UserExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            UserExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writeCsvField(writer, row.username());
+            writer.write(',');
+            writeCsvField(writer, row.email());
+            writer.write(',');
+            writer.write(String.valueOf(row.active()));
+            writer.write(',');
+            writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+            writer.write(',');
+            writeCsvField(writer, joinNames(row.roles()));
+            writer.write(',');
+            writeCsvField(writer, joinNames(row.groups()));
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Joins names with {@code ;}, escaping {@code ;} and {@code \} inside them,
+     * so a name containing the separator reads back as one name.
+     */
+    static String joinNames(List<String> names) {
+        StringBuilder joined = new StringBuilder();
+        for (int n = 0; n < names.size(); n++) {
+            String name = names.get(n);
+            if (n > 0) {
+                joined.append(';');
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == ';' || c == '\\') {
+                    joined.append('\\');
+                }
+                joined.append(c);
+            }
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Writes a field, quoting it if it contains a delimiter, quote or line break.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,151 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.domain.Group;
+import ignis.repositorio.institucional.user.domain.Role;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.GroupResponse;
+import ignis.repositorio.institucional.user.dto.RoleResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.mapper.GroupMapper;
+import ignis.repositorio.institucional.user.mapper.RoleMapper;
+import ignis.repositorio.institucional.user.mapper.UserMapper;
+import ignis.repositorio.institucional.user.repository.GroupRepository;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
+import ignis.repositorio.institucional.user.repository.UserLink;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read model for user responses.
+ * A batch of users is assembled in a fixed number of queries regardless of
+ * its size: one per association table for the links, then one for the
+ * referenced roles (with permissions) and one for the referenced groups.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UserReadService {
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final GroupRepository groupRepository;
+    private final UserMapper userMapper;
+    private final RoleMapper roleMapper;
+    private final GroupMapper groupMapper;
+    private final TableStatisticsRepository tableStatisticsRepository;
+
+    /**
+     * Gets a user by ID.
+     */
+    public UserResponse getUserById(Long id) {
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        return toResponses(List.of(user)).get(0);
+    }
+
+    /**
+     * Gets a user by username.
+     */
+    public UserResponse getUserByUsername(String username) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        return toResponses(List.of(user)).get(0);
+    }
+
+    /**
+     * Gets all users with pagination.
+     */
+    public Page<UserResponse> getAllUsers(Pageable pageable) {
+        Page<User> page = userRepository.findAll(pageable);
+        Map<Long, UserResponse> responses = toResponses(page.getContent()).stream()
+            .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+        return page.map(user -> responses.get(user.getId()));
+    }
+
+    /**
+     * Gets the users after the given cursor, in id order.
+     */
+    public CursorPageResponse<UserResponse> scrollUsers(String after, int size, TotalCount totalCount) {
+        int pageSize = KeysetCursor.pageSize(size);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(
+            KeysetCursor.decode(after), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.page(rows, pageSize, User::getId, this::toResponses,
+            totalCount, tableStatisticsRepository.countRows("users", totalCount));
+    }
+
+    /**
+     * Maps users to responses, loading their roles and groups in bulk.
+     * The result keeps the order of {@code users}.
+     */
+    public List<UserResponse> toResponses(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = users.stream().map(User::getId).toList();
+
+        List<UserLink> roleLinks = userRepository.findRoleLinks(userIds);
+        List<UserLink> groupLinks = userRepository.findGroupLinks(userIds);
+
+        Map<Long, RoleResponse> roles = new HashMap<>();
+        Set<Long> roleIds = targetIds(roleLinks);
+        if (!roleIds.isEmpty()) {
+            for (Role role : roleRepository.findAllWithPermissionsByIdIn(roleIds)) {
+                roles.put(role.getId(), roleMapper.toResponse(role));
+            }
+        }
+
+        Map<Long, GroupResponse> groups = new HashMap<>();
+        Set<Long> groupIds = targetIds(groupLinks);
+        if (!groupIds.isEmpty()) {
+            for (Group group : groupRepository.findAllById(groupIds)) {
+                groups.put(group.getId(), groupMapper.toResponse(group));
+            }
+        }
+
+        Map<Long, Set<RoleResponse>> rolesByUser = groupByUser(roleLinks, roles);
+        Map<Long, Set<GroupResponse>> groupsByUser = groupByUser(groupLinks, groups);
+
+        log.debug("Assembled {} user responses ({} roles, {} groups)", users.size(), roles.size(), groups.size());
+        return users.stream()
+            .map(user -> {
+                UserResponse response = userMapper.toResponseWithoutAssociations(user);
+                response.setRoles(rolesByUser.getOrDefault(user.getId(), new HashSet<>()));
+                response.setGroups(groupsByUser.getOrDefault(user.getId(), new HashSet<>()));
+                return response;
+            })
+            .toList();
+    }
+
+    private static Set<Long> targetIds(List<UserLink> links) {
+        return links.stream().map(UserLink::targetId).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, Set<T>> groupByUser(List<UserLink> links, Map<Long, T> targets) {
+        Map<Long, Set<T>> byUser = new HashMap<>();
+        for (UserLink link : links) {
+            T target = targets.get(link.targetId());
+            if (target != null) {
+                byUser.computeIfAbsent(link.userId(), id -> new HashSet<>()).add(target);
+            }
+        }
+        return byUser;
+    }
+}
@@ -1,24 +1,32 @@
 package ignis.repositorio.institucional.user.service;
 
+import ignis.repositorio.institucional.audit.Audited;
+import ignis.repositorio.institucional.cache.CacheNames;
 import ignis.repositorio.institucional.exception.ResourceAlreadyExistsException;
 import ignis.repositorio.institucional.exception.ResourceNotFoundException;
 import ignis.repositorio.institucional.user.domain.Group;
 import ignis.repositorio.institucional.user.domain.Role;
 import ignis.repositorio.institucional.user.domain.User;
 import ignis.repositorio.institucional.user.dto.CreateUserRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
 import ignis.repositorio.institucional.user.dto.UpdateUserRequest;
 import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
 import ignis.repositorio.institucional.user.mapper.UserMapper;
 import ignis.repositorio.institucional.user.repository.GroupRepository;
 import ignis.repositorio.institucional.user.repository.RoleRepository;
 import ignis.repositorio.institucional.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
@@ -37,14 +45,25 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final GroupRepository groupRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserReadService userReadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Creates a new user.
+     * Creates a new user. The password is hashed before the transaction opens,
+     * so no connection is held while waiting for the hashing pool.
      */
+    @Audited(action = "CREATE_USER", targetType = "USER", targetId = "#result.id")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createUser(CreateUserRequest request) {
         log.info("Creating new user with username: {}", request.getUsername());
 
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+        return transactionTemplate.execute(status -> insertUser(request, passwordHash));
+    }
+
+    private UserResponse insertUser(CreateUserRequest request, String passwordHash) {
         // Check if username already exists
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new ResourceAlreadyExistsException("User", "username", request.getUsername());
@@ -57,7 +76,7 @@ public class UserService {
 
         // Create user entity
         User user = userMapper.toEntity(request);
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
 
         // Assign roles
         if (request.getRoleIds() != null && !request.getRoleIds().isEmpty()) {
@@ -82,6 +101,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getUsername()));
         log.info("User created successfully with id: {}", savedUser.getId());
 
         return userMapper.toResponse(savedUser);
@@ -90,27 +110,23 @@ public class UserService {
     /**
      * Gets a user by ID.
      */
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
         log.debug("Fetching user with id: {}", id);
         
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
-        
-        return userMapper.toResponse(user);
+        return userReadService.getUserById(id);
     }
 
     /**
      * Gets a user by username.
      */
+    @Cacheable(cacheNames = CacheNames.USERS_BY_USERNAME, key = "#username", sync = true)
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
         log.debug("Fetching user with username: {}", username);
         
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-        
-        return userMapper.toResponse(user);
+        return userReadService.getUserByUsername(username);
     }
 
     /**
@@ -120,16 +136,34 @@ public class UserService {
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         log.debug("Fetching all users with pagination");
         
-        return userRepository.findAll(pageable)
-            .map(userMapper::toResponse);
+        return userReadService.getAllUsers(pageable);
     }
 
     /**
-     * Updates a user.
+     * Gets users with keyset pagination.
      */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> scrollUsers(String after, int size, TotalCount totalCount) {
+        log.debug("Fetching users after cursor: {}", after);
+        
+        return userReadService.scrollUsers(after, size, totalCount);
+    }
+
+    /**
+     * Updates a user. A new password is hashed before the transaction opens.
+     */
+    @Audited(action = "UPDATE_USER", targetType = "USER", targetId = "#id")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse updateUser(Long id, UpdateUserRequest request) {
         log.info("Updating user with id: {}", id);
 
+        String passwordHash = request.getPassword() != null && !request.getPassword().isBlank()
+            ? passwordHashingService.encode(request.getPassword())
+            : null;
+        return transactionTemplate.execute(status -> applyUpdate(id, request, passwordHash));
+    }
+
+    private UserResponse applyUpdate(Long id, UpdateUserRequest request, String passwordHash) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
@@ -148,11 +182,12 @@ public class UserService {
         }
 
         // Update basic fields
+        String oldUsername = user.getUsername();
         userMapper.updateEntity(request, user);
 
         // Update password if provided
-        if (request.getPassword() != null && !request.getPassword().isBlank()) {
-            user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        if (passwordHash != null) {
+            user.setPasswordHash(passwordHash);
         }
 
         // Update roles if provided
@@ -178,6 +213,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, oldUsername, updatedUser.getUsername()));
         log.info("User updated successfully with id: {}", updatedUser.getId());
 
         return userMapper.toResponse(updatedUser);
@@ -186,20 +222,22 @@ public class UserService {
     /**
      * Deletes a user.
      */
+    @Audited(action = "DELETE_USER", targetType = "USER", targetId = "#id")
     public void deleteUser(Long id) {
         log.info("Deleting user with id: {}", id);
 
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", "id", id);
-        }
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
-        userRepository.deleteById(id);
+        userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, user.getUsername()));
         log.info("User deleted successfully with id: {}", id);
     }
 
     /**
      * Activates a user.
      */
+    @Audited(action = "ACTIVATE_USER", targetType = "USER", targetId = "#id")
     public UserResponse activateUser(Long id) {
         log.info("Activating user with id: {}", id);
 
@@ -208,6 +246,7 @@ public class UserService {
 
         user.setActive(true);
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, updatedUser.getUsername()));
 
         log.info("User activated successfully with id: {}", id);
         return userMapper.toResponse(updatedUser);
@@ -216,6 +255,7 @@ public class UserService {
     /**
      * Deactivates a user.
      */
+    @Audited(action = "DEACTIVATE_USER", targetType = "USER", targetId = "#id")
     public UserResponse deactivateUser(Long id) {
         log.info("Deactivating user with id: {}", id);
 
@@ -224,6 +264,7 @@ public class UserService {
 
         user.setActive(false);
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, updatedUser.getUsername()));
 
         log.info("User deactivated successfully with id: {}", id);
         return userMapper.toResponse(updatedUser);
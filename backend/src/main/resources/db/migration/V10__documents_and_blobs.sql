@@ -0,0 +1,51 @@
+-- Documents, their versions and the content-addressed blob store
+-- Version: 10.0
+-- Date: 2026-10-17
+
+-- One row per distinct content, keyed by its SHA-256; the bytes live on disk
+-- under the hash. ref_count is the number of document versions using the
+-- blob. A blob whose count drops to zero is deleted by the garbage collector
+-- once it has been unreferenced for the grace period.
+CREATE TABLE blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    size BIGINT NOT NULL CHECK (size >= 0),
+    ref_count INTEGER NOT NULL CHECK (ref_count >= 0),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    orphaned_at TIMESTAMP
+);
+
+CREATE INDEX idx_blobs_orphaned_at ON blobs(orphaned_at) WHERE ref_count = 0;
+
+CREATE TABLE documents (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    sector_id BIGINT REFERENCES sectors(id) ON DELETE SET NULL,
+    author_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+    current_version INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_documents_sector_id ON documents(sector_id);
+
+-- Versions are deleted by the application, which releases their blobs
+CREATE TABLE document_versions (
+    id BIGSERIAL PRIMARY KEY,
+    document_id BIGINT NOT NULL REFERENCES documents(id),
+    version_number INTEGER NOT NULL,
+    blob_sha256 VARCHAR(64) NOT NULL REFERENCES blobs(sha256),
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255),
+    size BIGINT NOT NULL,
+    created_by BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_document_versions UNIQUE (document_id, version_number)
+);
+
+CREATE INDEX idx_document_versions_blob ON document_versions(blob_sha256);
+
+-- Completed uploads not claimed by a document expire too
+DROP INDEX idx_upload_sessions_expires_at;
+CREATE INDEX idx_upload_sessions_expires_at ON upload_sessions(expires_at);
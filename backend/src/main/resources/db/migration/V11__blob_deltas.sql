@@ -0,0 +1,20 @@
+-- Delta-compressed version history
+-- Version: 11.0
+-- Date: 2026-10-17
+
+-- A blob with delta_base is stored as a binary delta against that blob,
+-- which holds one reference for it, so a base outlives its deltas. The
+-- current version of a document is never stored as a delta. stored_size is
+-- what the blob takes on disk. snapshot marks a blob that must stay whole:
+-- storing it as a delta would have made a chain too long, or the delta was
+-- not worth it.
+ALTER TABLE blobs
+    ADD COLUMN delta_base VARCHAR(64) REFERENCES blobs(sha256),
+    ADD COLUMN stored_size BIGINT,
+    ADD COLUMN snapshot BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE blobs SET stored_size = size;
+
+ALTER TABLE blobs ALTER COLUMN stored_size SET NOT NULL;
+
+CREATE INDEX idx_blobs_delta_base ON blobs(delta_base) WHERE delta_base IS NOT NULL;
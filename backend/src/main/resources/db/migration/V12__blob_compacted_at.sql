@@ -0,0 +1,10 @@
+-- Deferred deletion of compacted whole files
+-- Version: 12.0
+-- Date: 2026-10-17
+
+-- compacted_at is set when a blob is stored as a delta and cleared once its
+-- whole file is deleted. The whole file outlives the compaction by a grace
+-- period, so a download that resolved its path just before can still open it.
+ALTER TABLE blobs ADD COLUMN compacted_at TIMESTAMP;
+
+CREATE INDEX idx_blobs_compacted_at ON blobs(compacted_at) WHERE compacted_at IS NOT NULL;
@@ -0,0 +1,7 @@
+-- Group membership index
+-- Version: 2.0
+-- Date: 2026-10-17
+
+-- The primary key of user_groups leads with user_id, so listing or counting
+-- the members of one group had to scan the whole table
+CREATE INDEX idx_user_groups_group ON user_groups(group_id, user_id);
@@ -0,0 +1,62 @@
+-- Monthly partitions for audit_logs
+-- Version: 3.0
+-- Date: 2026-10-17
+
+-- Retention used to be a DELETE by timestamp over the whole table. With one
+-- partition per month it becomes a DETACH/DROP of whole partitions, and
+-- queries bounded by timestamp only touch the months they ask for.
+-- Partitions are named audit_logs_YYYY_MM; AuditPartitionMaintenance keeps
+-- future months created ahead of time and removes expired ones.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+
+-- Keep the id sequence when the old table is dropped
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    user_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    action VARCHAR(50) NOT NULL,
+    target_type VARCHAR(50) NOT NULL,
+    target_id VARCHAR(100),
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(255),
+    extra_data JSONB,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+-- One partition per month from the oldest existing row to three months ahead
+DO $$
+DECLARE
+    partition_start DATE := date_trunc('month', COALESCE(
+        (SELECT min(timestamp) FROM audit_logs_legacy), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE partition_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_' || to_char(partition_start, 'YYYY_MM'),
+            partition_start, (partition_start + INTERVAL '1 month')::date);
+        partition_start := (partition_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Rows outside every monthly partition land here instead of failing the insert
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+INSERT INTO audit_logs (id, user_id, action, target_type, target_id, ip_address, user_agent, extra_data, timestamp)
+SELECT id, user_id, action, target_type, target_id, ip_address, user_agent, extra_data, timestamp
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- Indexes on the parent cascade to every partition, present and future
+CREATE INDEX idx_audit_logs_user_id ON audit_logs(user_id);
+CREATE INDEX idx_audit_logs_action ON audit_logs(action);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs(timestamp);
+CREATE INDEX idx_audit_logs_target ON audit_logs(target_type, target_id);
+
+COMMENT ON TABLE audit_logs IS 'Audit trail for important actions, partitioned by month';
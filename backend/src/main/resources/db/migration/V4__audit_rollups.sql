@@ -0,0 +1,36 @@
+-- Pre-aggregated audit statistics
+-- Version: 4.0
+-- Date: 2026-10-17
+
+-- Event counts per hour, action, target type and user, kept up to date in the
+-- same transaction that writes the audit_logs rows. Statistics read these
+-- few rows instead of grouping the raw log.
+CREATE TABLE audit_rollup_hourly (
+    bucket TIMESTAMP NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    target_type VARCHAR(50) NOT NULL,
+    user_id BIGINT,
+    event_count BIGINT NOT NULL,
+    last_event_at TIMESTAMP NOT NULL,
+    CONSTRAINT uq_audit_rollup_hourly UNIQUE NULLS NOT DISTINCT (bucket, action, target_type, user_id)
+);
+
+CREATE INDEX idx_audit_rollup_hourly_user ON audit_rollup_hourly(user_id, bucket);
+
+-- HyperLogLog sketch of the distinct users of each completed hour. Sketches
+-- of any set of hours merge into an estimate of their distinct users
+-- without touching per-user rows. Built from audit_rollup_hourly after the
+-- hour ends, and removed again if a late event arrives for that hour.
+CREATE TABLE audit_user_sketch_hourly (
+    bucket TIMESTAMP PRIMARY KEY,
+    sketch BYTEA NOT NULL
+);
+
+-- Roll up the existing log; the sketches are filled in by the backend
+INSERT INTO audit_rollup_hourly (bucket, action, target_type, user_id, event_count, last_event_at)
+SELECT date_trunc('hour', timestamp), action, target_type, user_id, count(*), max(timestamp)
+FROM audit_logs
+GROUP BY 1, 2, 3, 4;
+
+COMMENT ON TABLE audit_rollup_hourly IS 'Hourly audit event counts per action, target type and user';
+COMMENT ON TABLE audit_user_sketch_hourly IS 'HyperLogLog sketches of the distinct users per hour';
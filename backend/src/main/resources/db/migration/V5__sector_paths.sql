@@ -0,0 +1,24 @@
+-- Materialized paths for the sector hierarchy
+-- Version: 5.0
+-- Date: 2026-10-17
+
+-- path holds the ids from the root down to the sector itself, e.g. '/1/5/12/'.
+-- All descendants of a sector share its path as prefix, so subtrees are one
+-- index range scan and moving a subtree is one UPDATE of the prefix.
+WITH RECURSIVE tree AS (
+    SELECT id, '/' || id || '/' AS path
+    FROM sectors
+    WHERE parent_sector_id IS NULL
+    UNION ALL
+    SELECT s.id, t.path || s.id || '/'
+    FROM sectors s
+    JOIN tree t ON s.parent_sector_id = t.id
+)
+UPDATE sectors s SET path = tree.path
+FROM tree
+WHERE s.id = tree.id;
+
+-- A plain B-tree only serves LIKE 'prefix%' under the C collation;
+-- the pattern operator class serves it under any collation
+DROP INDEX idx_sectors_path;
+CREATE UNIQUE INDEX idx_sectors_path ON sectors(path varchar_pattern_ops);
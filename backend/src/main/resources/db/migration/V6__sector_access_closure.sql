@@ -0,0 +1,56 @@
+-- Sector permissions inherited down the hierarchy
+-- Version: 6.0
+-- Date: 2026-10-17
+
+-- One row for every (ancestor, descendant) pair of the sector tree, including
+-- each sector with itself at depth 0. Kept in step with sectors.path by the
+-- backend whenever a sector is created or moved.
+CREATE TABLE sector_closure (
+    ancestor_id BIGINT NOT NULL REFERENCES sectors(id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES sectors(id) ON DELETE CASCADE,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_sector_closure_descendant ON sector_closure(descendant_id, depth);
+
+-- Permissions granted to a user or a group at a sector, as a bitmask of
+-- READ (1), WRITE (2), DELETE (4), SHARE (8) and ADMIN (16). A grant applies
+-- to the sector and everything below it until a grant for the same
+-- principal further down overrides it; an empty mask revokes what is inherited.
+CREATE TABLE sector_grants (
+    id BIGSERIAL PRIMARY KEY,
+    sector_id BIGINT NOT NULL REFERENCES sectors(id) ON DELETE CASCADE,
+    user_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
+    group_id BIGINT REFERENCES groups(id) ON DELETE CASCADE,
+    permissions INTEGER NOT NULL CHECK (permissions BETWEEN 0 AND 31),
+    granted_by BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    granted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_sector_grants_principal CHECK (num_nonnulls(user_id, group_id) = 1),
+    CONSTRAINT uq_sector_grants UNIQUE NULLS NOT DISTINCT (sector_id, user_id, group_id)
+);
+
+-- The grant that applies to each principal at each sector, i.e. the one at
+-- the nearest sector at or above it. Rebuilt for the affected subtree when a
+-- sector moves or a grant changes, so an access check is one index lookup.
+CREATE TABLE sector_effective_grants (
+    sector_id BIGINT NOT NULL REFERENCES sectors(id) ON DELETE CASCADE,
+    user_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
+    group_id BIGINT REFERENCES groups(id) ON DELETE CASCADE,
+    permissions INTEGER NOT NULL,
+    source_sector_id BIGINT NOT NULL,
+    CONSTRAINT uq_sector_effective_grants UNIQUE NULLS NOT DISTINCT (sector_id, user_id, group_id)
+);
+
+CREATE INDEX idx_sector_effective_grants_user ON sector_effective_grants(user_id, sector_id) WHERE user_id IS NOT NULL;
+CREATE INDEX idx_sector_effective_grants_group ON sector_effective_grants(group_id, sector_id) WHERE group_id IS NOT NULL;
+
+-- Build the closure of the existing tree from the materialized paths
+INSERT INTO sector_closure (ancestor_id, descendant_id, depth)
+SELECT a.id, d.id, (length(d.path) - length(replace(d.path, '/', ''))) - (length(a.path) - length(replace(a.path, '/', '')))
+FROM sectors d
+JOIN sectors a ON d.path LIKE a.path || '%';
+
+COMMENT ON TABLE sector_closure IS 'Ancestor/descendant pairs of the sector hierarchy';
+COMMENT ON TABLE sector_grants IS 'Sector permissions granted to users and groups';
+COMMENT ON TABLE sector_effective_grants IS 'Grants in effect at each sector after inheritance';
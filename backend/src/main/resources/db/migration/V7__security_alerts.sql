@@ -0,0 +1,21 @@
+-- Findings of the streaming suspicious activity detector
+-- Version: 7.0
+-- Date: 2026-10-17
+
+-- The backend checks audit events for failed-login bursts, address floods and
+-- off-hours administration as they happen and keeps only what it finds here.
+CREATE TABLE security_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    alert_type VARCHAR(50) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    user_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    ip_address VARCHAR(45),
+    action VARCHAR(50),
+    event_count INTEGER NOT NULL,
+    detected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_security_alerts_detected_at ON security_alerts(detected_at);
+CREATE INDEX idx_security_alerts_type ON security_alerts(alert_type, detected_at);
+
+COMMENT ON TABLE security_alerts IS 'Suspicious activity found in the audit events';
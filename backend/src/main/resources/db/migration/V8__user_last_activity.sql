@@ -0,0 +1,22 @@
+-- Last activity of each user, kept by the backend
+-- Version: 8.0
+-- Date: 2026-10-17
+
+-- The backend buffers activity in memory and writes at most one update per
+-- user per flush interval. Users without any activity count from creation.
+ALTER TABLE users ADD COLUMN last_activity_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE users SET last_activity_at = created_at;
+
+UPDATE users u
+SET last_activity_at = a.last_activity_at
+FROM (
+    SELECT user_id, MAX(timestamp) AS last_activity_at
+    FROM audit_logs
+    WHERE user_id IS NOT NULL
+    GROUP BY user_id
+) a
+WHERE a.user_id = u.id AND a.last_activity_at > u.last_activity_at;
+
+-- Inactive users are a range scan over active users by last activity
+CREATE INDEX idx_users_active_last_activity ON users(last_activity_at, id) WHERE active = true;
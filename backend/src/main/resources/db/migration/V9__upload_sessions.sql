@@ -0,0 +1,24 @@
+-- Resumable chunked document uploads
+-- Version: 9.0
+-- Date: 2026-10-17
+
+-- A client declares the file, sends its chunks in order and completes the
+-- upload. Chunks stream into a part file on local disk; the row tracks how
+-- far the file got so a dropped connection resumes at next_chunk.
+CREATE TABLE upload_sessions (
+    id UUID PRIMARY KEY,
+    owner_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255),
+    total_size BIGINT NOT NULL CHECK (total_size >= 0),
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+    chunk_count INTEGER NOT NULL CHECK (chunk_count >= 0),
+    next_chunk INTEGER NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    sha256 VARCHAR(64),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_upload_sessions_expires_at ON upload_sessions(expires_at) WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,155 @@
+package ignis.repositorio.institucional.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.auth.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditAspect.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditAspect Tests")
+class AuditAspectTest {
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private SuspiciousActivityDetector suspiciousActivityDetector;
+
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.addAspect(new AuditAspect(auditLogWriter, suspiciousActivityDetector, new ObjectMapper()));
+        service = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record the acting user, client and target of a successful call")
+    void shouldRecordSuccessfulCall() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                new AuthenticatedUser(7L, "maria"), null, List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.168.0.10");
+        request.addHeader("User-Agent", "JUnit");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        service.rename(42L, "new name");
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogWriter).submit(captor.capture());
+        AuditEvent event = captor.getValue();
+        assertThat(event.userId()).isEqualTo(7L);
+        assertThat(event.action()).isEqualTo("RENAME_SAMPLE");
+        assertThat(event.targetType()).isEqualTo("SAMPLE");
+        assertThat(event.targetId()).isEqualTo("42");
+        assertThat(event.ipAddress()).isEqualTo("192.168.0.10");
+        assertThat(event.userAgent()).isEqualTo("JUnit");
+        assertThat(event.extraData()).isEqualTo("{\"method\":\"SampleService.rename\"}");
+    }
+
+    @Test
+    @DisplayName("Should take the target id from the result and skip failed calls")
+    void shouldUseResultAndSkipFailures() {
+        // When
+        service.create("sample");
+        assertThatThrownBy(() -> service.fail()).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogWriter, times(1)).submit(captor.capture());
+        assertThat(captor.getValue().targetId()).isEqualTo("sample-1");
+        assertThat(captor.getValue().userId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should submit the event only after the transaction commits")
+    void shouldWaitForCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        service.rename(1L, "name");
+
+        // Then
+        verifyNoInteractions(auditLogWriter);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(auditLogWriter).submit(any());
+    }
+
+    @Test
+    @DisplayName("Should record calls failing with a listed exception under the failure action at once")
+    void shouldRecordListedFailures() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        assertThatThrownBy(() -> service.login("maria", true)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.login("maria", false)).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogWriter, times(1)).submit(captor.capture());
+        assertThat(captor.getValue().action()).isEqualTo("LOGIN_FAILED_SAMPLE");
+        assertThat(captor.getValue().targetId()).isEqualTo("maria");
+        verify(suspiciousActivityDetector).observe(captor.getValue());
+    }
+
+    static class SampleService {
+
+        @Audited(action = "RENAME_SAMPLE", targetType = "SAMPLE", targetId = "#id")
+        public void rename(Long id, String name) {
+        }
+
+        @Audited(action = "CREATE_SAMPLE", targetType = "SAMPLE", targetId = "#result")
+        public String create(String name) {
+            return name + "-1";
+        }
+
+        @Audited(action = "LOGIN_SAMPLE", targetType = "SAMPLE", targetId = "#name",
+                failureAction = "LOGIN_FAILED_SAMPLE", failureOn = IllegalArgumentException.class)
+        public void login(String name, boolean badPassword) {
+            throw badPassword ? new IllegalArgumentException("bad password") : new IllegalStateException("busy");
+        }
+
+        @Audited(action = "FAIL_SAMPLE", targetType = "SAMPLE")
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ignis.repositorio.institucional.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AuditLogJdbcRepository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import({AuditLogJdbcRepository.class, AuditRollupJdbcRepository.class})
+@DisplayName("AuditLogJdbcRepository Tests")
+class AuditLogJdbcRepositoryTest {
+
+    @Autowired
+    private AuditLogJdbcRepository auditLogJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should insert a batch of events with their JSON details and roll them up")
+    void shouldInsertBatch() {
+        // Given
+        Instant timestamp = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<AuditEvent> events = IntStream.range(0, 250)
+                .mapToObj(i -> new AuditEvent(null, "BATCH_TEST", "USER", String.valueOf(i), "10.0.0.1",
+                        "JUnit", "{\"method\":\"UserService.createUser\"}", timestamp))
+                .toList();
+
+        // When
+        auditLogJdbcRepository.insertAll(events);
+
+        // Then
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+                "SELECT count(*) AS rows, count(DISTINCT target_id) AS targets, "
+                        + "min(extra_data ->> 'method') AS method, min(timestamp) AS ts "
+                        + "FROM audit_logs WHERE action = 'BATCH_TEST'");
+        assertThat(summary.get("rows")).isEqualTo(250L);
+        assertThat(summary.get("targets")).isEqualTo(250L);
+        assertThat(summary.get("method")).isEqualTo("UserService.createUser");
+        assertThat(((Timestamp) summary.get("ts")).toInstant()).isEqualTo(timestamp);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT sum(event_count) FROM audit_rollup_hourly WHERE action = 'BATCH_TEST'", Long.class))
+                .isEqualTo(250L);
+    }
+}
@@ -0,0 +1,207 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditLogWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter Tests")
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogJdbcRepository repository;
+
+    private AuditProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final List<AuditEvent> written = Collections.synchronizedList(new ArrayList<>());
+
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setBufferCapacity(8);
+        properties.setBatchSize(4);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write buffered events in batches on the background thread")
+    void shouldWriteInBatches() {
+        // Given
+        recordWrites();
+        writer = newWriter();
+        writer.start();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            writer.submit(event(i));
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> written.size() == 10);
+        assertThat(written).extracting(AuditEvent::targetId)
+                .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(meterRegistry.get("audit.flush").timer().count()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get("audit.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drain the buffer when stopped")
+    void shouldDrainOnStop() {
+        // Given
+        recordWrites();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setBatchSize(100);
+        writer = newWriter();
+        writer.start();
+        for (int i = 0; i < 5; i++) {
+            writer.submit(event(i));
+        }
+
+        // When
+        writer.stop();
+        writer.submit(event(5));
+
+        // Then
+        assertThat(written).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Should drop the newest event when full under DROP_NEWEST")
+    void shouldDropNewestWhenFull() throws InterruptedException {
+        // When
+        List<String> result = overflow(AuditOverflowPolicy.DROP_NEWEST);
+
+        // Then
+        assertThat(result).containsExactly("0", "1", "2");
+        assertThat(meterRegistry.get("audit.events").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered event when full under DROP_OLDEST")
+    void shouldDropOldestWhenFull() throws InterruptedException {
+        // When
+        List<String> result = overflow(AuditOverflowPolicy.DROP_OLDEST);
+
+        // Then
+        assertThat(result).containsExactly("0", "2", "3");
+    }
+
+    @Test
+    @DisplayName("Should write on the caller's thread when full under CALLER_RUNS")
+    void shouldRunOnCallerWhenFull() throws InterruptedException {
+        // When
+        List<String> result = overflow(AuditOverflowPolicy.CALLER_RUNS);
+
+        // Then
+        assertThat(result).containsExactly("3", "0", "1", "2");
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row and keep the good rows")
+    void shouldFallBackToSingleRows() {
+        // Given
+        doThrow(new DataIntegrityViolationException("bad row")).when(repository).insertAll(anyList());
+        doAnswer(invocation -> {
+            AuditEvent event = invocation.getArgument(0);
+            if ("1".equals(event.targetId())) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            written.add(event);
+            return null;
+        }).when(repository).insert(any());
+        writer = newWriter();
+        writer.start();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            writer.submit(event(i));
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> written.size() == 3);
+        assertThat(meterRegistry.get("audit.events").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    private AuditLogWriter newWriter() {
+        return new AuditLogWriter(properties, repository, meterRegistry);
+    }
+
+    private void recordWrites() {
+        doAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(repository).insertAll(anyList());
+    }
+
+    /**
+     * Stalls the worker on the first batch, fills the two-slot buffer and
+     * submits one more event, then returns the target ids in write order.
+     */
+    private List<String> overflow(AuditOverflowPolicy policy) throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<AuditEvent> batch = invocation.getArgument(0);
+            if (stalled.getCount() > 0) {
+                stalled.countDown();
+                release.await();
+            }
+            written.addAll(batch);
+            return null;
+        }).when(repository).insertAll(anyList());
+        properties.setBufferCapacity(2);
+        properties.setBatchSize(1);
+        properties.setOverflowPolicy(policy);
+        writer = newWriter();
+        writer.start();
+
+        writer.submit(event(0));
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 3; i++) {
+            writer.submit(event(i));
+        }
+        release.countDown();
+        writer.stop();
+        return written.stream().map(AuditEvent::targetId).toList();
+    }
+
+    private static AuditEvent event(int i) {
+        return new AuditEvent(null, "TEST", "USER", String.valueOf(i), null, null, null, Instant.now());
+    }
+}
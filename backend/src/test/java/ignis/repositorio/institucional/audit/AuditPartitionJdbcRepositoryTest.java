@@ -0,0 +1,122 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AuditPartitionJdbcRepository. DDL is transactional in
+ * PostgreSQL, so the rollback after each test removes the partitions again.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import(AuditPartitionJdbcRepository.class)
+@DisplayName("AuditPartitionJdbcRepository Tests")
+class AuditPartitionJdbcRepositoryTest {
+
+    private static final YearMonth FAR_FUTURE = YearMonth.of(2099, 1);
+
+    @Autowired
+    private AuditPartitionJdbcRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should route rows of a new month into its partition and prune other months")
+    void shouldCreateAndPrunePartition() {
+        // Given
+        assertThat(repository.tryLockMaintenance()).isTrue();
+
+        // When
+        repository.createPartition(FAR_FUTURE);
+        jdbcTemplate.update("INSERT INTO audit_logs (action, target_type, timestamp) "
+                + "VALUES ('PARTITION_TEST', 'USER', '2099-01-15 10:00')");
+
+        // Then
+        assertThat(repository.findPartitionMonths()).contains(FAR_FUTURE, YearMonth.now());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM audit_logs WHERE action = 'PARTITION_TEST'", String.class))
+                .isEqualTo("audit_logs_2099_01");
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM audit_logs WHERE timestamp >= '2099-01-01' AND timestamp < '2099-02-01'",
+                String.class));
+        assertThat(plan).contains("audit_logs_2099_01").doesNotContain("audit_logs_default");
+    }
+
+    @Test
+    @DisplayName("Should detach a partition and keep its rows in a standalone table")
+    void shouldDetachPartition() {
+        // Given
+        repository.createPartition(FAR_FUTURE);
+        jdbcTemplate.update("INSERT INTO audit_logs (action, target_type, timestamp) "
+                + "VALUES ('PARTITION_TEST', 'USER', '2099-01-15 10:00')");
+
+        // When
+        repository.detachPartition(FAR_FUTURE);
+
+        // Then
+        assertThat(repository.findPartitionMonths()).doesNotContain(FAR_FUTURE);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM audit_logs_2099_01", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM audit_logs WHERE action = 'PARTITION_TEST'", Long.class)).isZero();
+
+        repository.dropPartition(FAR_FUTURE);
+    }
+
+    @Test
+    @DisplayName("Should create a month held by the default partition by moving its rows over")
+    void shouldCreatePartitionFromDefault() {
+        // Given
+        jdbcTemplate.update("INSERT INTO audit_logs (action, target_type, timestamp) VALUES "
+                + "('PARTITION_TEST', 'USER', '2099-01-15 10:00'), ('PARTITION_TEST', 'USER', '2099-02-15 10:00')");
+        assertThat(repository.defaultPartitionHasRows(FAR_FUTURE)).isTrue();
+
+        // When
+        int moved = repository.createPartitionFromDefault(FAR_FUTURE);
+
+        // Then
+        assertThat(moved).isEqualTo(1);
+        assertThat(repository.defaultPartitionHasRows(FAR_FUTURE)).isFalse();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT tableoid::regclass::text FROM audit_logs WHERE action = 'PARTITION_TEST' ORDER BY timestamp",
+                String.class)).containsExactly("audit_logs_2099_01", "audit_logs_default");
+    }
+
+    @Test
+    @DisplayName("Should stream a partition's rows in archive order")
+    void shouldStreamRowsInOrder() {
+        // Given
+        repository.createPartition(FAR_FUTURE);
+        jdbcTemplate.update("INSERT INTO audit_logs (action, target_type, target_id, extra_data, timestamp) VALUES "
+                + "('PARTITION_TEST', 'USER', 'b', '{\"n\": 2}', '2099-01-20 10:00'), "
+                + "('PARTITION_TEST', 'USER', 'a', NULL, '2099-01-15 10:00')");
+        repository.lockPartition(FAR_FUTURE);
+
+        // When
+        List<AuditLogEntry> rows = new ArrayList<>();
+        repository.forEachRow(FAR_FUTURE, rows::add);
+
+        // Then
+        assertThat(repository.countRows(FAR_FUTURE)).isEqualTo(2);
+        assertThat(rows).extracting(AuditLogEntry::getTargetId).containsExactly("a", "b");
+        assertThat(rows.get(0).getUserId()).isNull();
+        assertThat(rows.get(0).getExtraData()).isNull();
+        assertThat(rows.get(1).getExtraData()).isEqualTo("{\"n\": 2}");
+        assertThat(rows.get(1).getTimestamp()).isEqualTo(LocalDateTime.of(2099, 1, 20, 10, 0));
+    }
+}
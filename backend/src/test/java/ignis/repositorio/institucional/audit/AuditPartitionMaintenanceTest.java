@@ -0,0 +1,187 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditPartitionMaintenance.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditPartitionMaintenance Tests")
+class AuditPartitionMaintenanceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Mock
+    private AuditPartitionJdbcRepository repository;
+
+    @Mock
+    private AuditArchive archive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditProperties properties;
+
+    private AuditPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.getPartitions().setPremakeMonths(2);
+        properties.getPartitions().setRetention(Period.ofDays(90));
+        maintenance = new AuditPartitionMaintenance(repository, archive, properties, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Should create missing months and drop months entirely past retention")
+    void shouldCreateAndDropPartitions() {
+        // Given
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2026, 6), YearMonth.of(2026, 7), YearMonth.of(2026, 8), YearMonth.of(2026, 10))));
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        verify(repository, atLeastOnce()).limitLockWait(Duration.ofSeconds(5));
+        verify(repository).createPartition(YearMonth.of(2026, 11));
+        verify(repository).createPartition(YearMonth.of(2026, 12));
+        verify(repository, never()).createPartition(YearMonth.of(2026, 10));
+        // Cutoff is 2026-07-19: June is entirely older, July is not
+        verify(repository).dropPartition(YearMonth.of(2026, 6));
+        verify(repository, never()).dropPartition(YearMonth.of(2026, 7));
+        verify(repository, never()).detachPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should move the rows the default partition took for a month into its new partition")
+    void shouldCreatePartitionFromDefaultRows() {
+        // Given
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(YearMonth.of(2026, 10))));
+        when(repository.defaultPartitionHasRows(YearMonth.of(2026, 11))).thenReturn(true);
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        verify(repository).createPartitionFromDefault(YearMonth.of(2026, 11));
+        verify(repository, never()).createPartition(YearMonth.of(2026, 11));
+        verify(repository).createPartition(YearMonth.of(2026, 12));
+    }
+
+    @Test
+    @DisplayName("Should keep creating and expiring partitions after one month fails")
+    void shouldIsolateFailedMonths() {
+        // Given
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2026, 6), YearMonth.of(2026, 10))));
+        doThrow(new IllegalStateException("lock timeout")).when(repository).createPartition(YearMonth.of(2026, 11));
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        verify(repository).createPartition(YearMonth.of(2026, 12));
+        verify(repository).dropPartition(YearMonth.of(2026, 6));
+    }
+
+    @Test
+    @DisplayName("Should detach instead of drop when configured")
+    void shouldDetachExpiredPartitions() {
+        // Given
+        properties.getPartitions().setExpiredAction(ExpiredPartitionAction.DETACH);
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2026, 1), YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12))));
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        verify(repository).detachPartition(YearMonth.of(2026, 1));
+        verify(repository, never()).dropPartition(any());
+        verify(repository, never()).createPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should archive expired months before dropping them when configured")
+    void shouldArchiveExpiredPartitions() {
+        // Given
+        properties.getPartitions().setExpiredAction(ExpiredPartitionAction.ARCHIVE);
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2026, 1), YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12))));
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        InOrder inOrder = inOrder(archive, repository);
+        inOrder.verify(archive).archive(YearMonth.of(2026, 1));
+        inOrder.verify(repository).dropPartition(YearMonth.of(2026, 1));
+        verify(archive, never()).archive(YearMonth.of(2026, 10));
+        verify(repository, never()).detachPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should archive each month in its own transaction after the new partitions committed")
+    void shouldArchiveOutsideCreation() {
+        // Given
+        properties.getPartitions().setExpiredAction(ExpiredPartitionAction.ARCHIVE);
+        when(repository.tryLockMaintenance()).thenReturn(true);
+        when(repository.findPartitionMonths()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2026, 1), YearMonth.of(2026, 2), YearMonth.of(2026, 10))));
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(archive).archive(YearMonth.of(2026, 1));
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then: creation committed first, January rolled back alone, February still archived
+        InOrder inOrder = inOrder(repository, archive, transactionManager);
+        inOrder.verify(repository).createPartition(YearMonth.of(2026, 12));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(archive).archive(YearMonth.of(2026, 1));
+        inOrder.verify(transactionManager).rollback(any());
+        inOrder.verify(archive).archive(YearMonth.of(2026, 2));
+        inOrder.verify(repository).dropPartition(YearMonth.of(2026, 2));
+        verify(repository, never()).dropPartition(YearMonth.of(2026, 1));
+    }
+
+    @Test
+    @DisplayName("Should leave the partitions alone while another node holds the lock")
+    void shouldSkipWhenLocked() {
+        // Given
+        when(repository.tryLockMaintenance()).thenReturn(false);
+
+        // When
+        maintenance.maintain(TODAY);
+
+        // Then
+        verify(repository, never()).findPartitionMonths();
+        verify(repository, never()).createPartition(any());
+    }
+}
@@ -0,0 +1,122 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditActionCount;
+import ignis.repositorio.institucional.audit.dto.AuditActivityBucket;
+import ignis.repositorio.institucional.audit.dto.AuditUserActivity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for AuditRollupJdbcRepository. The events lie in 2031 so
+ * they never mix with rollups of the real log.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import(AuditRollupJdbcRepository.class)
+@DisplayName("AuditRollupJdbcRepository Tests")
+class AuditRollupJdbcRepositoryTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2031, 3, 10, 14, 0);
+
+    @Autowired
+    private AuditRollupJdbcRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password_hash) VALUES ('rollup.user', 'rollup@test.com', 'x') "
+                        + "RETURNING id", Long.class);
+    }
+
+    @Test
+    @DisplayName("Should fold events into hourly counts across batches")
+    void shouldAggregateEvents() {
+        // Given
+        List<AuditEvent> first = List.of(
+                event(userId, "UPDATE_USER", HOUR.plusMinutes(5)),
+                event(userId, "UPDATE_USER", HOUR.plusMinutes(20)),
+                event(null, "LOGIN_FAILED", HOUR.plusMinutes(30)));
+        List<AuditEvent> second = List.of(
+                event(userId, "UPDATE_USER", HOUR.plusMinutes(50)),
+                event(userId + 1000, "UPDATE_USER", HOUR.plusHours(1).plusMinutes(1)));
+
+        // When
+        repository.add(first);
+        repository.add(second);
+
+        // Then
+        LocalDateTime to = HOUR.plusHours(2);
+        assertThat(repository.countEvents(HOUR, to)).isEqualTo(5);
+        assertThat(repository.countByAction(HOUR, to)).containsExactly(
+                new AuditActionCount("UPDATE_USER", 4), new AuditActionCount("LOGIN_FAILED", 1));
+        assertThat(repository.countByHour(HOUR, to)).containsExactly(
+                new AuditActivityBucket(HOUR, 4), new AuditActivityBucket(HOUR.plusHours(1), 1));
+        assertThat(repository.findTopUsers(HOUR, to, 1)).containsExactly(
+                new AuditUserActivity(userId, "rollup.user", 3, HOUR.plusMinutes(50)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM audit_rollup_hourly WHERE bucket >= ? AND bucket < ?",
+                Long.class, Timestamp.valueOf(HOUR), Timestamp.valueOf(to))).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should estimate distinct users from sketches and unsketched hours alike")
+    void shouldEstimateDistinctUsers() {
+        // Given
+        List<AuditEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            events.add(event(id, "VIEW", HOUR.plusMinutes(id)));
+            events.add(event(id + 20, "VIEW", HOUR.plusHours(1).plusMinutes(id)));
+        }
+        repository.add(events);
+        LocalDateTime to = HOUR.plusHours(2);
+        assertThat(repository.findUnsketchedHours(to, 10)).containsExactly(HOUR, HOUR.plusHours(1));
+
+        // When
+        repository.sketchHour(HOUR);
+
+        // Then
+        assertThat(repository.findUnsketchedHours(to, 10)).containsExactly(HOUR.plusHours(1));
+        assertThat(repository.estimateDistinctUsers(HOUR, to)).isEqualTo(50);
+        assertThat(repository.estimateDistinctUsers(HOUR, HOUR.plusHours(1))).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should drop the sketch of an hour that receives a late event")
+    void shouldInvalidateSketchOnLateEvent() {
+        // Given
+        repository.add(List.of(event(1L, "VIEW", HOUR.plusMinutes(1))));
+        repository.sketchHour(HOUR);
+
+        // When
+        repository.add(List.of(event(2L, "VIEW", HOUR.plusMinutes(59))));
+
+        // Then
+        assertThat(repository.findUnsketchedHours(HOUR.plusHours(1), 10)).containsExactly(HOUR);
+        assertThat(repository.estimateDistinctUsers(HOUR, HOUR.plusHours(1))).isEqualTo(2);
+    }
+
+    private static AuditEvent event(Long userId, String action, LocalDateTime at) {
+        return new AuditEvent(userId, action, "USER", null, null, null, null,
+                Timestamp.valueOf(at).toInstant());
+    }
+}
@@ -0,0 +1,119 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.audit.dto.AuditLogEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AuditSegment and AuditSegmentWriter.
+ */
+@DisplayName("AuditSegment Tests")
+class AuditSegmentTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should find a user's rows in a time range across detail blocks")
+    void shouldFindUserRowsInRange() throws IOException {
+        // Given: 10 anonymous rows, then 50 hourly rows for each of users 1, 2 and 7
+        List<AuditLogEntry> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(rows.size() + 1, null, START.plusMinutes(i)));
+        }
+        for (long user : new long[] {1, 2, 7}) {
+            for (int hour = 0; hour < 50; hour++) {
+                rows.add(row(rows.size() + 1, user, START.plusHours(hour)));
+            }
+        }
+        AuditSegment segment = write(rows, 16);
+
+        // When
+        List<AuditLogEntry> found = segment.findByUser(2, START.plusHours(10), START.plusHours(20), 100);
+
+        // Then
+        assertThat(segment.rowCount()).isEqualTo(160);
+        assertThat(found).usingRecursiveFieldByFieldElementComparator().isEqualTo(rows.subList(70, 80));
+        assertThat(segment.findByUser(7, START, START.plusDays(30), 5)).hasSize(5);
+        assertThat(segment.findByUser(3, START, START.plusDays(30), 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep nulls, sub-second times and text details")
+    void shouldRoundTripValues() throws IOException {
+        // Given
+        AuditLogEntry full = AuditLogEntry.builder()
+            .id(42L).userId(5L).action("LOGIN").targetType("USER").targetId("maria")
+            .ipAddress("10.0.0.1").userAgent("Mozilla/5.0").extraData("{\"método\": \"senha\"}")
+            .timestamp(START.plusNanos(123_456_000)).build();
+        AuditLogEntry sparse = AuditLogEntry.builder()
+            .id(43L).userId(5L).action("LOGOUT").targetType("USER").timestamp(START.plusSeconds(1)).build();
+        AuditSegment segment = write(List.of(full, sparse), 256);
+
+        // When
+        List<AuditLogEntry> found = segment.findByUser(5, START, START.plusMinutes(1), 10);
+
+        // Then
+        assertThat(found).usingRecursiveFieldByFieldElementComparator().containsExactly(full, sparse);
+    }
+
+    @Test
+    @DisplayName("Should skip segments whose time range does not overlap the query")
+    void shouldPruneByTimeRange() throws IOException {
+        // Given
+        AuditSegment segment = write(List.of(row(1, 1L, START), row(2, 1L, START.plusDays(1))), 256);
+
+        // Then
+        assertThat(segment.overlaps(START.minusDays(1), START)).isFalse();
+        assertThat(segment.overlaps(START.minusDays(1), START.plusSeconds(1))).isTrue();
+        assertThat(segment.overlaps(START.plusDays(2), START.plusDays(3))).isFalse();
+        assertThat(segment.findByUser(1, START.plusDays(2), START.plusDays(3), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject rows that are not ordered by user and time")
+    void shouldRejectOutOfOrderRows() throws IOException {
+        // Given
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory.resolve("bad.seg"), 2, 256)) {
+            writer.append(row(1, 2L, START));
+
+            // When / Then
+            assertThatThrownBy(() -> writer.append(row(2, 1L, START.plusHours(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private AuditSegment write(List<AuditLogEntry> rows, int blockRows) throws IOException {
+        Path path = directory.resolve("segment.seg");
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(path, rows.size(), blockRows)) {
+            rows.forEach(writer::append);
+            writer.finish();
+        }
+        return AuditSegment.open(path);
+    }
+
+    private static AuditLogEntry row(long id, Long userId, LocalDateTime timestamp) {
+        return AuditLogEntry.builder()
+            .id(id)
+            .userId(userId)
+            .action(id % 2 == 0 ? "UPDATE_USER" : "LOGIN")
+            .targetType("USER")
+            .targetId("target-" + id)
+            .ipAddress("10.0.0." + (id % 5))
+            .extraData(id % 3 == 0 ? null : "{\"row\": " + id + "}")
+            .timestamp(timestamp)
+            .build();
+    }
+}
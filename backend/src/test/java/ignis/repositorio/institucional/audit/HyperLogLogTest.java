@@ -0,0 +1,68 @@
+package ignis.repositorio.institucional.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for HyperLogLog.
+ */
+@DisplayName("HyperLogLog Tests")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should count small sets exactly and ignore duplicates")
+    void shouldCountSmallSetsExactly() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // When
+        for (int round = 0; round < 3; round++) {
+            for (long id = 1; id <= 50; id++) {
+                sketch.add(id);
+            }
+        }
+
+        // Then
+        assertThat(sketch.estimate()).isEqualTo(50);
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should estimate large sets within a few percent")
+    void shouldEstimateLargeSets() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // When
+        for (long id = 1; id <= 1_000_000; id++) {
+            sketch.add(id);
+        }
+
+        // Then
+        assertThat((double) sketch.estimate()).isCloseTo(1_000_000, within(50_000.0));
+    }
+
+    @Test
+    @DisplayName("Should estimate the union of merged sketches and survive serialization")
+    void shouldMergeSketches() {
+        // Given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long id = 0; id < 60_000; id++) {
+            first.add(id);
+        }
+        for (long id = 40_000; id < 100_000; id++) {
+            second.add(id);
+        }
+
+        // When
+        HyperLogLog union = HyperLogLog.fromBytes(first.toBytes());
+        union.merge(HyperLogLog.fromBytes(second.toBytes()));
+
+        // Then
+        assertThat((double) union.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+}
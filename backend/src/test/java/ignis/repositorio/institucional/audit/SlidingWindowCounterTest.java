@@ -0,0 +1,98 @@
+package ignis.repositorio.institucional.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SlidingWindowCounter.
+ */
+@DisplayName("SlidingWindowCounter Tests")
+class SlidingWindowCounterTest {
+
+    private static final long SECOND = 1_000;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long START = 1_800_000_000_000L;
+
+    @Test
+    @DisplayName("Should forget events once the window has moved past them")
+    void shouldSlide() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+
+        // When / Then
+        assertThat(counter.add(START)).isEqualTo(1);
+        assertThat(counter.add(START + 30 * MINUTE)).isEqualTo(2);
+        assertThat(counter.add(START + 59 * MINUTE)).isEqualTo(3);
+        assertThat(counter.add(START + 61 * MINUTE)).isEqualTo(3);
+        assertThat(counter.add(START + 5 * HOUR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep windows shorter than a minute at their length")
+    void shouldSlideShortWindows() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(10 * SECOND);
+
+        // When / Then
+        assertThat(counter.add(START)).isEqualTo(1);
+        assertThat(counter.add(START + 9 * SECOND)).isEqualTo(2);
+        assertThat(counter.add(START + 11 * SECOND)).isEqualTo(2);
+        assertThat(counter.add(START + 30 * SECOND)).isEqualTo(1);
+        assertThat(counter.tryAlert(START)).isTrue();
+        assertThat(counter.tryAlert(START + 5 * SECOND)).isFalse();
+        assertThat(counter.tryAlert(START + 10 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should grant one alert per window")
+    void shouldAlertOncePerWindow() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+
+        // When / Then
+        assertThat(counter.tryAlert(START)).isTrue();
+        assertThat(counter.tryAlert(START + 30 * MINUTE)).isFalse();
+        assertThat(counter.tryAlert(START + HOUR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not lose increments made concurrently")
+    void shouldCountConcurrently() throws InterruptedException {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+        int threads = 8;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perThread; i++) {
+                    counter.add(START + (i % 2) * MINUTE);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // When
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Then
+        assertThat(counter.add(START + MINUTE)).isEqualTo(threads * perThread + 1);
+    }
+}
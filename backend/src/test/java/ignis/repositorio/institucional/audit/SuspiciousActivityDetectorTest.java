@@ -0,0 +1,132 @@
+package ignis.repositorio.institucional.audit;
+
+import ignis.repositorio.institucional.config.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for SuspiciousActivityDetector.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuspiciousActivityDetector Tests")
+class SuspiciousActivityDetectorTest {
+
+    /** A Tuesday, 10:00 UTC. */
+    private static final Instant OFFICE_HOURS = Instant.parse("2031-03-04T10:00:00Z");
+
+    @Mock
+    private SecurityAlertJdbcRepository repository;
+
+    private AuditProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SuspiciousActivityDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.getDetection().setZone(ZoneOffset.UTC);
+        properties.getDetection().setIpFlood(new AuditProperties.Threshold(5, Duration.ofMinutes(10)));
+        meterRegistry = new SimpleMeterRegistry();
+        detector = new SuspiciousActivityDetector(properties, repository, Runnable::run, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should raise one alert when failed logins for an account reach the threshold")
+    void shouldDetectFailedLogins() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            detector.observe(event(null, "LOGIN_FAILED", "maria", "10.0.0." + i, OFFICE_HOURS.plusSeconds(i * 600L)));
+        }
+        detector.observe(event(null, "LOGIN_FAILED", "joao", "10.0.1.1", OFFICE_HOURS));
+
+        // Then
+        ArgumentCaptor<SecurityAlert> captor = ArgumentCaptor.forClass(SecurityAlert.class);
+        verify(repository, times(1)).insert(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(SecurityAlertType.FAILED_LOGINS);
+        assertThat(captor.getValue().subject()).isEqualTo("maria");
+        assertThat(captor.getValue().eventCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("audit.security.alerts", "type", "FAILED_LOGINS").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not add up failed logins further apart than the window")
+    void shouldForgetOldFailedLogins() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            detector.observe(event(null, "LOGIN_FAILED", "maria", null, OFFICE_HOURS.plus(Duration.ofMinutes(40L * i))));
+        }
+
+        // Then
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should flag an address sending too many events")
+    void shouldDetectIpFlood() {
+        // When
+        for (int i = 0; i < 6; i++) {
+            detector.observe(event(7L, "UPDATE_USER", "1", "192.168.0.9", OFFICE_HOURS.plusSeconds(i)));
+        }
+
+        // Then
+        ArgumentCaptor<SecurityAlert> captor = ArgumentCaptor.forClass(SecurityAlert.class);
+        verify(repository).insert(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(SecurityAlertType.IP_FLOOD);
+        assertThat(captor.getValue().subject()).isEqualTo("192.168.0.9");
+        assertThat(captor.getValue().eventCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should flag administrative actions outside business hours only")
+    void shouldDetectOffHoursAdministration() {
+        // When
+        detector.observe(event(7L, "DELETE_USER", "3", null, OFFICE_HOURS));
+        detector.observe(event(7L, "UPDATE_USER", "3", null, OFFICE_HOURS.plus(Duration.ofHours(13))));
+        detector.observe(event(7L, "DELETE_USER", "4", null, OFFICE_HOURS.plus(Duration.ofHours(13))));
+
+        // Then
+        ArgumentCaptor<SecurityAlert> captor = ArgumentCaptor.forClass(SecurityAlert.class);
+        verify(repository).insert(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(SecurityAlertType.OFF_HOURS_ADMIN);
+        assertThat(captor.getValue().userId()).isEqualTo(7L);
+        assertThat(captor.getValue().action()).isEqualTo("DELETE_USER");
+    }
+
+    @Test
+    @DisplayName("Should ignore events when detection is disabled")
+    void shouldStayQuietWhenDisabled() {
+        // Given
+        properties.getDetection().setEnabled(false);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            detector.observe(event(null, "LOGIN_FAILED", "maria", "10.0.0.1", OFFICE_HOURS.minus(Duration.ofHours(8))));
+        }
+
+        // Then
+        verify(repository, never()).insert(any());
+    }
+
+    private static AuditEvent event(Long userId, String action, String targetId, String ipAddress, Instant at) {
+        return new AuditEvent(userId, action, "USER", targetId, ipAddress, null, null, at);
+    }
+}
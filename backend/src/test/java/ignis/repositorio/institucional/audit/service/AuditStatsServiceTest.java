@@ -0,0 +1,95 @@
+package ignis.repositorio.institucional.audit.service;
+
+import ignis.repositorio.institucional.audit.AuditRollupJdbcRepository;
+import ignis.repositorio.institucional.audit.dto.AuditActionCount;
+import ignis.repositorio.institucional.audit.dto.AuditStatsResponse;
+import ignis.repositorio.institucional.config.AuditProperties;
+import ignis.repositorio.institucional.exception.InvalidTimeRangeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditStatsService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditStatsService Tests")
+class AuditStatsServiceTest {
+
+    @Mock
+    private AuditRollupJdbcRepository rollupRepository;
+
+    private AuditStatsService auditStatsService;
+
+    @BeforeEach
+    void setUp() {
+        auditStatsService = new AuditStatsService(rollupRepository, new AuditProperties());
+    }
+
+    @Test
+    @DisplayName("Should widen the range to whole hours and read every figure from the rollups")
+    void shouldWidenRangeToWholeHours() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2026, 10, 17, 8, 30);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 11, 15);
+        LocalDateTime start = LocalDateTime.of(2026, 10, 17, 8, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 10, 17, 12, 0);
+        when(rollupRepository.countEvents(start, end)).thenReturn(42L);
+        when(rollupRepository.estimateDistinctUsers(start, end)).thenReturn(7L);
+        when(rollupRepository.countByAction(start, end)).thenReturn(List.of(new AuditActionCount("UPDATE_USER", 42)));
+        when(rollupRepository.findTopUsers(start, end, 5)).thenReturn(List.of());
+        when(rollupRepository.countByHour(start, end)).thenReturn(List.of());
+
+        // When
+        AuditStatsResponse response = auditStatsService.getStats(from, to, 5);
+
+        // Then
+        assertThat(response.getFrom()).isEqualTo(start);
+        assertThat(response.getTo()).isEqualTo(end);
+        assertThat(response.getTotalEvents()).isEqualTo(42);
+        assertThat(response.getActiveUsersEstimate()).isEqualTo(7);
+        assertThat(response.getActions()).extracting(AuditActionCount::getAction).containsExactly("UPDATE_USER");
+    }
+
+    @Test
+    @DisplayName("Should default to the 24 hours before 'to' and cap the number of top users")
+    void shouldApplyDefaults() {
+        // Given
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+        // When
+        AuditStatsResponse response = auditStatsService.getStats(null, to, 1_000);
+
+        // Then
+        assertThat(response.getFrom()).isEqualTo(LocalDateTime.of(2026, 10, 16, 12, 0));
+        verify(rollupRepository).findTopUsers(any(), eq(to), eq(AuditStatsService.MAX_TOP_USERS));
+    }
+
+    @Test
+    @DisplayName("Should reject empty and too wide ranges")
+    void shouldRejectInvalidRanges() {
+        // Given
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+        // When / Then
+        assertThatThrownBy(() -> auditStatsService.getStats(to, to.minusHours(1), 10))
+                .isInstanceOf(InvalidTimeRangeException.class);
+        assertThatThrownBy(() -> auditStatsService.getStats(to.minusDays(40), to, 10))
+                .isInstanceOf(InvalidTimeRangeException.class)
+                .hasMessageContaining("wider than");
+        verify(rollupRepository, never()).findTopUsers(any(), any(), anyInt());
+    }
+}
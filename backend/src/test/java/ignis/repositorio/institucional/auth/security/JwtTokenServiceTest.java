@@ -0,0 +1,176 @@
+package ignis.repositorio.institucional.auth.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.config.JwtProperties;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.service.PermissionCatalog;
+import ignis.repositorio.institucional.user.service.PermissionOrdinals;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtTokenService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenService Tests")
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "test-secret-with-at-least-thirty-two-bytes-of-key";
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private JwtProperties properties;
+
+    private PermissionCatalog permissionCatalog;
+
+    private JwtTokenService jwtTokenService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        jwtTokenService = newService(properties);
+    }
+
+    @Test
+    @DisplayName("Should authenticate an access token from its embedded roles and permissions")
+    void shouldAuthenticateFromEmbeddedAuthorities() {
+        // Given
+        givenCatalog();
+        String token = jwtTokenService.issueAccessToken(7L, "maria", List.of("ADMIN"), ordinals(0, 2));
+
+        // When
+        Authentication result = jwtTokenService.authenticate(token);
+
+        // Then
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getPrincipal()).isEqualTo(new AuthenticatedUser(7L, "maria"));
+        assertThat(result.getName()).isEqualTo("maria");
+        assertThat(result.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN", "DOCUMENT:READ", "USER:MANAGE");
+    }
+
+    @Test
+    @DisplayName("Should load the permission catalog once for many verifications")
+    void shouldLoadCatalogOnce() {
+        // Given
+        givenCatalog();
+
+        // When
+        for (long userId = 1; userId <= 50; userId++) {
+            String token = jwtTokenService.issueAccessToken(userId, "user" + userId, List.of(), ordinals(1));
+            jwtTokenService.authenticate(token);
+            jwtTokenService.authenticate(token);
+        }
+
+        // Then
+        verify(permissionRepository, times(1)).findAll(any(Sort.class));
+        verify(roleRepository, times(1)).findAllPermissionLinks();
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose signature does not match")
+    void shouldRejectTamperedToken() {
+        // Given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setSecret("another-secret-with-at-least-thirty-two-bytes");
+        String forged = newService(otherProperties).issueAccessToken(1L, "admin", List.of("ADMIN"), ordinals());
+
+        // When/Then
+        assertThatThrownBy(() -> jwtTokenService.authenticate(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an expired access token")
+    void shouldRejectExpiredToken() {
+        // Given
+        properties.setExpiration(Duration.ofSeconds(-1));
+        String token = jwtTokenService.issueAccessToken(1L, "maria", List.of(), ordinals());
+
+        // When/Then
+        assertThatThrownBy(() -> jwtTokenService.authenticate(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject permissions issued for another catalog layout")
+    void shouldRejectPermissionsOfAnotherLayout() {
+        // Given
+        givenCatalog();
+        BitSet bits = new BitSet();
+        bits.set(0);
+        String token = jwtTokenService.issueAccessToken(7L, "maria", List.of(),
+                new PermissionOrdinals("other-layout", bits));
+
+        // When/Then
+        assertThatThrownBy(() -> jwtTokenService.authenticate(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should not accept refresh tokens as access tokens or vice versa")
+    void shouldSeparateAccessAndRefreshTokens() {
+        // Given
+        String refreshToken = jwtTokenService.issueRefreshToken(7L);
+        String accessToken = jwtTokenService.issueAccessToken(7L, "maria", List.of(), ordinals());
+
+        // When/Then
+        assertThat(jwtTokenService.parseRefreshToken(refreshToken)).isEqualTo(7L);
+        assertThatThrownBy(() -> jwtTokenService.authenticate(refreshToken)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenService.parseRefreshToken(accessToken)).isInstanceOf(JwtException.class);
+    }
+
+    private JwtTokenService newService(JwtProperties jwtProperties) {
+        permissionCatalog = new PermissionCatalog(permissionRepository, roleRepository,
+                new CacheInvalidationPublisher(null, "cache-invalidation", new ObjectMapper()));
+        return new JwtTokenService(jwtProperties, permissionCatalog);
+    }
+
+    private PermissionOrdinals ordinals(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return new PermissionOrdinals(permissionCatalog.snapshot().layout(), bits);
+    }
+
+    private void givenCatalog() {
+        when(permissionRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                permission(1L, "DOCUMENT", "READ"),
+                permission(2L, "DOCUMENT", "CREATE"),
+                permission(1000L, "USER", "MANAGE")));
+        when(roleRepository.findAllPermissionLinks()).thenReturn(List.of());
+    }
+
+    private static Permission permission(Long id, String resource, String action) {
+        return Permission.builder()
+                .id(id)
+                .name(action + "_" + resource)
+                .resource(resource)
+                .action(action)
+                .build();
+    }
+}
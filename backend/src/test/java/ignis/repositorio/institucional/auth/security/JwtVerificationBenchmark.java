@@ -0,0 +1,102 @@
+package ignis.repositorio.institucional.auth.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.config.JwtProperties;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.service.PermissionCatalog;
+import ignis.repositorio.institucional.user.service.PermissionOrdinals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request cost of authenticating a bearer token: a full signature check
+ * and claim decode, and a repeated token served from the verified-token cache.
+ * Run from the backend directory after {@code mvn test-compile}:
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     ignis.repositorio.institucional.auth.security.JwtVerificationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtTokenService jwtTokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        PermissionRepository permissionRepository = mock(PermissionRepository.class);
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(permissionRepository.findAll(any(Sort.class))).thenReturn(LongStream.rangeClosed(1, 40)
+            .mapToObj(id -> Permission.builder()
+                .id(id)
+                .name("PERMISSION_" + id)
+                .resource("RESOURCE" + id / 4)
+                .action("ACTION" + id % 4)
+                .build())
+            .toList());
+        when(roleRepository.findAllPermissionLinks()).thenReturn(List.of());
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-with-at-least-thirty-two-bytes");
+        PermissionCatalog permissionCatalog = new PermissionCatalog(permissionRepository, roleRepository,
+            new CacheInvalidationPublisher(null, "cache-invalidation", new ObjectMapper()));
+        jwtTokenService = new JwtTokenService(properties, permissionCatalog);
+        BitSet ordinals = new BitSet();
+        IntStream.range(0, 40).filter(ordinal -> ordinal % 3 != 2).forEach(ordinals::set);
+        token = jwtTokenService.issueAccessToken(42L, "benchmark", List.of("ADMIN", "USER"),
+            new PermissionOrdinals(permissionCatalog.snapshot().layout(), ordinals));
+    }
+
+    /**
+     * Signature check and claim decode, as for the first request with a token.
+     */
+    @Benchmark
+    public Authentication verify() {
+        return jwtTokenService.verify(token);
+    }
+
+    /**
+     * Repeated request with a token that was already verified.
+     */
+    @Benchmark
+    public Authentication authenticateCached() {
+        return jwtTokenService.authenticate(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,223 @@
+package ignis.repositorio.institucional.auth.service;
+
+import ignis.repositorio.institucional.auth.dto.LoginRequest;
+import ignis.repositorio.institucional.auth.dto.RefreshTokenRequest;
+import ignis.repositorio.institucional.auth.dto.TokenResponse;
+import ignis.repositorio.institucional.auth.security.JwtTokenService;
+import ignis.repositorio.institucional.auth.throttle.LoginThrottle;
+import ignis.repositorio.institucional.config.JwtProperties;
+import ignis.repositorio.institucional.exception.InvalidCredentialsException;
+import ignis.repositorio.institucional.exception.LoginThrottledException;
+import ignis.repositorio.institucional.exception.ServiceBusyException;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import ignis.repositorio.institucional.user.service.EffectivePermissionService;
+import ignis.repositorio.institucional.user.service.PasswordHashingService;
+import ignis.repositorio.institucional.user.service.PermissionOrdinals;
+import ignis.repositorio.institucional.user.service.UserActivityTracker;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuthService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService Tests")
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private EffectivePermissionService effectivePermissionService;
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private UserActivityTracker userActivityTracker;
+
+    private AuthService authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, passwordHashingService, effectivePermissionService,
+                jwtTokenService, new JwtProperties(), loginThrottle,
+                userActivityTracker);
+
+        user = User.builder()
+                .id(1L)
+                .username("maria")
+                .email("maria@example.com")
+                .passwordHash("hash")
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should issue tokens with the user's roles and permissions on login")
+    void shouldIssueTokensOnLogin() {
+        // Given
+        PermissionOrdinals permissions = new PermissionOrdinals("layout", BitSet.valueOf(new long[]{0b1001}));
+        when(userRepository.findByUsernameOrEmail("maria")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", "hash")).thenReturn(true);
+        when(userRepository.findRoleNames(1L)).thenReturn(List.of("ADMIN", "USER"));
+        when(effectivePermissionService.getEffectivePermissionOrdinals(1L)).thenReturn(permissions);
+        when(jwtTokenService.issueAccessToken(1L, "maria", List.of("ADMIN", "USER"), permissions))
+                .thenReturn("access");
+        when(jwtTokenService.issueRefreshToken(1L)).thenReturn("refresh");
+
+        // When
+        TokenResponse result = authService.login(new LoginRequest("maria", "secret"));
+
+        // Then
+        assertThat(result.getAccessToken()).isEqualTo("access");
+        assertThat(result.getRefreshToken()).isEqualTo("refresh");
+        assertThat(result.getTokenType()).isEqualTo("Bearer");
+        assertThat(result.getExpiresIn()).isEqualTo(86_400);
+        verify(passwordHashingService, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("Should rehash an outdated password hash after a successful login")
+    void shouldUpgradeOutdatedHashOnLogin() {
+        // Given
+        when(userRepository.findByUsernameOrEmail("maria")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", "hash")).thenReturn(true);
+        when(passwordHashingService.needsUpgrade("hash")).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenReturn("{bcrypt}new-hash");
+        when(userRepository.updatePasswordHash(1L, "hash", "{bcrypt}new-hash")).thenReturn(1);
+        when(effectivePermissionService.getEffectivePermissionOrdinals(1L)).thenReturn(new PermissionOrdinals("layout", new BitSet()));
+
+        // When
+        authService.login(new LoginRequest("maria", "secret"));
+
+        // Then
+        verify(userRepository).updatePasswordHash(1L, "hash", "{bcrypt}new-hash");
+    }
+
+    @Test
+    @DisplayName("Should still log in when the hashing pool is too busy to upgrade the hash")
+    void shouldLogInWhenUpgradeIsRejected() {
+        // Given
+        when(userRepository.findByUsernameOrEmail("maria")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", "hash")).thenReturn(true);
+        when(passwordHashingService.needsUpgrade("hash")).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenThrow(new ServiceBusyException("busy"));
+        when(effectivePermissionService.getEffectivePermissionOrdinals(1L)).thenReturn(new PermissionOrdinals("layout", new BitSet()));
+        when(jwtTokenService.issueAccessToken(any(), any(), any(), any())).thenReturn("access");
+
+        // When
+        TokenResponse result = authService.login(new LoginRequest("maria", "secret"));
+
+        // Then
+        assertThat(result.getAccessToken()).isEqualTo("access");
+        verify(userRepository, never()).updatePasswordHash(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password")
+    void shouldRejectWrongPassword() {
+        // Given
+        when(userRepository.findByUsernameOrEmail("maria")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("wrong", "hash")).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("maria", "wrong")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(jwtTokenService, never()).issueRefreshToken(any());
+    }
+
+    @Test
+    @DisplayName("Should reject inactive users after a check against the dummy hash")
+    void shouldRejectInactiveUser() {
+        // Given
+        user.setActive(false);
+        when(userRepository.findByUsernameOrEmail("maria")).thenReturn(Optional.of(user));
+
+        // When/Then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("maria", "secret")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(passwordHashingService).matchesDummy("secret");
+        verify(passwordHashingService, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should spend a password check on an unknown account")
+    void shouldCheckDummyHashForUnknownUser() {
+        // Given
+        when(userRepository.findByUsernameOrEmail("ghost")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("ghost", "secret")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(passwordHashingService).matchesDummy("secret");
+    }
+
+    @Test
+    @DisplayName("Should refuse a throttled login before looking up the account")
+    void shouldRejectThrottledLogin() {
+        // Given
+        doThrow(new LoginThrottledException("Too many login attempts", Duration.ofSeconds(30)))
+                .when(loginThrottle).acquire("maria");
+
+        // When/Then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("maria", "secret")))
+                .isInstanceOf(LoginThrottledException.class);
+        verify(userRepository, never()).findByUsernameOrEmail(any());
+        verify(passwordHashingService, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid refresh token")
+    void shouldRejectInvalidRefreshToken() {
+        // Given
+        when(jwtTokenService.parseRefreshToken("bad")).thenThrow(new MalformedJwtException("bad"));
+
+        // When/Then
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("bad")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should issue new tokens for a valid refresh token")
+    void shouldRefreshTokens() {
+        // Given
+        when(jwtTokenService.parseRefreshToken("refresh")).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(effectivePermissionService.getEffectivePermissionOrdinals(1L)).thenReturn(new PermissionOrdinals("layout", new BitSet()));
+        when(jwtTokenService.issueAccessToken(any(), any(), any(), any())).thenReturn("new-access");
+        when(jwtTokenService.issueRefreshToken(1L)).thenReturn("new-refresh");
+
+        // When
+        TokenResponse result = authService.refresh(new RefreshTokenRequest("refresh"));
+
+        // Then
+        assertThat(result.getAccessToken()).isEqualTo("new-access");
+        assertThat(result.getRefreshToken()).isEqualTo("new-refresh");
+    }
+}
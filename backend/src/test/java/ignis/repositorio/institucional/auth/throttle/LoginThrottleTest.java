@@ -0,0 +1,89 @@
+package ignis.repositorio.institucional.auth.throttle;
+
+import ignis.repositorio.institucional.config.LoginThrottleProperties;
+import ignis.repositorio.institucional.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for LoginThrottle with local buckets.
+ */
+@DisplayName("LoginThrottle Tests")
+class LoginThrottleTest {
+
+    private static final long NOW = 1_000_000;
+
+    private LoginThrottleProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setPerIp(new LoginThrottleProperties.Limit(3, Duration.ofSeconds(10)));
+        properties.setPerAccount(new LoginThrottleProperties.Limit(2, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = newThrottle();
+    }
+
+    @Test
+    @DisplayName("Should limit attempts against one account from any address, ignoring case")
+    void shouldThrottleAccount() {
+        // Given
+        throttle.acquire("10.0.0.1", "maria", NOW);
+        throttle.acquire("10.0.0.2", " Maria ", NOW);
+
+        // When/Then
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.3", "MARIA", NOW))
+                .isInstanceOf(LoginThrottledException.class)
+                .extracting(e -> ((LoginThrottledException) e).getRetryAfter())
+                .isEqualTo(Duration.ofMinutes(1));
+        assertThatCode(() -> throttle.acquire("10.0.0.3", "joao", NOW)).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.login.throttled", "limit", "account").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should limit attempts from one address across accounts")
+    void shouldThrottleAddress() {
+        // Given
+        throttle.acquire("10.0.0.1", "a", NOW);
+        throttle.acquire("10.0.0.1", "b", NOW);
+        throttle.acquire("10.0.0.1", "c", NOW);
+
+        // When/Then
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", "d", NOW))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.acquire("10.0.0.1", "d", NOW + 10_000)).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.login.throttled", "limit", "ip").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let every attempt through when disabled")
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        throttle = newThrottle();
+
+        // When/Then
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire("10.0.0.1", "maria", NOW);
+        }
+        assertThat(meterRegistry.find("auth.login.throttled").counter()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private LoginThrottle newThrottle() {
+        return new LoginThrottle(properties, mock(ObjectProvider.class), meterRegistry);
+    }
+}
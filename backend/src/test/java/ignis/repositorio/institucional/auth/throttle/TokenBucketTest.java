@@ -0,0 +1,84 @@
+package ignis.repositorio.institucional.auth.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucket.
+ */
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Should allow a burst of capacity and then report the wait for the next token")
+    void shouldAllowBurstThenWait() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1_000);
+
+        // When/Then
+        assertThat(bucket.tryAcquire(10_000)).isZero();
+        assertThat(bucket.tryAcquire(10_000)).isZero();
+        assertThat(bucket.tryAcquire(10_000)).isZero();
+        assertThat(bucket.tryAcquire(10_000)).isEqualTo(1_000);
+        assertThat(bucket.tryAcquire(10_400)).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("Should earn back one token per interval up to capacity")
+    void shouldRefillOverTime() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1_000);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        // When/Then: one token after one interval
+        assertThat(bucket.tryAcquire(1_000)).isZero();
+        assertThat(bucket.tryAcquire(1_000)).isPositive();
+
+        // A long pause refills only up to capacity
+        assertThat(bucket.tryAcquire(60_000)).isZero();
+        assertThat(bucket.tryAcquire(60_000)).isZero();
+        assertThat(bucket.tryAcquire(60_000)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens to concurrent callers")
+    void shouldNotOverGrantUnderContention() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 60_000);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int thread = 0; thread < 8; thread++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (bucket.tryAcquire(5_000) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(granted).hasValue(100);
+    }
+}
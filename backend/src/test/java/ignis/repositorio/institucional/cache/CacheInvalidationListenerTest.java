@@ -0,0 +1,71 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CacheInvalidationListener.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationListener Tests")
+class CacheInvalidationListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private NodeLocalCache localCache;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(Map.of(), 10, Duration.ofMinutes(1),
+                null, Duration.ofMinutes(10), "test:", objectMapper, invalidationPublisher);
+        cacheManager.afterPropertiesSet();
+        when(localCache.getName()).thenReturn("local");
+        listener = new CacheInvalidationListener(cacheManager, List.of(localCache), "this-node", objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should apply evictions and clears from other nodes to node-local caches")
+    void shouldInvalidateNodeLocalCaches() throws Exception {
+        // When
+        listener.onMessage(message(new CacheInvalidationMessage("other-node", "local", "7")), null);
+        listener.onMessage(message(new CacheInvalidationMessage("other-node", "local", null)), null);
+
+        // Then
+        verify(localCache).evictLocal("7");
+        verify(localCache).clearLocal();
+    }
+
+    @Test
+    @DisplayName("Should ignore its own messages")
+    void shouldIgnoreOwnMessages() throws Exception {
+        // When
+        listener.onMessage(message(new CacheInvalidationMessage("this-node", "local", "7")), null);
+
+        // Then
+        verify(localCache, never()).evictLocal(any());
+    }
+
+    private DefaultMessage message(CacheInvalidationMessage invalidation) throws Exception {
+        return new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(invalidation));
+    }
+}
@@ -0,0 +1,138 @@
+package ignis.repositorio.institucional.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TwoLevelCache.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    private static final byte[] REMOTE_KEY = "test:users::1".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private RedisCacheWriter remote;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoLevelCache("users", Caffeine.newBuilder().maximumSize(100).build(), remote,
+                Duration.ofMinutes(10), "test:", objectMapper,
+                objectMapper.constructType(UserResponse.class), invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should load once and then serve from L1 without touching Redis")
+    void shouldServeRepeatedReadsFromLocalCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return user(1L, "john");
+            });
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getLocalHits()).isEqualTo(9);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        verify(remote, times(1)).get("users", REMOTE_KEY);
+        verify(remote).put(eq("users"), eq(REMOTE_KEY), any(byte[].class), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Should read values written by another node from L2 and promote them to L1")
+    void shouldPromoteRemoteHits() throws Exception {
+        // Given
+        when(remote.get("users", REMOTE_KEY)).thenReturn(objectMapper.writeValueAsBytes(user(1L, "john")));
+
+        // When
+        UserResponse first = cache.get(1L, UserResponse.class);
+        UserResponse second = cache.get(1L, UserResponse.class);
+
+        // Then
+        assertThat(first.getUsername()).isEqualTo("john");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getRemoteHits()).isEqualTo(1);
+        assertThat(cache.getLocalHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the loader when Redis is unavailable")
+    void shouldDegradeWhenRedisFails() {
+        // Given
+        when(remote.get(any(), any())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(remote).put(any(), any(), any(), any());
+
+        // When
+        UserResponse result = cache.get(1L, () -> user(1L, "john"));
+
+        // Then
+        assertThat(result.getUsername()).isEqualTo("john");
+        assertThat(cache.getRemoteErrors()).isEqualTo(2);
+        assertThat(cache.get(1L, UserResponse.class)).isSameAs(result);
+    }
+
+    @Test
+    @DisplayName("Should evict from both levels and broadcast the eviction")
+    void shouldEvictEverywhere() {
+        // Given
+        cache.put(1L, user(1L, "john"));
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        assertThat(cache.getNativeCache().getIfPresent("1")).isNull();
+        verify(remote).remove("users", REMOTE_KEY);
+        verify(invalidationPublisher).evicted("users", "1");
+    }
+
+    @Test
+    @DisplayName("Should drop only L1 when another node evicts")
+    void shouldEvictLocallyOnRemoteInvalidation() {
+        // Given
+        cache.put(1L, user(1L, "john"));
+
+        // When
+        cache.evictLocal("1");
+
+        // Then
+        assertThat(cache.getNativeCache().getIfPresent("1")).isNull();
+        verify(remote, never()).remove(any(), any());
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    private static UserResponse user(Long id, String username) {
+        return UserResponse.builder().id(id).username(username).build();
+    }
+}
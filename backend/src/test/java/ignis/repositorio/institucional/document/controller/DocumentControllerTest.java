@@ -0,0 +1,149 @@
+package ignis.repositorio.institucional.document.controller;
+
+import ignis.repositorio.institucional.document.service.DocumentContent;
+import ignis.repositorio.institucional.document.service.DocumentService;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the downloads of DocumentController.
+ */
+@WebMvcTest(DocumentController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ContentDownloadWriter.class)
+@DisplayName("DocumentController Tests")
+class DocumentControllerTest {
+
+    private static final String SHA = "ab".repeat(32);
+    private static final String ETAG = "\"" + SHA + "\"";
+    private static final String BODY = "0123456789abcdefghij";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DocumentService documentService;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(directory.resolve(SHA), BODY, StandardCharsets.US_ASCII);
+        DocumentContent content = new DocumentContent("relatório.pdf", "application/pdf", BODY.length(), SHA,
+            LocalDateTime.of(2026, 10, 1, 9, 30), new FileSystemResource(file));
+        when(documentService.getContent(7L)).thenReturn(content);
+        when(documentService.getContent(7L, 2)).thenReturn(content);
+    }
+
+    @Test
+    @DisplayName("Should serve the whole content with its ETag and revalidation headers")
+    void shouldDownloadCurrentVersion() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/download"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length()))
+            .andExpect(content().contentType("application/pdf"))
+            .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("Should let a fixed version be cached for good")
+    void shouldMarkVersionImmutable() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/versions/2/download").param("inline", "true"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("inline")));
+    }
+
+    @Test
+    @DisplayName("Should serve a single byte range as partial content")
+    void shouldServeRange() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/download").header(HttpHeaders.RANGE, "bytes=5-9"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 5))
+            .andExpect(content().string("56789"));
+
+        mockMvc.perform(get("/api/v1/documents/7/download").header(HttpHeaders.RANGE, "bytes=-4"))
+            .andExpect(status().isPartialContent())
+            .andExpect(content().string("ghij"));
+    }
+
+    @Test
+    @DisplayName("Should refuse a range past the end of the content")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/download").header(HttpHeaders.RANGE, "bytes=20-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    @DisplayName("Should send everything when If-Range names other content")
+    void shouldIgnoreStaleRange() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/download")
+                .header(HttpHeaders.RANGE, "bytes=5-9")
+                .header(HttpHeaders.IF_RANGE, "\"" + "cd".repeat(32) + "\""))
+            .andExpect(status().isOk())
+            .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 and no body")
+    void shouldShortCircuitOnEtag() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/download").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should answer a later If-Modified-Since with 304")
+    void shouldShortCircuitOnDate() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/7/versions/2/download")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 02 Oct 2026 00:00:00 GMT"))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should answer HEAD with the headers only")
+    void shouldAnswerHead() throws Exception {
+        mockMvc.perform(head("/api/v1/documents/7/download"))
+            .andExpect(status().isOk())
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length()))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown version")
+    void shouldReturn404ForUnknownVersion() throws Exception {
+        when(documentService.getContent(7L, 9)).thenThrow(new ResourceNotFoundException("Version 9 of document 7 not found"));
+
+        mockMvc.perform(get("/api/v1/documents/7/versions/9/download"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,218 @@
+package ignis.repositorio.institucional.document.repository;
+
+import ignis.repositorio.institucional.document.storage.BlobStats;
+import ignis.repositorio.institucional.document.storage.DeltaCandidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Integration tests for BlobJdbcRepository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import(BlobJdbcRepository.class)
+@DisplayName("BlobJdbcRepository Tests")
+class BlobJdbcRepositoryTest {
+
+    private static final String A = "a".repeat(64);
+    private static final String B = "b".repeat(64);
+    private static final String C = "c".repeat(64);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Autowired
+    private BlobJdbcRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM document_versions");
+        jdbcTemplate.update("DELETE FROM documents");
+        jdbcTemplate.update("DELETE FROM blobs");
+    }
+
+    @Test
+    @DisplayName("Should register new content once and count further references")
+    void shouldCountReferences() {
+        // When
+        boolean first = repository.addReference(A, 100);
+        boolean second = repository.addReference(A, 100);
+        repository.addReference(B, 40);
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        BlobStats stats = repository.stats();
+        assertThat(stats.blobs()).isEqualTo(2);
+        assertThat(stats.references()).isEqualTo(3);
+        assertThat(stats.storedBytes()).isEqualTo(140);
+        assertThat(stats.logicalBytes()).isEqualTo(240);
+        assertThat(stats.dedupRatio()).isCloseTo(240.0 / 140, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should only collect blobs unreferenced for longer than the grace period")
+    void shouldCollectOrphansAfterGracePeriod() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 40);
+        repository.addReference(B, 40);
+        repository.removeReference(A, NOW.minusHours(2));
+        repository.removeReference(B, NOW.minusHours(2));
+
+        // When
+        assertThat(repository.deleteOrphans(NOW.minusHours(3), 10)).isEmpty();
+        List<String> collected = repository.deleteOrphans(NOW.minusHours(1), 10);
+
+        // Then
+        assertThat(collected).containsExactly(A);
+        assertThat(repository.stats().blobs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should revive an orphan when it is referenced again")
+    void shouldReviveOrphan() {
+        // Given
+        repository.addReference(A, 100);
+        repository.removeReference(A, NOW.minusHours(2));
+
+        // When
+        boolean existed = repository.addReference(A, 100);
+
+        // Then
+        assertThat(existed).isTrue();
+        assertThat(repository.deleteOrphans(NOW, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should measure delta chains through bases and dependents")
+    void shouldMeasureDeltaChains() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        repository.addReference(C, 100);
+        storeAsDelta(A, B, 10);
+
+        // When/Then
+        assertThat(repository.chainLengthWith(B, C)).isEqualTo(2);
+        assertThat(repository.chainLengthWith(C, A)).isEqualTo(2);
+        assertThat(repository.chainLengthWith(B, A)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should count deltas by their stored size and not as references")
+    void shouldReportDeltaStats() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        storeAsDelta(A, B, 10);
+
+        // When
+        BlobStats stats = repository.stats();
+
+        // Then
+        assertThat(stats.blobs()).isEqualTo(2);
+        assertThat(stats.references()).isEqualTo(2);
+        assertThat(stats.storedBytes()).isEqualTo(110);
+        assertThat(stats.logicalBytes()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should release the base of a collected delta")
+    void shouldReleaseBaseOfCollectedDelta() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        storeAsDelta(A, B, 10);
+        repository.removeReference(A, NOW.minusHours(2));
+        repository.removeReference(B, NOW.minusHours(2));
+
+        // When
+        List<String> collected = repository.deleteOrphans(NOW.minusHours(1), 10);
+
+        // Then
+        assertThat(collected).containsExactly(A);
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM blobs WHERE sha256 = ?", Integer.class, B))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("Should make a delta whole again and hand back its base")
+    void shouldRestoreFull() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        storeAsDelta(A, B, 10);
+
+        // When
+        String base = repository.restoreFull(A);
+
+        // Then
+        assertThat(base).isEqualTo(B);
+        assertThat(repository.restoreFull(A)).isNull();
+        assertThat(repository.lockFullBlob(A)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hand out compacted blobs once their grace period is over, and only once")
+    void shouldFinishCompactionsAfterGracePeriod() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        repository.addReference(C, 100);
+        storeAsDelta(A, C, 10);
+        storeAsDelta(B, C, 10);
+        repository.restoreFull(B);
+
+        // When / Then
+        assertThat(repository.finishCompactions(NOW.minusHours(2), 10)).isEmpty();
+        assertThat(repository.finishCompactions(NOW, 10)).containsExactly(A);
+        assertThat(repository.finishCompactions(NOW, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should offer superseded versions against the next one, never current content")
+    void shouldFindDeltaCandidates() {
+        // Given
+        repository.addReference(A, 100);
+        repository.addReference(B, 100);
+        repository.addReference(C, 100);
+        Long document = jdbcTemplate.queryForObject(
+            "INSERT INTO documents (title, current_version) VALUES ('Regulamento', 3) RETURNING id", Long.class);
+        for (int version = 1; version <= 3; version++) {
+            jdbcTemplate.update("INSERT INTO document_versions (document_id, version_number, blob_sha256, file_name, "
+                + "size) VALUES (?, ?, ?, 'regulamento.pdf', 100)", document, version, List.of(A, B, C).get(version - 1));
+        }
+
+        // When
+        List<DeltaCandidate> candidates = repository.findDeltaCandidates(1_000, 10);
+        repository.markSnapshot(A);
+
+        // Then
+        assertThat(candidates).containsExactly(new DeltaCandidate(A, B), new DeltaCandidate(B, C));
+        assertThat(repository.isCurrentVersion(C)).isTrue();
+        assertThat(repository.findDeltaCandidates(1_000, 10)).containsExactly(new DeltaCandidate(B, C));
+        assertThat(repository.findDeltaCandidates(99, 10)).isEmpty();
+    }
+
+    private void storeAsDelta(String sha256, String baseSha256, long storedSize) {
+        assertThat(repository.lockFullBlob(sha256)).isTrue();
+        assertThat(repository.addBaseReference(baseSha256)).isEqualTo(1);
+        repository.markDelta(sha256, baseSha256, storedSize, NOW.minusHours(1));
+    }
+}
@@ -0,0 +1,144 @@
+package ignis.repositorio.institucional.document.service;
+
+import ignis.repositorio.institucional.document.domain.Document;
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import ignis.repositorio.institucional.document.dto.CreateDocumentRequest;
+import ignis.repositorio.institucional.document.dto.CreateVersionRequest;
+import ignis.repositorio.institucional.document.event.DocumentChangedEvent;
+import ignis.repositorio.institucional.document.mapper.DocumentMapper;
+import ignis.repositorio.institucional.document.repository.DocumentRepository;
+import ignis.repositorio.institucional.document.repository.DocumentVersionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DocumentService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentService Tests")
+class DocumentServiceTest {
+
+    private static final String SHA = "ab".repeat(32);
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentVersionRepository documentVersionRepository;
+
+    @Mock
+    private SectorRepository sectorRepository;
+
+    @Mock
+    private UploadService uploadService;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private DocumentMapper documentMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DocumentService documentService;
+
+    private UUID uploadId;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        uploadId = UUID.randomUUID();
+        document = Document.builder().id(7L).title("Manual").currentVersion(2).build();
+    }
+
+    @Test
+    @DisplayName("Should create a document whose first version is the claimed upload")
+    void shouldCreateDocument() {
+        // Given
+        when(documentRepository.save(any())).thenAnswer(invocation -> {
+            Document saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+        when(uploadService.claim(uploadId))
+            .thenReturn(new ClaimedUpload(SHA, 250, "manual.pdf", "application/pdf", false));
+
+        // When
+        documentService.createDocument(new CreateDocumentRequest(uploadId, "Manual", null, null));
+
+        // Then
+        ArgumentCaptor<DocumentVersion> version = ArgumentCaptor.forClass(DocumentVersion.class);
+        verify(documentVersionRepository).save(version.capture());
+        assertThat(version.getValue().getDocumentId()).isEqualTo(7L);
+        assertThat(version.getValue().getVersionNumber()).isEqualTo(1);
+        assertThat(version.getValue().getBlobSha256()).isEqualTo(SHA);
+    }
+
+    @Test
+    @DisplayName("Should refuse an unknown sector before claiming the upload")
+    void shouldRejectUnknownSector() {
+        // Given
+        when(sectorRepository.existsById(3L)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> documentService.createDocument(new CreateDocumentRequest(uploadId, "Manual", null, 3L)))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(uploadService);
+    }
+
+    @Test
+    @DisplayName("Should make a new version current")
+    void shouldCreateVersion() {
+        // Given
+        when(documentRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(document));
+        when(uploadService.claim(uploadId))
+            .thenReturn(new ClaimedUpload(SHA, 250, "manual-v3.pdf", "application/pdf", true));
+
+        // When
+        documentService.createVersion(7L, new CreateVersionRequest(uploadId));
+
+        // Then
+        assertThat(document.getCurrentVersion()).isEqualTo(3);
+        verify(documentVersionRepository).save(argThat(version -> version.getVersionNumber() == 3));
+        verify(eventPublisher).publishEvent(new DocumentChangedEvent(7L));
+    }
+
+    @Test
+    @DisplayName("Should release the content of every version of a deleted document")
+    void shouldReleaseContentOnDelete() {
+        // Given
+        when(documentRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(document));
+        when(documentVersionRepository.findByDocumentIdOrderByVersionNumberDesc(7L)).thenReturn(List.of(
+            DocumentVersion.builder().versionNumber(2).blobSha256(SHA).build(),
+            DocumentVersion.builder().versionNumber(1).blobSha256(SHA).build()));
+
+        // When
+        documentService.deleteDocument(7L);
+
+        // Then
+        verify(blobStore, times(2)).release(SHA);
+        verify(documentRepository).delete(document);
+        verify(eventPublisher).publishEvent(new DocumentChangedEvent(7L));
+    }
+}
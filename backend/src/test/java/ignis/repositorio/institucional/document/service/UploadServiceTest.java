@@ -0,0 +1,246 @@
+package ignis.repositorio.institucional.document.service;
+
+import ignis.repositorio.institucional.auth.security.AuthenticatedUser;
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.document.domain.UploadSession;
+import ignis.repositorio.institucional.document.domain.UploadStatus;
+import ignis.repositorio.institucional.document.dto.CompleteUploadRequest;
+import ignis.repositorio.institucional.document.dto.CreateUploadRequest;
+import ignis.repositorio.institucional.document.dto.UploadSessionResponse;
+import ignis.repositorio.institucional.document.mapper.UploadSessionMapper;
+import ignis.repositorio.institucional.document.repository.UploadSessionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.document.storage.ChunkedUploadStore;
+import ignis.repositorio.institucional.document.storage.StoredBlob;
+import ignis.repositorio.institucional.exception.InvalidUploadException;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.exception.UploadTooLargeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UploadService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadService Tests")
+class UploadServiceTest {
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UploadSessionMapper uploadSessionMapper;
+
+    @Mock
+    private ChunkedUploadStore uploadStore;
+
+    @Mock
+    private BlobStore blobStore;
+
+    private UploadService uploadService;
+
+    private UUID id;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        DocumentProperties properties = new DocumentProperties();
+        properties.getUpload().setChunkSize(DataSize.ofBytes(100));
+        properties.getUpload().setMaxFileSize(DataSize.ofBytes(1000));
+        uploadService = new UploadService(uploadSessionRepository, uploadSessionMapper, uploadStore, blobStore, properties);
+
+        id = UUID.randomUUID();
+        session = UploadSession.builder()
+            .id(id)
+            .fileName("report.pdf")
+            .totalSize(250)
+            .chunkSize(100)
+            .chunkCount(3)
+            .nextChunk(1)
+            .status(UploadStatus.IN_PROGRESS)
+            .expiresAt(LocalDateTime.now().plusHours(1))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should split the declared size into chunks")
+    void shouldCreateUpload() {
+        // Given
+        when(uploadSessionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        uploadService.createUpload(new CreateUploadRequest("report.pdf", "application/pdf", 250L));
+
+        // Then
+        ArgumentCaptor<UploadSession> saved = ArgumentCaptor.forClass(UploadSession.class);
+        verify(uploadSessionRepository).save(saved.capture());
+        assertThat(saved.getValue().getChunkCount()).isEqualTo(3);
+        assertThat(saved.getValue().chunkLength(2)).isEqualTo(50);
+        assertThat(saved.getValue().getStatus()).isEqualTo(UploadStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Should refuse a file above the size limit")
+    void shouldRejectLargeFile() {
+        // When/Then
+        assertThatThrownBy(() -> uploadService.createUpload(new CreateUploadRequest("big.iso", null, 1001L)))
+            .isInstanceOf(UploadTooLargeException.class);
+        verifyNoInteractions(uploadSessionRepository);
+    }
+
+    @Test
+    @DisplayName("Should store the next chunk at its offset and advance the session")
+    void shouldStoreNextChunk() {
+        // Given
+        InputStream body = new ByteArrayInputStream(new byte[100]);
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.advance(eq(id), eq(1), any(), any())).thenReturn(1);
+
+        // When
+        uploadService.uploadChunk(id, 1, 100, body);
+
+        // Then
+        verify(uploadStore).writeChunk(id, 100, 100, body);
+        assertThat(session.getNextChunk()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge a resent chunk without writing it again")
+    void shouldIgnoreResentChunk() {
+        // Given
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+
+        // When
+        uploadService.uploadChunk(id, 0, 100, new ByteArrayInputStream(new byte[100]));
+
+        // Then
+        verifyNoInteractions(uploadStore);
+        verify(uploadSessionRepository, never()).advance(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse chunks out of order or of the wrong length")
+    void shouldRejectUnexpectedChunk() {
+        // Given
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+
+        // When/Then
+        assertThatThrownBy(() -> uploadService.uploadChunk(id, 2, 50, InputStream.nullInputStream()))
+            .isInstanceOf(InvalidUploadException.class);
+        assertThatThrownBy(() -> uploadService.uploadChunk(id, 1, 99, InputStream.nullInputStream()))
+            .isInstanceOf(InvalidUploadException.class);
+        verify(uploadStore, never()).writeChunk(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should complete an upload whose hash matches the client's")
+    void shouldCompleteUpload() {
+        // Given
+        session.setNextChunk(3);
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+        when(uploadStore.complete(id, 250)).thenReturn("ab".repeat(32));
+        when(uploadSessionRepository.save(session)).thenReturn(session);
+        when(uploadSessionMapper.toResponse(session)).thenReturn(new UploadSessionResponse());
+
+        // When
+        uploadService.completeUpload(id, new CompleteUploadRequest("AB".repeat(32)));
+
+        // Then
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.COMPLETED);
+        assertThat(session.getSha256()).isEqualTo("ab".repeat(32));
+    }
+
+    @Test
+    @DisplayName("Should discard an upload whose hash differs from the client's")
+    void shouldDiscardCorruptUpload() {
+        // Given
+        session.setNextChunk(3);
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+        when(uploadStore.complete(id, 250)).thenReturn("ab".repeat(32));
+
+        // When/Then
+        assertThatThrownBy(() -> uploadService.completeUpload(id, new CompleteUploadRequest("cd".repeat(32))))
+            .isInstanceOf(InvalidUploadException.class);
+        verify(uploadStore).delete(id);
+        verify(uploadSessionRepository).delete(session);
+    }
+
+    @Test
+    @DisplayName("Should hand a completed upload to the blob store and end it")
+    void shouldClaimCompletedUpload() {
+        // Given
+        session.setStatus(UploadStatus.COMPLETED);
+        session.setSha256("ab".repeat(32));
+        Path file = Path.of("completed", id.toString());
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+        when(uploadStore.completedFile(id)).thenReturn(file);
+        when(blobStore.add("ab".repeat(32), 250, file)).thenReturn(new StoredBlob("ab".repeat(32), 250, true));
+
+        // When
+        ClaimedUpload result = uploadService.claim(id);
+
+        // Then
+        assertThat(result.fileName()).isEqualTo("report.pdf");
+        assertThat(result.deduplicated()).isTrue();
+        verify(uploadSessionRepository).delete(session);
+    }
+
+    @Test
+    @DisplayName("Should hide an upload from users other than its owner")
+    void shouldHideUploadFromOtherUsers() {
+        // Given
+        session.setOwnerId(5L);
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+            new AuthenticatedUser(6L, "other"), null, List.of()));
+
+        // When/Then
+        assertThatThrownBy(() -> uploadService.uploadChunk(id, 1, 100, new ByteArrayInputStream(new byte[100])))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> uploadService.completeUpload(id, null)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> uploadService.claim(id)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> uploadService.abortUpload(id)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(uploadStore, blobStore);
+        verify(uploadSessionRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse to claim an unfinished upload")
+    void shouldNotClaimUnfinishedUpload() {
+        // Given
+        when(uploadSessionRepository.findById(id)).thenReturn(Optional.of(session));
+
+        // When/Then
+        assertThatThrownBy(() -> uploadService.claim(id)).isInstanceOf(InvalidUploadException.class);
+        verifyNoInteractions(blobStore);
+    }
+}
@@ -0,0 +1,108 @@
+package ignis.repositorio.institucional.document.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BinaryDelta.
+ */
+@DisplayName("BinaryDelta Tests")
+class BinaryDeltaTest {
+
+    private static final String BASE_SHA = "cd".repeat(32);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should rebuild an edited version from a small delta")
+    void shouldRebuildEditedVersion() throws Exception {
+        // Given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            text.append("Linha ").append(i).append(" do regulamento interno do setor.\n");
+        }
+        byte[] base = text.toString().getBytes(StandardCharsets.UTF_8);
+        text.insert(20_000, "Paragrafo novo, inserido na revisao.\n");
+        text.delete(50_000, 50_400);
+        text.replace(70_000, 70_010, "ALTERADO!!");
+        byte[] target = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] delta = encode(base, target);
+
+        // Then
+        assertThat(delta.length).isLessThan(target.length / 50);
+        assertThat(rebuild(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("Should rebuild content unrelated to its base")
+    void shouldRebuildUnrelatedContent() throws Exception {
+        // Given
+        Random random = new Random(42);
+        byte[] base = new byte[10_000];
+        byte[] target = new byte[12_345];
+        random.nextBytes(base);
+        random.nextBytes(target);
+
+        // When
+        byte[] delta = encode(base, target);
+
+        // Then
+        assertThat(rebuild(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("Should handle empty and tiny files")
+    void shouldHandleEdgeSizes() throws Exception {
+        byte[] small = "abc".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(rebuild(new byte[0], encode(new byte[0], small))).isEqualTo(small);
+        assertThat(rebuild(small, encode(small, new byte[0]))).isEmpty();
+        assertThat(rebuild(small, encode(small, small))).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("Should record the base and the size of the target in the header")
+    void shouldWriteHeader() throws Exception {
+        // When
+        byte[] delta = encode(new byte[64], new byte[100]);
+
+        // Then
+        BinaryDelta.Header header = BinaryDelta.readHeader(new DataInputStream(new ByteArrayInputStream(delta)));
+        assertThat(header.baseSha256()).isEqualTo(BASE_SHA);
+        assertThat(header.targetSize()).isEqualTo(100);
+    }
+
+    private static byte[] encode(byte[] base, byte[] target) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDelta.write(BASE_SHA, ByteBuffer.wrap(base), ByteBuffer.wrap(target), out);
+        return out.toByteArray();
+    }
+
+    private byte[] rebuild(byte[] base, byte[] delta) throws Exception {
+        Path baseFile = Files.write(Files.createTempFile(directory, "base", null), base);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FileChannel channel = FileChannel.open(baseFile)) {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+            BinaryDelta.readHeader(in);
+            BinaryDelta.apply(channel, in, Channels.newChannel(out));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,119 @@
+package ignis.repositorio.institucional.document.storage;
+
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.exception.InvalidUploadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ChunkedUploadStore.
+ */
+@DisplayName("ChunkedUploadStore Tests")
+class ChunkedUploadStoreTest {
+
+    private static final int CHUNK = 100_000;
+
+    @TempDir
+    private Path directory;
+
+    private byte[] file;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        file = new byte[2 * CHUNK + 1234];
+        new Random(42).nextBytes(file);
+        id = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should stream the chunks to disk and hash them on the way")
+    void shouldStoreAndHashChunks() throws Exception {
+        // Given
+        ChunkedUploadStore store = newStore();
+
+        // When
+        for (int index = 0; index < 3; index++) {
+            writeChunk(store, index);
+        }
+        String sha256 = store.complete(id, file.length);
+
+        // Then
+        assertThat(sha256).isEqualTo(sha256(file));
+        assertThat(Files.readAllBytes(store.completedFile(id))).isEqualTo(file);
+        assertThat(store.partFile(id)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the digest from the part file after a restart")
+    void shouldResumeAfterRestart() throws Exception {
+        // Given
+        writeChunk(newStore(), 0);
+        ChunkedUploadStore restarted = newStore();
+
+        // When
+        writeChunk(restarted, 1);
+        writeChunk(restarted, 2);
+        String sha256 = restarted.complete(id, file.length);
+
+        // Then
+        assertThat(sha256).isEqualTo(sha256(file));
+    }
+
+    @Test
+    @DisplayName("Should refuse a short chunk and accept it again when resent whole")
+    void shouldRecoverFromBrokenChunk() throws Exception {
+        // Given
+        ChunkedUploadStore store = newStore();
+        writeChunk(store, 0);
+        byte[] half = Arrays.copyOfRange(file, CHUNK, CHUNK + CHUNK / 2);
+
+        // When/Then
+        assertThatThrownBy(() -> store.writeChunk(id, CHUNK, CHUNK, new ByteArrayInputStream(half)))
+            .isInstanceOf(InvalidUploadException.class);
+        writeChunk(store, 1);
+        writeChunk(store, 2);
+        assertThat(store.complete(id, file.length)).isEqualTo(sha256(file));
+    }
+
+    @Test
+    @DisplayName("Should refuse a chunk longer than declared")
+    void shouldRejectLongChunk() {
+        // Given
+        ChunkedUploadStore store = newStore();
+
+        // When/Then
+        assertThatThrownBy(() -> store.writeChunk(id, 0, 10, new ByteArrayInputStream(new byte[11])))
+            .isInstanceOf(InvalidUploadException.class);
+    }
+
+    private ChunkedUploadStore newStore() {
+        DocumentProperties properties = new DocumentProperties();
+        properties.setStorageDirectory(directory);
+        return new ChunkedUploadStore(properties);
+    }
+
+    private void writeChunk(ChunkedUploadStore store, int index) {
+        int from = index * CHUNK;
+        int to = Math.min(file.length, from + CHUNK);
+        store.writeChunk(id, from, to - from, new ByteArrayInputStream(Arrays.copyOfRange(file, from, to)));
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
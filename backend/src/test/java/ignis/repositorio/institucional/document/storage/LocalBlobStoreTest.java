@@ -0,0 +1,248 @@
+package ignis.repositorio.institucional.document.storage;
+
+import ignis.repositorio.institucional.config.DocumentProperties;
+import ignis.repositorio.institucional.document.repository.BlobJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LocalBlobStore.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalBlobStore Tests")
+class LocalBlobStoreTest {
+
+    private static final String SHA = "ab".repeat(32);
+
+    @Mock
+    private BlobJdbcRepository blobRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        DocumentProperties properties = new DocumentProperties();
+        properties.setStorageDirectory(directory);
+        meterRegistry = new SimpleMeterRegistry();
+        blobStore = new LocalBlobStore(blobRepository, transactionTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should keep one copy of identical content")
+    void shouldDeduplicateContent() throws Exception {
+        // Given
+        Path first = Files.writeString(directory.resolve("first"), "same bytes");
+        Path second = Files.writeString(directory.resolve("second"), "same bytes");
+
+        // When
+        StoredBlob stored = blobStore.add(SHA, 10, first);
+        StoredBlob shared = blobStore.add(SHA, 10, second);
+
+        // Then
+        assertThat(stored.deduplicated()).isFalse();
+        assertThat(shared.deduplicated()).isTrue();
+        assertThat(first).doesNotExist();
+        assertThat(second).doesNotExist();
+        assertThat(Files.readString(blobStore.blobFile(SHA))).isEqualTo("same bytes");
+        assertThat(meterRegistry.get("documents.blobs.deduplicated.bytes").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should delete the content of collected blobs")
+    void shouldDeleteCollectedContent() throws Exception {
+        // Given
+        blobStore.add(SHA, 10, Files.writeString(directory.resolve("file"), "some bytes"));
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(blobRepository.deleteOrphans(any(), anyInt())).thenReturn(List.of(SHA));
+
+        // When
+        int collected = blobStore.collectGarbage();
+
+        // Then
+        assertThat(collected).isEqualTo(1);
+        assertThat(blobStore.blobFile(SHA)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should store a superseded version as a delta and rebuild it when read")
+    void shouldRebuildVersionStoredAsDelta() throws Exception {
+        // Given
+        String current = "Regulamento interno, artigo 1. ".repeat(400);
+        String previous = current.replace("artigo 1. Regulamento", "artigo 1, revogado. Regulamento");
+        String currentSha = addContent(current);
+        String previousSha = addContent(previous);
+        runTransactions();
+        when(blobRepository.chainLengthWith(previousSha, currentSha)).thenReturn(1);
+        when(blobRepository.lockFullBlob(previousSha)).thenReturn(true);
+        when(blobRepository.addBaseReference(currentSha)).thenReturn(1);
+
+        // When
+        boolean stored = blobStore.storeAsDelta(previousSha, currentSha);
+
+        // Then
+        assertThat(stored).isTrue();
+        assertThat(Files.size(blobStore.deltaFile(previousSha))).isLessThan(previous.length() / 10);
+        verify(blobRepository).markDelta(eq(previousSha), eq(currentSha), anyLong(), any());
+        assertThat(blobStore.open(currentSha).getFile().toPath()).isEqualTo(blobStore.blobFile(currentSha));
+        assertThat(blobStore.open(previousSha).getContentAsString(StandardCharsets.UTF_8)).isEqualTo(previous);
+        assertThat(blobStore.materializedFile(previousSha)).exists();
+    }
+
+    @Test
+    @DisplayName("Should read content resolved before it was compacted into a delta")
+    void shouldReadContentCompactedAfterOpen() throws Exception {
+        // Given
+        String current = "Regulamento interno, artigo 1. ".repeat(400);
+        String previous = current.replace("artigo 1. Regulamento", "artigo 1, revogado. Regulamento");
+        String currentSha = addContent(current);
+        String previousSha = addContent(previous);
+        runTransactions();
+        when(blobRepository.chainLengthWith(previousSha, currentSha)).thenReturn(1);
+        when(blobRepository.lockFullBlob(previousSha)).thenReturn(true);
+        when(blobRepository.addBaseReference(currentSha)).thenReturn(1);
+        Path resolved = blobStore.open(previousSha).getFile().toPath();
+
+        // When
+        blobStore.storeAsDelta(previousSha, currentSha);
+
+        // Then
+        assertThat(Files.readString(resolved)).isEqualTo(previous);
+        assertThat(blobStore.open(previousSha).getFile().toPath()).isEqualTo(blobStore.materializedFile(previousSha));
+    }
+
+    @Test
+    @DisplayName("Should delete the whole file of compacted content after the grace period")
+    void shouldDeleteCompactedFileAfterGrace() throws Exception {
+        // Given
+        blobStore.add(SHA, 10, Files.writeString(directory.resolve("file"), "some bytes"));
+        runTransactions();
+        when(blobRepository.finishCompactions(any(), anyInt())).thenReturn(List.of(SHA));
+
+        // When
+        blobStore.collectGarbage();
+
+        // Then
+        assertThat(blobStore.blobFile(SHA)).doesNotExist();
+        verify(blobRepository).finishCompactions(
+            argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusMinutes(9))), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should rebuild content stored as a delta only when it is read")
+    void shouldRebuildDeltaLazily() throws Exception {
+        // Given
+        String current = "Regulamento interno, artigo 1. ".repeat(400);
+        String previous = current.replace("artigo 1. Regulamento", "artigo 1, revogado. Regulamento");
+        String currentSha = addContent(current);
+        String previousSha = addContent(previous);
+        runTransactions();
+        when(blobRepository.chainLengthWith(previousSha, currentSha)).thenReturn(1);
+        when(blobRepository.lockFullBlob(previousSha)).thenReturn(true);
+        when(blobRepository.addBaseReference(currentSha)).thenReturn(1);
+        blobStore.storeAsDelta(previousSha, currentSha);
+
+        // When
+        Resource resource = blobStore.open(previousSha);
+
+        // Then
+        assertThat(resource.exists()).isTrue();
+        assertThat(blobStore.materializedFile(previousSha)).doesNotExist();
+        assertThat(resource.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(previous);
+        assertThat(blobStore.materializedFile(previousSha)).exists();
+    }
+
+    @Test
+    @DisplayName("Should keep a version whole when its delta chain would be too long")
+    void shouldKeepSnapshotAtChainBound() throws Exception {
+        // Given
+        String currentSha = addContent("versao atual ".repeat(100));
+        String previousSha = addContent("versao anterior ".repeat(100));
+        when(blobRepository.chainLengthWith(previousSha, currentSha)).thenReturn(11);
+
+        // When
+        boolean stored = blobStore.storeAsDelta(previousSha, currentSha);
+
+        // Then
+        assertThat(stored).isFalse();
+        verify(blobRepository).markSnapshot(previousSha);
+        verify(blobRepository, never()).markDelta(any(), any(), anyLong(), any());
+        assertThat(blobStore.blobFile(previousSha)).exists();
+    }
+
+    @Test
+    @DisplayName("Should store content kept as a delta whole again when it is added as a new version")
+    void shouldRestoreDeltaOnAdd() throws Exception {
+        // Given
+        Files.createDirectories(blobStore.deltaFile(SHA).getParent());
+        Files.writeString(blobStore.deltaFile(SHA), "delta");
+        when(blobRepository.restoreFull(SHA)).thenReturn("cd".repeat(32));
+
+        // When
+        blobStore.add(SHA, 10, Files.writeString(directory.resolve("file"), "some bytes"));
+
+        // Then
+        assertThat(Files.readString(blobStore.blobFile(SHA))).isEqualTo("some bytes");
+        assertThat(blobStore.deltaFile(SHA)).doesNotExist();
+        verify(blobRepository).removeReference(eq("cd".repeat(32)), any());
+    }
+
+    @Test
+    @DisplayName("Should report the dedup ratio from the last recount")
+    void shouldReportDedupRatio() {
+        // Given
+        when(blobRepository.stats()).thenReturn(new BlobStats(2, 5, 100, 300));
+
+        // When
+        blobStore.refreshStats();
+
+        // Then
+        assertThat(meterRegistry.get("documents.blobs.dedup.ratio").gauge().value()).isEqualTo(3.0);
+    }
+
+    private String addContent(String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        blobStore.add(sha256, bytes.length, Files.write(directory.resolve(sha256 + ".upload"), bytes));
+        return sha256;
+    }
+
+    private void runTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
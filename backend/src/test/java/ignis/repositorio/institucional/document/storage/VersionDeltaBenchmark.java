@@ -0,0 +1,309 @@
+package ignis.repositorio.institucional.document.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Storage saved and read latency of delta-compressed version history, on
+ * two synthetic histories of 24 versions with a few edits each: a text
+ * document of about 1 MB stored uncompressed (plain text, HTML, flat XML),
+ * and the same document as a DOCX-like ZIP of deflated XML parts plus an
+ * image. Versions are stored the way {@code VersionHistoryCompactor} does,
+ * oldest first, with chains of at most 10 deltas; the storage figures are
+ * printed during setup. Run from the backend directory after
+ * {@code mvn test-compile}:
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     ignis.repositorio.institucional.document.storage.VersionDeltaBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionDeltaBenchmark {
+
+    private static final int VERSIONS = 24;
+    private static final int MAX_CHAIN_LENGTH = 10;
+    private static final double MAX_DELTA_RATIO = 0.5;
+    private static final String SHA = "00".repeat(32);
+
+    private static final String[] WORDS = {
+        "regulamento", "setor", "documento", "processo", "servidor", "portaria", "artigo", "parecer",
+        "institucional", "comissão", "prazo", "relatório", "aprovação", "norma", "diretoria", "anexo",
+        "de", "da", "do", "para", "com", "pelo", "conforme", "nos", "termos", "que", "a", "o", "e"
+    };
+
+    @Param({"text", "office"})
+    private String documentSet;
+
+    private Path directory;
+    private Path[] versions;
+    private Path[] stored;
+    private boolean[] delta;
+    private int deepest;
+    private Path scratchA;
+    private Path scratchB;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("version-delta-benchmark");
+        scratchA = directory.resolve("scratch-a");
+        scratchB = directory.resolve("scratch-b");
+        versions = new Path[VERSIONS];
+        Random random = new Random(7);
+        List<String> paragraphs = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            paragraphs.add(sentence(random, 60));
+        }
+        byte[] image = new byte[200 * 1024];
+        random.nextBytes(image);
+        for (int v = 0; v < VERSIONS; v++) {
+            versions[v] = Files.write(directory.resolve("v" + v),
+                "text".equals(documentSet) ? text(paragraphs) : office(paragraphs, image));
+            edit(paragraphs, random);
+        }
+
+        // Oldest first against the next version, as the compactor stores them
+        stored = new Path[VERSIONS];
+        delta = new boolean[VERSIONS];
+        int[] chainAbove = new int[VERSIONS];
+        long logical = 0;
+        long storedBytes = 0;
+        int snapshots = 0;
+        for (int v = 0; v < VERSIONS; v++) {
+            logical += Files.size(versions[v]);
+            stored[v] = versions[v];
+            if (v < VERSIONS - 1 && 1 + chainAbove[v] <= MAX_CHAIN_LENGTH) {
+                Path encoded = directory.resolve("v" + v + ".delta");
+                try (OutputStream out = Files.newOutputStream(encoded)) {
+                    encode(versions[v + 1], versions[v], out);
+                }
+                if (Files.size(encoded) <= Files.size(versions[v]) * MAX_DELTA_RATIO) {
+                    stored[v] = encoded;
+                    delta[v] = true;
+                    chainAbove[v + 1] = chainAbove[v] + 1;
+                }
+            }
+            if (!delta[v]) {
+                snapshots++;
+            }
+            storedBytes += Files.size(stored[v]);
+        }
+        deepest = 0;
+        for (int v = 0; v < VERSIONS; v++) {
+            if (chainLength(v) > chainLength(deepest)) {
+                deepest = v;
+            }
+        }
+        System.out.printf("%n%s: %d versions, %d bytes whole, %d bytes stored (%.1f%% saved), "
+                + "%d full snapshots, longest chain %d deltas (version %d)%n",
+            documentSet, VERSIONS, logical, storedBytes, 100.0 * (logical - storedBytes) / logical,
+            snapshots, chainLength(deepest), deepest + 1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Reading the current version, which is always stored whole.
+     */
+    @Benchmark
+    public long readCurrent() throws IOException {
+        try (FileChannel channel = FileChannel.open(stored[VERSIONS - 1])) {
+            return transfer(channel, NullChannel.INSTANCE);
+        }
+    }
+
+    /**
+     * Rebuilding the version furthest from a full snapshot, delta by delta
+     * through files like {@code LocalBlobStore} does.
+     */
+    @Benchmark
+    public long rebuildDeepest() throws IOException {
+        int snapshot = deepest;
+        while (delta[snapshot]) {
+            snapshot++;
+        }
+        Path base = stored[snapshot];
+        long written = 0;
+        for (int v = snapshot - 1; v >= deepest; v--) {
+            Path next = base == scratchA ? scratchB : scratchA;
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(stored[v]));
+                 FileChannel baseChannel = FileChannel.open(base);
+                 FileChannel out = FileChannel.open(next, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+                BinaryDelta.readHeader(new DataInputStream(in));
+                written = BinaryDelta.apply(baseChannel, in, out);
+            }
+            base = next;
+        }
+        return written;
+    }
+
+    /**
+     * Storing one superseded version as a delta.
+     */
+    @Benchmark
+    public long encodeVersion() throws IOException {
+        CountingStream out = new CountingStream();
+        encode(versions[VERSIONS / 2], versions[VERSIONS / 2 - 1], out);
+        return out.count;
+    }
+
+    private int chainLength(int version) {
+        int length = 0;
+        while (delta[version + length]) {
+            length++;
+        }
+        return length;
+    }
+
+    private static void encode(Path base, Path target, OutputStream out) throws IOException {
+        try (FileChannel baseChannel = FileChannel.open(base); FileChannel targetChannel = FileChannel.open(target)) {
+            BinaryDelta.write(SHA, baseChannel.map(FileChannel.MapMode.READ_ONLY, 0, baseChannel.size()),
+                targetChannel.map(FileChannel.MapMode.READ_ONLY, 0, targetChannel.size()), out);
+        }
+    }
+
+    private static long transfer(FileChannel channel, WritableByteChannel target) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        while (position < size) {
+            position += channel.transferTo(position, size - position, target);
+        }
+        return position;
+    }
+
+    /**
+     * A few edits of the kind a new version brings: a reworded sentence, a
+     * new paragraph and a removed one.
+     */
+    private static void edit(List<String> paragraphs, Random random) {
+        int reworded = random.nextInt(paragraphs.size());
+        paragraphs.set(reworded, sentence(random, 60));
+        paragraphs.add(random.nextInt(paragraphs.size()), sentence(random, 80));
+        paragraphs.remove(random.nextInt(paragraphs.size()));
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static byte[] text(List<String> paragraphs) {
+        return String.join("\n\n", paragraphs).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] office(List<String> paragraphs, byte[] image) throws IOException {
+        StringBuilder document = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><w:document><w:body>");
+        for (String paragraph : paragraphs) {
+            document.append("<w:p><w:r><w:t>").append(paragraph).append("</w:t></w:r></w:p>");
+        }
+        document.append("</w:body></w:document>");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zipEntry(zip, "[Content_Types].xml", "<Types/>".repeat(40).getBytes(StandardCharsets.UTF_8));
+            zipEntry(zip, "word/document.xml", document.toString().getBytes(StandardCharsets.UTF_8));
+            zipEntry(zip, "word/styles.xml", "<w:style w:type=\"paragraph\"/>".repeat(600)
+                .getBytes(StandardCharsets.UTF_8));
+            zipEntry(zip, "word/media/image1.png", image);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void zipEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(0);
+        zip.putNextEntry(entry);
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private static final class CountingStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private static final class NullChannel implements WritableByteChannel {
+
+        static final NullChannel INSTANCE = new NullChannel();
+
+        @Override
+        public int write(ByteBuffer source) {
+            int length = source.remaining();
+            source.position(source.limit());
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VersionDeltaBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package ignis.repositorio.institucional.search.controller;
+
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import ignis.repositorio.institucional.exception.InvalidSearchQueryException;
+import ignis.repositorio.institucional.search.dto.SearchHit;
+import ignis.repositorio.institucional.search.dto.SearchResponse;
+import ignis.repositorio.institucional.search.service.SearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for SearchController.
+ */
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("SearchController Tests")
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("Should return ranked hits with highlights")
+    void shouldSearch() throws Exception {
+        // Given
+        SearchHit hit = SearchHit.builder()
+            .documentId(1L)
+            .title("Regulamento de Férias")
+            .highlightedTitle("Regulamento de <mark>Férias</mark>")
+            .status(DocumentStatus.PUBLISHED)
+            .score(2.5f)
+            .snippet("As <mark>férias</mark> dos servidores")
+            .build();
+        when(searchService.search("ferias", 10L, "PUBLISHED", 0, 20)).thenReturn(SearchResponse.builder()
+            .query("ferias").page(0).size(20).totalHits(1).totalHitsExact(true).hits(List.of(hit)).build());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/search")
+                .param("q", "ferias")
+                .param("sectorId", "10")
+                .param("status", "PUBLISHED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalHits").value(1))
+            .andExpect(jsonPath("$.hits[0].documentId").value(1))
+            .andExpect(jsonPath("$.hits[0].highlightedTitle").value("Regulamento de <mark>Férias</mark>"))
+            .andExpect(jsonPath("$.hits[0].snippet").value("As <mark>férias</mark> dos servidores"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 to an invalid search")
+    void shouldRejectInvalidSearch() throws Exception {
+        // Given
+        when(searchService.search("", null, null, 0, 20))
+            .thenThrow(new InvalidSearchQueryException("The search text must not be empty"));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/search"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("The search text must not be empty"));
+    }
+}
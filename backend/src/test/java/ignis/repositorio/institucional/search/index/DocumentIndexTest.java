@@ -0,0 +1,111 @@
+package ignis.repositorio.institucional.search.index;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.index.IndexReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DocumentIndex.
+ */
+@DisplayName("DocumentIndex Tests")
+class DocumentIndexTest {
+
+    @TempDir
+    private Path directory;
+
+    private SearchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DocumentIndex documentIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SearchProperties();
+        properties.setIndexDirectory(directory);
+        meterRegistry = new SimpleMeterRegistry();
+        documentIndex = new DocumentIndex(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        documentIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should list indexed ids in order with the stamp of their latest entry")
+    void shouldListStamps() {
+        // Given
+        documentIndex.index(document(9L, "/1/", 100));
+        documentIndex.index(document(2L, "/1/", 200));
+        documentIndex.index(document(5L, "/1/", 300));
+        documentIndex.index(document(2L, "/1/", 250));
+        documentIndex.delete(5L);
+
+        // When
+        DocumentIndex.IndexStamps stamps = documentIndex.stamps();
+
+        // Then
+        assertThat(stamps.ids()).containsExactly(2L, 9L);
+        assertThat(stamps.stamps()).containsExactly(250L, 100L);
+        assertThat(meterRegistry.get("search.index.documents").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should find the documents at or below a sector")
+    void shouldFindDocumentsUnderSector() {
+        // Given
+        documentIndex.index(document(1L, "/1/", 1));
+        documentIndex.index(document(2L, "/1/10/", 1));
+        documentIndex.index(document(3L, "/1/10/11/", 1));
+        documentIndex.index(document(4L, "/1/100/", 1));
+        documentIndex.refresh();
+
+        // When / Then
+        assertThat(documentIndex.idsUnderSectorPath("/1/10/")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(documentIndex.idsUnderSectorPath("/1/")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should make indexed documents searchable on its own within the refresh interval")
+    void shouldRefreshInBackground() throws Exception {
+        // When
+        documentIndex.index(document(1L, "/1/", 1));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (documentIndex.read(IndexReader::numDocs) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(documentIndex.read(IndexReader::numDocs)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep committed documents across restarts")
+    void shouldPersistCommittedDocuments() throws Exception {
+        // Given
+        documentIndex.index(document(7L, "/1/", 70));
+        documentIndex.commit();
+        documentIndex.close();
+
+        // When
+        documentIndex = new DocumentIndex(properties, new SimpleMeterRegistry());
+
+        // Then
+        assertThat(documentIndex.stamps().ids()).containsExactly(7L);
+    }
+
+    private static IndexedDocument document(Long id, String sectorPath, long stamp) {
+        return new IndexedDocument(id, "Documento " + id, null, null, null, 1L, "Setor", sectorPath, "PUBLISHED", 1,
+            LocalDateTime.of(2026, 10, 1, 9, 30), stamp, "conteúdo");
+    }
+}
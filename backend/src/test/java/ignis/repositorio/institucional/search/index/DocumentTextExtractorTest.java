@@ -0,0 +1,151 @@
+package ignis.repositorio.institucional.search.index;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DocumentTextExtractor.
+ */
+@DisplayName("DocumentTextExtractor Tests")
+class DocumentTextExtractorTest {
+
+    @TempDir
+    private Path directory;
+
+    private DocumentTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.setMaxContentChars(1_000);
+        extractor = new DocumentTextExtractor(properties);
+    }
+
+    @Test
+    @DisplayName("Should read plain text up to the character limit")
+    void shouldExtractPlainText() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("notas.txt"), "Ação ".repeat(500), StandardCharsets.UTF_8);
+
+        // When
+        String text = extractor.extract(new FileSystemResource(file), "text/plain", "notas.txt");
+
+        // Then
+        assertThat(text).startsWith("Ação Ação").hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("Should strip the tags of HTML")
+    void shouldExtractHtml() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("aviso.html"),
+            "<html><body><h1>Aviso</h1><p>Prazo de <b>inscrição</b></p></body></html>");
+
+        // When
+        String text = extractor.extract(new FileSystemResource(file), "text/html", "aviso.html");
+
+        // Then
+        assertThat(text).contains("Aviso").contains("Prazo de  inscrição").doesNotContain("<");
+    }
+
+    @Test
+    @DisplayName("Should read the text parts of an Office document")
+    void shouldExtractDocx() throws Exception {
+        // Given
+        Path file = zip(directory.resolve("portaria.docx"),
+            "word/document.xml", "<w:document xmlns:w=\"w\"><w:body><w:p><w:r><w:t>Portaria</w:t></w:r>"
+                + "<w:r><w:t>nº 12</w:t></w:r></w:p><w:p><w:r><w:t>Institui o comitê</w:t></w:r></w:p>"
+                + "</w:body></w:document>",
+            "word/styles.xml", "<w:styles xmlns:w=\"w\"><w:t>NaoIndexar</w:t></w:styles>");
+
+        // When
+        String text = extractor.extract(new FileSystemResource(file),
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "portaria.docx");
+
+        // Then
+        assertThat(text).contains("Portaria nº 12").contains("Institui o comitê").doesNotContain("NaoIndexar");
+    }
+
+    @Test
+    @DisplayName("Should not resolve entities declared by an uploaded document")
+    void shouldIgnoreExternalEntities() throws Exception {
+        // Given
+        Path secret = Files.writeString(directory.resolve("secret.txt"), "segredo");
+        Path file = zip(directory.resolve("ataque.docx"),
+            "word/document.xml", "<?xml version=\"1.0\"?><!DOCTYPE d [<!ENTITY x SYSTEM \"" + secret.toUri() + "\">]>"
+                + "<d><t>&x;</t></d>");
+
+        // When
+        String text = extractor.extract(new FileSystemResource(file), null, "ataque.docx");
+
+        // Then
+        assertThat(text).doesNotContain("segredo");
+    }
+
+    @Test
+    @DisplayName("Should read the text of a PDF")
+    void shouldExtractPdf() throws Exception {
+        // Given
+        Path file = directory.resolve("edital.pdf");
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                stream.beginText();
+                stream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                stream.newLineAtOffset(50, 700);
+                stream.showText("Edital de selecao interna");
+                stream.endText();
+            }
+            document.save(file.toFile());
+        }
+
+        // When
+        String text = extractor.extract(new FileSystemResource(file), "application/pdf", "edital.pdf");
+
+        // Then
+        assertThat(text).contains("Edital de selecao interna");
+    }
+
+    @Test
+    @DisplayName("Should return no text for unknown formats and unreadable files")
+    void shouldIgnoreUnsupportedContent() throws Exception {
+        // Given
+        Path image = Files.write(directory.resolve("foto.png"), new byte[]{(byte) 0x89, 'P', 'N', 'G'});
+        Path broken = Files.write(directory.resolve("quebrado.pdf"), "not a pdf".getBytes(StandardCharsets.US_ASCII));
+
+        // When / Then
+        assertThat(extractor.extract(new FileSystemResource(image), "image/png", "foto.png")).isEmpty();
+        assertThat(extractor.extract(new FileSystemResource(broken), "application/pdf", "quebrado.pdf")).isEmpty();
+    }
+
+    private static Path zip(Path file, String... entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return file;
+    }
+}
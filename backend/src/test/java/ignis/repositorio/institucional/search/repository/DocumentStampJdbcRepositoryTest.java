@@ -0,0 +1,97 @@
+package ignis.repositorio.institucional.search.repository;
+
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for DocumentStampJdbcRepository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import(DocumentStampJdbcRepository.class)
+@DisplayName("DocumentStampJdbcRepository Tests")
+class DocumentStampJdbcRepositoryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_000);
+
+    @Autowired
+    private DocumentStampJdbcRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long sectorId;
+    private long withSector;
+    private long withoutSector;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM document_versions");
+        jdbcTemplate.update("DELETE FROM documents");
+        sectorId = jdbcTemplate.queryForObject(
+            "INSERT INTO sectors (name, path) VALUES ('Protocolo', NULL) RETURNING id", Long.class);
+        jdbcTemplate.update("UPDATE sectors SET path = ? WHERE id = ?", "/" + sectorId + "/", sectorId);
+        withSector = insertDocument(sectorId);
+        withoutSector = insertDocument(null);
+    }
+
+    @Test
+    @DisplayName("Should stamp documents in id order with their update time and sector")
+    void shouldStampDocuments() {
+        // When
+        Map<Long, Long> stamps = stamps();
+
+        // Then
+        assertThat(stamps.keySet()).containsExactly(withSector, withoutSector);
+        assertThat(stamps.get(withSector))
+            .isEqualTo(IndexedDocument.stampOf(UPDATED_AT, sectorId, "Protocolo", "/" + sectorId + "/"));
+        assertThat(stamps.get(withoutSector)).isEqualTo(IndexedDocument.stampOf(UPDATED_AT, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should change the stamp when the sector is renamed, moved or deleted")
+    void shouldFollowSectorChanges() {
+        // Given
+        long original = stamps().get(withSector);
+
+        // When / Then
+        jdbcTemplate.update("UPDATE sectors SET name = 'Arquivo' WHERE id = ?", sectorId);
+        long renamed = stamps().get(withSector);
+        assertThat(renamed).isNotEqualTo(original);
+
+        jdbcTemplate.update("UPDATE sectors SET path = ? WHERE id = ?", "/99/" + sectorId + "/", sectorId);
+        long moved = stamps().get(withSector);
+        assertThat(moved).isNotEqualTo(renamed);
+
+        jdbcTemplate.update("DELETE FROM sectors WHERE id = ?", sectorId);
+        assertThat(stamps().get(withSector)).isNotEqualTo(moved)
+            .isEqualTo(IndexedDocument.stampOf(UPDATED_AT, null, null, null));
+    }
+
+    private Map<Long, Long> stamps() {
+        Map<Long, Long> stamps = new LinkedHashMap<>();
+        repository.forEachStamp(stamps::put);
+        return stamps;
+    }
+
+    private long insertDocument(Long sector) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO documents (title, sector_id, current_version, updated_at) VALUES ('Ata', ?, 1, ?) RETURNING id",
+            Long.class, sector, UPDATED_AT);
+    }
+}
@@ -0,0 +1,142 @@
+package ignis.repositorio.institucional.search.service;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import ignis.repositorio.institucional.search.dto.SearchResponse;
+import ignis.repositorio.institucional.search.index.DocumentIndex;
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of a first page of 20 highlighted results over 50,000 documents
+ * of about 4 KB of Portuguese-like text each, against the 300 ms search
+ * SLO: a common word matching most documents, two words that must both
+ * match, a phrase, and a prefix. Also the time to index one document. Run
+ * from the backend directory after {@code mvn test-compile}:
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     ignis.repositorio.institucional.search.service.SearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int DOCUMENTS = 50_000;
+
+    private static final String[] WORDS = {
+        "regulamento", "setor", "documento", "processo", "servidor", "portaria", "artigo", "parecer",
+        "institucional", "comissão", "prazo", "relatório", "aprovação", "norma", "diretoria", "anexo",
+        "férias", "licença", "orçamento", "contrato", "licitação", "edital", "ata", "reunião",
+        "de", "da", "do", "para", "com", "pelo", "conforme", "nos", "termos", "que", "a", "o", "e"
+    };
+
+    private Path directory;
+    private DocumentIndex documentIndex;
+    private SearchService searchService;
+    private Random random;
+    private long nextId = DOCUMENTS;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("search-benchmark");
+        SearchProperties properties = new SearchProperties();
+        properties.setIndexDirectory(directory);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        documentIndex = new DocumentIndex(properties, meterRegistry);
+        searchService = new SearchService(documentIndex, null, properties, meterRegistry);
+        random = new Random(7);
+        for (long id = 0; id < DOCUMENTS; id++) {
+            documentIndex.index(document(id));
+        }
+        documentIndex.commit();
+        documentIndex.refresh();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        documentIndex.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public SearchResponse commonWord() {
+        return searchService.search("servidores", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchResponse twoWords() {
+        return searchService.search("licenca orcamento", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchResponse phrase() {
+        return searchService.search("\"prazo do edital\"", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchResponse prefix() {
+        return searchService.search("licit*", null, null, 0, 20);
+    }
+
+    /**
+     * Indexing one changed document, without the refresh that makes it searchable.
+     */
+    @Benchmark
+    public void indexDocument() {
+        documentIndex.index(document(nextId++ % (DOCUMENTS * 2L)));
+    }
+
+    private IndexedDocument document(long id) {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 1, 9, 30);
+        return new IndexedDocument(id, text(8), text(20), "documento-" + id + ".pdf", "application/pdf",
+            id % 50, "Setor " + id % 50, "/1/" + id % 50 + "/", "PUBLISHED", 1, updatedAt,
+            IndexedDocument.stampOf(updatedAt, id % 50, "Setor " + id % 50, "/1/" + id % 50 + "/"), text(500));
+    }
+
+    private String text(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+            if (i % 15 == 14) {
+                text.append('.');
+            }
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
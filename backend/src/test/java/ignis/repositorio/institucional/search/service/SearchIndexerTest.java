@@ -0,0 +1,176 @@
+package ignis.repositorio.institucional.search.service;
+
+import ignis.repositorio.institucional.document.domain.Document;
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import ignis.repositorio.institucional.document.domain.DocumentVersion;
+import ignis.repositorio.institucional.document.event.DocumentChangedEvent;
+import ignis.repositorio.institucional.document.repository.DocumentRepository;
+import ignis.repositorio.institucional.document.repository.DocumentVersionRepository;
+import ignis.repositorio.institucional.document.storage.BlobStore;
+import ignis.repositorio.institucional.search.index.DocumentIndex;
+import ignis.repositorio.institucional.search.index.DocumentTextExtractor;
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import ignis.repositorio.institucional.search.repository.DocumentStampJdbcRepository;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SearchIndexer. Indexing runs on the calling thread.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexer Tests")
+class SearchIndexerTest {
+
+    private static final String SHA = "ab".repeat(32);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_000);
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentVersionRepository documentVersionRepository;
+
+    @Mock
+    private SectorRepository sectorRepository;
+
+    @Mock
+    private DocumentStampJdbcRepository stampRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private DocumentTextExtractor textExtractor;
+
+    @Mock
+    private DocumentIndex documentIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchIndexer = new SearchIndexer(documentRepository, documentVersionRepository, sectorRepository,
+            stampRepository, blobStore, textExtractor, documentIndex, Runnable::run, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should index a changed document with the text of its current version")
+    void shouldIndexChangedDocument() {
+        // Given
+        Resource content = new ByteArrayResource(new byte[0]);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(Document.builder()
+            .id(1L).title("Manual").description("Manual do servidor").sectorId(10L)
+            .status(DocumentStatus.PUBLISHED).currentVersion(2).updatedAt(UPDATED_AT).build()));
+        when(documentVersionRepository.findByDocumentIdAndVersionNumber(1L, 2)).thenReturn(Optional.of(
+            DocumentVersion.builder().documentId(1L).versionNumber(2).blobSha256(SHA)
+                .fileName("manual.pdf").contentType("application/pdf").build()));
+        when(sectorRepository.findById(10L)).thenReturn(Optional.of(
+            Sector.builder().id(10L).name("Recursos Humanos").path("/1/10/").build()));
+        when(blobStore.open(SHA)).thenReturn(content);
+        when(textExtractor.extract(content, "application/pdf", "manual.pdf")).thenReturn("Texto do manual");
+
+        // When
+        searchIndexer.onDocumentChanged(new DocumentChangedEvent(1L));
+
+        // Then
+        ArgumentCaptor<IndexedDocument> indexed = ArgumentCaptor.forClass(IndexedDocument.class);
+        verify(documentIndex).index(indexed.capture());
+        assertThat(indexed.getValue().title()).isEqualTo("Manual");
+        assertThat(indexed.getValue().fileName()).isEqualTo("manual.pdf");
+        assertThat(indexed.getValue().sectorName()).isEqualTo("Recursos Humanos");
+        assertThat(indexed.getValue().sectorPath()).isEqualTo("/1/10/");
+        assertThat(indexed.getValue().status()).isEqualTo("PUBLISHED");
+        assertThat(indexed.getValue().content()).isEqualTo("Texto do manual");
+        assertThat(indexed.getValue().stamp())
+            .isEqualTo(IndexedDocument.stampOf(UPDATED_AT, 10L, "Recursos Humanos", "/1/10/"));
+        assertThat(meterRegistry.get("search.index.updates").tag("result", "indexed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted document from the index")
+    void shouldRemoveDeletedDocument() {
+        // Given
+        when(documentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        searchIndexer.onDocumentChanged(new DocumentChangedEvent(1L));
+
+        // Then
+        verify(documentIndex).delete(1L);
+        verify(documentIndex, never()).index(any());
+    }
+
+    @Test
+    @DisplayName("Should count a failure without propagating it")
+    void shouldSurviveIndexingFailures() {
+        // Given
+        when(documentRepository.findById(1L)).thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        searchIndexer.enqueue(1L);
+
+        // Then
+        assertThat(meterRegistry.get("search.index.updates").tag("result", "failed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reindex the documents below a changed sector")
+    void shouldReindexDocumentsOfChangedSector() {
+        // Given
+        when(documentIndex.idsUnderSectorPath("/1/10/")).thenReturn(List.of(5L, 6L));
+
+        // When
+        searchIndexer.onSectorChanged(new SectorChangedEvent(10L, "/1/10/"));
+
+        // Then
+        verify(documentRepository).findById(5L);
+        verify(documentRepository).findById(6L);
+    }
+
+    @Test
+    @DisplayName("Should queue missing and stale documents and drop entries of deleted ones")
+    void shouldReconcileWithDatabase() {
+        // Given: the index has 1 (current), 2 (stale) and 4 (deleted); the table has 1, 2 and 3
+        when(documentIndex.stamps()).thenReturn(
+            new DocumentIndex.IndexStamps(new long[]{1, 2, 4}, new long[]{100, 200, 400}));
+        doAnswer(invocation -> {
+            DocumentStampJdbcRepository.StampConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, 100);
+            consumer.accept(2, 250);
+            consumer.accept(3, 300);
+            return null;
+        }).when(stampRepository).forEachStamp(any());
+
+        // When
+        searchIndexer.reconcile();
+
+        // Then
+        verify(documentRepository, never()).findById(1L);
+        verify(documentRepository).findById(2L);
+        verify(documentRepository).findById(3L);
+        verify(documentIndex).delete(4L);
+    }
+}
@@ -0,0 +1,182 @@
+package ignis.repositorio.institucional.search.service;
+
+import ignis.repositorio.institucional.config.SearchProperties;
+import ignis.repositorio.institucional.document.domain.DocumentStatus;
+import ignis.repositorio.institucional.exception.InvalidSearchQueryException;
+import ignis.repositorio.institucional.search.dto.SearchHit;
+import ignis.repositorio.institucional.search.dto.SearchResponse;
+import ignis.repositorio.institucional.search.index.DocumentIndex;
+import ignis.repositorio.institucional.search.index.IndexedDocument;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SearchService, on a real index in a temporary directory.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService Tests")
+class SearchServiceTest {
+
+    @Mock
+    private SectorRepository sectorRepository;
+
+    @TempDir
+    private Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DocumentIndex documentIndex;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.setIndexDirectory(directory);
+        properties.setMaxPageSize(10);
+        properties.setMaxResultWindow(50);
+        meterRegistry = new SimpleMeterRegistry();
+        documentIndex = new DocumentIndex(properties, meterRegistry);
+        searchService = new SearchService(documentIndex, sectorRepository, properties, meterRegistry);
+
+        documentIndex.index(document(1L, "Regulamento de Férias dos Servidores", 10L, "Recursos Humanos", "/1/10/",
+            DocumentStatus.PUBLISHED,
+            "As férias dos servidores devem ser solicitadas com trinta dias de antecedência ao setor de pessoal."));
+        documentIndex.index(document(2L, "Relatório Anual de Atividades", 20L, "Diretoria", "/2/20/",
+            DocumentStatus.DRAFT,
+            "O relatório apresenta as atividades da diretoria, incluindo o regulamento interno aprovado."));
+        documentIndex.index(document(3L, "Ata da reunião de planejamento", 11L, "Departamento Pessoal", "/1/10/11/",
+            DocumentStatus.PUBLISHED,
+            "Ficou decidido que as férias coletivas começam em dezembro."));
+        documentIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        documentIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should match regardless of accents, case and plurals")
+    void shouldMatchAccentsAndPlurals() {
+        // When
+        SearchResponse response = searchService.search("FERIAS servidor", null, null, 0, 10);
+
+        // Then
+        assertThat(response.getHits()).extracting(SearchHit::getDocumentId).containsExactly(1L);
+        assertThat(response.getTotalHits()).isEqualTo(1);
+        assertThat(response.isTotalHitsExact()).isTrue();
+        assertThat(response.isTimedOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above content matches")
+    void shouldRankTitleMatchesFirst() {
+        // When
+        SearchResponse response = searchService.search("regulamento", null, null, 0, 10);
+
+        // Then
+        assertThat(response.getHits()).extracting(SearchHit::getDocumentId).containsExactly(1L, 2L);
+        assertThat(response.getHits().get(0).getScore()).isGreaterThan(response.getHits().get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Should highlight matches in title and content")
+    void shouldHighlightMatches() {
+        // When
+        SearchHit hit = searchService.search("antecedencia ferias", null, null, 0, 10).getHits().get(0);
+
+        // Then
+        assertThat(hit.getHighlightedTitle()).isEqualTo("Regulamento de <mark>Férias</mark> dos Servidores");
+        assertThat(hit.getSnippet()).contains("<mark>antecedência</mark>").contains("<mark>férias</mark>");
+        assertThat(hit.getTitle()).isEqualTo("Regulamento de Férias dos Servidores");
+        assertThat(hit.getSectorName()).isEqualTo("Recursos Humanos");
+        assertThat(hit.getStatus()).isEqualTo(DocumentStatus.PUBLISHED);
+        assertThat(hit.getFileName()).isEqualTo("documento-1.pdf");
+    }
+
+    @Test
+    @DisplayName("Should filter by sector subtree and status")
+    void shouldFilterBySectorAndStatus() {
+        // Given
+        when(sectorRepository.findById(10L)).thenReturn(Optional.of(Sector.builder().id(10L).path("/1/10/").build()));
+        when(sectorRepository.findById(11L)).thenReturn(Optional.of(Sector.builder().id(11L).path("/1/10/11/").build()));
+
+        // When / Then
+        assertThat(searchService.search("ferias", 10L, null, 0, 10).getHits())
+            .extracting(SearchHit::getDocumentId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(searchService.search("ferias", 11L, null, 0, 10).getHits())
+            .extracting(SearchHit::getDocumentId).containsExactly(3L);
+        assertThat(searchService.search("regulamento", null, "draft", 0, 10).getHits())
+            .extracting(SearchHit::getDocumentId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should search the words of a query with broken syntax")
+    void shouldFallBackOnSyntaxErrors() {
+        // When
+        SearchResponse response = searchService.search("\"ferias coletivas", null, null, 0, 10);
+
+        // Then
+        assertThat(response.getHits()).extracting(SearchHit::getDocumentId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should no longer find a document once it is removed from the index")
+    void shouldNotFindDeletedDocuments() {
+        // When
+        documentIndex.delete(1L);
+        documentIndex.refresh();
+
+        // Then
+        assertThat(searchService.search("servidores", null, null, 0, 10).getHits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through results and record the search time")
+    void shouldPageResults() {
+        // When
+        SearchResponse first = searchService.search("ferias", null, null, 0, 1);
+        SearchResponse second = searchService.search("ferias", null, null, 1, 1);
+
+        // Then
+        assertThat(first.getTotalHits()).isEqualTo(2);
+        assertThat(first.getHits()).hasSize(1);
+        assertThat(second.getHits()).hasSize(1);
+        assertThat(second.getHits().get(0).getDocumentId()).isNotEqualTo(first.getHits().get(0).getDocumentId());
+        assertThat(meterRegistry.get("search.requests").tag("result", "complete").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject empty searches, unknown statuses and pages past the result window")
+    void shouldRejectInvalidSearches() {
+        assertThatThrownBy(() -> searchService.search("  ", null, null, 0, 10))
+            .isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> searchService.search("ferias", null, "LOST", 0, 10))
+            .isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> searchService.search("ferias", null, null, 5, 10))
+            .isInstanceOf(InvalidSearchQueryException.class);
+    }
+
+    private static IndexedDocument document(Long id, String title, Long sectorId, String sectorName, String sectorPath,
+                                            DocumentStatus status, String content) {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 1, 9, 30);
+        return new IndexedDocument(id, title, null, "documento-" + id + ".pdf", "application/pdf", sectorId,
+            sectorName, sectorPath, status.name(), 1, updatedAt, IndexedDocument.stampOf(updatedAt, sectorId, sectorName, sectorPath), content);
+    }
+}
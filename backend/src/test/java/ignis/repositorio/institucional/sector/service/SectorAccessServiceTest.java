@@ -0,0 +1,182 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.domain.PrincipalType;
+import ignis.repositorio.institucional.sector.domain.SectorPermission;
+import ignis.repositorio.institucional.sector.dto.CreateSectorRequest;
+import ignis.repositorio.institucional.sector.dto.SectorGrantRequest;
+import ignis.repositorio.institucional.sector.mapper.SectorMapperImpl;
+import ignis.repositorio.institucional.sector.repository.SectorClosureJdbcRepository;
+import ignis.repositorio.institucional.sector.repository.SectorGrantJdbcRepository;
+import ignis.repositorio.institucional.user.domain.Group;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.repository.GroupRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for SectorAccessService.
+ * <pre>
+ * rectory
+ * ├── library
+ * │   └── archive
+ * └── admissions
+ * </pre>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import({SectorAccessService.class, SectorService.class, SectorTreeCache.class, SectorMetadataResolver.class,
+        SectorMapperImpl.class, SectorClosureJdbcRepository.class, SectorGrantJdbcRepository.class})
+@DisplayName("SectorAccessService Tests")
+class SectorAccessServiceTest {
+
+    @Autowired
+    private SectorAccessService sectorAccessService;
+
+    @Autowired
+    private SectorService sectorService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long rectory;
+    private Long library;
+    private Long archive;
+    private Long admissions;
+    private Long userId;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        rectory = create("Rectory", null);
+        library = create("Library", rectory);
+        archive = create("Archive", library);
+        admissions = create("Admissions", rectory);
+
+        userId = userRepository.save(User.builder()
+                .username("sector.access")
+                .email("sector.access@example.com")
+                .passwordHash("hashedPassword")
+                .active(true)
+                .build()).getId();
+        groupId = groupRepository.save(Group.builder().name("Sector access staff").build()).getId();
+        jdbcTemplate.update("INSERT INTO user_groups (user_id, group_id) VALUES (?, ?)", userId, groupId);
+    }
+
+    @Test
+    @DisplayName("Should inherit a grant down the whole subtree, including sectors created later")
+    void shouldInheritGrants() {
+        // Given
+        grant(rectory, PrincipalType.USER, userId, SectorPermission.READ);
+
+        // When
+        Long newShelf = create("Shelf", archive);
+
+        // Then
+        assertThat(sectorAccessService.hasPermission(userId, archive, SectorPermission.READ)).isTrue();
+        assertThat(sectorAccessService.hasPermission(userId, newShelf, SectorPermission.READ)).isTrue();
+        assertThat(sectorAccessService.hasPermission(userId, admissions, SectorPermission.WRITE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should let a more specific grant override the inherited one")
+    void shouldOverrideWithNearestGrant() {
+        // Given
+        grant(rectory, PrincipalType.USER, userId, SectorPermission.READ, SectorPermission.WRITE);
+
+        // When
+        grant(library, PrincipalType.USER, userId);
+
+        // Then
+        assertThat(sectorAccessService.getAccess(rectory, userId).getPermissions())
+                .containsExactlyInAnyOrder(SectorPermission.READ, SectorPermission.WRITE);
+        assertThat(sectorAccessService.getAccess(archive, userId).getPermissions()).isEmpty();
+
+        // When
+        sectorAccessService.revoke(library, PrincipalType.USER, userId);
+
+        // Then
+        assertThat(sectorAccessService.getAccess(archive, userId).getPermissions())
+                .containsExactlyInAnyOrder(SectorPermission.READ, SectorPermission.WRITE);
+    }
+
+    @Test
+    @DisplayName("Should combine a user's own grants with those of its groups")
+    void shouldCombineGroupGrants() {
+        // Given
+        grant(rectory, PrincipalType.USER, userId, SectorPermission.READ);
+        grant(library, PrincipalType.GROUP, groupId, SectorPermission.ADMIN);
+
+        // When / Then
+        assertThat(sectorAccessService.getAccess(archive, userId).getPermissions())
+                .containsExactlyInAnyOrder(SectorPermission.READ, SectorPermission.ADMIN);
+        assertThat(sectorAccessService.getAccess(admissions, userId).getPermissions())
+                .containsExactly(SectorPermission.READ);
+    }
+
+    @Test
+    @DisplayName("Should recompute inherited grants when a subtree moves")
+    void shouldFollowMoves() {
+        // Given
+        grant(library, PrincipalType.GROUP, groupId, SectorPermission.DELETE);
+        grant(admissions, PrincipalType.GROUP, groupId, SectorPermission.SHARE);
+
+        // When
+        sectorService.moveSector(archive, admissions);
+
+        // Then
+        assertThat(sectorAccessService.getAccess(archive, userId).getPermissions())
+                .containsExactly(SectorPermission.SHARE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT depth FROM sector_closure WHERE ancestor_id = ? AND descendant_id = ?",
+                Integer.class, rectory, archive)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM sector_closure WHERE ancestor_id = ? AND descendant_id = ?",
+                Integer.class, library, archive)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject grants for unknown principals and revocations of missing grants")
+    void shouldRejectUnknownPrincipals() {
+        // When / Then
+        assertThatThrownBy(() -> grant(rectory, PrincipalType.GROUP, -1L, SectorPermission.READ))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> sectorAccessService.revoke(rectory, PrincipalType.USER, userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void grant(Long sectorId, PrincipalType principalType, Long principalId, SectorPermission... permissions) {
+        sectorAccessService.grant(sectorId, SectorGrantRequest.builder()
+                .principalType(principalType)
+                .principalId(principalId)
+                .permissions(Set.of(permissions))
+                .build());
+    }
+
+    private Long create(String name, Long parentId) {
+        return sectorService.createSector(CreateSectorRequest.builder()
+                .name(name)
+                .parentId(parentId)
+                .build()).getId();
+    }
+}
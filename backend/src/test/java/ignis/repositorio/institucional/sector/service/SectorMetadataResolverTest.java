@@ -0,0 +1,100 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.domain.Sector;
+import ignis.repositorio.institucional.sector.event.SectorChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SectorMetadataResolver.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SectorMetadataResolver Tests")
+class SectorMetadataResolverTest {
+
+    @Mock
+    private SectorTreeCache sectorTreeCache;
+
+    private SectorMetadataResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new SectorMetadataResolver(sectorTreeCache);
+        when(sectorTreeCache.snapshot()).thenReturn(new SectorTree(1, List.of(
+                sector(1L, null, "/1/", Map.of("language", "pt-BR", "rights", Map.of("license", "CC-BY", "embargo", false))),
+                sector(2L, 1L, "/1/2/", Map.of("collection", "theses", "rights", Map.of("embargo", true))),
+                sector(3L, 2L, "/1/2/3/", Map.of("language", "en")),
+                sector(4L, 1L, "/1/4/", null))));
+    }
+
+    @Test
+    @DisplayName("Should merge defaults down the tree with the nearest sector winning")
+    void shouldMergeDownTheTree() {
+        // When
+        Map<String, Object> defaults = resolver.resolve(3L);
+
+        // Then
+        assertThat(defaults).containsEntry("language", "en")
+                .containsEntry("collection", "theses")
+                .containsEntry("rights", Map.of("license", "CC-BY", "embargo", true));
+        assertThat(resolver.resolve(4L)).isEqualTo(resolver.resolve(1L));
+        assertThatThrownBy(() -> defaults.put("language", "es")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve each sector once and reuse its ancestors' results")
+    void shouldCacheResults() {
+        // When
+        resolver.resolve(3L);
+        resolver.resolve(2L);
+        resolver.resolve(1L);
+        resolver.resolve(3L);
+
+        // Then
+        verify(sectorTreeCache, times(1)).snapshot();
+    }
+
+    @Test
+    @DisplayName("Should drop only the subtree of a changed sector")
+    void shouldInvalidateSubtree() {
+        // Given
+        resolver.resolve(3L);
+        resolver.resolve(4L);
+
+        // When
+        resolver.onSectorChanged(new SectorChangedEvent(2L, "/1/2/"));
+        resolver.resolve(1L);
+        resolver.resolve(4L);
+
+        // Then
+        verify(sectorTreeCache, times(2)).snapshot();
+        resolver.resolve(3L);
+        verify(sectorTreeCache, times(3)).snapshot();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown sectors")
+    void shouldRejectUnknownSector() {
+        // When / Then
+        assertThatThrownBy(() -> resolver.resolve(99L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static Sector sector(Long id, Long parentId, String path, Map<String, Object> metadataDefaults) {
+        return Sector.builder().id(id).name("Sector " + id).parentId(parentId).path(path)
+                .metadataDefaults(metadataDefaults).build();
+    }
+}
@@ -0,0 +1,163 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.exception.InvalidSectorHierarchyException;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.sector.dto.CreateSectorRequest;
+import ignis.repositorio.institucional.sector.dto.SectorResponse;
+import ignis.repositorio.institucional.sector.dto.SectorTreeNode;
+import ignis.repositorio.institucional.sector.mapper.SectorMapperImpl;
+import ignis.repositorio.institucional.sector.repository.SectorClosureJdbcRepository;
+import ignis.repositorio.institucional.sector.repository.SectorGrantJdbcRepository;
+import ignis.repositorio.institucional.sector.repository.SectorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for SectorService.
+ * <pre>
+ * university
+ * ├── engineering
+ * │   ├── civil
+ * │   └── software
+ * └── law
+ * </pre>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import({SectorService.class, SectorTreeCache.class, SectorMetadataResolver.class, SectorMapperImpl.class,
+        SectorClosureJdbcRepository.class, SectorGrantJdbcRepository.class})
+@DisplayName("SectorService Tests")
+class SectorServiceTest {
+
+    @Autowired
+    private SectorService sectorService;
+
+    @Autowired
+    private SectorRepository sectorRepository;
+
+    private SectorResponse university;
+    private SectorResponse engineering;
+    private SectorResponse software;
+    private SectorResponse law;
+
+    @BeforeEach
+    void setUp() {
+        sectorRepository.deleteAll();
+        university = create("University", null);
+        engineering = create("Engineering", university.getId());
+        create("Civil", engineering.getId());
+        software = create("Software", engineering.getId());
+        law = create("Law", university.getId());
+    }
+
+    @Test
+    @DisplayName("Should build the materialized path from the parent on create")
+    void shouldMaintainPathOnCreate() {
+        // Then
+        assertThat(university.getPath()).isEqualTo("/" + university.getId() + "/");
+        assertThat(software.getPath())
+                .isEqualTo(engineering.getPath() + software.getId() + "/");
+        assertThat(software.getDepth()).isEqualTo(2);
+        assertThat(software.getParentId()).isEqualTo(engineering.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer ancestors, descendants and subtrees from the path")
+    void shouldQueryByPath() {
+        // When / Then
+        assertThat(sectorService.getAncestors(software.getId()))
+                .extracting(SectorResponse::getName).containsExactly("University", "Engineering");
+        assertThat(sectorService.getAncestors(university.getId())).isEmpty();
+        assertThat(sectorService.getDescendants(engineering.getId()))
+                .extracting(SectorResponse::getName).containsExactlyInAnyOrder("Civil", "Software");
+
+        SectorTreeNode subtree = sectorService.getSubtree(university.getId());
+        assertThat(subtree.getChildren()).extracting(SectorTreeNode::getName)
+                .containsExactlyInAnyOrder("Engineering", "Law");
+    }
+
+    @Test
+    @DisplayName("Should move a whole subtree and rewrite every path below it")
+    void shouldMoveSubtree() {
+        // When
+        SectorResponse moved = sectorService.moveSector(engineering.getId(), law.getId());
+
+        // Then
+        assertThat(moved.getParentId()).isEqualTo(law.getId());
+        assertThat(moved.getPath()).isEqualTo(law.getPath() + engineering.getId() + "/");
+        assertThat(sectorService.getSectorById(software.getId()).getPath())
+                .isEqualTo(moved.getPath() + software.getId() + "/");
+        assertThat(sectorService.getAncestors(software.getId()))
+                .extracting(SectorResponse::getName).containsExactly("University", "Law", "Engineering");
+        assertThat(sectorService.getDescendants(law.getId())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should make a moved sector a root when it has no new parent")
+    void shouldMoveToRoot() {
+        // When
+        SectorResponse moved = sectorService.moveSector(engineering.getId(), null);
+
+        // Then
+        assertThat(moved.getParentId()).isNull();
+        assertThat(moved.getDepth()).isZero();
+        assertThat(sectorService.getSectorById(software.getId()).getDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to move a sector below itself or its descendants")
+    void shouldRejectCycles() {
+        // When / Then
+        assertThatThrownBy(() -> sectorService.moveSector(university.getId(), software.getId()))
+                .isInstanceOf(InvalidSectorHierarchyException.class);
+        assertThatThrownBy(() -> sectorService.moveSector(engineering.getId(), engineering.getId()))
+                .isInstanceOf(InvalidSectorHierarchyException.class);
+        assertThatThrownBy(() -> sectorService.moveSector(engineering.getId(), -1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete a sector with everything below it")
+    void shouldDeleteSubtree() {
+        // When
+        sectorService.deleteSector(engineering.getId());
+
+        // Then
+        assertThat(sectorRepository.count()).isEqualTo(2);
+        assertThatThrownBy(() -> sectorService.getSectorById(software.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve the whole hierarchy from the in-memory tree")
+    void shouldServeTree() {
+        // When
+        List<SectorTreeNode> roots = sectorService.getTree();
+
+        // Then
+        assertThat(roots).extracting(SectorTreeNode::getName).containsExactly("University");
+        assertThat(roots.get(0).getChildren()).extracting(SectorTreeNode::getName)
+                .containsExactly("Engineering", "Law");
+    }
+
+    private SectorResponse create(String name, Long parentId) {
+        return sectorService.createSector(CreateSectorRequest.builder()
+                .name(name)
+                .parentId(parentId)
+                .metadataDefaults(Map.of("language", "pt-BR"))
+                .build());
+    }
+}
@@ -0,0 +1,57 @@
+package ignis.repositorio.institucional.sector.service;
+
+import ignis.repositorio.institucional.sector.domain.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SectorTree.
+ */
+@DisplayName("SectorTree Tests")
+class SectorTreeTest {
+
+    private final SectorTree tree = new SectorTree(1, List.of(
+            sector(1L, "Rectory", null, "/1/"),
+            sector(2L, "Library", 1L, "/1/2/"),
+            sector(3L, "Archive", 2L, "/1/2/3/"),
+            sector(4L, "Admissions", 1L, "/1/4/"),
+            sector(5L, "Foundation", null, "/5/")));
+
+    @Test
+    @DisplayName("Should resolve ancestors from the root down by following parent links")
+    void shouldResolveAncestors() {
+        // When / Then
+        assertThat(tree.ancestors(3L)).extracting(SectorTree.Node::id).containsExactly(1L, 2L);
+        assertThat(tree.ancestors(1L)).isEmpty();
+        assertThat(tree.ancestors(99L)).isEmpty();
+        assertThat(tree.node(3L).depth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should tell whether one sector contains another")
+    void shouldCheckAncestry() {
+        // When / Then
+        assertThat(tree.isSelfOrAncestor(1L, 3L)).isTrue();
+        assertThat(tree.isSelfOrAncestor(3L, 3L)).isTrue();
+        assertThat(tree.isSelfOrAncestor(4L, 3L)).isFalse();
+        assertThat(tree.isSelfOrAncestor(3L, 1L)).isFalse();
+        assertThat(tree.isSelfOrAncestor(5L, 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should order roots and children by name")
+    void shouldOrderByName() {
+        // When / Then
+        assertThat(tree.roots()).extracting(SectorTree.Node::name).containsExactly("Foundation", "Rectory");
+        assertThat(tree.node(1L).children()).extracting(SectorTree.Node::name)
+                .containsExactly("Admissions", "Library");
+    }
+
+    private static Sector sector(Long id, String name, Long parentId, String path) {
+        return Sector.builder().id(id).name(name).parentId(parentId).path(path).build();
+    }
+}
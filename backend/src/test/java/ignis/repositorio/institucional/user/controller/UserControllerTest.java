@@ -1,11 +1,24 @@
 package ignis.repositorio.institucional.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.exception.ImportTooLargeException;
+import ignis.repositorio.institucional.exception.InvalidCursorException;
 import ignis.repositorio.institucional.exception.ResourceAlreadyExistsException;
 import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.dto.BulkImportResponse;
+import ignis.repositorio.institucional.user.dto.BulkImportRowResult;
 import ignis.repositorio.institucional.user.dto.CreateUserRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.EffectivePermissionsResponse;
+import ignis.repositorio.institucional.user.dto.ExportFormat;
+import ignis.repositorio.institucional.user.dto.InactiveUserResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
 import ignis.repositorio.institucional.user.dto.UpdateUserRequest;
 import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.service.EffectivePermissionService;
+import ignis.repositorio.institucional.user.service.UserActivityService;
+import ignis.repositorio.institucional.user.service.UserBulkImportService;
+import ignis.repositorio.institucional.user.service.UserExportService;
 import ignis.repositorio.institucional.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +32,20 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.BufferedReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,6 +68,18 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserBulkImportService userBulkImportService;
+
+    @MockBean
+    private EffectivePermissionService effectivePermissionService;
+
+    @MockBean
+    private UserExportService userExportService;
+
+    @MockBean
+    private UserActivityService userActivityService;
+
     private CreateUserRequest createRequest;
     private UpdateUserRequest updateRequest;
     private UserResponse userResponse;
@@ -300,4 +333,205 @@ class UserControllerTest {
 
         verify(userService, times(1)).deactivateUser(1L);
     }
+
+    @Test
+    @DisplayName("POST /api/v1/users/bulk - Should import users from a JSON array")
+    void shouldBulkImportUsersFromJsonArray() throws Exception {
+        // Given
+        BulkImportResponse report = BulkImportResponse.builder()
+                .total(2)
+                .created(1)
+                .failed(1)
+                .rows(List.of(
+                        BulkImportRowResult.builder()
+                                .index(0)
+                                .username("testuser")
+                                .id(1L)
+                                .status(BulkImportRowResult.Status.CREATED)
+                                .build(),
+                        BulkImportRowResult.builder()
+                                .index(1)
+                                .username("testuser")
+                                .status(BulkImportRowResult.Status.FAILED)
+                                .error("Duplicate username in import: 'testuser'")
+                                .build()))
+                .build();
+
+        when(userBulkImportService.importUsers(anyList())).thenReturn(report);
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest, createRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rows", hasSize(2)))
+                .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[1].error").value("Duplicate username in import: 'testuser'"));
+
+        verify(userBulkImportService, times(1)).importUsers(anyList());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/bulk - Should answer 413 to an array over the row limit")
+    void shouldRejectOversizedBulkImport() throws Exception {
+        // Given
+        when(userBulkImportService.importUsers(anyList()))
+                .thenThrow(new ImportTooLargeException("Import of 2 rows exceeds the limit of 1 rows"));
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest, createRequest))))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("Import of 2 rows exceeds the limit of 1 rows"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/bulk - Should import users from an NDJSON stream")
+    void shouldBulkImportUsersFromNdjson() throws Exception {
+        // Given
+        BulkImportResponse report = BulkImportResponse.builder()
+                .total(1)
+                .created(1)
+                .rows(List.of())
+                .build();
+
+        when(userBulkImportService.importUsers(any(BufferedReader.class))).thenReturn(report);
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/users/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(createRequest) + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+
+        verify(userBulkImportService, times(1)).importUsers(any(BufferedReader.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/scroll - Should return a cursor page")
+    void shouldScrollUsers() throws Exception {
+        // Given
+        CursorPageResponse<UserResponse> page = CursorPageResponse.<UserResponse>builder()
+                .content(List.of(userResponse))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("aWQ6MQ")
+                .totalCount(TotalCount.ESTIMATED)
+                .totalElements(42L)
+                .build();
+
+        when(userService.scrollUsers("aWQ6MA", 1, TotalCount.ESTIMATED)).thenReturn(page);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/users/scroll")
+                        .param("after", "aWQ6MA")
+                        .param("size", "1")
+                        .param("total", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("aWQ6MQ"))
+                .andExpect(jsonPath("$.totalElements").value(42));
+
+        verify(userService, times(1)).scrollUsers("aWQ6MA", 1, TotalCount.ESTIMATED);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/scroll - Should return 400 for an invalid cursor")
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        // Given
+        when(userService.scrollUsers("garbage", 20, TotalCount.NONE))
+                .thenThrow(new InvalidCursorException("garbage"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/users/scroll")
+                        .param("after", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid pagination cursor: 'garbage'"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/inactive - Should return inactive users least recently active first")
+    void shouldGetInactiveUsers() throws Exception {
+        // Given
+        CursorPageResponse<InactiveUserResponse> page = CursorPageResponse.<InactiveUserResponse>builder()
+                .content(List.of(new InactiveUserResponse(1L, "testuser", "test@example.com",
+                        LocalDateTime.of(2026, 1, 5, 9, 30))))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+
+        when(userActivityService.findInactiveUsers(Duration.ofDays(30), null, 1)).thenReturn(page);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/users/inactive")
+                        .param("days", "30")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].username").value("testuser"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id}/effective-permissions - Should return effective permissions")
+    void shouldGetEffectivePermissions() throws Exception {
+        // Given
+        EffectivePermissionsResponse permissions = EffectivePermissionsResponse.builder()
+                .userId(1L)
+                .active(true)
+                .permissions(List.of("DOCUMENT:READ", "USER:MANAGE"))
+                .catalogVersion(3)
+                .build();
+
+        when(effectivePermissionService.getEffectivePermissions(1L)).thenReturn(permissions);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/users/1/effective-permissions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.permissions", hasSize(2)))
+                .andExpect(jsonPath("$.permissions[0]").value("DOCUMENT:READ"));
+
+        verify(effectivePermissionService, times(1)).getEffectivePermissions(1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id}/effective-permissions - Should return 404 when user not found")
+    void shouldReturn404ForEffectivePermissionsOfUnknownUser() throws Exception {
+        // Given
+        when(effectivePermissionService.getEffectivePermissions(999L))
+                .thenThrow(new ResourceNotFoundException("User", "id", 999L));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/users/999/effective-permissions"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/export - Should stream the export as a CSV attachment")
+    void shouldExportUsersAsCsv() throws Exception {
+        // Given
+        when(userExportService.exportUsers(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,username\r\n1,testuser\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id,username\r\n1,testuser\r\n"));
+    }
 }
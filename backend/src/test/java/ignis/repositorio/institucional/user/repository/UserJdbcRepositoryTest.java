@@ -0,0 +1,95 @@
+package ignis.repositorio.institucional.user.repository;
+
+import ignis.repositorio.institucional.user.dto.InactiveUserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the last-activity queries of UserJdbcRepository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import(UserJdbcRepository.class)
+@DisplayName("UserJdbcRepository Tests")
+class UserJdbcRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Autowired
+    private UserJdbcRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Should only move last activity forward")
+    void shouldOnlyMoveLastActivityForward() {
+        // Given
+        long id = insertUser("maria", true, NOW.minusDays(1));
+
+        // When
+        repository.updateLastActivity(Map.of(id, NOW.minusDays(2)));
+        LocalDateTime afterOlder = lastActivity(id);
+        repository.updateLastActivity(Map.of(id, NOW));
+
+        // Then
+        assertThat(afterOlder).isEqualTo(NOW.minusDays(1));
+        assertThat(lastActivity(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Should page active users inactive since the cutoff, least recently active first")
+    void shouldPageInactiveUsers() {
+        // Given
+        LocalDateTime longAgo = NOW.minusDays(200);
+        long first = insertUser("a", true, longAgo);
+        long second = insertUser("b", true, longAgo);
+        long third = insertUser("c", true, NOW.minusDays(100));
+        insertUser("deactivated", false, longAgo);
+        insertUser("recent", true, NOW.minusDays(1));
+        LocalDateTime cutoff = NOW.minusDays(90);
+
+        // When
+        List<InactiveUserResponse> page1 = repository.findInactiveUsers(cutoff, null, null, 2);
+        InactiveUserResponse last = page1.get(page1.size() - 1);
+        List<InactiveUserResponse> page2 = repository.findInactiveUsers(
+                cutoff, last.getLastActivityAt(), last.getId(), 2);
+
+        // Then
+        assertThat(page1).extracting(InactiveUserResponse::getId).containsExactly(first, second);
+        assertThat(page2).extracting(InactiveUserResponse::getId).containsExactly(third);
+        assertThat(page2.get(0).getUsername()).isEqualTo("c");
+    }
+
+    private long insertUser(String username, boolean active, LocalDateTime lastActivity) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password_hash, active, last_activity_at) "
+                        + "VALUES (?, ?, 'hash', ?, ?) RETURNING id",
+                Long.class, username, username + "@example.com", active, Timestamp.valueOf(lastActivity));
+    }
+
+    private LocalDateTime lastActivity(long id) {
+        return jdbcTemplate.queryForObject("SELECT last_activity_at FROM users WHERE id = ?",
+                Timestamp.class, id).toLocalDateTime();
+    }
+}
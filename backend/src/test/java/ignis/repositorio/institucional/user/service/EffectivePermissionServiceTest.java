@@ -0,0 +1,230 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.config.TwoLevelCacheProperties;
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.dto.EffectivePermissionsResponse;
+import ignis.repositorio.institucional.user.event.RoleChangedEvent;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
+import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.RolePermissionLink;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.repository.UserLink;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EffectivePermissionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EffectivePermissionService Tests")
+class EffectivePermissionServiceTest {
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private PermissionCatalog permissionCatalog;
+
+    private EffectivePermissionService effectivePermissionService;
+
+    @BeforeEach
+    void setUp() {
+        permissionCatalog = new PermissionCatalog(permissionRepository, roleRepository, invalidationPublisher);
+        effectivePermissionService = new EffectivePermissionService(permissionCatalog, userRepository,
+                new TwoLevelCacheProperties(), invalidationPublisher);
+
+        when(permissionRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                permission(1L, "DOCUMENT", "READ"),
+                permission(2L, "DOCUMENT", "CREATE"),
+                permission(3L, "USER", "MANAGE")));
+
+        // Role 10 reads documents, role 20 creates documents and manages users
+        when(roleRepository.findAllPermissionLinks()).thenReturn(List.of(
+                new RolePermissionLink(10L, 1L),
+                new RolePermissionLink(20L, 2L),
+                new RolePermissionLink(20L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Should grant the union of the permissions of the user's roles")
+    void shouldGrantUnionOfRolePermissions() {
+        // Given
+        givenUser(1L, true, 10L, 20L);
+
+        // When/Then
+        assertThat(effectivePermissionService.hasPermission(1L, "DOCUMENT", "READ")).isTrue();
+        assertThat(effectivePermissionService.hasPermission(1L, "DOCUMENT", "CREATE")).isTrue();
+        assertThat(effectivePermissionService.hasPermission(1L, "user", "manage")).isTrue();
+        assertThat(effectivePermissionService.hasPermission(1L, "DOCUMENT", "DELETE")).isFalse();
+        assertThat(effectivePermissionService.hasPermission(1L, "UNKNOWN", "READ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated checks from the cache without touching the database")
+    void shouldCacheUserPermissions() {
+        // Given
+        givenUser(1L, true, 10L);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            effectivePermissionService.hasPermission(1L, "DOCUMENT", "READ");
+        }
+
+        // Then
+        verify(userRepository, times(1)).findActiveById(1L);
+        verify(userRepository, times(1)).findRoleLinks(List.of(1L));
+        verify(permissionRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("Should grant nothing to inactive users")
+    void shouldGrantNothingToInactiveUsers() {
+        // Given
+        givenUser(1L, false, 10L, 20L);
+
+        // When
+        EffectivePermissionsResponse result = effectivePermissionService.getEffectivePermissions(1L);
+
+        // Then
+        assertThat(result.getActive()).isFalse();
+        assertThat(result.getPermissions()).isEmpty();
+        assertThat(effectivePermissionService.hasPermission(1L, "DOCUMENT", "READ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should list effective permissions sorted by resource and action")
+    void shouldListEffectivePermissions() {
+        // Given
+        givenUser(1L, true, 20L);
+
+        // When
+        EffectivePermissionsResponse result = effectivePermissionService.getEffectivePermissions(1L);
+
+        // Then
+        assertThat(result.getUserId()).isEqualTo(1L);
+        assertThat(result.getPermissions()).containsExactly("DOCUMENT:CREATE", "USER:MANAGE");
+    }
+
+    @Test
+    @DisplayName("Should return effective permissions as ordinals of the current catalog layout")
+    void shouldReturnEffectivePermissionOrdinals() {
+        // Given
+        givenUser(1L, true, 20L, 10L);
+
+        // When
+        PermissionOrdinals result = effectivePermissionService.getEffectivePermissionOrdinals(1L);
+
+        // Then
+        assertThat(result.layout()).isEqualTo(permissionCatalog.snapshot().layout());
+        assertThat(result.ordinals().stream()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should throw exception for an unknown user")
+    void shouldThrowExceptionForUnknownUser() {
+        // Given
+        when(userRepository.findActiveById(999L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> effectivePermissionService.getEffectivePermissions(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(effectivePermissionService.hasPermission(999L, "DOCUMENT", "READ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reload the user after a UserChangedEvent")
+    void shouldReloadUserAfterUserChanged() {
+        // Given
+        givenUser(1L, true, 10L);
+        assertThat(effectivePermissionService.hasPermission(1L, "USER", "MANAGE")).isFalse();
+        givenUser(1L, true, 20L);
+
+        // When
+        effectivePermissionService.onUserChanged(new UserChangedEvent(1L, "admin"));
+
+        // Then
+        assertThat(effectivePermissionService.hasPermission(1L, "USER", "MANAGE")).isTrue();
+        verify(userRepository, times(2)).findRoleLinks(List.of(1L));
+        verify(invalidationPublisher).evicted(CacheNames.EFFECTIVE_PERMISSIONS, "1");
+    }
+
+    @Test
+    @DisplayName("Should reload only the user another node evicted")
+    void shouldReloadUserEvictedByAnotherNode() {
+        // Given
+        givenUser(1L, true, 10L);
+        givenUser(2L, true, 10L);
+        effectivePermissionService.hasPermission(1L, "DOCUMENT", "READ");
+        effectivePermissionService.hasPermission(2L, "DOCUMENT", "READ");
+
+        // When
+        effectivePermissionService.evictLocal("1");
+        effectivePermissionService.hasPermission(1L, "DOCUMENT", "READ");
+        effectivePermissionService.hasPermission(2L, "DOCUMENT", "READ");
+
+        // Then
+        verify(userRepository, times(2)).findActiveById(1L);
+        verify(userRepository, times(1)).findActiveById(2L);
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should rebuild role bitsets after a RoleChangedEvent without reloading users")
+    void shouldRebuildRolesAfterRoleChanged() {
+        // Given
+        givenUser(1L, true, 10L);
+        assertThat(effectivePermissionService.hasPermission(1L, "USER", "MANAGE")).isFalse();
+        when(roleRepository.findPermissionLinksByRoleIds(List.of(10L))).thenReturn(List.of(
+                new RolePermissionLink(10L, 1L),
+                new RolePermissionLink(10L, 3L)));
+
+        // When
+        permissionCatalog.onRoleChanged(new RoleChangedEvent(10L));
+
+        // Then
+        assertThat(effectivePermissionService.hasPermission(1L, "USER", "MANAGE")).isTrue();
+        assertThat(effectivePermissionService.getEffectivePermissions(1L).getCatalogVersion()).isEqualTo(2);
+        verify(userRepository, times(1)).findRoleLinks(List.of(1L));
+    }
+
+    private void givenUser(Long userId, boolean active, Long... roleIds) {
+        when(userRepository.findActiveById(userId)).thenReturn(Optional.of(active));
+        when(userRepository.findRoleLinks(List.of(userId))).thenReturn(
+                Arrays.stream(roleIds).map(roleId -> new UserLink(userId, roleId)).toList());
+    }
+
+    private static Permission permission(Long id, String resource, String action) {
+        return Permission.builder()
+                .id(id)
+                .name(action + "_" + resource)
+                .resource(resource)
+                .action(action)
+                .build();
+    }
+}
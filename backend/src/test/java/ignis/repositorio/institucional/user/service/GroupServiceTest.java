@@ -0,0 +1,224 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.domain.Group;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.CreateGroupRequest;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.GroupMembershipResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.event.GroupChangedEvent;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
+import ignis.repositorio.institucional.user.mapper.GroupMapperImpl;
+import ignis.repositorio.institucional.user.mapper.PermissionMapperImpl;
+import ignis.repositorio.institucional.user.mapper.RoleMapperImpl;
+import ignis.repositorio.institucional.user.mapper.UserMapperImpl;
+import ignis.repositorio.institucional.user.repository.GroupMembershipRepository;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for group membership in GroupService.
+ * Membership is written to user_groups directly, never through Group.members.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import({GroupService.class, GroupMembershipRepository.class, UserReadService.class,
+        TableStatisticsRepository.class, UserMapperImpl.class, RoleMapperImpl.class,
+        GroupMapperImpl.class, PermissionMapperImpl.class})
+@RecordApplicationEvents
+@DisplayName("GroupService Tests")
+class GroupServiceTest {
+
+    private static final int USER_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long groupId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManager.flush();
+
+        groupId = entityManager.persist(Group.builder().name("Membership Test Group").build()).getId();
+        for (int i = 0; i < USER_COUNT; i++) {
+            userIds.add(entityManager.persist(User.builder()
+                    .username(String.format("member%02d", i))
+                    .email(String.format("member%02d@example.com", i))
+                    .passwordHash("hashedPassword")
+                    .build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should persist a single membership without loading the group members")
+    void shouldAddSingleMember() {
+        // When
+        groupService.addUserToGroup(groupId, userIds.get(0));
+        groupService.addUserToGroup(groupId, userIds.get(0));
+
+        // Then
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(memberIds()).containsExactly(userIds.get(0));
+    }
+
+    @Test
+    @DisplayName("Should remove a single membership")
+    void shouldRemoveSingleMember() {
+        // Given
+        groupService.addUsersToGroup(groupId, userIds.subList(0, 2));
+
+        // When
+        groupService.removeUserFromGroup(groupId, userIds.get(0));
+
+        // Then
+        assertThat(memberIds()).containsExactly(userIds.get(1));
+    }
+
+    @Test
+    @DisplayName("Should add many users, skipping duplicates, current members and unknown users")
+    void shouldAddMembersInBulk() {
+        // Given
+        groupService.addUserToGroup(groupId, userIds.get(0));
+        List<Long> request = new ArrayList<>(userIds);
+        request.add(userIds.get(1));
+        request.add(-1L);
+
+        // When
+        GroupMembershipResponse result = groupService.addUsersToGroup(groupId, request);
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(USER_COUNT + 1);
+        assertThat(result.getAdded()).isEqualTo(USER_COUNT - 1);
+        assertThat(memberIds()).containsExactlyElementsOf(userIds);
+    }
+
+    @Test
+    @DisplayName("Should remove many users at once")
+    void shouldRemoveMembersInBulk() {
+        // Given
+        groupService.addUsersToGroup(groupId, userIds);
+
+        // When
+        GroupMembershipResponse result = groupService.removeUsersFromGroup(groupId, userIds.subList(0, 20));
+
+        // Then
+        assertThat(result.getRemoved()).isEqualTo(20);
+        assertThat(memberIds()).containsExactlyElementsOf(userIds.subList(20, USER_COUNT));
+    }
+
+    @Test
+    @DisplayName("Should replace the membership writing only the difference")
+    void shouldReplaceMembers() {
+        // Given
+        groupService.addUsersToGroup(groupId, userIds.subList(0, 10));
+
+        events.clear();
+
+        // When
+        GroupMembershipResponse result = groupService.replaceGroupMembers(groupId, userIds.subList(5, 15));
+
+        // Then
+        assertThat(result.getRemoved()).isEqualTo(5);
+        assertThat(result.getAdded()).isEqualTo(5);
+        assertThat(memberIds()).containsExactlyElementsOf(userIds.subList(5, 15));
+        List<Long> changed = new ArrayList<>(userIds.subList(0, 5));
+        changed.addAll(userIds.subList(10, 15));
+        assertThat(events.stream(UserChangedEvent.class).map(UserChangedEvent::userId))
+                .containsExactlyInAnyOrderElementsOf(changed);
+        assertThat(events.stream(UserChangedEvent.class).map(UserChangedEvent::newUsername))
+                .contains("member00", "member14");
+        assertThat(events.stream(GroupChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should walk the members with cursors and count them on request")
+    void shouldScrollMembers() {
+        // Given
+        groupService.addUsersToGroup(groupId, userIds);
+
+        // When
+        CursorPageResponse<UserResponse> first = groupService.scrollGroupMembers(groupId, null, 25, TotalCount.EXACT);
+        CursorPageResponse<UserResponse> second =
+                groupService.scrollGroupMembers(groupId, first.getNextCursor(), 25, TotalCount.NONE);
+
+        // Then
+        assertThat(first.getContent()).hasSize(25);
+        assertThat(first.getTotalElements()).isEqualTo(USER_COUNT);
+        assertThat(first.getContent().get(0).getGroups()).hasSize(1);
+        assertThat(second.getContent()).hasSize(USER_COUNT - 25);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getTotalElements()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not evict cached users when creating a group")
+    void shouldCreateGroupWithoutEvictingUsers() {
+        // When
+        groupService.createGroup(CreateGroupRequest.builder().name("Empty Group").build());
+
+        // Then
+        assertThat(events.stream(GroupChangedEvent.class)).isEmpty();
+        assertThat(events.stream(UserChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw exception for an unknown group")
+    void shouldThrowExceptionForUnknownGroup() {
+        assertThatThrownBy(() -> groupService.addUsersToGroup(-1L, userIds))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> groupService.addUserToGroup(groupId, -1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private List<Long> memberIds() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<UserResponse> page = groupService.scrollGroupMembers(groupId, cursor, 100, TotalCount.NONE);
+            page.getContent().forEach(user -> ids.add(user.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
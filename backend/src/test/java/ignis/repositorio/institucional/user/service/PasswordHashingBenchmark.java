@@ -0,0 +1,90 @@
+package ignis.repositorio.institucional.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to check one password at each candidate work factor, for choosing
+ * {@code app.password-hashing.bcrypt-strength} or {@code pbkdf2-iterations}
+ * on the target hardware. A login costs one check, so pick the highest factor
+ * whose score stays within the login latency budget, then size
+ * {@code threads} from the logins per second the pool must sustain.
+ * Run from the backend directory after {@code mvn test-compile}:
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     ignis.repositorio.institucional.user.service.PasswordHashingBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @State(Scope.Benchmark)
+    public static class Bcrypt {
+
+        @Param({"10", "11", "12", "13"})
+        public int strength;
+
+        private BCryptPasswordEncoder encoder;
+        private String hash;
+
+        @Setup
+        public void setUp() {
+            encoder = new BCryptPasswordEncoder(strength);
+            hash = encoder.encode(PASSWORD);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Pbkdf2 {
+
+        @Param({"310000", "600000"})
+        public int iterations;
+
+        private Pbkdf2PasswordEncoder encoder;
+        private String hash;
+
+        @Setup
+        public void setUp() {
+            encoder = new Pbkdf2PasswordEncoder("", 16, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            hash = encoder.encode(PASSWORD);
+        }
+    }
+
+    @Benchmark
+    public boolean bcryptMatches(Bcrypt state) {
+        return state.encoder.matches(PASSWORD, state.hash);
+    }
+
+    @Benchmark
+    public boolean pbkdf2Matches(Pbkdf2 state) {
+        return state.encoder.matches(PASSWORD, state.hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordHashingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
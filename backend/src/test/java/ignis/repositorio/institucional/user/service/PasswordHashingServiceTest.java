@@ -0,0 +1,197 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.config.PasswordHashingConfig;
+import ignis.repositorio.institucional.config.PasswordHashingProperties;
+import ignis.repositorio.institucional.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PasswordHashingService.
+ */
+@DisplayName("PasswordHashingService Tests")
+class PasswordHashingServiceTest {
+
+    private final PasswordHashingConfig config = new PasswordHashingConfig();
+
+    private PasswordHashingProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(5);
+        properties.setThreads(1);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = config.passwordHashingExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write prefixed hashes with the configured algorithm and check them on the pool")
+    void shouldEncodeAndMatch() {
+        // Given
+        PasswordHashingService service = newService(config.passwordEncoder(properties));
+
+        // When
+        String hash = service.encode("secret");
+
+        // Then
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(service.needsUpgrade(hash)).isFalse();
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should check against a dummy hash hashed once with the configured encoder")
+    void shouldMatchDummyHash() {
+        // Given
+        PasswordHashingService service = newService(config.passwordEncoder(properties));
+
+        // When
+        service.matchesDummy("secret");
+        service.matchesDummy("other");
+
+        // Then
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hash a batch in order on the shared pool and time every hash")
+    void shouldEncodeBatchInOrder() {
+        // Given
+        properties.setThreads(2);
+        executor.shutdown();
+        executor = config.passwordHashingExecutor(properties);
+        PasswordHashingService service = newService(config.passwordEncoder(properties));
+        List<String> passwords = IntStream.range(0, 40).mapToObj(i -> "secret" + i).toList();
+
+        // When
+        List<String> hashes = service.encodeAll(passwords, 2);
+
+        // Then
+        assertThat(hashes).hasSize(40);
+        assertThat(service.matches("secret0", hashes.get(0))).isTrue();
+        assertThat(service.matches("secret39", hashes.get(39))).isTrue();
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch when the pool queue is full")
+    void shouldRejectBatchWhenSaturated() {
+        // Given
+        executor.shutdown();
+        PasswordHashingService service = newService(config.passwordEncoder(properties));
+
+        // When/Then
+        assertThatThrownBy(() -> service.encodeAll(List.of("secret"), 1)).isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should accept legacy unprefixed hashes and flag them for upgrade")
+    void shouldFlagOutdatedHashes() {
+        // Given
+        PasswordHashingService service = newService(config.passwordEncoder(properties));
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+        properties.setAlgorithm("pbkdf2");
+        PasswordHashingService pbkdf2Service = newService(config.passwordEncoder(properties));
+
+        // When/Then
+        assertThat(service.matches("secret", legacy)).isTrue();
+        assertThat(service.needsUpgrade(legacy)).isTrue();
+        assertThat(service.needsUpgrade(weaker)).isTrue();
+        assertThat(pbkdf2Service.needsUpgrade(service.encode("secret"))).isTrue();
+        assertThat(pbkdf2Service.encode("secret")).startsWith("{pbkdf2}");
+    }
+
+    @Test
+    @DisplayName("Should reject at once when every worker is busy and the queue is full")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        // Given
+        executor.shutdown();
+        properties.setQueueCapacity(0);
+        executor = config.passwordHashingExecutor(properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = newService(blockingEncoder(started, release));
+        Thread busy = new Thread(() -> service.encode("first"));
+        busy.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When/Then
+        try {
+            assertThatThrownBy(() -> service.encode("second")).isInstanceOf(ServiceBusyException.class);
+            assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            busy.join();
+        }
+    }
+
+    @Test
+    @DisplayName("Should give up when the hash takes longer than the maximum wait")
+    void shouldRejectAfterMaxWait() {
+        // Given
+        properties.setMaxWait(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = newService(blockingEncoder(new CountDownLatch(1), release));
+
+        // When/Then
+        try {
+            assertThatThrownBy(() -> service.encode("secret")).isInstanceOf(ServiceBusyException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private PasswordHashingService newService(PasswordEncoder passwordEncoder) {
+        return new PasswordHashingService(passwordEncoder, executor, properties, meterRegistry);
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.cache.CacheInvalidationPublisher;
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.dto.PermissionResponse;
+import ignis.repositorio.institucional.user.event.RoleChangedEvent;
+import ignis.repositorio.institucional.user.repository.PermissionRepository;
+import ignis.repositorio.institucional.user.repository.RolePermissionLink;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PermissionCatalog.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionCatalog Tests")
+class PermissionCatalogTest {
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private PermissionCatalog permissionCatalog;
+
+    @BeforeEach
+    void setUp() {
+        permissionCatalog = new PermissionCatalog(permissionRepository, roleRepository, invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should index permissions by id, name, resource and action")
+    void shouldIndexPermissions() {
+        // Given
+        givenCatalog();
+
+        // When
+        PermissionCatalog.Snapshot snapshot = permissionCatalog.snapshot();
+
+        // Then
+        assertThat(snapshot.permissions()).extracting(CatalogPermission::id).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.byId(3L).name()).isEqualTo("MANAGE_USERS");
+        assertThat(snapshot.byName("CREATE_DOCUMENT").id()).isEqualTo(2L);
+        assertThat(snapshot.byResource("DOCUMENT")).extracting(CatalogPermission::id).containsExactly(1L, 2L);
+        assertThat(snapshot.byResourceAndAction("USER", "MANAGE").id()).isEqualTo(3L);
+        assertThat(snapshot.byId(99L)).isNull();
+        assertThat(snapshot.byName("UNKNOWN")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should match resources and actions case-insensitively")
+    void shouldMatchCaseInsensitively() {
+        // Given
+        givenCatalog();
+
+        // When
+        PermissionCatalog.Snapshot snapshot = permissionCatalog.snapshot();
+
+        // Then
+        assertThat(snapshot.byResource("document")).hasSize(2);
+        assertThat(snapshot.byResource("unknown")).isEmpty();
+        assertThat(snapshot.byResourceAndAction("document", "read").id()).isEqualTo(1L);
+        assertThat(snapshot.ordinal("Document", "Delete")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve every read from the same snapshot")
+    void shouldLoadOnce() {
+        // Given
+        givenCatalog();
+
+        // When
+        PermissionCatalog.Snapshot first = permissionCatalog.snapshot();
+        for (int i = 0; i < 100; i++) {
+            permissionCatalog.snapshot().byResource("DOCUMENT");
+        }
+
+        // Then
+        assertThat(permissionCatalog.snapshot()).isSameAs(first);
+        verify(permissionRepository, times(1)).findAll(any(Sort.class));
+        verify(roleRepository, times(1)).findAllPermissionLinks();
+    }
+
+    @Test
+    @DisplayName("Should reload only the changed role's links and broadcast the change")
+    void shouldReloadAfterRoleChanged() {
+        // Given
+        givenCatalog();
+        PermissionCatalog.Snapshot before = permissionCatalog.snapshot();
+        when(roleRepository.findPermissionLinksByRoleIds(List.of(10L))).thenReturn(List.of(
+                new RolePermissionLink(10L, 1L),
+                new RolePermissionLink(10L, 3L)));
+
+        // When
+        permissionCatalog.onRoleChanged(new RoleChangedEvent(10L));
+        PermissionCatalog.Snapshot after = permissionCatalog.snapshot();
+
+        // Then
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(before.union(new long[]{10L}).cardinality()).isEqualTo(1);
+        assertThat(after.union(new long[]{10L}).cardinality()).isEqualTo(2);
+        assertThat(after.union(new long[]{20L}).cardinality()).isEqualTo(1);
+        verify(permissionRepository, times(1)).findAll(any(Sort.class));
+        verify(roleRepository, times(1)).findAllPermissionLinks();
+        verify(invalidationPublisher).evicted(CacheNames.PERMISSION_CATALOG, "10");
+    }
+
+    @Test
+    @DisplayName("Should drop the links of a role another node deleted")
+    void shouldReloadRoleEvictedByAnotherNode() {
+        // Given
+        givenCatalog();
+        permissionCatalog.snapshot();
+        when(roleRepository.findPermissionLinksByRoleIds(List.of(10L))).thenReturn(List.of());
+
+        // When
+        permissionCatalog.evictLocal("10");
+
+        // Then
+        assertThat(permissionCatalog.snapshot().union(new long[]{10L}).isEmpty()).isTrue();
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should answer single lookups on a cold catalog with indexed queries")
+    void shouldQueryWhenCold() {
+        // Given
+        when(permissionRepository.findByName("MANAGE_USERS"))
+                .thenReturn(Optional.of(permission(3L, "MANAGE_USERS", "USER", "MANAGE")));
+        when(permissionRepository.findByResourceIgnoreCaseOrderByIdAsc("document"))
+                .thenReturn(List.of(permission(1L, "READ_DOCUMENT", "DOCUMENT", "READ")));
+
+        // When/Then
+        assertThat(permissionCatalog.findByName("MANAGE_USERS").id()).isEqualTo(3L);
+        assertThat(permissionCatalog.findByResource("document")).extracting(CatalogPermission::id).containsExactly(1L);
+        verify(permissionRepository, never()).findAll(any(Sort.class));
+        verify(roleRepository, never()).findAllPermissionLinks();
+    }
+
+    @Test
+    @DisplayName("Should hand out copies that cannot change the catalog")
+    void shouldHandOutCopies() {
+        // Given
+        givenCatalog();
+        permissionCatalog.snapshot();
+        PermissionResponse response = permissionCatalog.findById(1L).toResponse();
+
+        // When
+        response.setName("CHANGED");
+
+        // Then
+        assertThat(permissionCatalog.findById(1L).name()).isEqualTo("READ_DOCUMENT");
+    }
+
+    private void givenCatalog() {
+        when(permissionRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                permission(1L, "READ_DOCUMENT", "DOCUMENT", "READ"),
+                permission(2L, "CREATE_DOCUMENT", "DOCUMENT", "CREATE"),
+                permission(3L, "MANAGE_USERS", "USER", "MANAGE")));
+        when(roleRepository.findAllPermissionLinks()).thenReturn(List.of(
+                new RolePermissionLink(10L, 1L),
+                new RolePermissionLink(20L, 1L)));
+    }
+
+    private static Permission permission(Long id, String name, String resource, String action) {
+        return Permission.builder()
+                .id(id)
+                .name(name)
+                .resource(resource)
+                .action(action)
+                .build();
+    }
+}
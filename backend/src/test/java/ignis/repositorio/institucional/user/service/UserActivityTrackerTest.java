@@ -0,0 +1,93 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.config.UserActivityProperties;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserActivityTracker.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserActivityTracker Tests")
+class UserActivityTrackerTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+
+    private UserActivityProperties properties;
+
+    private UserActivityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserActivityProperties();
+        tracker = new UserActivityTracker(userJdbcRepository, properties);
+    }
+
+    @Test
+    @DisplayName("Should write one update per user with its latest activity")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceActivityPerUser() {
+        // Given
+        tracker.record(2L, NOON);
+        tracker.record(1L, NOON.plusMinutes(5));
+        tracker.record(2L, NOON.plusMinutes(3));
+        tracker.record(2L, NOON.plusMinutes(1));
+
+        // When
+        int written = tracker.flush();
+
+        // Then
+        ArgumentCaptor<Map<Long, LocalDateTime>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(userJdbcRepository).updateLastActivity(batch.capture());
+        assertThat(written).isEqualTo(2);
+        assertThat(batch.getValue()).containsExactly(
+                Map.entry(1L, NOON.plusMinutes(5)), Map.entry(2L, NOON.plusMinutes(3)));
+        assertThat(tracker.flush()).isZero();
+        verifyNoMoreInteractions(userJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep the activity for the next flush when writing fails")
+    void shouldRequeueOnFailure() {
+        // Given
+        tracker.record(1L, NOON);
+        doThrow(new IllegalStateException("database down")).doNothing()
+                .when(userJdbcRepository).updateLastActivity(any());
+
+        // When/Then
+        assertThatThrownBy(() -> tracker.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(tracker.flush()).isEqualTo(1);
+        verify(userJdbcRepository, times(2)).updateLastActivity(Map.of(1L, NOON));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when disabled")
+    void shouldIgnoreActivityWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        tracker.record(1L, NOON);
+
+        // Then
+        assertThat(tracker.flush()).isZero();
+        verifyNoInteractions(userJdbcRepository);
+    }
+}
@@ -0,0 +1,289 @@
+package ignis.repositorio.institucional.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.config.BulkImportProperties;
+import ignis.repositorio.institucional.exception.ImportTooLargeException;
+import ignis.repositorio.institucional.exception.ServiceBusyException;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.BulkImportResponse;
+import ignis.repositorio.institucional.user.dto.BulkImportRowResult;
+import ignis.repositorio.institucional.user.dto.CreateUserRequest;
+import ignis.repositorio.institucional.user.repository.GroupRepository;
+import ignis.repositorio.institucional.user.repository.RoleRepository;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserBulkImportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBulkImportService Tests")
+class UserBulkImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserBulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        BulkImportProperties properties = new BulkImportProperties();
+        properties.setChunkSize(2);
+        properties.setMaxRows(10);
+        properties.setHashingThreads(2);
+
+        bulkImportService = new UserBulkImportService(
+                userRepository,
+                roleRepository,
+                groupRepository,
+                userJdbcRepository,
+                passwordHashingService,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                new TransactionTemplate(transactionManager),
+                properties);
+    }
+
+    @Test
+    @DisplayName("Should create valid rows and report invalid ones per row")
+    void shouldCreateValidRowsAndReportFailures() {
+        // Given
+        List<CreateUserRequest> requests = List.of(
+                request("alice", "alice@example.com"),
+                request("bob", "not-an-email"),
+                request("alice", "alice2@example.com"),
+                request("taken", "taken@example.com"));
+
+        when(userRepository.findExistingUsernames(anyCollection()))
+                .thenAnswer(inv -> containing(inv.getArgument(0), "taken"));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        stubHashing();
+        stubIdAllocation();
+
+        // When
+        BulkImportResponse result = bulkImportService.importUsers(requests);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getRows()).extracting(BulkImportRowResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(result.getRows().get(0).getStatus()).isEqualTo(BulkImportRowResult.Status.CREATED);
+        assertThat(result.getRows().get(0).getId()).isEqualTo(1L);
+        assertThat(result.getRows().get(1).getError()).startsWith("email:");
+        assertThat(result.getRows().get(2).getError()).isEqualTo("Duplicate username in import: 'alice'");
+        assertThat(result.getRows().get(3).getError()).isEqualTo("User already exists with username: 'taken'");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<User>> users = ArgumentCaptor.forClass(Collection.class);
+        verify(userJdbcRepository).batchInsertUsers(users.capture());
+        assertThat(users.getValue()).extracting(User::getUsername).containsExactly("alice");
+        assertThat(users.getValue()).extracting(User::getPasswordHash).containsExactly("hashed");
+    }
+
+    @Test
+    @DisplayName("Should resolve referenced role ids once per import")
+    void shouldResolveReferencedIdsOncePerImport() {
+        // Given
+        List<CreateUserRequest> requests = List.of(
+                request("user1", "user1@example.com", Set.of(1L)),
+                request("user2", "user2@example.com", Set.of(1L)),
+                request("user3", "user3@example.com", Set.of(1L)),
+                request("user4", "user4@example.com", Set.of(99L)));
+
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(roleRepository.findExistingIds(anyCollection()))
+                .thenAnswer(inv -> containing(inv.getArgument(0), 1L));
+        stubHashing();
+        stubIdAllocation();
+
+        // When
+        BulkImportResponse result = bulkImportService.importUsers(requests);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(result.getRows().get(3).getError()).isEqualTo("Role not found with id: '99'");
+        verify(roleRepository, times(1)).findExistingIds(List.of(1L));
+        verify(roleRepository, times(1)).findExistingIds(List.of(99L));
+        verify(userJdbcRepository, times(2)).batchInsertUserRoles(anyCollection());
+        verifyNoInteractions(groupRepository);
+    }
+
+    @Test
+    @DisplayName("Should report malformed NDJSON lines without aborting the import")
+    void shouldReportMalformedNdjsonLines() {
+        // Given
+        String ndjson = """
+                {"username":"alice","email":"alice@example.com","password":"password123"}
+
+                {"username":
+                """;
+
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        stubHashing();
+        stubIdAllocation();
+
+        // When
+        BulkImportResponse result = bulkImportService.importUsers(new BufferedReader(new StringReader(ndjson)));
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getRows().get(1).getStatus()).isEqualTo(BulkImportRowResult.Status.FAILED);
+        assertThat(result.getRows().get(1).getError()).startsWith("Malformed JSON");
+    }
+
+    @Test
+    @DisplayName("Should fail every row of a chunk whose insert is rolled back")
+    void shouldFailChunkWhenInsertIsRolledBack() {
+        // Given
+        List<CreateUserRequest> requests = List.of(
+                request("alice", "alice@example.com"),
+                request("bob", "bob@example.com"));
+
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        stubHashing();
+        stubIdAllocation();
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(userJdbcRepository).batchInsertUsers(anyCollection());
+
+        // When
+        BulkImportResponse result = bulkImportService.importUsers(requests);
+
+        // Then
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getRows()).allSatisfy(row ->
+                assertThat(row.getError()).isEqualTo("Chunk rolled back: duplicate key"));
+    }
+
+    @Test
+    @DisplayName("Should reject a JSON array over the row limit before importing anything")
+    void shouldRejectOversizedArray() {
+        // Given
+        List<CreateUserRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(request("user" + i, "user" + i + "@example.com"));
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> bulkImportService.importUsers(requests))
+                .isInstanceOf(ImportTooLargeException.class)
+                .hasMessage("Import of 11 rows exceeds the limit of 10 rows");
+        verifyNoInteractions(userRepository, userJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should stop reading an NDJSON stream at the row limit with one summary error")
+    void shouldTruncateOversizedStream() throws Exception {
+        // Given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 13; i++) {
+            ndjson.append("{\"username\":\"user").append(i).append("\",\"email\":\"user").append(i)
+                    .append("@example.com\",\"password\":\"password123\"}\n");
+        }
+        BufferedReader reader = new BufferedReader(new StringReader(ndjson.toString()));
+
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        stubHashing();
+        stubIdAllocation();
+
+        // When
+        BulkImportResponse result = bulkImportService.importUsers(reader);
+
+        // Then
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(result.getCreated()).isEqualTo(10);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getRows()).hasSize(11);
+        assertThat(result.getRows().get(10).getError()).startsWith("Import exceeds the limit of 10 rows");
+        assertThat(reader.readLine()).contains("user11");
+    }
+
+    @Test
+    @DisplayName("Should answer busy when the hashing pool rejects work")
+    void shouldReportBusyWhenHashingIsRejected() {
+        // Given
+        when(passwordHashingService.encodeAll(anyList(), eq(2)))
+                .thenThrow(new ServiceBusyException("Too many concurrent password operations, please retry"));
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        // When / Then
+        assertThatThrownBy(() -> bulkImportService.importUsers(List.of(request("alice", "alice@example.com"))))
+                .isInstanceOf(ServiceBusyException.class);
+        verifyNoInteractions(userJdbcRepository);
+    }
+
+    private void stubHashing() {
+        when(passwordHashingService.encodeAll(anyList(), eq(2)))
+                .thenAnswer(inv -> Collections.nCopies(inv.<List<?>>getArgument(0).size(), "hashed"));
+    }
+
+    private void stubIdAllocation() {
+        long[] next = {1L};
+        when(userJdbcRepository.allocateUserIds(anyInt())).thenAnswer(inv -> {
+            int count = inv.getArgument(0);
+            List<Long> ids = LongStream.range(next[0], next[0] + count).boxed().toList();
+            next[0] += count;
+            return ids;
+        });
+    }
+
+    private static <T> Set<T> containing(Collection<T> requested, T existing) {
+        return requested.contains(existing) ? Set.of(existing) : Set.of();
+    }
+
+    private static CreateUserRequest request(String username, String email) {
+        return request(username, email, null);
+    }
+
+    private static CreateUserRequest request(String username, String email, Set<Long> roleIds) {
+        return CreateUserRequest.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .roleIds(roleIds)
+                .build();
+    }
+}
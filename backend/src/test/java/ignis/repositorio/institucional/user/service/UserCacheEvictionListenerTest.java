@@ -0,0 +1,87 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.cache.CacheNames;
+import ignis.repositorio.institucional.config.TwoLevelCacheProperties;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserCacheEvictionListener.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheEvictionListener Tests")
+class UserCacheEvictionListenerTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private Cache users;
+
+    @Mock
+    private Cache usersByUsername;
+
+    private TwoLevelCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TwoLevelCacheProperties();
+        lenient().when(cacheManager.getCache(CacheNames.USERS)).thenReturn(users);
+        lenient().when(cacheManager.getCache(CacheNames.USERS_BY_USERNAME)).thenReturn(usersByUsername);
+    }
+
+    @Test
+    @DisplayName("Should evict a changed user before and after the commit and again after the grace period")
+    void shouldEvictUserThreeTimes() {
+        // Given
+        UserCacheEvictionListener listener = new UserCacheEvictionListener(cacheManager, taskScheduler, properties);
+        UserChangedEvent event = new UserChangedEvent(7L, "ana", "ana.souza");
+
+        // When
+        listener.beforeUserCommit(event);
+        listener.onUserChanged(event);
+        ArgumentCaptor<Runnable> delayed = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(delayed.capture(), any(Instant.class));
+        delayed.getValue().run();
+
+        // Then
+        verify(users, times(3)).evict(7L);
+        verify(usersByUsername, times(3)).evict("ana");
+        verify(usersByUsername, times(3)).evict("ana.souza");
+        verify(usersByUsername, never()).clear();
+    }
+
+    @Test
+    @DisplayName("Should not schedule a second eviction when the grace period is zero")
+    void shouldSkipDelayedEvictionWithoutGrace() {
+        // Given
+        properties.setEvictionGrace(Duration.ZERO);
+        UserCacheEvictionListener listener = new UserCacheEvictionListener(cacheManager, taskScheduler, properties);
+
+        // When
+        listener.onUserChanged(new UserChangedEvent(7L, "ana"));
+
+        // Then
+        verify(users).evict(7L);
+        verify(usersByUsername).evict("ana");
+        verifyNoInteractions(taskScheduler);
+    }
+}
@@ -0,0 +1,140 @@
+package ignis.repositorio.institucional.user.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ignis.repositorio.institucional.user.domain.Group;
+import ignis.repositorio.institucional.user.domain.Role;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.ExportFormat;
+import ignis.repositorio.institucional.user.repository.UserJdbcRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for UserExportService.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({UserExportService.class, UserJdbcRepository.class})
+@DisplayName("UserExportService Tests")
+class UserExportServiceTest {
+
+    private static final int USER_COUNT = 1200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManager.flush();
+
+        Role reader = entityManager.persist(Role.builder().name("EXPORT_READER").build());
+        Role writer = entityManager.persist(Role.builder().name("EXPORT_WRITER").build());
+        Group group = entityManager.persist(Group.builder().name("Export, \"Quoted\" Group").build());
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            entityManager.persist(User.builder()
+                    .username(String.format("export%04d", i))
+                    .email(String.format("export%04d@example.com", i))
+                    .passwordHash("hashedPassword")
+                    .roles(i == 0 ? Set.of(reader, writer) : Set.of(reader))
+                    .groups(i == 0 ? Set.of(group) : Set.of())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should stream every user as one JSON object per line across several fetches")
+    void shouldExportNdjson() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.exportUsers(ExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(USER_COUNT);
+        assertThat(lines).hasSize(USER_COUNT);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("username").asText()).isEqualTo("export0000");
+        assertThat(first.get("roles")).extracting(JsonNode::asText).containsExactly("EXPORT_READER", "EXPORT_WRITER");
+        assertThat(first.get("groups")).extracting(JsonNode::asText).containsExactly("Export, \"Quoted\" Group");
+        assertThat(first.has("passwordHash")).isFalse();
+        assertThat(objectMapper.readTree(lines[USER_COUNT - 1]).get("username").asText()).isEqualTo(String.format("export%04d", USER_COUNT - 1));
+    }
+
+    @Test
+    @DisplayName("Should stream users as CSV with a header and escaped fields")
+    void shouldExportCsv() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        userExportService.exportUsers(ExportFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(USER_COUNT + 1);
+        assertThat(lines[0]).isEqualTo("id,username,email,active,createdAt,roles,groups");
+        assertThat(lines[1])
+                .contains(",export0000,export0000@example.com,true,")
+                .endsWith(",EXPORT_READER;EXPORT_WRITER,\"Export, \"\"Quoted\"\" Group\"");
+        assertThat(lines[2]).endsWith(",EXPORT_READER,");
+    }
+
+    @Test
+    @DisplayName("Should escape the name separator inside role and group names")
+    void shouldEscapeNameSeparator() {
+        assertThat(UserExportService.joinNames(List.of("READER", "A;B", "C\\D")))
+                .isEqualTo("READER;A\\;B;C\\\\D");
+        assertThat(UserExportService.joinNames(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only quote CSV fields that need it")
+    void shouldQuoteCsvFieldsOnlyWhenNeeded() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        UserExportService.writeCsvField(writer, "plain");
+        writer.write('|');
+        UserExportService.writeCsvField(writer, "a,b");
+        writer.write('|');
+        UserExportService.writeCsvField(writer, "line\nbreak");
+
+        assertThat(writer.toString()).isEqualTo("plain|\"a,b\"|\"line\nbreak\"");
+    }
+}
@@ -0,0 +1,205 @@
+package ignis.repositorio.institucional.user.service;
+
+import ignis.repositorio.institucional.exception.ResourceNotFoundException;
+import ignis.repositorio.institucional.user.domain.Group;
+import ignis.repositorio.institucional.user.domain.Permission;
+import ignis.repositorio.institucional.user.domain.Role;
+import ignis.repositorio.institucional.user.domain.User;
+import ignis.repositorio.institucional.user.dto.CursorPageResponse;
+import ignis.repositorio.institucional.user.dto.RoleResponse;
+import ignis.repositorio.institucional.user.dto.TotalCount;
+import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.mapper.GroupMapperImpl;
+import ignis.repositorio.institucional.user.mapper.PermissionMapperImpl;
+import ignis.repositorio.institucional.user.mapper.RoleMapperImpl;
+import ignis.repositorio.institucional.user.mapper.UserMapperImpl;
+import ignis.repositorio.institucional.user.repository.TableStatisticsRepository;
+import ignis.repositorio.institucional.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for UserReadService.
+ * Asserts that user pages are assembled in a constant number of SQL statements.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("local")
+@Import({UserReadService.class, TableStatisticsRepository.class, UserMapperImpl.class, RoleMapperImpl.class,
+        GroupMapperImpl.class, PermissionMapperImpl.class})
+@DisplayName("UserReadService Tests")
+class UserReadServiceTest {
+
+    private static final int USER_COUNT = 25;
+
+    /** Page query, count query, two link queries, roles with permissions, groups. */
+    private static final long MAX_STATEMENTS_PER_PAGE = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserReadService userReadService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManager.flush();
+
+        Permission read = entityManager.persist(Permission.builder()
+                .name("READ_TEST").resource("TEST").action("READ").build());
+        Permission write = entityManager.persist(Permission.builder()
+                .name("WRITE_TEST").resource("TEST").action("WRITE").build());
+
+        Role reader = entityManager.persist(Role.builder()
+                .name("TEST_READER").permissions(Set.of(read)).build());
+        Role writer = entityManager.persist(Role.builder()
+                .name("TEST_WRITER").permissions(Set.of(read, write)).build());
+
+        Group groupA = entityManager.persist(Group.builder().name("Test Group A").build());
+        Group groupB = entityManager.persist(Group.builder().name("Test Group B").build());
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            entityManager.persist(User.builder()
+                    .username(String.format("reader%02d", i))
+                    .email(String.format("reader%02d@example.com", i))
+                    .passwordHash("hashedPassword")
+                    .roles(Set.of(reader, writer))
+                    .groups(i % 2 == 0 ? Set.of(groupA, groupB) : Set.of(groupA))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load a page in a constant number of statements regardless of page size")
+    void shouldLoadPageInConstantNumberOfStatements() {
+        // When
+        Page<UserResponse> smallPage = userReadService.getAllUsers(PageRequest.of(0, 5, Sort.by("id")));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        Page<UserResponse> largePage = userReadService.getAllUsers(PageRequest.of(0, 20, Sort.by("id")));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallPage.getContent()).hasSize(5);
+        assertThat(largePage.getContent()).hasSize(20);
+        assertThat(largePage.getTotalElements()).isEqualTo(USER_COUNT);
+        assertThat(smallPageStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    @DisplayName("Should populate roles, permissions and groups of every user")
+    void shouldPopulateAssociations() {
+        // When
+        Page<UserResponse> page = userReadService.getAllUsers(PageRequest.of(0, 10, Sort.by("username")));
+
+        // Then
+        UserResponse first = page.getContent().get(0);
+        assertThat(first.getUsername()).isEqualTo("reader00");
+        assertThat(first.getGroups()).hasSize(2);
+        assertThat(first.getRoles())
+                .extracting(RoleResponse::getName)
+                .containsExactlyInAnyOrder("TEST_READER", "TEST_WRITER");
+        assertThat(first.getRoles())
+                .filteredOn(role -> role.getName().equals("TEST_WRITER"))
+                .singleElement()
+                .satisfies(role -> assertThat(role.getPermissions()).hasSize(2));
+        assertThat(page.getContent().get(1).getGroups()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should load a single user in a constant number of statements")
+    void shouldLoadSingleUser() {
+        // Given
+        Long id = userRepository.findByUsername("reader03").orElseThrow().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        UserResponse result = userReadService.getUserById(id);
+
+        // Then
+        assertThat(result.getUsername()).isEqualTo("reader03");
+        assertThat(result.getRoles()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when user not found")
+    void shouldThrowExceptionWhenUserNotFound() {
+        assertThatThrownBy(() -> userReadService.getUserById(-1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should walk all users with cursors in a constant number of statements per page")
+    void shouldScrollThroughAllUsers() {
+        // Given
+        List<String> usernames = new ArrayList<>();
+        List<Long> statementsPerPage = new ArrayList<>();
+        String cursor = null;
+
+        // When
+        do {
+            statistics.clear();
+            CursorPageResponse<UserResponse> page = userReadService.scrollUsers(cursor, 10, TotalCount.NONE);
+            statementsPerPage.add(statistics.getPrepareStatementCount());
+            page.getContent().forEach(user -> usernames.add(user.getUsername()));
+            cursor = page.getNextCursor();
+            entityManager.clear();
+        } while (cursor != null);
+
+        // Then
+        assertThat(usernames).hasSize(USER_COUNT).doesNotHaveDuplicates().isSorted();
+        assertThat(statementsPerPage).hasSize(3).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("Should report an exact total only when requested")
+    void shouldReportTotalsOnRequest() {
+        // When
+        CursorPageResponse<UserResponse> withoutTotal = userReadService.scrollUsers(null, 5, TotalCount.NONE);
+        CursorPageResponse<UserResponse> exact = userReadService.scrollUsers(null, 5, TotalCount.EXACT);
+        CursorPageResponse<UserResponse> estimated = userReadService.scrollUsers(null, 5, TotalCount.ESTIMATED);
+
+        // Then
+        assertThat(withoutTotal.getTotalElements()).isNull();
+        assertThat(exact.getTotalElements()).isEqualTo(USER_COUNT);
+        assertThat(estimated.getTotalElements()).isNotNull();
+        assertThat(exact.isHasNext()).isTrue();
+    }
+}
@@ -8,6 +8,7 @@ import ignis.repositorio.institucional.user.domain.User;
 import ignis.repositorio.institucional.user.dto.CreateUserRequest;
 import ignis.repositorio.institucional.user.dto.UpdateUserRequest;
 import ignis.repositorio.institucional.user.dto.UserResponse;
+import ignis.repositorio.institucional.user.event.UserChangedEvent;
 import ignis.repositorio.institucional.user.mapper.UserMapper;
 import ignis.repositorio.institucional.user.repository.GroupRepository;
 import ignis.repositorio.institucional.user.repository.RoleRepository;
@@ -16,14 +17,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
@@ -53,7 +58,18 @@ class UserServiceTest {
     private UserMapper userMapper;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserReadService userReadService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
     @InjectMocks
     private UserService userService;
@@ -119,7 +135,7 @@ class UserServiceTest {
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(testUser);
-        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
         when(roleRepository.findById(1L)).thenReturn(Optional.of(testRole));
         when(groupRepository.findById(1L)).thenReturn(Optional.of(testGroup));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
@@ -133,7 +149,10 @@ class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo("testuser");
         assertThat(result.getEmail()).isEqualTo("test@example.com");
         verify(userRepository).save(any(User.class));
-        verify(passwordEncoder).encode("password123");
+        InOrder inOrder = inOrder(passwordHashingService, transactionManager, userRepository);
+        inOrder.verify(passwordHashingService).encode("password123");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).save(any(User.class));
     }
 
     @Test
@@ -167,8 +186,7 @@ class UserServiceTest {
     @DisplayName("Should get user by ID successfully")
     void shouldGetUserByIdSuccessfully() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
+        when(userReadService.getUserById(1L)).thenReturn(userResponse);
 
         // When
         UserResponse result = userService.getUserById(1L);
@@ -176,14 +194,14 @@ class UserServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(userRepository).findById(1L);
+        verify(userReadService).getUserById(1L);
     }
 
     @Test
     @DisplayName("Should throw exception when user not found by ID")
     void shouldThrowExceptionWhenUserNotFoundById() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userReadService.getUserById(1L)).thenThrow(new ResourceNotFoundException("User", "id", 1L));
 
         // When/Then
         assertThatThrownBy(() -> userService.getUserById(1L))
@@ -195,8 +213,7 @@ class UserServiceTest {
     @DisplayName("Should get user by username successfully")
     void shouldGetUserByUsernameSuccessfully() {
         // Given
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
+        when(userReadService.getUserByUsername("testuser")).thenReturn(userResponse);
 
         // When
         UserResponse result = userService.getUserByUsername("testuser");
@@ -204,14 +221,15 @@ class UserServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getUsername()).isEqualTo("testuser");
-        verify(userRepository).findByUsername("testuser");
+        verify(userReadService).getUserByUsername("testuser");
     }
 
     @Test
     @DisplayName("Should throw exception when user not found by username")
     void shouldThrowExceptionWhenUserNotFoundByUsername() {
         // Given
-        when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+        when(userReadService.getUserByUsername("nonexistent"))
+                .thenThrow(new ResourceNotFoundException("User", "username", "nonexistent"));
 
         // When/Then
         assertThatThrownBy(() -> userService.getUserByUsername("nonexistent"))
@@ -223,11 +241,9 @@ class UserServiceTest {
     void shouldGetAllUsersWithPagination() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        List<User> users = Arrays.asList(testUser);
-        Page<User> userPage = new PageImpl<>(users, pageable, 1);
-        
-        when(userRepository.findAll(pageable)).thenReturn(userPage);
-        when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
+        Page<UserResponse> responsePage = new PageImpl<>(List.of(userResponse), pageable, 1);
+
+        when(userReadService.getAllUsers(pageable)).thenReturn(responsePage);
 
         // When
         Page<UserResponse> result = userService.getAllUsers(pageable);
@@ -236,7 +252,7 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(userRepository).findAll(pageable);
+        verify(userReadService).getAllUsers(pageable);
     }
 
     @Test
@@ -248,7 +264,10 @@ class UserServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
-        doNothing().when(userMapper).updateEntity(any(UpdateUserRequest.class), any(User.class));
+        doAnswer(invocation -> {
+            invocation.<User>getArgument(1).setUsername("renamed");
+            return null;
+        }).when(userMapper).updateEntity(any(UpdateUserRequest.class), any(User.class));
 
         // When
         UserResponse result = userService.updateUser(1L, updateRequest);
@@ -257,6 +276,7 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         verify(userRepository).save(any(User.class));
         verify(userMapper).updateEntity(updateRequest, testUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L, "testuser", "renamed"));
     }
 
     @Test
@@ -276,27 +296,27 @@ class UserServiceTest {
     @DisplayName("Should delete user successfully")
     void shouldDeleteUserSuccessfully() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
         // When
         userService.deleteUser(1L);
 
         // Then
-        verify(userRepository).deleteById(1L);
+        verify(userRepository).delete(testUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L, "testuser"));
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent user")
     void shouldThrowExceptionWhenDeletingNonExistentUser() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(false);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> userService.deleteUser(1L))
                 .isInstanceOf(ResourceNotFoundException.class);
         
-        verify(userRepository, never()).deleteById(anyLong());
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     @Test
@@ -341,7 +361,7 @@ class UserServiceTest {
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(testUser);
-        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
         when(roleRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When/Then
@@ -357,7 +377,7 @@ class UserServiceTest {
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(testUser);
-        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
         when(roleRepository.findById(1L)).thenReturn(Optional.of(testRole));
         when(groupRepository.findById(1L)).thenReturn(Optional.empty());
 